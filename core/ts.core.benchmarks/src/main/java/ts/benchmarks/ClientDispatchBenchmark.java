@@ -0,0 +1,131 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ts.TypeScriptException;
+import ts.client.TypeScriptServiceClient;
+import ts.client.completions.CompletionEntry;
+import ts.nodejs.INodejsProcess;
+import ts.nodejs.INodejsProcessListener;
+
+/**
+ * Benchmark of the JSON dispatch of {@link TypeScriptServiceClient}: a
+ * recorded "completions" response is answered synchronously by an in-memory
+ * process, so the measured time is the request serialization, the response
+ * parsing and the completion of the future.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientDispatchBenchmark {
+
+	private static final Pattern SEQ_PATTERN = Pattern.compile("\"seq\":(\\d+)");
+
+	private TypeScriptServiceClient client;
+
+	/**
+	 * Process which answers each request with the recorded response.
+	 */
+	private static class RecordedResponseProcess implements INodejsProcess {
+
+		private final String prefix;
+		private final String suffix;
+		private final List<INodejsProcessListener> listeners = new ArrayList<INodejsProcessListener>();
+		private boolean started;
+
+		RecordedResponseProcess(String response) {
+			String requestSeq = "\"request_seq\":1";
+			int index = response.indexOf(requestSeq);
+			this.prefix = response.substring(0, index) + "\"request_seq\":";
+			this.suffix = response.substring(index + requestSeq.length()).trim();
+		}
+
+		@Override
+		public void sendRequest(String request) throws TypeScriptException {
+			Matcher matcher = SEQ_PATTERN.matcher(request);
+			if (!matcher.find()) {
+				return;
+			}
+			String response = prefix + matcher.group(1) + suffix;
+			for (INodejsProcessListener listener : listeners) {
+				listener.onMessage(this, response);
+			}
+		}
+
+		@Override
+		public void join() throws InterruptedException {
+		}
+
+		@Override
+		public void addProcessListener(INodejsProcessListener listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public void removeProcessListener(INodejsProcessListener listener) {
+			listeners.remove(listener);
+		}
+
+		@Override
+		public void start() {
+			started = true;
+		}
+
+		@Override
+		public boolean isStarted() {
+			return started;
+		}
+
+		@Override
+		public void kill() {
+			started = false;
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		client = new TypeScriptServiceClient(new RecordedResponseProcess(Corpus.load(Corpus.COMPLETIONS_RESPONSE)),
+				null);
+	}
+
+	@TearDown
+	public void tearDown() {
+		client.dispose();
+	}
+
+	@Benchmark
+	public List<CompletionEntry> completions() throws Exception {
+		return client.completions(new File("main.ts").getPath(), 10, 5).get();
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ts.client.Location;
+import ts.cmd.Severity;
+import ts.cmd.tsc.ITypeScriptCompilerMessageHandler;
+import ts.cmd.tsc.TypeScriptCompilerHelper;
+import ts.cmd.tslint.TslintHelper;
+
+/**
+ * Benchmark of the processing of large recorded "tsc" and "tslint" outputs.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandOutputBenchmark {
+
+	@Param({ "1", "10" })
+	public int copies;
+
+	private String tscOutput;
+	private String tslintOutput;
+
+	@Setup
+	public void setup() throws Exception {
+		tscOutput = Corpus.repeat(Corpus.load(Corpus.TSC_OUTPUT), copies);
+		// tslint outputs one JSON array per line.
+		tslintOutput = Corpus.repeat(Corpus.load(Corpus.TSLINT_OUTPUT), copies);
+	}
+
+	@Benchmark
+	public void tsc(final Blackhole blackhole) {
+		TypeScriptCompilerHelper.processMessage(tscOutput, new ITypeScriptCompilerMessageHandler() {
+
+			@Override
+			public void addError(String file, Location startLoc, Location endLoc, Severity severity, String code,
+					String message) {
+				blackhole.consume(startLoc);
+			}
+
+			@Override
+			public void addFile(String file, boolean emitted) {
+				blackhole.consume(file);
+			}
+
+			@Override
+			public void onCompilationCompleteWatchingForFileChanges() {
+			}
+		});
+	}
+
+	@Benchmark
+	public void tslint(final Blackhole blackhole) {
+		TslintHelper.processJsonMessage(tslintOutput, (file, startLoc, endLoc, severity, code, message) -> blackhole
+				.consume(startLoc));
+	}
+}
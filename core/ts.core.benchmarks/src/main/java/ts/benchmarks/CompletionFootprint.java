@@ -0,0 +1,71 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ts.client.completions.CompletionEntry;
+import ts.client.completions.ICompletionEntryFactory;
+import ts.client.completions.ICompletionEntryMatcherProvider;
+import ts.internal.client.protocol.CompletionsRequest;
+import ts.internal.client.protocol.GsonHelper;
+
+/**
+ * Measure the retained heap of the recorded "completions" response (a lib.dom
+ * sized completion list) once parsed.
+ *
+ * <p>
+ * Run with
+ * <code>java -cp target/benchmarks.jar ts.benchmarks.CompletionFootprint [responses]</code>
+ * </p>
+ *
+ */
+public class CompletionFootprint {
+
+	public static void main(String[] args) throws Exception {
+		int responses = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		String response = Corpus.load(Corpus.COMPLETIONS_RESPONSE);
+		// warm up the parser and the string pools.
+		parse(response);
+
+		long before = usedHeap();
+		List<List<CompletionEntry>> retained = new ArrayList<>(responses);
+		for (int i = 0; i < responses; i++) {
+			retained.add(parse(response));
+		}
+		long after = usedHeap();
+
+		int entries = 0;
+		for (List<CompletionEntry> list : retained) {
+			entries += list.size();
+		}
+		System.out.println("Responses: " + responses);
+		System.out.println("Entries: " + entries);
+		System.out.println("Retained heap: " + (after - before) + " bytes");
+		System.out.println("Retained heap per entry: " + (after - before) / Math.max(entries, 1) + " bytes");
+	}
+
+	private static List<CompletionEntry> parse(String response) {
+		CompletionsRequest request = new CompletionsRequest("main.ts", 10, 5,
+				ICompletionEntryMatcherProvider.LCS_PROVIDER, null, ICompletionEntryFactory.DEFAULT);
+		return request.parseResponse(GsonHelper.parse(response).getAsJsonObject()).getBody();
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import ts.utils.IOUtils;
+
+/**
+ * Recorded payloads used by the benchmarks (see src/main/resources/ts/benchmarks/corpus).
+ *
+ */
+public class Corpus {
+
+	public static final String COMPLETIONS_RESPONSE = "completions-response.json";
+	public static final String SEMANTIC_DIAG_EVENT = "semanticDiag-event.json";
+	public static final String TSC_OUTPUT = "tsc-output.txt";
+	public static final String TSLINT_OUTPUT = "tslint-output.json";
+
+	/**
+	 * Returns the content of the given corpus file.
+	 * 
+	 * @param name
+	 *            the corpus file name.
+	 * @return the content of the given corpus file.
+	 * @throws IOException
+	 */
+	public static String load(String name) throws IOException {
+		InputStream in = Corpus.class.getResourceAsStream("corpus/" + name);
+		if (in == null) {
+			throw new IOException("Cannot find corpus " + name);
+		}
+		try {
+			return IOUtils.toString(in, "UTF-8");
+		} finally {
+			IOUtils.closeQuietly(in);
+		}
+	}
+
+	/**
+	 * Returns the given text repeated the given times.
+	 * 
+	 * @param text
+	 *            the text to repeat.
+	 * @param times
+	 *            the number of repetitions.
+	 * @return the given text repeated the given times.
+	 */
+	public static String repeat(String text, int times) {
+		StringBuilder s = new StringBuilder(text.length() * times);
+		for (int i = 0; i < times; i++) {
+			s.append(text);
+		}
+		return s.toString();
+	}
+}
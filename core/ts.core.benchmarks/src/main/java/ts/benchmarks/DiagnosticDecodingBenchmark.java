@@ -0,0 +1,111 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import ts.client.diagnostics.Diagnostic;
+import ts.client.diagnostics.DiagnosticEvent;
+import ts.client.diagnostics.DiagnosticWithLinePosition;
+import ts.client.diagnostics.IDiagnostic;
+import ts.internal.client.protocol.GsonHelper;
+
+/**
+ * Benchmark of the decoding of a recorded "semanticDiag" event with the
+ * {@link GsonHelper} streaming adapters, compared to the reflective Gson
+ * decoding.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiagnosticDecodingBenchmark {
+
+	/**
+	 * Reflective diagnostic deserializer which decodes each diagnostic twice
+	 * (tree, then reflection), used as baseline.
+	 */
+	private static class ReflectiveDiagnosticDeserializer implements JsonDeserializer<IDiagnostic> {
+
+		private final Gson gson = new Gson();
+
+		@Override
+		public IDiagnostic deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+				throws JsonParseException {
+			if (json.isJsonObject()) {
+				if (json.getAsJsonObject().get("start").isJsonObject()) {
+					return gson.fromJson(json, Diagnostic.class);
+				}
+				return gson.fromJson(json, DiagnosticWithLinePosition.class);
+			}
+			return null;
+		}
+	}
+
+	private static final Gson REFLECTIVE_GSON = new GsonBuilder()
+			.registerTypeAdapter(IDiagnostic.class, new ReflectiveDiagnosticDeserializer()).create();
+
+	private String event;
+	private JsonObject json;
+
+	@Setup
+	public void setup() throws Exception {
+		event = Corpus.load(Corpus.SEMANTIC_DIAG_EVENT);
+		json = GsonHelper.parse(event).getAsJsonObject();
+	}
+
+	/**
+	 * Decode from the JSON tree, like TypeScriptServiceClient does.
+	 */
+	@Benchmark
+	public DiagnosticEvent decodeTree() {
+		return GsonHelper.DEFAULT_GSON.fromJson(json, DiagnosticEvent.class);
+	}
+
+	/**
+	 * Decode from the JSON tree with reflection.
+	 */
+	@Benchmark
+	public DiagnosticEvent decodeTreeReflective() {
+		return REFLECTIVE_GSON.fromJson(json, DiagnosticEvent.class);
+	}
+
+	/**
+	 * Parse and decode the raw message.
+	 */
+	@Benchmark
+	public DiagnosticEvent parseAndDecode() {
+		return GsonHelper.DEFAULT_GSON.fromJson(GsonHelper.parse(event), DiagnosticEvent.class);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ts.TypeScriptException;
+import ts.client.Location;
+import ts.internal.LineIndex;
+import ts.internal.LocationReader;
+
+/**
+ * Benchmark of {@link LocationReader} which converts a position to a
+ * line/offset location for the middle and the end of a TypeScript file,
+ * compared with a lookup in a {@link LineIndex} built once per content.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationReaderBenchmark {
+
+	private static final String LINES = "export class Component implements OnInit {\r\n"
+			+ "\tprivate items: Array<string> = [];\r\n" + "\r\n"
+			+ "\tngOnInit(): void { this.items.push('item'); }\r\n" + "}\r\n";
+
+	@Param({ "100", "2000" })
+	public int copies;
+
+	private String contents;
+	private LineIndex lineIndex;
+
+	@Setup
+	public void setup() {
+		contents = Corpus.repeat(LINES, copies);
+		lineIndex = new LineIndex(contents);
+	}
+
+	@Benchmark
+	public Location middle() {
+		return new LocationReader(contents, contents.length() / 2).getLineOffset();
+	}
+
+	@Benchmark
+	public Location end() {
+		return new LocationReader(contents, contents.length() - 1).getLineOffset();
+	}
+
+	@Benchmark
+	public Location indexedMiddle() throws TypeScriptException {
+		return lineIndex.getLocation(contents.length() / 2);
+	}
+
+	@Benchmark
+	public Location indexedEnd() throws TypeScriptException {
+		return lineIndex.getLocation(contents.length() - 1);
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.gson.JsonElement;
+
+import ts.internal.client.protocol.GsonHelper;
+import ts.internal.matcher.LCSS;
+import ts.internal.matcher.SequenceFinder;
+
+/**
+ * Benchmark of the completion matching ({@link LCSS}, {@link SequenceFinder})
+ * of a typed token against the names of a recorded "completions" response.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatcherBenchmark {
+
+	@Param({ "g", "gEl", "createElem", "docQSel" })
+	public String token;
+
+	private List<String> names;
+
+	@Setup
+	public void setup() throws Exception {
+		names = new ArrayList<String>();
+		for (JsonElement entry : GsonHelper.parse(Corpus.load(Corpus.COMPLETIONS_RESPONSE)).getAsJsonObject()
+				.getAsJsonArray("body")) {
+			names.add(entry.getAsJsonObject().get("name").getAsString());
+		}
+	}
+
+	@Benchmark
+	public void containsSubsequence(Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(LCSS.containsSubsequence(name, token));
+		}
+	}
+
+	@Benchmark
+	public void bestSubsequence(Blackhole blackhole) {
+		for (String name : names) {
+			int[] sequence = LCSS.bestSubsequence(name, token);
+			blackhole.consume(LCSS.scoreSubsequence(sequence));
+		}
+	}
+
+	@Benchmark
+	public void findSequences(Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(new SequenceFinder(name, token).findSeqeuences());
+		}
+	}
+}
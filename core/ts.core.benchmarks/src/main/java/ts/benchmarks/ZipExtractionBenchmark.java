@@ -0,0 +1,98 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ts.utils.ZipUtils;
+
+/**
+ * Benchmark of the {@link ZipUtils} extraction of a zip which looks like an
+ * embedded TypeScript repository (a lot of small .js and .d.ts files).
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ZipExtractionBenchmark {
+
+	@Param({ "500" })
+	public int files;
+
+	private File zipFile;
+	private File destination;
+
+	@Setup(Level.Trial)
+	public void createZip() throws IOException {
+		String content = Corpus.load(Corpus.COMPLETIONS_RESPONSE);
+		zipFile = File.createTempFile("repository", ZipUtils.ZIP_EXTENSION);
+		ZipOutputStream out = new ZipOutputStream(new FileOutputStream(zipFile));
+		try {
+			for (int i = 0; i < files; i++) {
+				out.putNextEntry(new ZipEntry("node_modules/typescript/lib/file" + i + ".d.ts"));
+				// files from 1K to ~96K
+				out.write(content.substring(0, 1024 + (i * 997) % (content.length() - 1024))
+						.getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void createDestination() throws IOException {
+		destination = File.createTempFile("repository", "");
+		destination.delete();
+		destination.mkdirs();
+	}
+
+	@TearDown(Level.Invocation)
+	public void deleteDestination() throws IOException {
+		Files.walk(destination.toPath()).sorted(Comparator.reverseOrder()).map(path -> path.toFile())
+				.forEach(File::delete);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteZip() {
+		zipFile.delete();
+	}
+
+	@Benchmark
+	public void extractZip() throws IOException {
+		ZipUtils.extractZip(zipFile, destination);
+	}
+}
@@ -0,0 +1,193 @@
+package ts.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.TypeScriptException;
+import ts.internal.client.protocol.ChangeRequest;
+import ts.internal.client.protocol.DefinitionRequest;
+import ts.internal.client.protocol.GeterrRequest;
+import ts.internal.client.protocol.NavTreeRequest;
+import ts.internal.client.protocol.QuickInfoRequest;
+import ts.internal.client.protocol.ReferencesRequest;
+import ts.internal.client.protocol.Request;
+
+public class RequestSchedulerTest {
+
+	// held requests are sent by the flush thread.
+	private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+	private final RequestScheduler scheduler = new RequestScheduler(
+			(request, json) -> sent.add(request.getCommand()));
+
+	private <T> CompletableFuture<T> submit(Request<?> request) throws Exception {
+		CompletableFuture<T> result = new CompletableFuture<T>() {
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				scheduler.remove(request);
+				return super.cancel(mayInterruptIfRunning);
+			}
+		};
+		scheduler.submit(request, "", result);
+		return result;
+	}
+
+	@Test
+	public void sendBackgroundWhenIdle() throws Exception {
+		submit(new NavTreeRequest("a.ts", null));
+		Assert.assertEquals(1, sent.size());
+		Assert.assertEquals(0, scheduler.getHeldRequestCount());
+	}
+
+	@Test
+	public void holdBackgroundWhileInteractiveInFlight() throws Exception {
+		QuickInfoRequest quickInfo = new QuickInfoRequest("a.ts", 1, 1);
+		submit(quickInfo);
+		submit(new NavTreeRequest("a.ts", null));
+		submit(new GeterrRequest(new String[] { "a.ts" }, 0));
+		scheduler.submit(new ChangeRequest("a.ts", 1, 1, 1, 1, "a"), "", null);
+		Assert.assertEquals(2, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[quickinfo, change]", sent.toString());
+
+		scheduler.requestCompleted(quickInfo.getSeq());
+		Assert.assertEquals(0, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[quickinfo, change, navtree, geterr]", sent.toString());
+		Assert.assertEquals(2, scheduler.getQueueWaitTimes().get(RequestPriority.BACKGROUND).getCount());
+		Assert.assertEquals(1, scheduler.getQueueWaitTimes().get(RequestPriority.INTERACTIVE).getCount());
+		Assert.assertEquals(1, scheduler.getQueueWaitTimes().get(RequestPriority.EDITING).getCount());
+	}
+
+	@Test
+	public void holdPrefetchWhileInteractiveInFlight() throws Exception {
+		QuickInfoRequest quickInfo = new QuickInfoRequest("a.ts", 1, 1);
+		submit(quickInfo);
+		DefinitionRequest definition = new DefinitionRequest("a.ts", 1, 1);
+		definition.setPriority(RequestPriority.BACKGROUND);
+		submit(definition);
+		submit(new DefinitionRequest("a.ts", 1, 1));
+		Assert.assertEquals(1, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[quickinfo, definition]", sent.toString());
+
+		scheduler.requestCompleted(quickInfo.getSeq());
+		Assert.assertEquals("[quickinfo, definition, definition]", sent.toString());
+	}
+
+	@Test
+	public void holdCodeLensReferencesOnly() throws Exception {
+		QuickInfoRequest quickInfo = new QuickInfoRequest("a.ts", 1, 1);
+		submit(quickInfo);
+		// references of a code lens are held, find references asked by the
+		// user is sent immediately.
+		ReferencesRequest codeLens = new ReferencesRequest("a.ts", 1, 1);
+		codeLens.setPriority(RequestPriority.BACKGROUND);
+		submit(codeLens);
+		submit(new ReferencesRequest("a.ts", 2, 1));
+		Assert.assertEquals(1, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[quickinfo, references]", sent.toString());
+
+		scheduler.requestCompleted(quickInfo.getSeq());
+		Assert.assertEquals("[quickinfo, references, references]", sent.toString());
+	}
+
+	@Test
+	public void dropSupersededBackground() throws Exception {
+		QuickInfoRequest quickInfo = new QuickInfoRequest("a.ts", 1, 1);
+		submit(quickInfo);
+		CompletableFuture<Object> first = submit(new NavTreeRequest("a.ts", null));
+		CompletableFuture<Object> other = submit(new NavTreeRequest("b.ts", null));
+		CompletableFuture<Object> second = submit(new NavTreeRequest("a.ts", null));
+		Assert.assertTrue(first.isCancelled());
+		Assert.assertFalse(other.isDone());
+		Assert.assertFalse(second.isDone());
+		Assert.assertEquals(2, scheduler.getHeldRequestCount());
+
+		scheduler.requestCompleted(quickInfo.getSeq());
+		Assert.assertEquals("[quickinfo, navtree, navtree]", sent.toString());
+	}
+
+	@Test
+	public void sendBackgroundAfterMaxHoldTime() throws Exception {
+		scheduler.setMaxHoldTime(50, TimeUnit.MILLISECONDS);
+		submit(new QuickInfoRequest("a.ts", 1, 1));
+		submit(new NavTreeRequest("a.ts", null));
+		Assert.assertEquals(1, scheduler.getHeldRequestCount());
+		long end = System.currentTimeMillis() + 5000;
+		while (sent.size() < 2 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(0, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[quickinfo, navtree]", sent.toString());
+	}
+
+	@Test
+	public void cancelInteractive() throws Exception {
+		CompletableFuture<Object> quickInfo = submit(new QuickInfoRequest("a.ts", 1, 1));
+		submit(new NavTreeRequest("a.ts", null));
+		quickInfo.cancel(true);
+		Assert.assertEquals("[quickinfo, navtree]", sent.toString());
+	}
+
+	@Test
+	public void interactiveWithoutResultIsNotInFlight() throws Exception {
+		scheduler.submit(new QuickInfoRequest("a.ts", 1, 1), "", null);
+		submit(new NavTreeRequest("a.ts", null));
+		Assert.assertEquals("[quickinfo, navtree]", sent.toString());
+	}
+
+	@Test
+	public void interactiveNotSentIsNotInFlight() throws Exception {
+		RequestScheduler scheduler = new RequestScheduler((request, json) -> {
+			if (RequestPriority.getPriority(request.getCommand()) == RequestPriority.INTERACTIVE) {
+				throw new TypeScriptException("tsserver has stopped");
+			}
+			sent.add(request.getCommand());
+		});
+		try {
+			scheduler.submit(new QuickInfoRequest("a.ts", 1, 1), "", new CompletableFuture<Object>());
+			Assert.fail("The request should not be sent");
+		} catch (TypeScriptException e) {
+			// expected
+		}
+		scheduler.submit(new NavTreeRequest("a.ts", null), "", new CompletableFuture<Object>());
+		Assert.assertEquals(0, scheduler.getHeldRequestCount());
+		Assert.assertEquals("[navtree]", sent.toString());
+	}
+
+	@Test
+	public void sendHeldRequestsWithoutLock() throws Exception {
+		List<String> sentDuringFlush = new ArrayList<>();
+		RequestScheduler[] holder = new RequestScheduler[1];
+		holder[0] = new RequestScheduler((request, json) -> {
+			sent.add(request.getCommand());
+			if (CommandNames.NavTree.getName().equals(request.getCommand())) {
+				// a writer thread blocked on tsserver doesn't block the
+				// submission of the other requests.
+				Thread submitter = new Thread(() -> {
+					try {
+						holder[0].submit(new ChangeRequest("a.ts", 1, 1, 1, 1, "a"), "", null);
+						sentDuringFlush.add("change");
+					} catch (TypeScriptException e) {
+						// ignore
+					}
+				});
+				submitter.start();
+				try {
+					submitter.join(5000);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		QuickInfoRequest request = new QuickInfoRequest("a.ts", 1, 1);
+		holder[0].submit(request, "", new CompletableFuture<Object>());
+		holder[0].submit(new NavTreeRequest("a.ts", null), "", new CompletableFuture<Object>());
+		holder[0].requestCompleted(request.getSeq());
+		Assert.assertEquals(Collections.singletonList("change"), sentDuringFlush);
+	}
+}
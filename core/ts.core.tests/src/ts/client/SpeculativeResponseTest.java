@@ -0,0 +1,52 @@
+package ts.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.client.signaturehelp.SignatureHelpItems;
+import ts.internal.client.protocol.GsonHelper;
+
+public class SpeculativeResponseTest {
+
+	private final SpeculativeResponse<String> speculative = new SpeculativeResponse<>();
+
+	@Test
+	public void takeOnce() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		speculative.put(1, 10, response);
+		Assert.assertSame(response, speculative.take(1, 10));
+		Assert.assertNull(speculative.take(1, 10));
+	}
+
+	@Test
+	public void ignoreOtherVersionOrPosition() {
+		speculative.put(1, 10, new CompletableFuture<>());
+		Assert.assertNull(speculative.take(2, 10));
+		Assert.assertNull(speculative.take(1, 11));
+	}
+
+	@Test
+	public void ignoreFailedResponse() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		speculative.put(1, 10, response);
+		response.completeExceptionally(new Exception());
+		Assert.assertNull(speculative.take(1, 10));
+	}
+
+	@Test
+	public void signatureHelpText() {
+		String json = "{\"items\":[{\"isVariadic\":false,"
+				+ "\"prefixDisplayParts\":[{\"text\":\"foo\",\"kind\":\"functionName\"},{\"text\":\"(\",\"kind\":\"punctuation\"}],"
+				+ "\"suffixDisplayParts\":[{\"text\":\"): \",\"kind\":\"punctuation\"},{\"text\":\"void\",\"kind\":\"keyword\"}],"
+				+ "\"separatorDisplayParts\":[{\"text\":\", \",\"kind\":\"punctuation\"}],"
+				+ "\"parameters\":[{\"name\":\"a\",\"isOptional\":false,\"displayParts\":[{\"text\":\"a: string\",\"kind\":\"text\"}]},"
+				+ "{\"name\":\"b\",\"isOptional\":true,\"displayParts\":[{\"text\":\"b?: number\",\"kind\":\"text\"}]}]}],"
+				+ "\"selectedItemIndex\":0,\"argumentIndex\":1,\"argumentCount\":2}";
+		SignatureHelpItems items = GsonHelper.DEFAULT_GSON.fromJson(json, SignatureHelpItems.class);
+		Assert.assertEquals(1, items.getArgumentIndex());
+		Assert.assertEquals("foo(a: string, b?: number): void", items.getItems().get(0).getText());
+		Assert.assertTrue(items.getItems().get(0).getParameters().get(1).isOptional());
+	}
+}
@@ -0,0 +1,87 @@
+package ts.client.codefixes;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.client.CodeEdit;
+import ts.internal.client.protocol.GsonHelper;
+
+public class CodeActionsMergerTest {
+
+	private final CodeActionsMerger merger = new CodeActionsMerger();
+
+	private static CodeAction action(String file, String... edits) {
+		StringBuilder json = new StringBuilder("{\"description\":\"fix\",\"changes\":[{\"fileName\":\"").append(file)
+				.append("\",\"textChanges\":[");
+		for (int i = 0; i < edits.length; i++) {
+			// "line:offset-line:offset=text"
+			String[] parts = edits[i].split("[:=-]", 5);
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"start\":{\"line\":").append(parts[0]).append(",\"offset\":").append(parts[1])
+					.append("},\"end\":{\"line\":").append(parts[2]).append(",\"offset\":").append(parts[3])
+					.append("},\"newText\":\"").append(parts[4]).append("\"}");
+		}
+		json.append("]}]}");
+		return GsonHelper.DEFAULT_GSON.fromJson(json.toString(), CodeAction.class);
+	}
+
+	@Test
+	public void mergeDisjointActions() {
+		Assert.assertTrue(merger.add(action("a.ts", "5:1-5:4=bar")));
+		Assert.assertTrue(merger.add(action("a.ts", "2:1-2:4=foo")));
+		Assert.assertTrue(merger.add(action("b.ts", "1:1-1:1=x")));
+		Map<String, List<CodeEdit>> edits = merger.getEdits();
+		Assert.assertEquals(2, edits.size());
+		List<CodeEdit> a = edits.get("a.ts");
+		Assert.assertEquals("foo", a.get(0).getNewText());
+		Assert.assertEquals("bar", a.get(1).getNewText());
+		Assert.assertEquals(3, merger.getAcceptedCount());
+	}
+
+	@Test
+	public void applySameEditOnce() {
+		// two "missing import" fixes add the same import
+		Assert.assertTrue(merger.add(action("a.ts", "1:1-1:1=import;", "5:1-5:4=foo")));
+		Assert.assertTrue(merger.add(action("a.ts", "1:1-1:1=import;", "8:1-8:4=bar")));
+		Assert.assertEquals(3, merger.getEdits().get("a.ts").size());
+		Assert.assertTrue(merger.getSkippedActions().isEmpty());
+	}
+
+	@Test
+	public void mergeInsertionsAtSameLocation() {
+		// two "missing import" fixes add different imports at the top
+		Assert.assertTrue(merger.add(action("a.ts", "1:1-1:1=import a;", "5:1-5:4=foo")));
+		Assert.assertTrue(merger.add(action("a.ts", "8:1-8:4=bar", "1:1-1:1=import b;")));
+		Assert.assertTrue(merger.add(action("a.ts", "1:1-1:1=import a;")));
+		List<CodeEdit> edits = merger.getEdits().get("a.ts");
+		Assert.assertEquals(3, edits.size());
+		Assert.assertEquals("import a;import b;", edits.get(0).getNewText());
+		Assert.assertEquals(1, edits.get(0).getStart().getLine());
+		Assert.assertEquals(1, edits.get(0).getEnd().getOffset());
+		Assert.assertEquals("foo", edits.get(1).getNewText());
+		Assert.assertEquals("bar", edits.get(2).getNewText());
+		Assert.assertTrue(merger.getSkippedActions().isEmpty());
+	}
+
+	@Test
+	public void skipOverlappingAction() {
+		Assert.assertTrue(merger.add(action("a.ts", "2:1-2:10=foo")));
+		CodeAction overlapping = action("a.ts", "9:1-9:2=x", "2:5-2:6=bar");
+		Assert.assertFalse(merger.add(overlapping));
+		// an insertion and a replacement at the same location are ambiguous
+		Assert.assertTrue(merger.add(action("a.ts", "4:1-4:1=x")));
+		Assert.assertFalse(merger.add(action("a.ts", "4:1-4:3=y")));
+		// touching edits don't overlap
+		Assert.assertTrue(merger.add(action("a.ts", "2:10-2:12=baz")));
+
+		Assert.assertEquals(2, merger.getSkippedActions().size());
+		Assert.assertSame(overlapping, merger.getSkippedActions().get(0));
+		// skipped action is not partially applied
+		Assert.assertEquals(3, merger.getEdits().get("a.ts").size());
+	}
+}
@@ -0,0 +1,47 @@
+package ts.client.codefixes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodeFixesCacheTest {
+
+	private static final List<Integer> ERROR_CODES = Collections.singletonList(2304);
+
+	private final CodeFixesCache cache = new CodeFixesCache();
+
+	@Test
+	public void reuseForSameRangeAndErrorCodes() {
+		CompletableFuture<List<CodeAction>> fixes = new CompletableFuture<>();
+		Assert.assertSame(fixes, cache.putIfAbsent(1, 10, 13, ERROR_CODES, fixes));
+		Assert.assertSame(fixes, cache.putIfAbsent(1, 10, 13, ERROR_CODES, new CompletableFuture<>()));
+		Assert.assertSame(fixes, cache.get(1, 10, 13, ERROR_CODES));
+		Assert.assertNull(cache.get(1, 10, 14, ERROR_CODES));
+		Assert.assertNull(cache.get(1, 10, 13, Arrays.asList(2304, 2552)));
+	}
+
+	@Test
+	public void clearWhenVersionChanges() {
+		cache.putIfAbsent(1, 10, 13, ERROR_CODES, new CompletableFuture<>());
+		Assert.assertNull(cache.get(2, 10, 13, ERROR_CODES));
+		CompletableFuture<List<CodeAction>> fixes = new CompletableFuture<>();
+		cache.putIfAbsent(2, 20, 23, ERROR_CODES, fixes);
+		Assert.assertEquals(1, cache.size());
+		// result of an older version is not cached.
+		cache.putIfAbsent(1, 10, 13, ERROR_CODES, new CompletableFuture<>());
+		Assert.assertEquals(1, cache.size());
+		Assert.assertSame(fixes, cache.get(2, 20, 23, ERROR_CODES));
+	}
+
+	@Test
+	public void removeFailedCodeFixes() {
+		CompletableFuture<List<CodeAction>> fixes = new CompletableFuture<>();
+		cache.putIfAbsent(1, 10, 13, ERROR_CODES, fixes);
+		fixes.completeExceptionally(new Exception());
+		Assert.assertNull(cache.get(1, 10, 13, ERROR_CODES));
+	}
+}
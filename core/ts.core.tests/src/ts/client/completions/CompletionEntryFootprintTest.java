@@ -0,0 +1,84 @@
+package ts.client.completions;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.ScriptElementKind;
+import ts.internal.client.protocol.CompletionsRequest;
+import ts.internal.client.protocol.GsonHelper;
+
+public class CompletionEntryFootprintTest {
+
+	private static final String[] KINDS = { "property", "method", "var", "interface", "keyword" };
+	private static final String[] MODIFIERS = { "", "declare", "export" };
+
+	// lib.dom exposes about 1500 globals.
+	private static final int ENTRIES = 1500;
+
+	private static String createResponse() {
+		StringBuilder json = new StringBuilder(
+				"{\"seq\":0,\"type\":\"response\",\"command\":\"completions\",\"request_seq\":1,\"success\":true,\"body\":[");
+		for (int i = 0; i < ENTRIES; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"name\":\"HTMLElement").append(i).append("\",\"kind\":\"").append(KINDS[i % KINDS.length])
+					.append("\",\"kindModifiers\":\"").append(MODIFIERS[i % MODIFIERS.length])
+					.append("\",\"sortText\":\"0\"}");
+		}
+		return json.append("]}").toString();
+	}
+
+	private static List<CompletionEntry> parse(String response) {
+		CompletionsRequest request = new CompletionsRequest("lib.ts", 1, 1,
+				ICompletionEntryMatcherProvider.START_WITH_MATCHER_PROVIDER, null, ICompletionEntryFactory.DEFAULT);
+		return request.parseResponse(GsonHelper.parse(response).getAsJsonObject()).getBody();
+	}
+
+	@Test
+	public void sharedContext() {
+		List<CompletionEntry> entries = parse(createResponse());
+		Assert.assertEquals(ENTRIES, entries.size());
+		CompletionContext context = entries.get(0).getContext();
+		Assert.assertEquals("lib.ts", context.getFileName());
+		for (CompletionEntry entry : entries) {
+			Assert.assertSame(context, entry.getContext());
+			Assert.assertEquals(1, entry.getLine());
+		}
+	}
+
+	@Test
+	public void sharedKinds() {
+		List<CompletionEntry> entries = parse(createResponse());
+		for (int i = KINDS.length; i < ENTRIES; i++) {
+			CompletionEntry entry = entries.get(i);
+			CompletionEntry sameKind = entries.get(i % KINDS.length);
+			Assert.assertSame(sameKind.getKind(), entry.getKind());
+			Assert.assertSame(entries.get(i % MODIFIERS.length).getKindModifiers(), entry.getKindModifiers());
+			Assert.assertSame(entries.get(0).getSortText(), entry.getSortText());
+			Assert.assertSame(sameKind.getTsKind(), entry.getTsKind());
+		}
+		Assert.assertEquals(ScriptElementKind.PROPERTY, entries.get(0).getTsKind());
+		Assert.assertTrue(entries.get(1).isFunction());
+		Assert.assertFalse(entries.get(2).isFunction());
+	}
+
+	@Test
+	public void sharedNamesBetweenResponses() {
+		String response = createResponse();
+		List<CompletionEntry> first = parse(response);
+		List<CompletionEntry> second = parse(response);
+		int shared = 0;
+		for (int i = 0; i < ENTRIES; i++) {
+			Assert.assertEquals(first.get(i).getName(), second.get(i).getName());
+			if (first.get(i).getName() == second.get(i).getName()) {
+				shared++;
+			}
+		}
+		// the names pool is a bounded cache, some slots can be shared by
+		// several names.
+		Assert.assertTrue("Only " + shared + " shared names", shared > ENTRIES * 3 / 4);
+	}
+}
@@ -0,0 +1,78 @@
+package ts.client.definition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.client.FileSpan;
+
+public class DefinitionCacheTest {
+
+	private final DefinitionCache cache = new DefinitionCache();
+
+	@Test
+	public void shareDefinitionOfIdentifier() {
+		CompletableFuture<List<FileSpan>> definition = new CompletableFuture<>();
+		Assert.assertSame(definition, cache.putIfAbsent(cache.getVersion(), "a.ts", 1, 10, 13, definition));
+		Assert.assertSame(definition,
+				cache.putIfAbsent(cache.getVersion(), "a.ts", 1, 10, 13, new CompletableFuture<>()));
+		Assert.assertSame(definition, cache.get("a.ts", 1, 10, 13));
+		Assert.assertNull(cache.get("a.ts", 1, 20, 23));
+		Assert.assertNull(cache.get("a.ts", 2, 10, 13));
+		Assert.assertNull(cache.get("b.ts", 1, 10, 13));
+	}
+
+	@Test
+	public void invalidate() {
+		long version = cache.getVersion();
+		cache.putIfAbsent(version, "a.ts", 1, 10, 13, new CompletableFuture<>());
+		cache.putIfAbsent(version, "b.ts", 1, 10, 13, CompletableFuture.completedFuture(new ArrayList<>()));
+		cache.invalidate();
+		// a change of a.ts can change the definitions of b.ts (re-export,
+		// global or merged declarations).
+		Assert.assertNull(cache.get("a.ts", 1, 10, 13));
+		Assert.assertNull(cache.get("b.ts", 1, 10, 13));
+		Assert.assertEquals(0, cache.size());
+		// request sent before the invalidation is not cached.
+		cache.putIfAbsent(version, "a.ts", 1, 10, 13, new CompletableFuture<>());
+		Assert.assertNull(cache.get("a.ts", 1, 10, 13));
+	}
+
+	@Test
+	public void removeFailedDefinition() {
+		CompletableFuture<List<FileSpan>> definition = new CompletableFuture<>();
+		cache.putIfAbsent(cache.getVersion(), "a.ts", 1, 10, 13, definition);
+		definition.cancel(true);
+		Assert.assertNull(cache.get("a.ts", 1, 10, 13));
+
+		CompletableFuture<List<FileSpan>> done = new CompletableFuture<>();
+		cache.putIfAbsent(cache.getVersion(), "a.ts", 1, 10, 13, done);
+		done.complete(new ArrayList<>());
+		Assert.assertSame(done, cache.get("a.ts", 1, 10, 13));
+	}
+
+	@Test
+	public void evictEldest() {
+		for (int i = 0; i < DefinitionCache.MAX_ENTRIES + 1; i++) {
+			cache.putIfAbsent(cache.getVersion(), "a.ts", 1, i * 10, i * 10 + 3, new CompletableFuture<>());
+		}
+		Assert.assertEquals(DefinitionCache.MAX_ENTRIES, cache.size());
+		Assert.assertNull(cache.get("a.ts", 1, 0, 3));
+	}
+
+	@Test
+	public void identifierSpan() {
+		String text = "let foo = bar.$baz;";
+		Assert.assertEquals("[4, 7]", Arrays.toString(DefinitionCache.getIdentifierSpan(text, 4)));
+		Assert.assertEquals("[4, 7]", Arrays.toString(DefinitionCache.getIdentifierSpan(text, 7)));
+		Assert.assertEquals("[14, 18]", Arrays.toString(DefinitionCache.getIdentifierSpan(text, 16)));
+		Assert.assertNull(DefinitionCache.getIdentifierSpan(text, 8));
+		Assert.assertNull(DefinitionCache.getIdentifierSpan("a = 12;", 5));
+		Assert.assertEquals("[4, 7]",
+				Arrays.toString(DefinitionCache.getIdentifierSpan(new StringBuilder(text), 5)));
+	}
+}
@@ -0,0 +1,65 @@
+package ts.client.metrics;
+
+import java.io.StringWriter;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.TypeScriptException;
+import ts.TypeScriptNoContentAvailableException;
+
+public class MetricsInterceptorTest {
+
+	@Test
+	public void percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(1000L, histogram.getMin());
+		Assert.assertEquals(1000000L, histogram.getMax());
+		assertNear(500000L, histogram.getPercentile(50.0));
+		assertNear(990000L, histogram.getPercentile(99.0));
+		Assert.assertEquals(1000000L, histogram.getPercentile(100.0));
+	}
+
+	@Test
+	public void bucketBounds() {
+		for (long value : new long[] { 0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE }) {
+			int index = LatencyHistogram.indexOf(value);
+			Assert.assertTrue(value <= LatencyHistogram.upperBoundOf(index));
+			if (index > 0) {
+				Assert.assertTrue(value > LatencyHistogram.upperBoundOf(index - 1));
+			}
+		}
+	}
+
+	@Test
+	public void errorsTimeoutsAndCancellations() throws Exception {
+		MetricsInterceptor interceptor = new MetricsInterceptor();
+		interceptor.handleError(new TypeScriptException("error"), null, "completions", 10);
+		interceptor.handleError(new TypeScriptNoContentAvailableException("No content available."), null,
+				"completions", 10);
+		interceptor.handleError(new TimeoutException(), null, "completions", 10);
+		interceptor.handleError(new CancellationException(), null, "completions", 10);
+		interceptor.handleCancel(null, "completions", 10);
+
+		CommandMetrics metrics = interceptor.getMetrics().get("completions");
+		Assert.assertEquals(1, metrics.getErrorCount());
+		Assert.assertEquals(1, metrics.getTimeoutCount());
+		Assert.assertEquals(2, metrics.getCancelCount());
+
+		StringWriter writer = new StringWriter();
+		interceptor.export(writer);
+		Assert.assertTrue(writer.toString().contains("\"timeouts\": 1"));
+		Assert.assertTrue(writer.toString().contains("\"cancellations\": 2"));
+	}
+
+	private static void assertNear(long expected, long actual) {
+		Assert.assertTrue("expected ~" + expected + " but was " + actual,
+				Math.abs(actual - expected) <= expected / 8);
+	}
+}
@@ -0,0 +1,42 @@
+package ts.client.occurrences;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OccurrencesCacheTest {
+
+	private final OccurrencesCache cache = new OccurrencesCache();
+
+	private final List<OccurrencesResponseItem> occurrences = new ArrayList<>();
+
+	@Test
+	public void reuseInsideOccurrence() {
+		// "foo" at [10, 13] and [40, 43]
+		cache.put(1, occurrences, new int[] { 10, 13, 40, 43 });
+		Assert.assertSame(occurrences, cache.get(1, 10));
+		Assert.assertSame(occurrences, cache.get(1, 12));
+		Assert.assertSame(occurrences, cache.get(1, 13));
+		Assert.assertSame(occurrences, cache.get(1, 41));
+		Assert.assertNull(cache.get(1, 9));
+		Assert.assertNull(cache.get(1, 20));
+	}
+
+	@Test
+	public void invalidateWhenVersionChanges() {
+		cache.put(1, occurrences, new int[] { 10, 13 });
+		Assert.assertNull(cache.get(2, 11));
+		cache.clear();
+		Assert.assertNull(cache.get(1, 11));
+	}
+
+	@Test
+	public void ignoreOlderResult() {
+		List<OccurrencesResponseItem> newer = new ArrayList<>();
+		cache.put(2, newer, new int[] { 10, 13 });
+		cache.put(1, occurrences, new int[] { 10, 13 });
+		Assert.assertSame(newer, cache.get(2, 11));
+	}
+}
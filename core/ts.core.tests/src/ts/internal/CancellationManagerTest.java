@@ -0,0 +1,177 @@
+package ts.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import ts.TypeScriptException;
+import ts.client.TypeScriptServiceClient;
+import ts.client.quickinfo.QuickInfo;
+import ts.internal.client.protocol.GsonHelper;
+import ts.nodejs.INodejsProcess;
+import ts.nodejs.INodejsProcessListener;
+
+public class CancellationManagerTest {
+
+	/**
+	 * node.js process which doesn't answer until {@link #respond(int)} is
+	 * called.
+	 */
+	private static class PendingNodejsProcess implements INodejsProcess {
+
+		private final List<INodejsProcessListener> listeners = new ArrayList<>();
+		private final List<JsonObject> requests = new ArrayList<>();
+		private boolean started;
+
+		@Override
+		public void sendRequest(String request) throws TypeScriptException {
+			requests.add(GsonHelper.parse(request).getAsJsonObject());
+		}
+
+		void respond(int seq) {
+			JsonObject request = requests.get(seq);
+			String response = "{\"seq\":0,\"type\":\"response\",\"command\":\"" + request.get("command").getAsString()
+					+ "\",\"request_seq\":" + request.get("seq").getAsInt() + ",\"success\":true,\"body\":{}}";
+			for (INodejsProcessListener listener : listeners) {
+				listener.onMessage(this, response);
+			}
+		}
+
+		int getSeq(int index) {
+			return requests.get(index).get("seq").getAsInt();
+		}
+
+		@Override
+		public void join() throws InterruptedException {
+		}
+
+		@Override
+		public void addProcessListener(INodejsProcessListener listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public void removeProcessListener(INodejsProcessListener listener) {
+			listeners.remove(listener);
+		}
+
+		@Override
+		public void start() {
+			started = true;
+		}
+
+		@Override
+		public boolean isStarted() {
+			return started;
+		}
+
+		@Override
+		public void kill() {
+			started = false;
+		}
+	}
+
+	private static String createPipeName() throws IOException {
+		File file = File.createTempFile("tscancellation-test", ".sock");
+		file.delete();
+		return file.getPath();
+	}
+
+	@Test
+	public void deleteSignalWhenRequestIsCompleted() throws Exception {
+		String pipeName = createPipeName();
+		CancellationManager manager = new CancellationManager(pipeName);
+		Assert.assertTrue(manager.cancel(10));
+		Assert.assertFalse(manager.cancel(10));
+		Assert.assertTrue(manager.cancel(11));
+		Assert.assertTrue(new File(pipeName + 10).exists());
+		Assert.assertTrue(new File(pipeName + 11).exists());
+
+		manager.requestCompleted(10);
+		// deletions are batched
+		Thread.sleep(1500);
+		Assert.assertFalse(new File(pipeName + 10).exists());
+		Assert.assertTrue(new File(pipeName + 11).exists());
+		Assert.assertEquals(1, manager.getSignalCount());
+
+		manager.dispose();
+		Assert.assertFalse(new File(pipeName + 11).exists());
+		Assert.assertEquals(0, manager.getSignalCount());
+		Assert.assertFalse(manager.cancel(12));
+	}
+
+	@Test
+	public void cancelRequestOfCaller() throws Exception {
+		String pipeName = createPipeName();
+		PendingNodejsProcess process = new PendingNodejsProcess();
+		TypeScriptServiceClient client = new TypeScriptServiceClient(process, pipeName);
+		try {
+			// ex : a rename action and the hover ask the quickinfo of the
+			// same file, only the caller cancels its previous request.
+			CompletableFuture<QuickInfo> first = client.quickInfo("a.ts", 1, 1);
+			CompletableFuture<QuickInfo> other = client.quickInfo("a.ts", 1, 1);
+			first.cancel(true);
+			CompletableFuture<QuickInfo> second = client.quickInfo("a.ts", 1, 2);
+
+			Assert.assertTrue(first.isCancelled());
+			Assert.assertFalse(other.isDone());
+			Assert.assertFalse(second.isDone());
+			File signal = new File(pipeName + process.getSeq(0));
+			Assert.assertTrue(signal.exists());
+
+			// tsserver answers the cancelled request
+			process.respond(0);
+			process.respond(1);
+			process.respond(2);
+			Assert.assertTrue(other.isDone());
+			Assert.assertTrue(second.isDone());
+			Thread.sleep(1500);
+			Assert.assertFalse(signal.exists());
+		} finally {
+			client.dispose();
+		}
+	}
+
+	@Test
+	public void supersedeRequestOfSameCaller() throws Exception {
+		String pipeName = createPipeName();
+		PendingNodejsProcess process = new PendingNodejsProcess();
+		TypeScriptServiceClient client = new TypeScriptServiceClient(process, pipeName);
+		try {
+			Object hover = new Object();
+			Object rename = new Object();
+			CompletableFuture<QuickInfo> first = client.quickInfo("a.ts", 1, 1, hover);
+			CompletableFuture<QuickInfo> other = client.quickInfo("a.ts", 1, 1, rename);
+			CompletableFuture<QuickInfo> otherFile = client.quickInfo("b.ts", 1, 1, hover);
+			CompletableFuture<QuickInfo> withoutKey = client.quickInfo("a.ts", 1, 1);
+			CompletableFuture<QuickInfo> second = client.quickInfo("a.ts", 1, 2, hover);
+
+			// only the previous quickinfo of the same caller for the same
+			// file is cancelled.
+			Assert.assertTrue(first.isCancelled());
+			Assert.assertFalse(other.isDone());
+			Assert.assertFalse(otherFile.isDone());
+			Assert.assertFalse(withoutKey.isDone());
+			Assert.assertFalse(second.isDone());
+			Assert.assertTrue(new File(pipeName + process.getSeq(0)).exists());
+
+			for (int i = 0; i < 5; i++) {
+				process.respond(i);
+			}
+			Assert.assertTrue(other.isDone());
+			Assert.assertTrue(otherFile.isDone());
+			Assert.assertTrue(withoutKey.isDone());
+			Assert.assertTrue(second.isDone());
+			Assert.assertFalse(second.isCompletedExceptionally());
+		} finally {
+			client.dispose();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package ts.internal;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.TypeScriptException;
+import ts.client.Location;
+import ts.client.ScriptKindName;
+import ts.resources.VirtualTypeScriptFile;
+
+public class LineIndexTest {
+
+	@Test
+	public void locationWithLineDelimiters() throws TypeScriptException {
+		String contents = "let a;\r\nlet b;\nlet c;\rlet d;";
+		LineIndex index = new LineIndex(contents);
+		Assert.assertEquals(4, index.getLineCount());
+		assertLocation(1, 1, index.getLocation(0));
+		assertLocation(1, 7, index.getLocation(6));
+		assertLocation(2, 1, index.getLocation(8));
+		assertLocation(3, 5, index.getLocation(19));
+		assertLocation(4, 7, index.getLocation(contents.length()));
+	}
+
+	@Test
+	public void positionIsInverseOfLocation() throws TypeScriptException {
+		String contents = "class A {\r\n\tfoo(): void {}\n}\n\nlet a = new A();";
+		LineIndex index = new LineIndex(contents);
+		for (int position = 0; position <= contents.length(); position++) {
+			Location location = index.getLocation(position);
+			Assert.assertEquals(position, index.getPosition(location.getLine(), location.getOffset()));
+		}
+	}
+
+	@Test
+	public void outsideContent() {
+		LineIndex index = new LineIndex("let a;\nlet b;");
+		try {
+			index.getLocation(14);
+			Assert.fail("position outside the content");
+		} catch (TypeScriptException e) {
+			// expected
+		}
+		try {
+			index.getPosition(3, 1);
+			Assert.fail("line outside the content");
+		} catch (TypeScriptException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void virtualFile() throws TypeScriptException {
+		VirtualTypeScriptFile file = new VirtualTypeScriptFile(null, "/src/a.tsx", "let a;\nlet b;");
+		Assert.assertEquals(ScriptKindName.TSX, file.getScriptKind());
+		assertLocation(2, 5, file.getLocation(11));
+		Assert.assertEquals(11, file.getPosition(2, 5));
+		Assert.assertEquals("le", file.getPrefix(9));
+	}
+
+	@Test
+	public void virtualFileReadLazily() throws Exception {
+		File source = File.createTempFile("lineindex-test", ".ts");
+		try {
+			VirtualTypeScriptFile file = new VirtualTypeScriptFile(null, source);
+			Assert.assertEquals(ScriptKindName.TS, file.getScriptKind());
+			// the content is read on the first location conversion.
+			Files.write(source.toPath(), "let a;\nlet b;".getBytes(StandardCharsets.UTF_8));
+			assertLocation(2, 5, file.getLocation(11));
+			Assert.assertEquals("let a;\nlet b;", file.getContents());
+		} finally {
+			source.delete();
+		}
+		Assert.assertNull(new VirtualTypeScriptFile(null, source).getContents());
+	}
+
+	private static void assertLocation(int line, int offset, Location location) {
+		Assert.assertEquals(line, location.getLine());
+		Assert.assertEquals(offset, location.getOffset());
+	}
+}
@@ -0,0 +1,161 @@
+package ts.internal.client.protocol;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import ts.TypeScriptException;
+import ts.client.IPositionProvider;
+import ts.client.Location;
+import ts.client.completions.CompletionEntry;
+import ts.client.diagnostics.Diagnostic;
+import ts.client.diagnostics.DiagnosticEventBody;
+import ts.client.diagnostics.DiagnosticWithLinePosition;
+import ts.client.diagnostics.IDiagnostic;
+import ts.client.navbar.NavigationBarItem;
+import ts.client.references.ReferencesResponseItem;
+import ts.internal.client.protocol.ProtocolAdapters.CompletionEntryAdapter;
+import ts.internal.client.protocol.ProtocolAdapters.ListAdapter;
+
+public class ProtocolAdaptersTest {
+
+	@Test
+	public void diagnostics() {
+		String json = "{\"file\":\"a.ts\",\"diagnostics\":["
+				+ "{\"start\":{\"line\":1,\"offset\":13},\"end\":{\"line\":1,\"offset\":14},\"text\":\"Identifier expected.\",\"code\":1003,\"category\":\"error\"},"
+				+ "{\"start\":12,\"length\":1,\"end\":13,\"startLocation\":{\"line\":1,\"offset\":13},\"endLocation\":{\"line\":1,\"offset\":14},\"message\":\"Unused.\",\"code\":6133,\"category\":\"warning\",\"unknown\":[1,{\"a\":null}]}"
+				+ "]}";
+		DiagnosticEventBody body = GsonHelper.DEFAULT_GSON.fromJson(json, DiagnosticEventBody.class);
+		Assert.assertEquals("a.ts", body.getFile());
+		List<IDiagnostic> diagnostics = body.getDiagnostics();
+		Assert.assertEquals(2, diagnostics.size());
+
+		IDiagnostic diagnostic = diagnostics.get(0);
+		Assert.assertTrue(diagnostic instanceof Diagnostic);
+		Assert.assertEquals("Identifier expected.", diagnostic.getText());
+		Assert.assertEquals(Integer.valueOf(1003), diagnostic.getCode());
+		Assert.assertEquals(IDiagnostic.DiagnosticCategory.Error, diagnostic.getCategory());
+		Assert.assertEquals(13, diagnostic.getStartLocation().getOffset());
+		Assert.assertEquals(14, diagnostic.getEndLocation().getOffset());
+
+		diagnostic = diagnostics.get(1);
+		Assert.assertTrue(diagnostic instanceof DiagnosticWithLinePosition);
+		Assert.assertEquals("Unused.", diagnostic.getText());
+		Assert.assertEquals(Integer.valueOf(6133), diagnostic.getCode());
+		Assert.assertEquals(1, diagnostic.getStartLocation().getLine());
+		Assert.assertEquals(14, diagnostic.getEndLocation().getOffset());
+	}
+
+	@Test
+	public void completions() {
+		JsonObject json = GsonHelper.parse("{\"seq\":0,\"type\":\"response\",\"command\":\"completions\","
+				+ "\"request_seq\":3,\"success\":true,\"body\":["
+				+ "{\"name\":\"foo\",\"kind\":\"method\",\"kindModifiers\":\"\",\"sortText\":\"0\"},"
+				+ "{\"name\":\"bar\",\"kind\":\"var\",\"kindModifiers\":\"export\",\"sortText\":\"1\",\"hasAction\":true,"
+				+ "\"replacementSpan\":{\"start\":{\"line\":2,\"offset\":1},\"end\":{\"line\":2,\"offset\":4}}}]}")
+				.getAsJsonObject();
+		CompletionEntryAdapter entryAdapter = new CompletionEntryAdapter(
+				() -> new CompletionEntry(null, "a.ts", 2, 4, null));
+		CompletionsResponse response = GsonHelper.fromJson(json, CompletionsResponse.class,
+				new ListAdapter<CompletionEntry>(entryAdapter));
+		Assert.assertTrue(response.isSuccess());
+		Assert.assertEquals("completions", response.getCommand());
+		Assert.assertEquals(3, response.getRequest_seq());
+		List<CompletionEntry> entries = response.getBody();
+		Assert.assertEquals(2, entries.size());
+		Assert.assertEquals("foo", entries.get(0).getName());
+		Assert.assertEquals("method", entries.get(0).getKind());
+		Assert.assertFalse(entries.get(0).hasActions());
+		Assert.assertNull(entries.get(0).getReplacementSpan());
+		Assert.assertEquals("bar", entries.get(1).getName());
+		Assert.assertEquals("export", entries.get(1).getKindModifiers());
+		Assert.assertEquals("a.ts", entries.get(1).getFileName());
+		Assert.assertEquals(4, entries.get(1).getReplacementSpan().getEnd().getOffset());
+	}
+
+	@Test
+	public void navtree() {
+		IPositionProvider positionProvider = new IPositionProvider() {
+
+			@Override
+			public int getPosition(Location loc) throws TypeScriptException {
+				return getPosition(loc.getLine(), loc.getOffset());
+			}
+
+			@Override
+			public int getPosition(int line, int offset) throws TypeScriptException {
+				return (line - 1) * 100 + offset - 1;
+			}
+
+			@Override
+			public Location getLocation(int position) throws TypeScriptException {
+				return null;
+			}
+		};
+		JsonObject json = GsonHelper.parse("{\"seq\":0,\"type\":\"response\",\"command\":\"navtree\","
+				+ "\"request_seq\":1,\"success\":true,\"body\":{\"text\":\"\\\"a\\\"\",\"kind\":\"module\","
+				+ "\"kindModifiers\":\"\",\"spans\":[{\"start\":{\"line\":1,\"offset\":1},\"end\":{\"line\":3,\"offset\":2}}],"
+				+ "\"childItems\":[{\"text\":\"A\",\"kind\":\"class\",\"kindModifiers\":\"export\","
+				+ "\"spans\":[{\"start\":{\"line\":2,\"offset\":1},\"end\":{\"line\":2,\"offset\":20}}]}]}}")
+				.getAsJsonObject();
+		Response<NavigationBarItem> response = new NavTreeRequest("a.ts", positionProvider).parseResponse(json);
+		NavigationBarItem root = response.getBody();
+		Assert.assertEquals("\"a\"", root.getText());
+		Assert.assertEquals(1, root.getChildItems().size());
+		NavigationBarItem child = root.getChildItems().get(0);
+		Assert.assertEquals("A", child.getText());
+		Assert.assertEquals("export", child.getKindModifiers());
+		Assert.assertSame(root, child.getParent());
+		Assert.assertEquals(100, child.getSpans().get(0).getStart().getPosition());
+		Assert.assertEquals(119, child.getSpans().get(0).getEnd().getPosition());
+	}
+
+	@Test
+	public void serialize() {
+		String json = "{\"text\":\"a\",\"kind\":\"module\",\"kindModifiers\":\"\","
+				+ "\"spans\":[{\"start\":{\"line\":1,\"offset\":1},\"end\":{\"line\":3,\"offset\":2}}],"
+				+ "\"childItems\":[{\"text\":\"A\",\"kind\":\"class\",\"kindModifiers\":\"export\","
+				+ "\"spans\":[{\"start\":{\"line\":2,\"offset\":1},\"end\":{\"line\":2,\"offset\":20}}]}]}";
+		NavigationBarItem root = GsonHelper.DEFAULT_GSON.fromJson(json, NavigationBarItem.class);
+		// the parent back-references are not serialized.
+		Assert.assertSame(root, root.getChildItems().get(0).getParent());
+		NavigationBarItem copy = GsonHelper.DEFAULT_GSON.fromJson(GsonHelper.DEFAULT_GSON.toJson(root),
+				NavigationBarItem.class);
+		Assert.assertEquals("a", copy.getText());
+		NavigationBarItem child = copy.getChildItems().get(0);
+		Assert.assertEquals("A", child.getText());
+		Assert.assertEquals(20, child.getSpans().get(0).getEnd().getOffset());
+
+		json = "{\"start\":{\"line\":1,\"offset\":13},\"end\":{\"line\":1,\"offset\":14},"
+				+ "\"text\":\"Identifier expected.\",\"code\":1003,\"category\":\"error\"}";
+		IDiagnostic diagnostic = GsonHelper.DEFAULT_GSON.fromJson(json, IDiagnostic.class);
+		IDiagnostic diagnosticCopy = GsonHelper.DEFAULT_GSON
+				.fromJson(GsonHelper.DEFAULT_GSON.toJson(diagnostic, IDiagnostic.class), IDiagnostic.class);
+		Assert.assertEquals("Identifier expected.", diagnosticCopy.getText());
+		Assert.assertEquals(Integer.valueOf(1003), diagnosticCopy.getCode());
+		Assert.assertEquals(14, diagnosticCopy.getEndLocation().getOffset());
+		String body = GsonHelper.DEFAULT_GSON.toJson(new DiagnosticEventBody("a.ts", Arrays.asList(diagnostic)));
+		Assert.assertTrue(body, body.contains("Identifier expected."));
+	}
+
+	@Test
+	public void references() {
+		String json = "{\"seq\":0,\"type\":\"response\",\"command\":\"references\",\"request_seq\":2,\"success\":true,"
+				+ "\"body\":{\"refs\":[{\"file\":\"a.ts\",\"start\":{\"line\":1,\"offset\":5},\"end\":{\"line\":1,\"offset\":8},"
+				+ "\"lineText\":\"var foo;\",\"isWriteAccess\":true,\"isDefinition\":true}],"
+				+ "\"symbolName\":\"foo\",\"symbolStartOffset\":5,\"symbolDisplayString\":\"var foo: any\"}}";
+		ReferencesResponse response = GsonHelper.DEFAULT_GSON.fromJson(json, ReferencesResponse.class);
+		Assert.assertEquals("foo", response.getBody().getSymbolName());
+		ReferencesResponseItem item = response.getBody().getRefs().get(0);
+		Assert.assertEquals("a.ts", item.getFile());
+		Assert.assertEquals("var foo;", item.getLineText());
+		Assert.assertTrue(item.isWriteAccess());
+		Assert.assertTrue(item.isDefinition());
+		Assert.assertEquals(5, item.getStart().getOffset());
+		Assert.assertEquals(8, item.getEnd().getOffset());
+	}
+}
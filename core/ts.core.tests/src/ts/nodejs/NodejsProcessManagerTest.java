@@ -0,0 +1,232 @@
+package ts.nodejs;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import ts.OS;
+import ts.TypeScriptException;
+
+public class NodejsProcessManagerTest {
+
+	private static class FakeNodejsProcess extends AbstractNodejsProcess {
+
+		private boolean started;
+
+		public FakeNodejsProcess(File projectDir) throws TypeScriptException {
+			super(null, projectDir);
+		}
+
+		@Override
+		public void join() throws InterruptedException {
+		}
+
+		@Override
+		public void start() {
+			started = true;
+			notifyStartProcess(0);
+		}
+
+		@Override
+		public boolean isStarted() {
+			return started;
+		}
+
+		@Override
+		public void kill() {
+			if (started) {
+				started = false;
+				notifyStopProcess();
+			}
+		}
+
+		@Override
+		public void sendRequest(String request) throws TypeScriptException {
+		}
+	}
+
+	private final File projectDir = new File(System.getProperty("java.io.tmpdir"));
+
+	private final File tsFile = new File(projectDir, "tsserver.js");
+
+	private final NodejsProcessManager manager = new NodejsProcessManager() {
+
+		@Override
+		protected INodejsProcess createProcess(File projectDir, File tsFile, File nodejsFile,
+				INodejsLaunchConfiguration configuration, String fileType) throws TypeScriptException {
+			return new FakeNodejsProcess(projectDir);
+		}
+	};
+
+	private static INodejsLaunchConfiguration configuration(String... args) {
+		return new INodejsLaunchConfiguration() {
+
+			@Override
+			public List<String> createNodeArgs() {
+				return Arrays.asList(args);
+			}
+
+			@Override
+			public Map<String, String> createNodeEnvironmentVariables() {
+				return Collections.emptyMap();
+			}
+		};
+	}
+
+	private INodejsProcess acquire(String... args) throws TypeScriptException {
+		INodejsProcess process = manager.acquire(projectDir, tsFile, null, configuration(args), "tsserver");
+		if (!process.isStarted()) {
+			process.start();
+		}
+		return process;
+	}
+
+	@Test
+	public void reuseReleasedProcessWithSameConfiguration() throws Exception {
+		INodejsProcess process = acquire("--enableTelemetry");
+		Assert.assertTrue(manager.release(process));
+		Assert.assertEquals(1, manager.getIdleProcessCount());
+
+		Assert.assertNotSame(process, acquire("--disableAutomaticTypingAcquisition"));
+		Assert.assertSame(process, acquire("--enableTelemetry"));
+		Assert.assertEquals(0, manager.getIdleProcessCount());
+	}
+
+	@Test
+	public void doNotReleaseStoppedProcess() throws Exception {
+		INodejsProcess process = acquire();
+		process.kill();
+		Assert.assertFalse(manager.release(process));
+		Assert.assertEquals(0, manager.getIdleProcessCount());
+	}
+
+	@Test
+	public void evictOldestIdleProcess() throws Exception {
+		INodejsProcess first = acquire("a");
+		INodejsProcess second = acquire("b");
+		INodejsProcess third = acquire("c");
+		manager.release(first);
+		manager.release(second);
+		manager.release(third);
+		Assert.assertEquals(NodejsProcessManager.MAX_IDLE_PROCESSES, manager.getIdleProcessCount());
+		Assert.assertFalse(first.isStarted());
+		Assert.assertTrue(second.isStarted());
+		Assert.assertSame(third, acquire("c"));
+	}
+
+	@Test
+	public void removeKilledIdleProcess() throws Exception {
+		INodejsProcess process = acquire();
+		manager.release(process);
+		process.kill();
+		Assert.assertEquals(0, manager.getIdleProcessCount());
+		Assert.assertNotSame(process, acquire());
+	}
+
+	@Test
+	public void superviseStartedProcess() throws Exception {
+		File nodejsFile = NodejsProcessHelper.findNode(File.separatorChar == '\\' ? OS.Windows : OS.Linux);
+		Assume.assumeTrue(nodejsFile != null);
+		NodejsProcessManager manager = NodejsProcessManager.getInstance();
+		File script = File.createTempFile("supervisor", ".js");
+		script.deleteOnExit();
+		Files.write(script.toPath(), "console.log('ready');".getBytes(StandardCharsets.UTF_8));
+
+		long started = manager.getStartedProcessCount();
+		long stopped = manager.getUptimes().getCount();
+		List<String> messages = new ArrayList<>();
+		INodejsProcess process = manager.create(projectDir, script, nodejsFile, null, "script");
+		process.addProcessListener(new NodejsProcessAdapter() {
+			@Override
+			public void onMessage(INodejsProcess process, String message) {
+				messages.add(message);
+			}
+		});
+		process.start();
+		Assert.assertTrue(manager.getUptime(process) >= 0);
+		process.join();
+
+		Assert.assertEquals(Arrays.asList("ready"), messages);
+		Assert.assertFalse(process.isStarted());
+		Assert.assertEquals(-1, manager.getUptime(process));
+		Assert.assertEquals(started + 1, manager.getStartedProcessCount());
+		Assert.assertEquals(stopped + 1, manager.getUptimes().getCount());
+	}
+
+	@Test
+	public void countRestarts() throws Exception {
+		INodejsProcess process = acquire("--enableTelemetry");
+		process.kill();
+		Assert.assertEquals(0, manager.getRestartCount());
+		acquire("--enableTelemetry");
+		Assert.assertEquals(1, manager.getRestartCount());
+	}
+
+	@Test
+	public void prewarm() throws Exception {
+		manager.prewarm(projectDir, tsFile, null, configuration(), "tsserver");
+		long end = System.currentTimeMillis() + 5000;
+		while (manager.getIdleProcessCount() == 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(1, manager.getIdleProcessCount());
+		INodejsProcess process = manager.acquire(projectDir, tsFile, null, configuration(), "tsserver");
+		Assert.assertTrue(process.isStarted());
+		Assert.assertEquals(0, manager.getIdleProcessCount());
+	}
+
+	@Test
+	public void acquireWaitsForPrewarmedProcess() throws Exception {
+		CountDownLatch startBegun = new CountDownLatch(1);
+		CountDownLatch startEnd = new CountDownLatch(1);
+		NodejsProcessManager manager = new NodejsProcessManager() {
+
+			@Override
+			protected INodejsProcess createProcess(File projectDir, File tsFile, File nodejsFile,
+					INodejsLaunchConfiguration configuration, String fileType) throws TypeScriptException {
+				return new FakeNodejsProcess(projectDir) {
+
+					@Override
+					public void start() {
+						startBegun.countDown();
+						try {
+							startEnd.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						super.start();
+					}
+				};
+			}
+		};
+		manager.prewarm(projectDir, tsFile, null, configuration(), "tsserver");
+		Assert.assertTrue(startBegun.await(5, TimeUnit.SECONDS));
+		CompletableFuture<INodejsProcess> acquired = CompletableFuture.supplyAsync(() -> {
+			try {
+				return manager.acquire(projectDir, tsFile, null, configuration(), "tsserver");
+			} catch (TypeScriptException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		Thread.sleep(50);
+		Assert.assertFalse(acquired.isDone());
+		startEnd.countDown();
+
+		INodejsProcess process = acquired.get(5, TimeUnit.SECONDS);
+		Assert.assertTrue(process.isStarted());
+		Assert.assertEquals(0, manager.getIdleProcessCount());
+		Assert.assertEquals(0, manager.getRestartCount());
+	}
+}
@@ -0,0 +1,59 @@
+package ts.nodejs;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.client.TypeScriptServiceClient;
+import ts.client.quickinfo.QuickInfo;
+
+public class ReplayNodejsProcessTest {
+
+	private static final String SESSION = "{\"time\":0,\"kind\":\"request\",\"data\":\"{\\\"command\\\":\\\"quickinfo\\\",\\\"seq\\\":12,\\\"type\\\":\\\"request\\\"}\"}\n"
+			+ "{\"time\":1000,\"kind\":\"message\",\"data\":\"{\\\"seq\\\":0,\\\"type\\\":\\\"response\\\",\\\"command\\\":\\\"quickinfo\\\",\\\"request_seq\\\":12,\\\"success\\\":true,\\\"body\\\":{\\\"kind\\\":\\\"var\\\",\\\"displayString\\\":\\\"var a: number\\\"}}\"}\n";
+
+	@Test
+	public void replayResponse() throws Exception {
+		ReplayNodejsProcess process = new ReplayNodejsProcess(new StringReader(SESSION));
+		TypeScriptServiceClient client = new TypeScriptServiceClient(process, null);
+		try {
+			// the same recorded response is replayed for each request.
+			for (int i = 0; i < 3; i++) {
+				QuickInfo quickInfo = client.quickInfo("a.ts", 1, 1).get(5, TimeUnit.SECONDS);
+				Assert.assertEquals("var a: number", quickInfo.getDisplayString());
+			}
+		} finally {
+			client.dispose();
+		}
+	}
+
+	@Test
+	public void recordReplay() throws Exception {
+		File sessionFile = File.createTempFile("tsserver", ".session");
+		try {
+			RecordingNodejsProcess recording = new RecordingNodejsProcess(
+					new ReplayNodejsProcess(new StringReader(SESSION)), sessionFile);
+			TypeScriptServiceClient client = new TypeScriptServiceClient(recording, null);
+			client.quickInfo("a.ts", 1, 1).get(5, TimeUnit.SECONDS);
+			client.dispose();
+			recording.close();
+
+			ReplayNodejsProcess process = new ReplayNodejsProcess(sessionFile);
+			process.setFixedLatency(10, TimeUnit.MILLISECONDS);
+			client = new TypeScriptServiceClient(process, null);
+			try {
+				long start = System.nanoTime();
+				QuickInfo quickInfo = client.quickInfo("a.ts", 1, 1).get(5, TimeUnit.SECONDS);
+				Assert.assertEquals("var a: number", quickInfo.getDisplayString());
+				Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+			} finally {
+				client.dispose();
+			}
+		} finally {
+			sessionFile.delete();
+		}
+	}
+}
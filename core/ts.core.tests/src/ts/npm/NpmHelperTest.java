@@ -0,0 +1,37 @@
+package ts.npm;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NpmHelperTest {
+
+	@Test
+	public void npmViewVersions() throws Exception {
+		List<String> versions = NpmHelper
+				.parseVersions(new StringReader("[\n  \"1.0.0\",\n  \"1.1.0\",\n  \"2.0.0\"\n]\n"));
+		Assert.assertEquals(Arrays.asList("2.0.0", "1.1.0", "1.0.0"), versions);
+	}
+
+	@Test
+	public void npmViewSingleVersion() throws Exception {
+		List<String> versions = NpmHelper.parseVersions(new StringReader("\"1.0.0\"\n"));
+		Assert.assertEquals(Arrays.asList("1.0.0"), versions);
+	}
+
+	@Test
+	public void npmViewEmpty() throws Exception {
+		List<String> versions = NpmHelper.parseVersions(new StringReader(""));
+		Assert.assertTrue(versions.isEmpty());
+	}
+
+	@Test
+	public void registryDocument() throws Exception {
+		List<String> versions = NpmHelper.parseVersions(new StringReader(
+				"{\"name\":\"tslint\",\"dist-tags\":{\"latest\":\"5.0.0\"},\"versions\":{\"4.0.0\":{\"name\":\"tslint\"},\"5.0.0\":{}}}"));
+		Assert.assertEquals(Arrays.asList("5.0.0", "4.0.0"), versions);
+	}
+}
@@ -0,0 +1,45 @@
+package ts.repository;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TypeScriptRepositoryCatalogTest {
+
+	@Test
+	public void versionIsPersisted() throws Exception {
+		File file = createCatalogFile();
+		try {
+			TypeScriptRepositoryCatalog catalog = new TypeScriptRepositoryCatalog(file);
+			catalog.putVersion("ts.repository/node_modules", 10L, "2.6.2");
+			catalog.save();
+
+			catalog = new TypeScriptRepositoryCatalog(file);
+			Assert.assertEquals("2.6.2", catalog.getVersion("ts.repository/node_modules", 10L));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void outdatedStamp() throws Exception {
+		File file = createCatalogFile();
+		try {
+			TypeScriptRepositoryCatalog catalog = new TypeScriptRepositoryCatalog(file);
+			catalog.putVersion("ts.repository/node_modules", 10L, "2.6.2");
+			Assert.assertNull(catalog.getVersion("ts.repository/node_modules", 11L));
+			catalog.remove("ts.repository/node_modules");
+			Assert.assertNull(catalog.getVersion("ts.repository/node_modules", 10L));
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static File createCatalogFile() throws IOException {
+		File file = File.createTempFile("repositories", ".json");
+		file.delete();
+		return file;
+	}
+}
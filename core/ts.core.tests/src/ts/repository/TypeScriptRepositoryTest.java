@@ -0,0 +1,34 @@
+package ts.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.internal.repository.TypeScriptRepository;
+
+public class TypeScriptRepositoryTest {
+
+	@Test
+	public void resolveAgainAfterFailure() throws Exception {
+		File baseDir = new File("repository");
+		AtomicInteger calls = new AtomicInteger();
+		TypeScriptRepository repository = new TypeScriptRepository(() -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new UncheckedIOException(new IOException("Cannot extract"));
+			}
+			return baseDir;
+		}, "2.6.2", null);
+		try {
+			repository.getTypesScriptDir();
+			Assert.fail("The base directory should not be resolved");
+		} catch (UncheckedIOException e) {
+			// expected
+		}
+		Assert.assertEquals(new File(baseDir, "node_modules/typescript"), repository.getTypesScriptDir());
+		Assert.assertEquals(2, calls.get());
+	}
+}
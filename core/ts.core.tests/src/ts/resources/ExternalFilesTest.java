@@ -0,0 +1,103 @@
+package ts.resources;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.TypeScriptException;
+import ts.client.ITypeScriptServiceClient;
+import ts.internal.client.protocol.GsonHelper;
+
+public class ExternalFilesTest {
+
+	private final List<String> requests = new ArrayList<>();
+
+	@Test
+	public void openWithOneRequest() throws TypeScriptException {
+		TypeScriptProject tsProject = createProject("2.4.1");
+		tsProject.openExternalFiles("batch", Arrays.asList("/src/a.ts", "/src/b.js"));
+		Assert.assertEquals(Arrays.asList(
+				"openExternalProject [{\"fileName\":\"/src/a.ts\"},{\"fileName\":\"/src/b.js\"}] {\"allowJs\":true}"),
+				requests);
+
+		requests.clear();
+		tsProject.closeExternalFiles("batch");
+		Assert.assertEquals(Arrays.asList("closeExternalProject"), requests);
+
+		// already closed
+		requests.clear();
+		tsProject.closeExternalFiles("batch");
+		Assert.assertTrue(requests.isEmpty());
+	}
+
+	@Test
+	public void openWithTsconfig() throws TypeScriptException {
+		TypeScriptProject tsProject = createProject("2.4.1");
+		tsProject.openExternalFiles("batch", Arrays.asList("/src/a.ts", "/src/tsconfig.json"));
+		// tsserver reads the compiler options from the tsconfig.json
+		Assert.assertEquals(Arrays.asList(
+				"openExternalProject [{\"fileName\":\"/src/a.ts\"},{\"fileName\":\"/src/tsconfig.json\"}] {}"),
+				requests);
+	}
+
+	@Test
+	public void openOneByOneWithTsconfig() throws TypeScriptException {
+		TypeScriptProject tsProject = createProject("2.0.3");
+		tsProject.openExternalFiles("batch", Arrays.asList("/src/a.ts", "/src/tsconfig.json"));
+		Assert.assertEquals(Arrays.asList("openFile /src/a.ts"), requests);
+
+		requests.clear();
+		tsProject.closeExternalFiles("batch");
+		Assert.assertEquals(Arrays.asList("closeFile /src/a.ts"), requests);
+	}
+
+	@Test
+	public void openOneByOneWithOldTypeScript() throws TypeScriptException {
+		TypeScriptProject tsProject = createProject("2.0.3");
+		tsProject.openExternalFiles("batch", Arrays.asList("/src/a.ts", "/src/b.ts"));
+		Assert.assertEquals(Arrays.asList("openFile /src/a.ts", "openFile /src/b.ts"), requests);
+
+		requests.clear();
+		tsProject.closeExternalFiles("batch");
+		Assert.assertEquals(Arrays.asList("closeFile /src/a.ts", "closeFile /src/b.ts"), requests);
+	}
+
+	private TypeScriptProject createProject(String version) {
+		ITypeScriptProjectSettings settings = (ITypeScriptProjectSettings) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { ITypeScriptProjectSettings.class },
+				(proxy, method, args) -> "getTypeScriptVersion".equals(method.getName()) ? version : null);
+		ITypeScriptServiceClient client = (ITypeScriptServiceClient) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { ITypeScriptServiceClient.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getSupportedCodeFixes":
+						return CompletableFuture.completedFuture(new ArrayList<String>());
+					case "openExternalProject":
+						requests.add(method.getName() + " " + GsonHelper.DEFAULT_GSON.toJson(args[1]) + " "
+								+ GsonHelper.DEFAULT_GSON.toJson(args[2]));
+						break;
+					case "closeExternalProject":
+						requests.add(method.getName());
+						break;
+					case "openFile":
+					case "closeFile":
+						requests.add(method.getName() + " " + args[0]);
+						break;
+					}
+					return method.getReturnType() == boolean.class ? false : null;
+				});
+		return new TypeScriptProject(new File("."), settings) {
+
+			@Override
+			protected ITypeScriptServiceClient createServiceClient(File projectDir) throws TypeScriptException {
+				return client;
+			}
+		};
+	}
+}
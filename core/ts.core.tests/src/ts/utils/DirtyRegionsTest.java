@@ -0,0 +1,56 @@
+package ts.utils;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DirtyRegionsTest {
+
+	private final DirtyRegions regions = new DirtyRegions();
+
+	private void assertRegions(int... expected) {
+		Assert.assertEquals(Arrays.toString(expected), Arrays.toString(regions.getRegions()));
+	}
+
+	@Test
+	public void typing() {
+		regions.changed(10, 0, 1);
+		regions.changed(11, 0, 1);
+		regions.changed(12, 0, 1);
+		assertRegions(10, 13);
+		// backspace
+		regions.changed(12, 1, 0);
+		assertRegions(10, 12);
+	}
+
+	@Test
+	public void shiftRegionsAfterChange() {
+		regions.changed(50, 0, 5);
+		regions.changed(10, 0, 3);
+		assertRegions(10, 13, 53, 58);
+		// delete 20 characters before the second region
+		regions.changed(20, 20, 0);
+		assertRegions(10, 13, 20, 20, 33, 38);
+	}
+
+	@Test
+	public void mergeOverlappingRegions() {
+		regions.changed(10, 0, 5);
+		regions.changed(30, 0, 5);
+		regions.changed(50, 0, 5);
+		// replace from the first to the second region
+		regions.changed(12, 20, 1);
+		assertRegions(10, 16, 31, 36);
+	}
+
+	@Test
+	public void collapseTooManyRegions() {
+		for (int i = 0; i <= DirtyRegions.MAX_REGIONS; i++) {
+			regions.changed(i * 10, 0, 1);
+		}
+		assertRegions(0, DirtyRegions.MAX_REGIONS * 10 + 1);
+		regions.clear();
+		Assert.assertTrue(regions.isEmpty());
+	}
+}
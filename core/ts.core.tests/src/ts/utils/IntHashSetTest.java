@@ -0,0 +1,37 @@
+package ts.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntHashSetTest {
+
+	@Test
+	public void addAndContains() {
+		IntHashSet set = new IntHashSet();
+		Assert.assertTrue(set.add(2304));
+		Assert.assertFalse(set.add(2304));
+		Assert.assertTrue(set.add(0));
+		Assert.assertTrue(set.add(-1));
+		Assert.assertTrue(set.add(Integer.MIN_VALUE));
+		Assert.assertEquals(4, set.size());
+		Assert.assertTrue(set.contains(2304));
+		Assert.assertTrue(set.contains(0));
+		Assert.assertTrue(set.contains(-1));
+		Assert.assertTrue(set.contains(Integer.MIN_VALUE));
+		Assert.assertFalse(set.contains(2305));
+	}
+
+	@Test
+	public void grow() {
+		IntHashSet set = new IntHashSet(2);
+		for (int i = 1000; i < 3000; i++) {
+			Assert.assertTrue(set.add(i));
+		}
+		Assert.assertEquals(2000, set.size());
+		for (int i = 1000; i < 3000; i++) {
+			Assert.assertTrue(set.contains(i));
+		}
+		Assert.assertFalse(set.contains(999));
+		Assert.assertFalse(set.contains(3000));
+	}
+}
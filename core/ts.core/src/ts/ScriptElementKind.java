@@ -10,6 +10,10 @@
  */
 package ts;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * TypeScript model kind.
  * 
@@ -20,11 +24,20 @@ public enum ScriptElementKind {
 
 	ALIAS, PRIMITIVE_TYPE, KEYWORD, CLASS, INTERFACE, MODULE, SCRIPT, DIRECTORY, PROPERTY, METHOD, CONSTRUCTOR, FUNCTION, VAR, LET, ENUM, TYPE, ELEMENT, ATTRIBUTE, COMPONENT, CONST, GETTER, SETTER, WARNING;
 
-	public static ScriptElementKind getKind(String kind) {
-		try {
-			return ScriptElementKind.valueOf(kind.toUpperCase());
-		} catch (Exception e) {
-			return ScriptElementKind.WARNING;
+	private static final Map<String, ScriptElementKind> cache = Collections.unmodifiableMap(initializeCache());
+
+	private static Map<String, ScriptElementKind> initializeCache() {
+		Map<String, ScriptElementKind> cache = new HashMap<>();
+		ScriptElementKind[] values = ScriptElementKind.values();
+		for (int i = 0; i < values.length; i++) {
+			ScriptElementKind value = values[i];
+			cache.put(value.name(), value);
 		}
+		return cache;
+	}
+
+	public static ScriptElementKind getKind(String kind) {
+		ScriptElementKind value = kind != null ? cache.get(kind.toUpperCase()) : null;
+		return value != null ? value : ScriptElementKind.WARNING;
 	}
 }
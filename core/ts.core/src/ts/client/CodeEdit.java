@@ -34,6 +34,15 @@ public class CodeEdit {
 	 */
 	private String newText;
 
+	public CodeEdit() {
+	}
+
+	public CodeEdit(Location start, Location end, String newText) {
+		this.start = start;
+		this.end = end;
+		this.newText = newText;
+	}
+
 	/**
 	 * Returns first character of the text span to edit.
 	 * 
@@ -59,8 +59,8 @@ public enum CommandNames implements ISupportable {
 	GetApplicableRefactors("getApplicableRefactors", "2.4.0"),
     GetEditsForRefactor("getEditsForRefactor", "2.4.0"),
 	
-    OpenExternalProject("openExternalProject"),
-	CloseExternalProject("closeExternalProject");
+    OpenExternalProject("openExternalProject", "2.1.0"),
+	CloseExternalProject("closeExternalProject", "2.1.0");
     
 	private final String name;
 	private final String sinceVersion;
@@ -10,6 +10,8 @@
  */
 package ts.client;
 
+import java.util.concurrent.TimeUnit;
+
 import ts.internal.client.protocol.Response;
 import ts.internal.client.protocol.Request;
 
@@ -20,6 +22,43 @@ public interface IInterceptor {
 	void handleResponse(Response<?> response, String json,
 			long ellapsedTime, TypeScriptServiceClient typeScriptServiceClient);
 
+	/**
+	 * Handle the given response with times in nano time.
+	 * 
+	 * @param response
+	 *            the response.
+	 * @param json
+	 *            the JSON response.
+	 * @param serverTime
+	 *            time between the sending of the request and the receiving of
+	 *            the response.
+	 * @param parseTime
+	 *            time spent by the client to deserialize the response.
+	 * @param typeScriptServiceClient
+	 *            the client.
+	 */
+	default void handleResponse(Response<?> response, String json, long serverTime, long parseTime,
+			TypeScriptServiceClient typeScriptServiceClient) {
+		handleResponse(response, json, TimeUnit.NANOSECONDS.toMillis(serverTime + parseTime),
+				typeScriptServiceClient);
+	}
+
 	void handleError(Throwable error, ITypeScriptServiceClient client, String methodName,
 			long ellapsedTime);
+
+	/**
+	 * Handle the cancellation of a request before its response (ex : a
+	 * completion request cancelled because the user has typed again). A
+	 * cancellation is not an error.
+	 * 
+	 * @param client
+	 *            the client.
+	 * @param methodName
+	 *            the command of the cancelled request.
+	 * @param ellapsedTime
+	 *            time in ms between the execution of the request and its
+	 *            cancellation.
+	 */
+	default void handleCancel(ITypeScriptServiceClient client, String methodName, long ellapsedTime) {
+	}
 }
@@ -149,6 +149,23 @@ public interface ITypeScriptServiceClient {
 	CompletableFuture<List<CompletionEntry>> completions(String name, int line, int offset,
 			ICompletionEntryFactory instanceCreator) throws TypeScriptException;
 
+	/**
+	 * Completion for the given fileName at the given line/offset. The pending
+	 * completion request of the same caller for this file is cancelled.
+	 * 
+	 * @param name
+	 * @param line
+	 * @param offset
+	 * @param instanceCreator
+	 * @param supersedeKey
+	 *            the key of the caller (ex : the content assist), null to
+	 *            cancel nothing.
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<List<CompletionEntry>> completions(String name, int line, int offset,
+			ICompletionEntryFactory instanceCreator, Object supersedeKey) throws TypeScriptException;
+
 	CompletableFuture<List<CompletionEntryDetails>> completionEntryDetails(String fileName, int line, int offset,
 			String[] entryNames, CompletionEntry completionEntry) throws TypeScriptException;
 
@@ -163,6 +180,20 @@ public interface ITypeScriptServiceClient {
 	 */
 	CompletableFuture<List<FileSpan>> definition(String fileName, int line, int offset) throws TypeScriptException;
 
+	/**
+	 * Definition for the given fileName at the given line/offset sent with the
+	 * given priority (ex : {@link RequestPriority#BACKGROUND} for a prefetch).
+	 * 
+	 * @param fileName
+	 * @param line
+	 * @param offset
+	 * @param priority
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<List<FileSpan>> definition(String fileName, int line, int offset, RequestPriority priority)
+			throws TypeScriptException;
+
 	/**
 	 * Signature help for the given fileName at the given line/offset.
 	 * 
@@ -175,6 +206,22 @@ public interface ITypeScriptServiceClient {
 	CompletableFuture<SignatureHelpItems> signatureHelp(String fileName, int line, int offset)
 			throws TypeScriptException;
 
+	/**
+	 * Signature help for the given fileName at the given line/offset. The
+	 * pending signature help request of the same caller for this file is
+	 * cancelled.
+	 * 
+	 * @param fileName
+	 * @param line
+	 * @param offset
+	 * @param supersedeKey
+	 *            the key of the caller, null to cancel nothing.
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<SignatureHelpItems> signatureHelp(String fileName, int line, int offset, Object supersedeKey)
+			throws TypeScriptException;
+
 	/**
 	 * Quick info for the given fileName at the given line/offset.
 	 * 
@@ -186,6 +233,22 @@ public interface ITypeScriptServiceClient {
 	 */
 	CompletableFuture<QuickInfo> quickInfo(String fileName, int line, int offset) throws TypeScriptException;
 
+	/**
+	 * Quick info for the given fileName at the given line/offset. The pending
+	 * quick info request of the same caller for this file is cancelled.
+	 * 
+	 * @param fileName
+	 * @param line
+	 * @param offset
+	 * @param supersedeKey
+	 *            the key of the caller (ex : the hover), null to cancel
+	 *            nothing.
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<QuickInfo> quickInfo(String fileName, int line, int offset, Object supersedeKey)
+			throws TypeScriptException;
+
 	CompletableFuture<List<DiagnosticEvent>> geterr(String[] files, int delay) throws TypeScriptException;
 
 	CompletableFuture<List<DiagnosticEvent>> geterrForProject(String file, int delay, ProjectInfo projectInfo)
@@ -217,6 +280,21 @@ public interface ITypeScriptServiceClient {
 	CompletableFuture<ReferencesResponseBody> references(String fileName, int line, int offset)
 			throws TypeScriptException;
 
+	/**
+	 * Find references for the given fileName at the given line/offset sent
+	 * with the given priority (ex : {@link RequestPriority#BACKGROUND} for a
+	 * code lens).
+	 * 
+	 * @param fileName
+	 * @param line
+	 * @param offset
+	 * @param priority
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<ReferencesResponseBody> references(String fileName, int line, int offset,
+			RequestPriority priority) throws TypeScriptException;
+
 	/**
 	 * Find occurrences for the given fileName at the given line/offset.
 	 * 
@@ -229,6 +307,23 @@ public interface ITypeScriptServiceClient {
 	CompletableFuture<List<OccurrencesResponseItem>> occurrences(String fileName, int line, int offset)
 			throws TypeScriptException;
 
+	/**
+	 * Find occurrences for the given fileName at the given line/offset. The
+	 * pending occurrences request of the same caller for this file is
+	 * cancelled.
+	 * 
+	 * @param fileName
+	 * @param line
+	 * @param offset
+	 * @param supersedeKey
+	 *            the key of the caller (ex : the mark occurrences of an
+	 *            editor), null to cancel nothing.
+	 * @return
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<List<OccurrencesResponseItem>> occurrences(String fileName, int line, int offset,
+			Object supersedeKey) throws TypeScriptException;
+
 	CompletableFuture<RenameResponseBody> rename(String file, int line, int offset, Boolean findInComments,
 			Boolean findInStrings) throws TypeScriptException;
 
@@ -285,6 +380,10 @@ public interface ITypeScriptServiceClient {
 	CompletableFuture<List<CodeAction>> getCodeFixes(String fileName, IPositionProvider positionProvider, int startLine,
 			int startOffset, int endLine, int endOffset, List<Integer> errorCodes) throws TypeScriptException;
 
+	CompletableFuture<List<CodeAction>> getCodeFixes(String fileName, IPositionProvider positionProvider, int startLine,
+			int startOffset, int endLine, int endOffset, List<Integer> errorCodes, RequestPriority priority)
+			throws TypeScriptException;
+
 	CompletableFuture<List<String>> getSupportedCodeFixes() throws TypeScriptException;
 
 	/**
@@ -298,6 +397,9 @@ public interface ITypeScriptServiceClient {
 	 */
 	CompletableFuture<List<FileSpan>> implementation(String fileName, int line, int offset) throws TypeScriptException;
 
+	CompletableFuture<List<FileSpan>> implementation(String fileName, int line, int offset, RequestPriority priority)
+			throws TypeScriptException;
+
 	// Since 2.4.0
 
 	CompletableFuture<List<ApplicableRefactorInfo>> getApplicableRefactors(String fileName, int line, int offset)
@@ -330,4 +432,12 @@ public interface ITypeScriptServiceClient {
 
 	void dispose();
 
+	/**
+	 * Dispose the client and give back the tsserver process to the pool of
+	 * processes if it is idle, to reuse it for a client created with the same
+	 * configuration. The files and external projects opened by this client
+	 * must be closed before.
+	 */
+	void release();
+
 }
@@ -34,6 +34,12 @@ public class Location {
 		this(null);
 	}
 
+	public Location(IPositionProvider positionProvider, int line, int offset) {
+		this(positionProvider);
+		this.line = line;
+		this.offset = offset;
+	}
+
 	public Location(int line, int offset, int position) {
 		this();
 		this.line = line;
@@ -45,6 +45,13 @@ public class LoggingInterceptor implements IInterceptor {
 		errPrintln("-----------------------------------");
 	}
 
+	@Override
+	public void handleCancel(ITypeScriptServiceClient client, String methodName, long ellapsedTime) {
+		outPrintln("");
+		outPrintln("TypeScript cancel#" + methodName + " after " + ellapsedTime + "ms");
+		outPrintln("-----------------------------------");
+	}
+
 	protected void outPrintln(String line) {
 		System.out.println(line);
 	}
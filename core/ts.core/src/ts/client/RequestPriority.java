@@ -0,0 +1,74 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Priority class of a tsserver request used by {@link RequestScheduler}.
+ *
+ */
+public enum RequestPriority {
+
+	/**
+	 * Requests the user is waiting for while typing (completions, signature
+	 * help, quick info). Sent immediately.
+	 */
+	INTERACTIVE(CommandNames.Completions, CommandNames.CompletionEntryDetails, CommandNames.SignatureHelp,
+			CommandNames.QuickInfo),
+
+	/**
+	 * Requests which update tsserver (open, change, format, etc) and the other
+	 * requests (ex : find references asked by the user). Sent immediately.
+	 */
+	EDITING,
+
+	/**
+	 * Requests done in background by the reconciler or the outline
+	 * (diagnostics, navtree) and the requests sent with this priority by the
+	 * code lens and the prefetch (see
+	 * {@link ts.internal.client.protocol.Request#setPriority(RequestPriority)}).
+	 * Held while interactive requests are in flight.
+	 */
+	BACKGROUND(CommandNames.Geterr, CommandNames.GeterrForProject, CommandNames.SemanticDiagnosticsSync,
+			CommandNames.SyntacticDiagnosticsSync, CommandNames.NavBar, CommandNames.NavTree);
+
+	private static final Map<String, RequestPriority> PRIORITIES = initializePriorities();
+
+	private final CommandNames[] commands;
+
+	private RequestPriority(CommandNames... commands) {
+		this.commands = commands;
+	}
+
+	private static Map<String, RequestPriority> initializePriorities() {
+		Map<String, RequestPriority> priorities = new HashMap<>();
+		for (RequestPriority priority : RequestPriority.values()) {
+			for (CommandNames command : priority.commands) {
+				priorities.put(command.getName(), priority);
+			}
+		}
+		return priorities;
+	}
+
+	/**
+	 * Returns the priority of the given command.
+	 *
+	 * @param command
+	 *            the command name.
+	 * @return the priority of the given command.
+	 */
+	public static RequestPriority getPriority(String command) {
+		RequestPriority priority = PRIORITIES.get(command);
+		return priority != null ? priority : EDITING;
+	}
+}
@@ -0,0 +1,361 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import ts.TypeScriptException;
+import ts.client.metrics.LatencyHistogram;
+import ts.internal.client.protocol.FileRequest;
+import ts.internal.client.protocol.GeterrRequest;
+import ts.internal.client.protocol.Request;
+
+/**
+ * Client side scheduler of the requests sent to tsserver, which processes its
+ * requests one by one.
+ *
+ * <p>
+ * {@link RequestPriority#INTERACTIVE} and {@link RequestPriority#EDITING}
+ * requests are sent immediately in the order of their submission.
+ * {@link RequestPriority#BACKGROUND} requests are held while interactive
+ * requests are in flight (at most {@link #setMaxHoldTime(long, TimeUnit)}), so
+ * a "geterr" or a "navtree" of the reconciler doesn't delay a "completions" in
+ * the tsserver queue. A held background request is dropped when a request with
+ * the same command is submitted for the same file(s). Held background requests
+ * are sent after the editing requests submitted while they were held, so their
+ * response is computed with the last content of the file. An interactive
+ * request is not in flight anymore when tsserver answers it, when it is
+ * cancelled, when it cannot be sent or when the scheduler is disposed (ex :
+ * tsserver has stopped).
+ * </p>
+ *
+ * <p>
+ * The time spent by the requests in the scheduler is recorded per priority
+ * class (see {@link #getQueueWaitTimes()}).
+ * </p>
+ *
+ */
+public class RequestScheduler {
+
+	/**
+	 * Background commands whose held request is dropped when a newer request
+	 * is submitted for the same file(s).
+	 */
+	private static final Set<String> SUPERSEDABLE_COMMANDS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(CommandNames.Geterr.getName(),
+					CommandNames.SemanticDiagnosticsSync.getName(), CommandNames.SyntacticDiagnosticsSync.getName(),
+					CommandNames.NavBar.getName(), CommandNames.NavTree.getName())));
+
+	private static final long DEFAULT_MAX_HOLD_TIME_MILLIS = 2000;
+
+	private static final ScheduledExecutorService FLUSH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "tsserver-request-scheduler"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Sender of the requests to tsserver.
+	 */
+	public static interface IRequestSender {
+
+		void send(Request<?> request, String json) throws TypeScriptException;
+	}
+
+	private static class HeldRequest {
+
+		final Request<?> request;
+		final String json;
+		final CompletableFuture<?> result;
+		final String key;
+		final long submitTime;
+
+		HeldRequest(Request<?> request, String json, CompletableFuture<?> result, String key) {
+			this.request = request;
+			this.json = json;
+			this.result = result;
+			this.key = key;
+			this.submitTime = System.nanoTime();
+		}
+	}
+
+	private final IRequestSender sender;
+	private final Object lock;
+	// seq of the interactive requests sent and not completed
+	private final Set<Integer> interactiveRequests;
+	private final LinkedList<HeldRequest> heldRequests;
+	// seq of the requests dropped and not already cancelled
+	private final Set<Integer> droppedRequests;
+	private final Map<RequestPriority, LatencyHistogram> waitTimes;
+	private long maxHoldTime;
+	private ScheduledFuture<?> flushTask;
+
+	public RequestScheduler(IRequestSender sender) {
+		this.sender = sender;
+		this.lock = new Object();
+		this.interactiveRequests = new HashSet<>();
+		this.heldRequests = new LinkedList<>();
+		this.droppedRequests = new HashSet<>();
+		this.waitTimes = new EnumMap<>(RequestPriority.class);
+		for (RequestPriority priority : RequestPriority.values()) {
+			waitTimes.put(priority, new LatencyHistogram());
+		}
+		this.maxHoldTime = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_HOLD_TIME_MILLIS);
+	}
+
+	/**
+	 * Set the max time a background request is held while interactive requests
+	 * are in flight.
+	 *
+	 * @param maxHoldTime
+	 *            the max hold time.
+	 * @param unit
+	 *            the unit of the max hold time.
+	 */
+	public void setMaxHoldTime(long maxHoldTime, TimeUnit unit) {
+		this.maxHoldTime = unit.toNanos(maxHoldTime);
+	}
+
+	/**
+	 * Send or hold the given request according to its priority.
+	 *
+	 * @param request
+	 *            the request.
+	 * @param json
+	 *            the JSON of the request.
+	 * @param result
+	 *            the result of the request, cancelled if the request is
+	 *            dropped, or null if the request expects no result.
+	 * @throws TypeScriptException
+	 *             when the request cannot be sent.
+	 */
+	public void submit(Request<?> request, String json, CompletableFuture<?> result) throws TypeScriptException {
+		RequestPriority priority = request.getPriority();
+		HeldRequest dropped = null;
+		synchronized (lock) {
+			if (priority == RequestPriority.BACKGROUND && !interactiveRequests.isEmpty() && result != null) {
+				String key = getSupersedeKey(request);
+				if (key != null) {
+					dropped = removeHeldRequest(key);
+				}
+				heldRequests.add(new HeldRequest(request, json, result, key));
+				scheduleFlush();
+			} else {
+				// a request without response is never completed.
+				if (priority == RequestPriority.INTERACTIVE && result != null) {
+					interactiveRequests.add(request.getSeq());
+				}
+				waitTimes.get(priority).record(0);
+				try {
+					sender.send(request, json);
+				} catch (TypeScriptException e) {
+					interactiveRequests.remove(request.getSeq());
+					throw e;
+				}
+			}
+		}
+		if (dropped != null) {
+			dropped.result.cancel(true);
+		}
+	}
+
+	/**
+	 * Notify that tsserver has answered the request with the given sequence.
+	 * When no interactive request is in flight anymore, the held background
+	 * requests are sent.
+	 *
+	 * @param seq
+	 *            the request sequence.
+	 */
+	public void requestCompleted(int seq) {
+		List<HeldRequest> toSend = null;
+		synchronized (lock) {
+			if (interactiveRequests.remove(seq) && interactiveRequests.isEmpty()) {
+				toSend = flush();
+			}
+		}
+		send(toSend);
+	}
+
+	/**
+	 * Remove the given request from the scheduler if it was not sent.
+	 *
+	 * @param request
+	 *            the request.
+	 * @return true if the request was not sent to tsserver and false
+	 *         otherwise.
+	 */
+	public boolean remove(Request<?> request) {
+		List<HeldRequest> toSend = null;
+		synchronized (lock) {
+			int seq = request.getSeq();
+			if (droppedRequests.remove(seq)) {
+				return true;
+			}
+			for (Iterator<HeldRequest> it = heldRequests.iterator(); it.hasNext();) {
+				if (it.next().request.getSeq() == seq) {
+					it.remove();
+					return true;
+				}
+			}
+			// an interactive request which is cancelled is not considered in
+			// flight.
+			if (interactiveRequests.remove(seq) && interactiveRequests.isEmpty()) {
+				toSend = flush();
+			}
+		}
+		send(toSend);
+		return false;
+	}
+
+	/**
+	 * Returns the number of held background requests.
+	 *
+	 * @return the number of held background requests.
+	 */
+	public int getHeldRequestCount() {
+		synchronized (lock) {
+			return heldRequests.size();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the time spent by the requests in the scheduler per
+	 * priority class, in nano time.
+	 *
+	 * @return a snapshot of the time spent by the requests in the scheduler per
+	 *         priority class.
+	 */
+	public Map<RequestPriority, LatencyHistogram> getQueueWaitTimes() {
+		Map<RequestPriority, LatencyHistogram> snapshot = new EnumMap<>(RequestPriority.class);
+		for (Map.Entry<RequestPriority, LatencyHistogram> waitTime : waitTimes.entrySet()) {
+			snapshot.put(waitTime.getKey(), waitTime.getValue().snapshot());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Cancel the held requests.
+	 */
+	public void dispose() {
+		List<HeldRequest> held;
+		synchronized (lock) {
+			held = new ArrayList<>(heldRequests);
+			heldRequests.clear();
+			interactiveRequests.clear();
+			if (flushTask != null) {
+				flushTask.cancel(false);
+				flushTask = null;
+			}
+		}
+		for (HeldRequest request : held) {
+			request.result.cancel(true);
+		}
+	}
+
+	private static String getSupersedeKey(Request<?> request) {
+		if (!SUPERSEDABLE_COMMANDS.contains(request.getCommand())) {
+			return null;
+		}
+		if (request instanceof FileRequest) {
+			return request.getCommand() + ':' + ((FileRequest<?>) request).getArguments().getFile();
+		}
+		if (request instanceof GeterrRequest) {
+			return request.getCommand() + ':'
+					+ String.join(",", ((GeterrRequest) request).getArguments().getFiles());
+		}
+		return null;
+	}
+
+	private HeldRequest removeHeldRequest(String key) {
+		for (Iterator<HeldRequest> it = heldRequests.iterator(); it.hasNext();) {
+			HeldRequest held = it.next();
+			if (key.equals(held.key)) {
+				it.remove();
+				droppedRequests.add(held.request.getSeq());
+				return held;
+			}
+		}
+		return null;
+	}
+
+	private void scheduleFlush() {
+		if (flushTask == null) {
+			flushTask = FLUSH_EXECUTOR.schedule(() -> {
+				List<HeldRequest> toSend;
+				synchronized (lock) {
+					flushTask = null;
+					toSend = flush();
+				}
+				send(toSend);
+			}, maxHoldTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Remove the held requests to send them. Must be called with the lock.
+	 *
+	 * @return the held requests to send.
+	 */
+	private List<HeldRequest> flush() {
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			flushTask = null;
+		}
+		if (heldRequests.isEmpty()) {
+			return null;
+		}
+		List<HeldRequest> toSend = new ArrayList<>(heldRequests);
+		heldRequests.clear();
+		LatencyHistogram waitTime = waitTimes.get(RequestPriority.BACKGROUND);
+		long now = System.nanoTime();
+		for (HeldRequest held : toSend) {
+			waitTime.record(now - held.submitTime);
+		}
+		return toSend;
+	}
+
+	/**
+	 * Send the given held requests, in the order of their submission. Must be
+	 * called without the lock, so that a slow write to tsserver doesn't block
+	 * the submission of the requests. The result of a request which cannot be
+	 * sent is completed with the send error.
+	 *
+	 * @param toSend
+	 *            the held requests to send.
+	 */
+	private void send(List<HeldRequest> toSend) {
+		if (toSend == null) {
+			return;
+		}
+		for (HeldRequest held : toSend) {
+			try {
+				sender.send(held.request, held.json);
+			} catch (TypeScriptException e) {
+				held.result.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Response of a request sent before the user asks for it (ex : completions
+ * requested when "." is typed, before the completion popup is opened).
+ *
+ * <p>
+ * The response is given once, to the first request for the same version of
+ * the file and the same position.
+ * </p>
+ *
+ * @param <T>
+ *            the response type.
+ */
+public class SpeculativeResponse<T> {
+
+	private long version;
+	private int position;
+	private CompletableFuture<T> response;
+
+	/**
+	 * Store the response of a request sent for the given version of the file
+	 * and position. The previous response is replaced.
+	 *
+	 * @param version
+	 *            the version of the file.
+	 * @param position
+	 *            the position.
+	 * @param response
+	 *            the response.
+	 */
+	public synchronized void put(long version, int position, CompletableFuture<T> response) {
+		this.version = version;
+		this.position = position;
+		this.response = response;
+	}
+
+	/**
+	 * Returns the response stored for the given version of the file and
+	 * position and null otherwise. The returned response is removed.
+	 *
+	 * @param version
+	 *            the version of the file.
+	 * @param position
+	 *            the position.
+	 * @return the response stored for the given version of the file and
+	 *         position and null otherwise.
+	 */
+	public synchronized CompletableFuture<T> take(long version, int position) {
+		CompletableFuture<T> taken = response;
+		if (taken == null || this.version != version || this.position != position) {
+			return null;
+		}
+		response = null;
+		// a failed or cancelled request must be sent again.
+		return taken.isCompletedExceptionally() ? null : taken;
+	}
+}
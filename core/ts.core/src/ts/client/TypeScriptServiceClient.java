@@ -11,14 +11,19 @@
 package ts.client;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -52,6 +57,7 @@ import ts.client.references.ReferencesResponseBody;
 import ts.client.rename.RenameResponseBody;
 import ts.client.signaturehelp.SignatureHelpItems;
 import ts.cmd.tsc.CompilerOptions;
+import ts.internal.CancellationManager;
 import ts.internal.FileTempHelper;
 import ts.internal.SequenceHelper;
 import ts.internal.client.protocol.ChangeRequest;
@@ -65,6 +71,7 @@ import ts.internal.client.protocol.CompletionsRequest;
 import ts.internal.client.protocol.ConfigureRequest;
 import ts.internal.client.protocol.DefinitionRequest;
 import ts.internal.client.protocol.DocCommentTemplateRequest;
+import ts.internal.client.protocol.FileRequest;
 import ts.internal.client.protocol.FormatRequest;
 import ts.internal.client.protocol.GetApplicableRefactorsRequest;
 import ts.internal.client.protocol.GetEditsForRefactorRequest;
@@ -109,7 +116,17 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 	private static final String NO_CONTENT_AVAILABLE = "No content available.";
 	private static final String TSSERVER_FILE_TYPE = "tsserver";
 
+	/**
+	 * Commands whose pending request is cancelled when the same caller
+	 * executes a new request with the same command for the same file.
+	 */
+	private static final Set<String> SUPERSEDABLE_COMMANDS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(CommandNames.QuickInfo.getName(),
+					CommandNames.Completions.getName(), CommandNames.SignatureHelp.getName(),
+					CommandNames.Occurrences.getName())));
+
 	private INodejsProcess process;
+	private final AtomicBoolean reusedProcess;
 	private List<INodejsProcessListener> nodeListeners;
 	private final List<ITypeScriptClientListener> listeners;
 	private final List<IInstallTypesListener> installTypesListener;
@@ -118,6 +135,8 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 
 	private final Map<Integer, PendingRequestInfo> sentRequestMap;
 	private final Map<String, PendingRequestEventInfo> receivedRequestMap;
+	private final Map<List<Object>, CompletableFuture<?>> supersedableRequestMap;
+	private final RequestScheduler requestScheduler;
 	private List<IInterceptor> interceptors;
 
 	private ICompletionEntryMatcherProvider completionEntryMatcherProvider;
@@ -142,7 +161,7 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		};
 
 	};
-	private String cancellationPipeName;
+	private final CancellationManager cancellationManager;
 
 	private static class PendingRequestInfo {
 		Request<?> requestMessage;
@@ -175,44 +194,71 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 	public TypeScriptServiceClient(final File projectDir, File typescriptDir, File nodeFile, boolean enableTelemetry,
 			boolean disableAutomaticTypingAcquisition, String cancellationPipeName, File tsserverPluginsFile,
 			TypeScriptServiceLogConfiguration logConfiguration) throws TypeScriptException {
-		this(NodejsProcessManager.getInstance().create(projectDir,
-				tsserverPluginsFile != null ? tsserverPluginsFile
-						: TypeScriptRepositoryManager.getTsserverFile(typescriptDir),
-				nodeFile, new INodejsLaunchConfiguration() {
-
-					@Override
-					public List<String> createNodeArgs() {
-						List<String> args = new ArrayList<String>();
-						// args.add("-p");
-						// args.add(FileUtils.getPath(projectDir));
-						if (enableTelemetry) {
-							args.add("--enableTelemetry");
-						}
-						if (disableAutomaticTypingAcquisition) {
-							args.add("--disableAutomaticTypingAcquisition");
-						}
-						if (tsserverPluginsFile != null) {
-							args.add("--typescriptDir");
-							args.add(FileUtils.getPath(typescriptDir));
-						}
-						if (cancellationPipeName != null) {
-							args.add("--cancellationPipeName");
-							args.add(cancellationPipeName + "*");
-						}
-						// args.add("--useSingleInferredProject");
-						return args;
-					}
+		this(NodejsProcessManager.getInstance().acquire(projectDir,
+				getTsserverFile(typescriptDir, tsserverPluginsFile), nodeFile,
+				createLaunchConfiguration(typescriptDir, enableTelemetry, disableAutomaticTypingAcquisition,
+						cancellationPipeName, tsserverPluginsFile, logConfiguration),
+				TSSERVER_FILE_TYPE), cancellationPipeName);
+	}
 
-					@Override
-					public Map<String, String> createNodeEnvironmentVariables() {
-						Map<String, String> environmentVariables = new HashMap<>();
-						if (logConfiguration != null) {
-							environmentVariables.put("TSS_LOG",
-									"-level " + logConfiguration.level.name() + " -file " + logConfiguration.file);
-						}
-						return environmentVariables;
-					}
-				}, TSSERVER_FILE_TYPE), cancellationPipeName);
+	/**
+	 * Start in background a tsserver process with the given configuration. The
+	 * process is reused by the next client created with the same configuration.
+	 * 
+	 * @throws TypeScriptException
+	 */
+	public static void prewarm(final File projectDir, File typescriptDir, File nodeFile, boolean enableTelemetry,
+			boolean disableAutomaticTypingAcquisition, String cancellationPipeName, File tsserverPluginsFile,
+			TypeScriptServiceLogConfiguration logConfiguration) throws TypeScriptException {
+		NodejsProcessManager.getInstance().prewarm(projectDir, getTsserverFile(typescriptDir, tsserverPluginsFile),
+				nodeFile, createLaunchConfiguration(typescriptDir, enableTelemetry, disableAutomaticTypingAcquisition,
+						cancellationPipeName, tsserverPluginsFile, logConfiguration),
+				TSSERVER_FILE_TYPE);
+	}
+
+	private static File getTsserverFile(File typescriptDir, File tsserverPluginsFile) {
+		return tsserverPluginsFile != null ? tsserverPluginsFile
+				: TypeScriptRepositoryManager.getTsserverFile(typescriptDir);
+	}
+
+	private static INodejsLaunchConfiguration createLaunchConfiguration(File typescriptDir, boolean enableTelemetry,
+			boolean disableAutomaticTypingAcquisition, String cancellationPipeName, File tsserverPluginsFile,
+			TypeScriptServiceLogConfiguration logConfiguration) {
+		return new INodejsLaunchConfiguration() {
+
+			@Override
+			public List<String> createNodeArgs() {
+				List<String> args = new ArrayList<String>();
+				// args.add("-p");
+				// args.add(FileUtils.getPath(projectDir));
+				if (enableTelemetry) {
+					args.add("--enableTelemetry");
+				}
+				if (disableAutomaticTypingAcquisition) {
+					args.add("--disableAutomaticTypingAcquisition");
+				}
+				if (tsserverPluginsFile != null) {
+					args.add("--typescriptDir");
+					args.add(FileUtils.getPath(typescriptDir));
+				}
+				if (cancellationPipeName != null) {
+					args.add("--cancellationPipeName");
+					args.add(cancellationPipeName + "*");
+				}
+				// args.add("--useSingleInferredProject");
+				return args;
+			}
+
+			@Override
+			public Map<String, String> createNodeEnvironmentVariables() {
+				Map<String, String> environmentVariables = new HashMap<>();
+				if (logConfiguration != null) {
+					environmentVariables.put("TSS_LOG",
+							"-level " + logConfiguration.level.name() + " -file " + logConfiguration.file);
+				}
+				return environmentVariables;
+			}
+		};
 	}
 
 	public TypeScriptServiceClient(INodejsProcess process, String cancellationPipeName) {
@@ -222,10 +268,29 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		this.dispose = false;
 		this.sentRequestMap = new LinkedHashMap<>();
 		this.receivedRequestMap = new LinkedHashMap<>();
+		this.supersedableRequestMap = new ConcurrentHashMap<>();
+		this.requestScheduler = new RequestScheduler((request, json) -> {
+			// the time spent in the scheduler is not the tsserver time.
+			synchronized (sentRequestMap) {
+				PendingRequestInfo info = sentRequestMap.get(request.getSeq());
+				if (info != null) {
+					info.startTime = System.nanoTime();
+				}
+			}
+			try {
+				getProcess().sendRequest(json);
+			} catch (TypeScriptException e) {
+				handleError(request.getCommand(), e, System.nanoTime());
+				throw e;
+			}
+		});
 		this.process = process;
+		// a process of the pool of NodejsProcessManager is already started.
+		this.reusedProcess = new AtomicBoolean(process.isStarted());
 		process.addProcessListener(listener);
 		setCompletionEntryMatcherProvider(ICompletionEntryMatcherProvider.LCS_PROVIDER);
-		this.cancellationPipeName = cancellationPipeName;
+		this.cancellationManager = cancellationPipeName != null ? new CancellationManager(cancellationPipeName)
+				: null;
 	}
 
 	public static enum TypeScriptServiceLogLevel {
@@ -243,6 +308,7 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 	}
 
 	private void dispatchMessage(String message) {
+		long receiveTime = System.nanoTime();
 		JsonObject json = GsonHelper.parse(message).getAsJsonObject();
 		JsonElement typeElement = json.get("type");
 		if (typeElement != null) {
@@ -253,6 +319,10 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 			switch (messageType) {
 			case response:
 				int seq = json.get("request_seq").getAsInt();
+				if (cancellationManager != null) {
+					cancellationManager.requestCompleted(seq);
+				}
+				requestScheduler.requestCompleted(seq);
 				PendingRequestInfo pendingRequestInfo;
 				synchronized (sentRequestMap) {
 					pendingRequestInfo = sentRequestMap.remove(seq);
@@ -264,7 +334,13 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 				}
 				Response responseMessage = pendingRequestInfo.requestMessage.parseResponse(json);
 				try {
-					handleResponse(responseMessage, message, pendingRequestInfo.startTime);
+					handleResponse(responseMessage, message, pendingRequestInfo.startTime, receiveTime);
+					// "No content available" is an empty response (ex : quickinfo
+					// on a whitespace), not an error.
+					if (!responseMessage.isSuccess() && !NO_CONTENT_AVAILABLE.equals(responseMessage.getMessage())) {
+						handleError(responseMessage.getCommand(), createException(responseMessage.getMessage()),
+								pendingRequestInfo.startTime);
+					}
 					pendingRequestInfo.responseHandler.accept(responseMessage);
 				} catch (RuntimeException e) {
 					// LOG.log(Level.WARNING, "Handling repsonse
@@ -283,6 +359,11 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 					if (pendingRequestEventInfo != null) {
 						pendingRequestEventInfo.eventHandler.accept(response);
 					}
+				} else if ("requestCompleted".equals(event)) {
+					if (cancellationManager != null) {
+						cancellationManager.requestCompleted(
+								json.get("body").getAsJsonObject().get("request_seq").getAsInt());
+					}
 				} else if ("telemetry".equals(event)) {
 					// TelemetryEventBody telemetryData =
 					// GsonHelper.DEFAULT_GSON.fromJson(json,
@@ -378,9 +459,16 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 	@Override
 	public CompletableFuture<List<CompletionEntry>> completions(String fileName, int line, int offset,
 			ICompletionEntryFactory factory) throws TypeScriptException {
-		return execute(
-				new CompletionsRequest(fileName, line, offset, getCompletionEntryMatcherProvider(), this, factory),
-				true);
+		return completions(fileName, line, offset, factory, null);
+	}
+
+	@Override
+	public CompletableFuture<List<CompletionEntry>> completions(String fileName, int line, int offset,
+			ICompletionEntryFactory factory, Object supersedeKey) throws TypeScriptException {
+		CompletionsRequest request = new CompletionsRequest(fileName, line, offset,
+				getCompletionEntryMatcherProvider(), this, factory);
+		request.setSupersedeKey(supersedeKey);
+		return execute(request, true);
 	}
 
 	@Override
@@ -395,15 +483,39 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return execute(new DefinitionRequest(fileName, line, offset), true);
 	}
 
+	@Override
+	public CompletableFuture<List<FileSpan>> definition(String fileName, int line, int offset,
+			RequestPriority priority) throws TypeScriptException {
+		DefinitionRequest request = new DefinitionRequest(fileName, line, offset);
+		request.setPriority(priority);
+		return execute(request, true);
+	}
+
 	@Override
 	public CompletableFuture<SignatureHelpItems> signatureHelp(String fileName, int line, int offset)
 			throws TypeScriptException {
-		return execute(new SignatureHelpRequest(fileName, line, offset), true);
+		return signatureHelp(fileName, line, offset, null);
+	}
+
+	@Override
+	public CompletableFuture<SignatureHelpItems> signatureHelp(String fileName, int line, int offset,
+			Object supersedeKey) throws TypeScriptException {
+		SignatureHelpRequest request = new SignatureHelpRequest(fileName, line, offset);
+		request.setSupersedeKey(supersedeKey);
+		return execute(request, true);
 	}
 
 	@Override
 	public CompletableFuture<QuickInfo> quickInfo(String fileName, int line, int offset) throws TypeScriptException {
-		return execute(new QuickInfoRequest(fileName, line, offset), true);
+		return quickInfo(fileName, line, offset, null);
+	}
+
+	@Override
+	public CompletableFuture<QuickInfo> quickInfo(String fileName, int line, int offset, Object supersedeKey)
+			throws TypeScriptException {
+		QuickInfoRequest request = new QuickInfoRequest(fileName, line, offset);
+		request.setSupersedeKey(supersedeKey);
+		return execute(request, true);
 	}
 
 	@Override
@@ -429,10 +541,26 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return execute(new ReferencesRequest(fileName, line, offset), true);
 	}
 
+	@Override
+	public CompletableFuture<ReferencesResponseBody> references(String fileName, int line, int offset,
+			RequestPriority priority) throws TypeScriptException {
+		ReferencesRequest request = new ReferencesRequest(fileName, line, offset);
+		request.setPriority(priority);
+		return execute(request, true);
+	}
+
 	@Override
 	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(String fileName, int line, int offset)
 			throws TypeScriptException {
-		return execute(new OccurrencesRequest(fileName, line, offset), true);
+		return occurrences(fileName, line, offset, null);
+	}
+
+	@Override
+	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(String fileName, int line, int offset,
+			Object supersedeKey) throws TypeScriptException {
+		OccurrencesRequest request = new OccurrencesRequest(fileName, line, offset);
+		request.setSupersedeKey(supersedeKey);
+		return execute(request, true);
 	}
 
 	@Override
@@ -519,6 +647,15 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return execute(new CodeFixRequest(fileName, startLine, startOffset, endLine, endOffset, errorCodes), true);
 	}
 
+	@Override
+	public CompletableFuture<List<CodeAction>> getCodeFixes(String fileName, IPositionProvider positionProvider,
+			int startLine, int startOffset, int endLine, int endOffset, List<Integer> errorCodes,
+			RequestPriority priority) throws TypeScriptException {
+		CodeFixRequest request = new CodeFixRequest(fileName, startLine, startOffset, endLine, endOffset, errorCodes);
+		request.setPriority(priority);
+		return execute(request, true);
+	}
+
 	@Override
 	public CompletableFuture<List<String>> getSupportedCodeFixes() throws TypeScriptException {
 		return execute(new GetSupportedCodeFixesRequest(), true);
@@ -530,6 +667,14 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return execute(new ImplementationRequest(fileName, line, offset), true);
 	}
 
+	@Override
+	public CompletableFuture<List<FileSpan>> implementation(String fileName, int line, int offset,
+			RequestPriority priority) throws TypeScriptException {
+		ImplementationRequest request = new ImplementationRequest(fileName, line, offset);
+		request.setPriority(priority);
+		return execute(request, true);
+	}
+
 	// Since 2.4.0
 
 	@Override
@@ -560,14 +705,23 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 
 	private <T> CompletableFuture<T> execute(Request<?> request, boolean expectsResult) throws TypeScriptException {
 		if (!expectsResult) {
-			sendRequest(request);
+			sendRequest(request, null);
 			return null;
 		}
+		final long startTime = System.nanoTime();
 		final CompletableFuture<T> result = new CompletableFuture<T>() {
 
 			@Override
 			public boolean cancel(boolean mayInterruptIfRunning) {
-				tryCancelRequest(request);
+				if (!isDone()) {
+					handleCancel(request.getCommand(), startTime);
+					if (requestScheduler.remove(request)) {
+						// the request was not sent to tsserver
+						cancelClientRequest(request);
+					} else {
+						tryCancelRequest(request);
+					}
+				}
 				return super.cancel(mayInterruptIfRunning);
 			}
 
@@ -594,7 +748,11 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 					List<String> keys = ((IRequestEventable) request).getKeys();
 					synchronized (receivedRequestMap) {
 						for (String key : keys) {
-							receivedRequestMap.remove(key);
+							// a newer request can wait for the same key.
+							PendingRequestEventInfo info = receivedRequestMap.get(key);
+							if (info != null && info.requestMessage == request) {
+								receivedRequestMap.remove(key);
+							}
 						}
 					}
 				} else {
@@ -610,15 +768,10 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 				// where 844 is request sequence)
 				// for the given request sequence waited by tsserver
 				// typescript/lib/cancellationToken.js.
-				// to cancel request from tsserver.
-				if (cancellationPipeName != null) {
-					File tempFile = new File(TypeScriptServiceClient.this.cancellationPipeName + request.getSeq());
-					try {
-						tempFile.createNewFile();
-						tempFile.deleteOnExit();
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
+				// to cancel request from tsserver. The file is deleted when
+				// tsserver completes the request.
+				if (cancellationManager != null) {
+					cancellationManager.cancel(request.getSeq());
 				}
 			}
 
@@ -651,10 +804,38 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 				sentRequestMap.put(seq, new PendingRequestInfo(request, responseHandler));
 			}
 		}
-		sendRequest(request);
+		sendRequest(request, result);
+		supersede(request, result);
 		return result;
 	}
 
+	/**
+	 * Cancel the pending request of the caller of the given request which has
+	 * the same command and file, when the command is supersedable (ex : an
+	 * older "quickinfo" of the hover is useless when the hover executes a new
+	 * "quickinfo" for the same file). The requests of other callers are not
+	 * cancelled.
+	 * 
+	 * @param request
+	 *            the new request.
+	 * @param result
+	 *            the result of the new request.
+	 */
+	private void supersede(Request<?> request, CompletableFuture<?> result) {
+		Object supersedeKey = request.getSupersedeKey();
+		if (supersedeKey == null || !(request instanceof FileRequest)
+				|| !SUPERSEDABLE_COMMANDS.contains(request.getCommand())) {
+			return;
+		}
+		List<Object> key = Arrays.asList(request.getCommand(),
+				((FileRequest<?>) request).getArguments().getFile(), supersedeKey);
+		CompletableFuture<?> superseded = supersedableRequestMap.put(key, result);
+		if (superseded != null) {
+			superseded.cancel(true);
+		}
+		result.whenComplete((r, e) -> supersedableRequestMap.remove(key, result));
+	}
+
 	private TypeScriptException createException(String message) {
 		if (NO_CONTENT_AVAILABLE.equals(message)) {
 			return new TypeScriptNoContentAvailableException(message);
@@ -662,19 +843,36 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return new TypeScriptException(message);
 	}
 
-	private void sendRequest(Request<?> request) throws TypeScriptException {
+	private void sendRequest(Request<?> request, CompletableFuture<?> result) throws TypeScriptException {
 		String req = GsonHelper.DEFAULT_GSON.toJson(request);
 		handleRequest(request, req);
-		getProcess().sendRequest(req);
+		requestScheduler.submit(request, req, result);
 	}
 
 	private INodejsProcess getProcess() throws TypeScriptException {
 		if (!process.isStarted()) {
 			process.start();
+		} else if (reusedProcess.compareAndSet(true, false)) {
+			// the process doesn't notify its start again.
+			fireStartProcess();
 		}
 		return process;
 	}
 
+	private void fireStartProcess() {
+		beginReadState();
+		try {
+			if (nodeListeners != null) {
+				for (INodejsProcessListener nodeListener : nodeListeners) {
+					nodeListener.onStart(process);
+				}
+			}
+		} finally {
+			endReadState();
+		}
+		fireStartServer();
+	}
+
 	@Override
 	public void addClientListener(ITypeScriptClientListener listener) {
 		synchronized (listeners) {
@@ -811,20 +1009,65 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 
 	@Override
 	public final void dispose() {
+		dispose(false);
+	}
+
+	@Override
+	public void release() {
+		dispose(true);
+	}
+
+	private void dispose(boolean reuseProcess) {
 		beginWriteState();
 		try {
 			if (!isDisposed()) {
 				this.dispose = true;
 				if (process != null) {
-					process.kill();
+					if (!reuseProcess || !releaseProcess()) {
+						process.kill();
+					}
 				}
 				this.process = null;
+				if (cancellationManager != null) {
+					cancellationManager.dispose();
+				}
+				requestScheduler.dispose();
 			}
 		} finally {
 			endWriteState();
 		}
 	}
 
+	/**
+	 * Give back the process to the pool of {@link NodejsProcessManager} if it
+	 * is idle.
+	 * 
+	 * @return true if the process is kept in the pool and false if it must be
+	 *         killed.
+	 */
+	private boolean releaseProcess() {
+		if (!process.isStarted()) {
+			return false;
+		}
+		synchronized (sentRequestMap) {
+			if (!sentRequestMap.isEmpty()) {
+				// tsserver is still working for this client.
+				return false;
+			}
+		}
+		process.removeProcessListener(listener);
+		if (nodeListeners != null) {
+			for (INodejsProcessListener nodeListener : nodeListeners) {
+				process.removeProcessListener(nodeListener);
+			}
+		}
+		if (NodejsProcessManager.getInstance().release(process)) {
+			fireEndServer();
+			return true;
+		}
+		return false;
+	}
+
 	private void beginReadState() {
 		stateLock.readLock().lock();
 	}
@@ -849,6 +1092,15 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		return completionEntryMatcherProvider;
 	}
 
+	/**
+	 * Returns the scheduler of the requests sent to tsserver.
+	 * 
+	 * @return the scheduler of the requests sent to tsserver.
+	 */
+	public RequestScheduler getRequestScheduler() {
+		return requestScheduler;
+	}
+
 	// --------------------------- Handler for Request/response/Error
 	// ------------------------------------
 
@@ -872,14 +1124,18 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 	 * @param request
 	 * @param response
 	 * @param startTime
+	 *            the nano time when the request was sent.
+	 * @param receiveTime
+	 *            the nano time when the response was received.
 	 */
-	private void handleResponse(Response<?> response, String json, long startTime) {
+	private void handleResponse(Response<?> response, String json, long startTime, long receiveTime) {
 		if (interceptors == null) {
 			return;
 		}
-		long ellapsedTime = getElapsedTimeInMs(startTime);
+		long serverTime = receiveTime - startTime;
+		long parseTime = System.nanoTime() - receiveTime;
 		for (IInterceptor interceptor : interceptors) {
-			interceptor.handleResponse(response, json, ellapsedTime, this);
+			interceptor.handleResponse(response, json, serverTime, parseTime, this);
 		}
 	}
 
@@ -900,6 +1156,22 @@ public class TypeScriptServiceClient implements ITypeScriptServiceClient {
 		}
 	}
 
+	/**
+	 * Handle the cancellation of a request.
+	 * 
+	 * @param command
+	 * @param startTime
+	 */
+	private void handleCancel(String command, long startTime) {
+		if (interceptors == null) {
+			return;
+		}
+		long ellapsedTime = getElapsedTimeInMs(startTime);
+		for (IInterceptor interceptor : interceptors) {
+			interceptor.handleCancel(this, command, ellapsedTime);
+		}
+	}
+
 	/**
 	 * Returns the elappsed time in ms.
 	 * 
@@ -0,0 +1,212 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.codefixes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ts.client.CodeEdit;
+import ts.client.Location;
+
+/**
+ * Merge the text changes of several {@link CodeAction} to apply them at once.
+ *
+ * <p>
+ * The code actions are accepted in the order they are added: a code action
+ * whose text change overlaps a text change of an accepted code action is
+ * skipped as a whole, so that a code action is never applied partially. A
+ * text change equal to an accepted one (ex : the same missing import added by
+ * two code actions) is applied once. Insertions at the same location (ex :
+ * two different missing imports) don't overlap, they are merged in one
+ * insertion in the order of the code actions.
+ * </p>
+ *
+ */
+public class CodeActionsMerger {
+
+	private static final Comparator<CodeEdit> EDIT_COMPARATOR = new Comparator<CodeEdit>() {
+
+		@Override
+		public int compare(CodeEdit e1, CodeEdit e2) {
+			int result = compareLocation(e1.getStart(), e2.getStart());
+			return result != 0 ? result : compareLocation(e1.getEnd(), e2.getEnd());
+		}
+	};
+
+	// file name -> accepted text changes
+	private final Map<String, List<CodeEdit>> edits = new LinkedHashMap<>();
+	private final List<CodeAction> skippedActions = new ArrayList<>();
+	private int acceptedCount;
+
+	/**
+	 * Add the text changes of the given code action if they don't overlap the
+	 * text changes of the accepted code actions.
+	 *
+	 * @param action
+	 *            the code action.
+	 * @return true if the code action is accepted and false if it is skipped.
+	 */
+	public boolean add(CodeAction action) {
+		List<FileCodeEdits> changes = action.getChanges();
+		if (changes == null) {
+			return false;
+		}
+		// check that all text changes can be applied
+		for (FileCodeEdits change : changes) {
+			List<CodeEdit> accepted = edits.get(change.getFileName());
+			List<CodeEdit> textChanges = change.getTextChanges();
+			if (textChanges == null) {
+				continue;
+			}
+			for (int i = 0; i < textChanges.size(); i++) {
+				CodeEdit edit = textChanges.get(i);
+				if ((accepted != null && findConflict(accepted, edit)) || findConflict(textChanges, i)) {
+					skippedActions.add(action);
+					return false;
+				}
+			}
+		}
+		for (FileCodeEdits change : changes) {
+			if (change.getTextChanges() == null) {
+				continue;
+			}
+			List<CodeEdit> accepted = edits.get(change.getFileName());
+			if (accepted == null) {
+				accepted = new ArrayList<>();
+				edits.put(change.getFileName(), accepted);
+			}
+			for (CodeEdit edit : change.getTextChanges()) {
+				if (!contains(accepted, edit)) {
+					accepted.add(edit);
+				}
+			}
+		}
+		acceptedCount++;
+		return true;
+	}
+
+	/**
+	 * Returns the accepted text changes sorted by position for each file. The
+	 * insertions at the same location are merged, so the text changes of a
+	 * file never start at the same location.
+	 *
+	 * @return the accepted text changes sorted by position for each file.
+	 */
+	public Map<String, List<CodeEdit>> getEdits() {
+		Map<String, List<CodeEdit>> sortedEdits = new LinkedHashMap<>();
+		for (Map.Entry<String, List<CodeEdit>> entry : edits.entrySet()) {
+			List<CodeEdit> fileEdits = new ArrayList<>(entry.getValue());
+			// the sort is stable: insertions at the same location stay in the
+			// order of the code actions.
+			Collections.sort(fileEdits, EDIT_COMPARATOR);
+			sortedEdits.put(entry.getKey(), mergeInsertions(fileEdits));
+		}
+		return sortedEdits;
+	}
+
+	private static List<CodeEdit> mergeInsertions(List<CodeEdit> sortedEdits) {
+		List<CodeEdit> merged = new ArrayList<>(sortedEdits.size());
+		for (CodeEdit edit : sortedEdits) {
+			int last = merged.size() - 1;
+			if (last >= 0 && isInsertion(edit) && isInsertion(merged.get(last))
+					&& compareLocation(edit.getStart(), merged.get(last).getStart()) == 0) {
+				CodeEdit previous = merged.get(last);
+				merged.set(last, new CodeEdit(previous.getStart(), previous.getEnd(),
+						getNewText(previous) + getNewText(edit)));
+			} else {
+				merged.add(edit);
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Returns the number of accepted code actions.
+	 *
+	 * @return the number of accepted code actions.
+	 */
+	public int getAcceptedCount() {
+		return acceptedCount;
+	}
+
+	/**
+	 * Returns the code actions skipped because they overlap an accepted code
+	 * action.
+	 *
+	 * @return the skipped code actions.
+	 */
+	public List<CodeAction> getSkippedActions() {
+		return skippedActions;
+	}
+
+	private static boolean findConflict(List<CodeEdit> accepted, CodeEdit edit) {
+		for (CodeEdit other : accepted) {
+			if (!isSame(edit, other) && overlap(edit, other)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean findConflict(List<CodeEdit> textChanges, int index) {
+		CodeEdit edit = textChanges.get(index);
+		for (int i = 0; i < index; i++) {
+			if (overlap(edit, textChanges.get(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(List<CodeEdit> accepted, CodeEdit edit) {
+		for (CodeEdit other : accepted) {
+			if (isSame(edit, other)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the given text changes overlap. Two text changes which
+	 * start at the same location overlap, since the order to apply them is
+	 * ambiguous, except two insertions which are applied in the order of the
+	 * code actions.
+	 */
+	private static boolean overlap(CodeEdit e1, CodeEdit e2) {
+		if (compareLocation(e1.getStart(), e2.getStart()) == 0) {
+			return !(isInsertion(e1) && isInsertion(e2));
+		}
+		return compareLocation(e1.getStart(), e2.getEnd()) < 0 && compareLocation(e2.getStart(), e1.getEnd()) < 0;
+	}
+
+	private static boolean isInsertion(CodeEdit edit) {
+		return compareLocation(edit.getStart(), edit.getEnd()) == 0;
+	}
+
+	private static String getNewText(CodeEdit edit) {
+		return edit.getNewText() != null ? edit.getNewText() : "";
+	}
+
+	private static boolean isSame(CodeEdit e1, CodeEdit e2) {
+		return compareLocation(e1.getStart(), e2.getStart()) == 0 && compareLocation(e1.getEnd(), e2.getEnd()) == 0
+				&& String.valueOf(e1.getNewText()).equals(String.valueOf(e2.getNewText()));
+	}
+
+	private static int compareLocation(Location l1, Location l2) {
+		int result = Integer.compare(l1.getLine(), l2.getLine());
+		return result != 0 ? result : Integer.compare(l1.getOffset(), l2.getOffset());
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.codefixes;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache of the "getCodeFixes" results of a file, keyed by range and error
+ * codes, for one version of the file.
+ *
+ * <p>
+ * The cache stores the pending requests, so the code fixes computed in
+ * background when the diagnostics are reported are reused by the problem
+ * hover. The cache is cleared when the version of the file changes.
+ * </p>
+ *
+ */
+public class CodeFixesCache {
+
+	/**
+	 * Max number of cached code fixes.
+	 */
+	public static final int MAX_ENTRIES = 64;
+
+	private final Map<String, CompletableFuture<List<CodeAction>>> codeFixes = new LinkedHashMap<String, CompletableFuture<List<CodeAction>>>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<List<CodeAction>>> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private long version;
+
+	/**
+	 * Returns the cached code fixes for the given version of the file, range
+	 * and error codes and null otherwise.
+	 *
+	 * @param version
+	 *            the version of the file.
+	 * @param start
+	 *            the start position of the range.
+	 * @param end
+	 *            the end position of the range.
+	 * @param errorCodes
+	 *            the error codes.
+	 * @return the cached code fixes or null.
+	 */
+	public synchronized CompletableFuture<List<CodeAction>> get(long version, int start, int end,
+			List<Integer> errorCodes) {
+		if (version != this.version) {
+			return null;
+		}
+		return codeFixes.get(getKey(start, end, errorCodes));
+	}
+
+	/**
+	 * Cache the given code fixes if there is no cached code fixes for the
+	 * given version of the file, range and error codes.
+	 *
+	 * @param version
+	 *            the version of the file used to compute the code fixes.
+	 * @param start
+	 *            the start position of the range.
+	 * @param end
+	 *            the end position of the range.
+	 * @param errorCodes
+	 *            the error codes.
+	 * @param fixes
+	 *            the code fixes request.
+	 * @return the cached code fixes if any and the given code fixes otherwise.
+	 */
+	public synchronized CompletableFuture<List<CodeAction>> putIfAbsent(long version, int start, int end,
+			List<Integer> errorCodes, CompletableFuture<List<CodeAction>> fixes) {
+		if (version < this.version) {
+			return fixes;
+		}
+		if (version > this.version) {
+			this.version = version;
+			codeFixes.clear();
+		}
+		String key = getKey(start, end, errorCodes);
+		CompletableFuture<List<CodeAction>> cached = codeFixes.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		codeFixes.put(key, fixes);
+		// a failed or cancelled request must not be reused.
+		fixes.whenComplete((actions, e) -> {
+			if (e != null) {
+				remove(key, fixes);
+			}
+		});
+		return fixes;
+	}
+
+	private synchronized void remove(String key, CompletableFuture<List<CodeAction>> fixes) {
+		if (codeFixes.get(key) == fixes) {
+			codeFixes.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the number of cached code fixes.
+	 *
+	 * @return the number of cached code fixes.
+	 */
+	public synchronized int size() {
+		return codeFixes.size();
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public synchronized void clear() {
+		codeFixes.clear();
+	}
+
+	private static String getKey(int start, int end, List<Integer> errorCodes) {
+		return new StringBuilder().append(start).append(':').append(end).append(errorCodes).toString();
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.completions;
+
+import ts.client.ITypeScriptServiceClient;
+
+/**
+ * Context of a completion request (file, line, offset, matcher and client)
+ * shared by all the {@link CompletionEntry} of the response.
+ *
+ */
+public class CompletionContext {
+
+	private final ICompletionEntryMatcher matcher;
+	private final String fileName;
+	private final int line;
+	private final int offset;
+	private final ITypeScriptServiceClient client;
+
+	public CompletionContext(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
+			ITypeScriptServiceClient client) {
+		this.matcher = matcher;
+		this.fileName = fileName;
+		this.line = line;
+		this.offset = offset;
+		this.client = client;
+	}
+
+	/**
+	 * Returns the matcher used to compute the relevance of the entries.
+	 *
+	 * @return the matcher used to compute the relevance of the entries.
+	 */
+	public ICompletionEntryMatcher getMatcher() {
+		return matcher;
+	}
+
+	/**
+	 * Returns the file name where completion was done.
+	 *
+	 * @return the file name where completion was done.
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * Returns the line number where completion was done.
+	 *
+	 * @return the line number where completion was done.
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	/**
+	 * Returns the offset where completion was done.
+	 *
+	 * @return the offset where completion was done.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the client used to retrieve the entry details.
+	 *
+	 * @return the client used to retrieve the entry details.
+	 */
+	public ITypeScriptServiceClient getClient() {
+		return client;
+	}
+}
@@ -41,6 +41,10 @@ public class CompletionEntry implements IKindProvider {
 	 * The symbol's kind (such as 'className' or 'parameterName').
 	 */
 	private String kind;
+	/**
+	 * The kind decoded when the kind is set.
+	 */
+	private ScriptElementKind tsKind;
 	/**
 	 * Optional modifiers for the kind (such as 'public').
 	 */
@@ -63,29 +67,31 @@ public class CompletionEntry implements IKindProvider {
 	 * code action to be made to avoid errors. The code action is normally
 	 * adding an additional import statement.
 	 */
-	private Boolean hasAction;
-
-	private Boolean isFunction;
+	private boolean hasAction;
 
 	private int relevance;
 
-	private final String fileName;
-	private final int line;
-	private final int offset;
-
-	private final transient ICompletionEntryMatcher matcher;
-
-	private final transient ITypeScriptServiceClient client;
+	private final transient CompletionContext context;
 
 	private List<CompletionEntryDetails> entryDetails;
 
+	public CompletionEntry(CompletionContext context) {
+		this.context = context;
+	}
+
 	public CompletionEntry(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
 			ITypeScriptServiceClient client) {
-		this.matcher = matcher;
-		this.fileName = fileName;
-		this.line = line;
-		this.offset = offset;
-		this.client = client;
+		this(new CompletionContext(matcher, fileName, line, offset, client));
+	}
+
+	/**
+	 * Returns the context of the completion request shared by the entries of
+	 * the response.
+	 * 
+	 * @return the context of the completion request.
+	 */
+	public CompletionContext getContext() {
+		return context;
 	}
 
 	/**
@@ -94,7 +100,7 @@ public class CompletionEntry implements IKindProvider {
 	 * @return the file name where completion was done.
 	 */
 	public String getFileName() {
-		return fileName;
+		return context.getFileName();
 	}
 
 	/**
@@ -103,7 +109,7 @@ public class CompletionEntry implements IKindProvider {
 	 * @return the line number where completion was done.
 	 */
 	public int getLine() {
-		return line;
+		return context.getLine();
 	}
 
 	/**
@@ -112,7 +118,7 @@ public class CompletionEntry implements IKindProvider {
 	 * @return the offset where completion was done.
 	 */
 	public int getOffset() {
-		return offset;
+		return context.getOffset();
 	}
 
 	public String getName() {
@@ -135,13 +141,43 @@ public class CompletionEntry implements IKindProvider {
 		return replacementSpan;
 	}
 
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public void setKind(String kind) {
+		this.kind = kind;
+		this.tsKind = kind != null ? ScriptElementKind.getKind(kind) : null;
+	}
+
+	public void setKindModifiers(String kindModifiers) {
+		this.kindModifiers = kindModifiers;
+	}
+
+	public void setSortText(String sortText) {
+		this.sortText = sortText;
+	}
+
+	public void setReplacementSpan(TextSpan replacementSpan) {
+		this.replacementSpan = replacementSpan;
+	}
+
+	public void setHasAction(Boolean hasAction) {
+		this.hasAction = hasAction != null && hasAction;
+	}
+
+	/**
+	 * Returns the kind decoded from {@link #getKind()}.
+	 * 
+	 * @return the kind decoded from {@link #getKind()}.
+	 */
+	public ScriptElementKind getTsKind() {
+		return tsKind;
+	}
+
 	public boolean isFunction() {
-		if (isFunction == null) {
-			ScriptElementKind tsKind = ScriptElementKind.getKind(getKind());
-			isFunction = (tsKind != null && (ScriptElementKind.CONSTRUCTOR == tsKind || ScriptElementKind.FUNCTION == tsKind
-					|| ScriptElementKind.METHOD == tsKind));
-		}
-		return isFunction;
+		return ScriptElementKind.CONSTRUCTOR == tsKind || ScriptElementKind.FUNCTION == tsKind
+				|| ScriptElementKind.METHOD == tsKind;
 	}
 
 	public int getRelevance() {
@@ -154,7 +190,7 @@ public class CompletionEntry implements IKindProvider {
 		if (StringUtils.isEmpty(prefix)) {
 			relevanceBoost = 0;
 		} else {
-			bestSequence = matcher.bestSubsequence(name, prefix);
+			bestSequence = getMatcher().bestSubsequence(name, prefix);
 			if ((bestSequence != null && bestSequence.length > 0)) {
 				relevanceBoost = 0;
 				if (name.equals(prefix)) {
@@ -185,7 +221,7 @@ public class CompletionEntry implements IKindProvider {
 	}
 
 	public ICompletionEntryMatcher getMatcher() {
-		return matcher;
+		return context.getMatcher();
 	}
 
 	public List<CompletionEntryDetails> getEntryDetails() throws TypeScriptException {
@@ -193,7 +229,8 @@ public class CompletionEntry implements IKindProvider {
 			return entryDetails;
 		}
 		try {
-			this.entryDetails = client.completionEntryDetails(fileName, line, offset, new String[] { name }, this)
+			this.entryDetails = context.getClient()
+					.completionEntryDetails(getFileName(), getLine(), getOffset(), new String[] { name }, this)
 					.get(5000, TimeUnit.MILLISECONDS);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -202,7 +239,7 @@ public class CompletionEntry implements IKindProvider {
 	}
 
 	public boolean hasActions() {
-		return hasAction != null && hasAction;
+		return hasAction;
 	}
 
 }
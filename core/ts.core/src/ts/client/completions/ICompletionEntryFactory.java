@@ -10,8 +10,6 @@
  */
 package ts.client.completions;
 
-import ts.client.ITypeScriptServiceClient;
-
 /**
  * TypeScript {@link CompletionEntry} factory.
  *
@@ -24,23 +22,19 @@ public interface ICompletionEntryFactory {
 	public static final ICompletionEntryFactory DEFAULT = new ICompletionEntryFactory() {
 
 		@Override
-		public CompletionEntry create(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-				ITypeScriptServiceClient client) {
-			return new CompletionEntry(matcher, fileName, line, offset, client);
+		public CompletionEntry create(CompletionContext context) {
+			return new CompletionEntry(context);
 		}
 	};
 
 	/**
 	 * Create {@link CompletionEntry} instance.
 	 * 
-	 * @param matcher
-	 * @param fileName
-	 * @param line
-	 * @param offset
-	 * @param client
+	 * @param context
+	 *            the context of the completion request, shared by all the
+	 *            entries of the response.
 	 * @return
 	 */
-	public CompletionEntry create(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-			ITypeScriptServiceClient client);
+	public CompletionEntry create(CompletionContext context);
 
 }
@@ -0,0 +1,175 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.definition;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import ts.client.FileSpan;
+
+/**
+ * Cache of the "definition" results of a project, keyed by file name, file
+ * version and identifier span.
+ *
+ * <p>
+ * The cache stores the pending requests, so the hyperlink detector, the open
+ * action and the prefetch share one tsserver request for the same identifier.
+ * A change of a file can change the definitions of any other file (re-export,
+ * global or merged declarations), so the whole cache is invalidated when the
+ * content of any file of the project changes.
+ * </p>
+ *
+ */
+public class DefinitionCache {
+
+	/**
+	 * Max number of cached definitions.
+	 */
+	public static final int MAX_ENTRIES = 32;
+
+	private final Map<String, CompletableFuture<List<FileSpan>>> definitions = new LinkedHashMap<String, CompletableFuture<List<FileSpan>>>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<List<FileSpan>>> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private long version;
+
+	/**
+	 * Returns the version of the cache which is incremented by each
+	 * invalidation.
+	 *
+	 * @return the version of the cache.
+	 */
+	public synchronized long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the cached definition of the identifier at the given span of the
+	 * given version of the file and null otherwise.
+	 *
+	 * @param fileName
+	 *            the file name.
+	 * @param fileVersion
+	 *            the version of the file.
+	 * @param start
+	 *            the start position of the identifier.
+	 * @param end
+	 *            the end position of the identifier.
+	 * @return the cached definition or null.
+	 */
+	public synchronized CompletableFuture<List<FileSpan>> get(String fileName, long fileVersion, int start,
+			int end) {
+		return definitions.get(getKey(fileName, fileVersion, start, end));
+	}
+
+	/**
+	 * Cache the given definition if the cache was not invalidated since the
+	 * given version and if there is no cached definition for the identifier.
+	 *
+	 * @param version
+	 *            the version of the cache when the request was sent.
+	 * @param fileName
+	 *            the file name.
+	 * @param fileVersion
+	 *            the version of the file.
+	 * @param start
+	 *            the start position of the identifier.
+	 * @param end
+	 *            the end position of the identifier.
+	 * @param definition
+	 *            the definition request.
+	 * @return the cached definition if any and the given definition otherwise.
+	 */
+	public synchronized CompletableFuture<List<FileSpan>> putIfAbsent(long version, String fileName,
+			long fileVersion, int start, int end, CompletableFuture<List<FileSpan>> definition) {
+		if (version != this.version) {
+			return definition;
+		}
+		String key = getKey(fileName, fileVersion, start, end);
+		CompletableFuture<List<FileSpan>> cached = definitions.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		definitions.put(key, definition);
+		// a failed or cancelled request must not be reused.
+		definition.whenComplete((spans, e) -> {
+			if (e != null) {
+				remove(key, definition);
+			}
+		});
+		return definition;
+	}
+
+	private synchronized void remove(String key, CompletableFuture<List<FileSpan>> definition) {
+		if (definitions.get(key) == definition) {
+			definitions.remove(key);
+		}
+	}
+
+	/**
+	 * Invalidate the cache.
+	 */
+	public synchronized void invalidate() {
+		version++;
+		definitions.clear();
+	}
+
+	/**
+	 * Returns the number of cached definitions.
+	 *
+	 * @return the number of cached definitions.
+	 */
+	public synchronized int size() {
+		return definitions.size();
+	}
+
+	private static String getKey(String fileName, long fileVersion, int start, int end) {
+		return new StringBuilder(fileName).append('@').append(fileVersion).append('#').append(start).append(':')
+				.append(end).toString();
+	}
+
+	/**
+	 * Returns the start and end position of the identifier which contains (or
+	 * ends at) the given position and null if there is no identifier.
+	 *
+	 * @param text
+	 *            the text, only the characters around the position are read.
+	 * @param position
+	 *            the position.
+	 * @return the start and end position of the identifier or null.
+	 */
+	public static int[] getIdentifierSpan(CharSequence text, int position) {
+		if (text == null || position < 0 || position > text.length()) {
+			return null;
+		}
+		int start = position;
+		while (start > 0 && Character.isJavaIdentifierPart(text.charAt(start - 1))) {
+			start--;
+		}
+		int end = position;
+		while (end < text.length() && Character.isJavaIdentifierPart(text.charAt(end))) {
+			end++;
+		}
+		if (start == end || !Character.isJavaIdentifierStart(text.charAt(start))) {
+			return null;
+		}
+		return new int[] { start, end };
+	}
+}
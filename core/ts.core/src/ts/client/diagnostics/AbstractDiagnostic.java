@@ -35,6 +35,16 @@ public abstract class AbstractDiagnostic implements IDiagnostic {
 	 */
 	private String source;
 
+	protected AbstractDiagnostic() {
+	}
+
+	protected AbstractDiagnostic(String text, Integer code, String category, String source) {
+		this.text = text;
+		this.code = code;
+		this.category = category;
+		this.source = source;
+	}
+
 	@Override
 	public String getText() {
 		return text;
@@ -28,6 +28,15 @@ public class Diagnostic extends AbstractDiagnostic {
 	 */
 	private Location end;
 
+	public Diagnostic() {
+	}
+
+	public Diagnostic(String text, Integer code, String category, String source, Location start, Location end) {
+		super(text, code, category, source);
+		this.start = start;
+		this.end = end;
+	}
+
 	public Location getStartLocation() {
 		return start;
 	}
@@ -39,6 +39,19 @@ public class DiagnosticWithLinePosition extends AbstractDiagnostic {
 	 */
 	private String message;
 
+	public DiagnosticWithLinePosition() {
+	}
+
+	public DiagnosticWithLinePosition(String text, String message, Integer code, String category, String source,
+			Integer start, Integer end, Location startLocation, Location endLocation) {
+		super(text, code, category, source);
+		this.message = message;
+		this.start = start;
+		this.end = end;
+		this.startLocation = startLocation;
+		this.endLocation = endLocation;
+	}
+
 	@Override
 	public Location getStartLocation() {
 		return startLocation;
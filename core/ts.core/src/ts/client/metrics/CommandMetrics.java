@@ -0,0 +1,154 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a tsserver command (ex : "completions").
+ *
+ * <ul>
+ * <li>server time: time between the sending of the request and the receiving
+ * of the response.</li>
+ * <li>parse time: time spent by the client to deserialize the response.</li>
+ * </ul>
+ *
+ */
+public class CommandMetrics {
+
+	private final String command;
+	private final LatencyHistogram serverTime;
+	private final LatencyHistogram parseTime;
+	private final AtomicLong requestCount;
+	private final AtomicLong requestBytes;
+	private final AtomicLong responseBytes;
+	private final AtomicLong errorCount;
+	private final AtomicLong timeoutCount;
+	private final AtomicLong cancelCount;
+
+	public CommandMetrics(String command) {
+		this(command, new LatencyHistogram(), new LatencyHistogram());
+	}
+
+	private CommandMetrics(String command, LatencyHistogram serverTime, LatencyHistogram parseTime) {
+		this.command = command;
+		this.serverTime = serverTime;
+		this.parseTime = parseTime;
+		this.requestCount = new AtomicLong();
+		this.requestBytes = new AtomicLong();
+		this.responseBytes = new AtomicLong();
+		this.errorCount = new AtomicLong();
+		this.timeoutCount = new AtomicLong();
+		this.cancelCount = new AtomicLong();
+	}
+
+	void recordRequest(int size) {
+		requestCount.incrementAndGet();
+		requestBytes.addAndGet(size);
+	}
+
+	void recordResponse(int size, long serverTime, long parseTime) {
+		responseBytes.addAndGet(size);
+		this.serverTime.record(serverTime);
+		this.parseTime.record(parseTime);
+	}
+
+	void recordError() {
+		errorCount.incrementAndGet();
+	}
+
+	void recordTimeout() {
+		timeoutCount.incrementAndGet();
+	}
+
+	void recordCancel() {
+		cancelCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns a copy of this metrics.
+	 *
+	 * @return a copy of this metrics.
+	 */
+	public CommandMetrics snapshot() {
+		CommandMetrics metrics = new CommandMetrics(command, serverTime.snapshot(), parseTime.snapshot());
+		metrics.requestCount.set(requestCount.get());
+		metrics.requestBytes.set(requestBytes.get());
+		metrics.responseBytes.set(responseBytes.get());
+		metrics.errorCount.set(errorCount.get());
+		metrics.timeoutCount.set(timeoutCount.get());
+		metrics.cancelCount.set(cancelCount.get());
+		return metrics;
+	}
+
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Returns the histogram of the time in nano time between the sending of
+	 * the request and the receiving of the response.
+	 *
+	 * @return the histogram of the server time.
+	 */
+	public LatencyHistogram getServerTime() {
+		return serverTime;
+	}
+
+	/**
+	 * Returns the histogram of the time in nano time spent by the client to
+	 * deserialize the response.
+	 *
+	 * @return the histogram of the parse time.
+	 */
+	public LatencyHistogram getParseTime() {
+		return parseTime;
+	}
+
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	public long getResponseCount() {
+		return serverTime.getCount();
+	}
+
+	public long getRequestBytes() {
+		return requestBytes.get();
+	}
+
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	public long getErrorCount() {
+		return errorCount.get();
+	}
+
+	/**
+	 * Returns the count of requests whose response was not received in time.
+	 *
+	 * @return the count of requests whose response was not received in time.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * Returns the count of requests cancelled before the response (ex : a
+	 * completion request cancelled because the user has typed again).
+	 *
+	 * @return the count of requests cancelled before the response.
+	 */
+	public long getCancelCount() {
+		return cancelCount.get();
+	}
+}
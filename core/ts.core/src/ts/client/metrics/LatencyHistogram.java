@@ -0,0 +1,148 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nano time.
+ *
+ * <p>
+ * Each power of 2 is split in 8 linear sub-buckets, so a recorded value is
+ * known with a precision of 12.5%, whatever its magnitude (some nanos or some
+ * minutes).
+ * </p>
+ *
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets;
+	private final AtomicLong count;
+	private final AtomicLong sum;
+	private final AtomicLong min;
+	private final AtomicLong max;
+
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKETS);
+		this.count = new AtomicLong();
+		this.sum = new AtomicLong();
+		this.min = new AtomicLong(Long.MAX_VALUE);
+		this.max = new AtomicLong();
+	}
+
+	private LatencyHistogram(LatencyHistogram histogram) {
+		this();
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets.set(i, histogram.buckets.get(i));
+		}
+		count.set(histogram.count.get());
+		sum.set(histogram.sum.get());
+		min.set(histogram.min.get());
+		max.set(histogram.max.get());
+	}
+
+	/**
+	 * Record the given value.
+	 *
+	 * @param value
+	 *            the latency in nano time.
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		buckets.incrementAndGet(indexOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		long current;
+		while (value < (current = min.get()) && !min.compareAndSet(current, value)) {
+		}
+		while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+		}
+	}
+
+	/**
+	 * Returns a copy of this histogram.
+	 *
+	 * @return a copy of this histogram.
+	 */
+	public LatencyHistogram snapshot() {
+		return new LatencyHistogram(this);
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getMin() {
+		return count.get() > 0 ? min.get() : 0;
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+		long count = this.count.get();
+		return count > 0 ? sum.get() / count : 0;
+	}
+
+	/**
+	 * Returns the value under which the given percentage of recorded values
+	 * fall.
+	 *
+	 * @param percentile
+	 *            the percentile (ex : 99.0)
+	 * @return the value under which the given percentage of recorded values
+	 *         fall.
+	 */
+	public long getPercentile(double percentile) {
+		long count = this.count.get();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count);
+		if (rank < 1) {
+			rank = 1;
+		}
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += buckets.get(i);
+			if (total >= rank) {
+				return Math.min(upperBoundOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		int subBucket = index % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import com.google.gson.stream.JsonWriter;
+
+import ts.TypeScriptNoContentAvailableException;
+import ts.client.IInterceptor;
+import ts.client.ITypeScriptServiceClient;
+import ts.client.TypeScriptServiceClient;
+import ts.internal.client.protocol.Request;
+import ts.internal.client.protocol.Response;
+import ts.utils.IOUtils;
+
+/**
+ * Interceptor which records per command metrics of a
+ * {@link ITypeScriptServiceClient}: latency histograms (server time and parse
+ * time), payload sizes, error, timeout and cancellation counts.
+ *
+ * <p>
+ * Metrics can be read with {@link #getMetrics()} and exported as JSON with
+ * {@link #export(File)} to compare tsserver versions.
+ * </p>
+ *
+ */
+public class MetricsInterceptor implements IInterceptor {
+
+	private static final double[] PERCENTILES = { 50.0, 90.0, 99.0 };
+
+	private final Map<String, CommandMetrics> metrics;
+	private volatile long startTime;
+
+	public MetricsInterceptor() {
+		this.metrics = new ConcurrentHashMap<>();
+		this.startTime = System.currentTimeMillis();
+	}
+
+	@Override
+	public void handleRequest(Request<?> request, String json, ITypeScriptServiceClient client) {
+		getMetrics(request.getCommand()).recordRequest(json != null ? json.length() : 0);
+	}
+
+	@Override
+	public void handleResponse(Response<?> response, String json, long ellapsedTime,
+			TypeScriptServiceClient typeScriptServiceClient) {
+		// times are recorded with the nano time method.
+	}
+
+	@Override
+	public void handleResponse(Response<?> response, String json, long serverTime, long parseTime,
+			TypeScriptServiceClient client) {
+		getMetrics(response.getCommand()).recordResponse(json != null ? json.length() : 0, serverTime, parseTime);
+	}
+
+	@Override
+	public void handleError(Throwable error, ITypeScriptServiceClient client, String methodName,
+			long ellapsedTime) {
+		CommandMetrics commandMetrics = getMetrics(methodName);
+		if (error instanceof CancellationException) {
+			commandMetrics.recordCancel();
+		} else if (error instanceof TimeoutException) {
+			commandMetrics.recordTimeout();
+		} else if (!(error instanceof TypeScriptNoContentAvailableException)) {
+			commandMetrics.recordError();
+		}
+	}
+
+	@Override
+	public void handleCancel(ITypeScriptServiceClient client, String methodName, long ellapsedTime) {
+		getMetrics(methodName).recordCancel();
+	}
+
+	/**
+	 * Returns a snapshot of the metrics sorted by command name.
+	 *
+	 * @return a snapshot of the metrics sorted by command name.
+	 */
+	public Map<String, CommandMetrics> getMetrics() {
+		Map<String, CommandMetrics> snapshot = new TreeMap<>();
+		for (CommandMetrics commandMetrics : metrics.values()) {
+			snapshot.put(commandMetrics.getCommand(), commandMetrics.snapshot());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Clear the metrics.
+	 */
+	public void reset() {
+		metrics.clear();
+		startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Export the metrics as JSON in the given file.
+	 *
+	 * @param file
+	 *            the JSON file.
+	 * @throws IOException
+	 */
+	public void export(File file) throws IOException {
+		Writer writer = null;
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+			export(writer);
+		} finally {
+			IOUtils.closeQuietly(writer);
+		}
+	}
+
+	/**
+	 * Export the metrics as JSON in the given writer. Times are in nano time
+	 * and sizes in characters.
+	 *
+	 * @param writer
+	 *            the writer.
+	 * @throws IOException
+	 */
+	public void export(Writer writer) throws IOException {
+		JsonWriter json = new JsonWriter(writer);
+		json.setIndent("  ");
+		json.beginObject();
+		json.name("startTime").value(startTime);
+		json.name("endTime").value(System.currentTimeMillis());
+		json.name("commands").beginObject();
+		for (CommandMetrics commandMetrics : getMetrics().values()) {
+			json.name(commandMetrics.getCommand()).beginObject();
+			json.name("requests").value(commandMetrics.getRequestCount());
+			json.name("responses").value(commandMetrics.getResponseCount());
+			json.name("errors").value(commandMetrics.getErrorCount());
+			json.name("timeouts").value(commandMetrics.getTimeoutCount());
+			json.name("cancellations").value(commandMetrics.getCancelCount());
+			json.name("requestSize").value(commandMetrics.getRequestBytes());
+			json.name("responseSize").value(commandMetrics.getResponseBytes());
+			json.name("serverTime");
+			writeHistogram(commandMetrics.getServerTime(), json);
+			json.name("parseTime");
+			writeHistogram(commandMetrics.getParseTime(), json);
+			json.endObject();
+		}
+		json.endObject();
+		json.endObject();
+		json.flush();
+	}
+
+	private static void writeHistogram(LatencyHistogram histogram, JsonWriter json) throws IOException {
+		json.beginObject();
+		json.name("count").value(histogram.getCount());
+		json.name("min").value(histogram.getMin());
+		json.name("mean").value(histogram.getMean());
+		for (double percentile : PERCENTILES) {
+			json.name("p" + (int) percentile).value(histogram.getPercentile(percentile));
+		}
+		json.name("max").value(histogram.getMax());
+		json.endObject();
+	}
+
+	private CommandMetrics getMetrics(String command) {
+		if (command == null) {
+			command = "unknown";
+		}
+		return metrics.computeIfAbsent(command, CommandMetrics::new);
+	}
+}
@@ -36,8 +36,8 @@ public class NavigationBarItem implements IKindProvider {
 	private String kindModifiers;
 	private List<NavigationTextSpan> spans;
 	private List<NavigationBarItem> childItems;
-	private boolean parentAlreadyUpdated;
-	NavigationBarItem parent;
+	private transient boolean parentAlreadyUpdated;
+	transient NavigationBarItem parent;
 
 	public String getText() {
 		return text;
@@ -57,6 +57,14 @@ public class NavigationBarItem implements IKindProvider {
 		this.text = text;
 	}
 
+	public void setKind(String kind) {
+		this.kind = kind;
+	}
+
+	public void setKindModifiers(String kindModifiers) {
+		this.kindModifiers = kindModifiers;
+	}
+
 	public void setSpans(List<NavigationTextSpan> spans) {
 		this.spans = spans;
 		this.parentAlreadyUpdated = false;
@@ -10,11 +10,19 @@
  */
 package ts.client.navbar;
 
+import ts.client.Location;
 import ts.client.TextSpan;
 
 public class NavigationTextSpan extends TextSpan {
 
-	NavigationBarItem parent;
+	transient NavigationBarItem parent;
+
+	public NavigationTextSpan() {
+	}
+
+	public NavigationTextSpan(Location start, Location end) {
+		super(start, end);
+	}
 
 	public NavigationBarItem getParent() {
 		return parent;
@@ -0,0 +1,95 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.occurrences;
+
+import java.util.List;
+
+/**
+ * Cache of the last "occurrences" result of a file.
+ *
+ * <p>
+ * The occurrences of a symbol are the same for every position inside one of
+ * its occurrences, so while the caret moves inside an occurrence and the
+ * content of the file doesn't change (same version), the last result is
+ * returned without calling tsserver.
+ * </p>
+ *
+ */
+public class OccurrencesCache {
+
+	private static class Entry {
+
+		final long version;
+		final List<OccurrencesResponseItem> occurrences;
+		// start and end position of each occurrence
+		final int[] spans;
+
+		Entry(long version, List<OccurrencesResponseItem> occurrences, int[] spans) {
+			this.version = version;
+			this.occurrences = occurrences;
+			this.spans = spans;
+		}
+
+		boolean contains(int position) {
+			for (int i = 0; i < spans.length; i += 2) {
+				if (position >= spans[i] && position <= spans[i + 1]) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private volatile Entry last;
+
+	/**
+	 * Returns the cached occurrences which contain the given position for the
+	 * given version of the file and null otherwise.
+	 *
+	 * @param version
+	 *            the version of the file.
+	 * @param position
+	 *            the position.
+	 * @return the cached occurrences which contain the given position for the
+	 *         given version of the file and null otherwise.
+	 */
+	public List<OccurrencesResponseItem> get(long version, int position) {
+		Entry entry = last;
+		if (entry != null && entry.version == version && entry.contains(position)) {
+			return entry.occurrences;
+		}
+		return null;
+	}
+
+	/**
+	 * Cache the given occurrences.
+	 *
+	 * @param version
+	 *            the version of the file used to compute the occurrences.
+	 * @param occurrences
+	 *            the occurrences.
+	 * @param spans
+	 *            the start and end position of each occurrence.
+	 */
+	public void put(long version, List<OccurrencesResponseItem> occurrences, int[] spans) {
+		Entry entry = last;
+		if (entry == null || entry.version <= version) {
+			last = new Entry(version, occurrences, spans);
+		}
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		last = null;
+	}
+}
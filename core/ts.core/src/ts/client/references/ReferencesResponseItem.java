@@ -11,6 +11,7 @@
 package ts.client.references;
 
 import ts.client.FileSpan;
+import ts.client.Location;
 
 public class ReferencesResponseItem extends FileSpan {
 	/**
@@ -30,6 +31,17 @@ public class ReferencesResponseItem extends FileSpan {
 	 */
 	private boolean isDefinition;
 
+	public ReferencesResponseItem() {
+	}
+
+	public ReferencesResponseItem(String file, Location start, Location end, String lineText, boolean isWriteAccess,
+			boolean isDefinition) {
+		super(file, start, end);
+		this.lineText = lineText;
+		this.isWriteAccess = isWriteAccess;
+		this.isDefinition = isDefinition;
+	}
+
 	public String getLineText() {
 		return lineText;
 	}
@@ -0,0 +1,103 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.signaturehelp;
+
+import java.util.List;
+
+import ts.client.completions.SymbolDisplayPart;
+import ts.utils.TypeScriptHelper;
+
+/**
+ * Represents a single signature to show in signature help.
+ */
+public class SignatureHelpItem {
+
+	/**
+	 * Whether the signature accepts a variable number of arguments.
+	 */
+	private boolean isVariadic;
+
+	/**
+	 * The prefix display parts.
+	 */
+	private List<SymbolDisplayPart> prefixDisplayParts;
+
+	/**
+	 * The suffix display parts.
+	 */
+	private List<SymbolDisplayPart> suffixDisplayParts;
+
+	/**
+	 * The separator display parts.
+	 */
+	private List<SymbolDisplayPart> separatorDisplayParts;
+
+	/**
+	 * The signature helps items for the parameters.
+	 */
+	private List<SignatureHelpParameter> parameters;
+
+	/**
+	 * The signature's documentation
+	 */
+	private List<SymbolDisplayPart> documentation;
+
+	public boolean isVariadic() {
+		return isVariadic;
+	}
+
+	public List<SymbolDisplayPart> getPrefixDisplayParts() {
+		return prefixDisplayParts;
+	}
+
+	public List<SymbolDisplayPart> getSuffixDisplayParts() {
+		return suffixDisplayParts;
+	}
+
+	public List<SymbolDisplayPart> getSeparatorDisplayParts() {
+		return separatorDisplayParts;
+	}
+
+	public List<SignatureHelpParameter> getParameters() {
+		return parameters;
+	}
+
+	public List<SymbolDisplayPart> getDocumentation() {
+		return documentation;
+	}
+
+	/**
+	 * Returns the signature as text (ex : "foo(a: string, b?: number): void").
+	 * 
+	 * @return the signature as text.
+	 */
+	public String getText() {
+		StringBuilder text = new StringBuilder();
+		append(text, prefixDisplayParts);
+		if (parameters != null) {
+			for (int i = 0; i < parameters.size(); i++) {
+				if (i > 0) {
+					append(text, separatorDisplayParts);
+				}
+				append(text, parameters.get(i).getDisplayParts());
+			}
+		}
+		append(text, suffixDisplayParts);
+		return text.toString();
+	}
+
+	private static void append(StringBuilder text, List<SymbolDisplayPart> parts) {
+		String partsText = TypeScriptHelper.text(parts, false);
+		if (partsText != null) {
+			text.append(partsText);
+		}
+	}
+}
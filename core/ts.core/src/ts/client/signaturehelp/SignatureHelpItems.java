@@ -10,9 +10,57 @@
  */
 package ts.client.signaturehelp;
 
+import java.util.List;
+
+import ts.client.TextSpan;
+
 /**
  * Signature help items found in the response of a signature help request.
  */
 public class SignatureHelpItems {
 
-}
\ No newline at end of file
+	/**
+	 * The signature help items.
+	 */
+	private List<SignatureHelpItem> items;
+
+	/**
+	 * The span for which signature help should appear on a signature
+	 */
+	private TextSpan applicableSpan;
+
+	/**
+	 * The item selected in the set of available help items.
+	 */
+	private int selectedItemIndex;
+
+	/**
+	 * The argument selected in the set of parameters.
+	 */
+	private int argumentIndex;
+
+	/**
+	 * The argument count
+	 */
+	private int argumentCount;
+
+	public List<SignatureHelpItem> getItems() {
+		return items;
+	}
+
+	public TextSpan getApplicableSpan() {
+		return applicableSpan;
+	}
+
+	public int getSelectedItemIndex() {
+		return selectedItemIndex;
+	}
+
+	public int getArgumentIndex() {
+		return argumentIndex;
+	}
+
+	public int getArgumentCount() {
+		return argumentCount;
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.client.signaturehelp;
+
+import java.util.List;
+
+import ts.client.completions.SymbolDisplayPart;
+
+/**
+ * Signature help information for a single parameter
+ */
+public class SignatureHelpParameter {
+
+	/**
+	 * The parameter's name
+	 */
+	private String name;
+
+	/**
+	 * Documentation of the parameter.
+	 */
+	private List<SymbolDisplayPart> documentation;
+
+	/**
+	 * Display parts of the parameter.
+	 */
+	private List<SymbolDisplayPart> displayParts;
+
+	/**
+	 * Whether the parameter is optional or not.
+	 */
+	private boolean isOptional;
+
+	public String getName() {
+		return name;
+	}
+
+	public List<SymbolDisplayPart> getDocumentation() {
+		return documentation;
+	}
+
+	public List<SymbolDisplayPart> getDisplayParts() {
+		return displayParts;
+	}
+
+	public boolean isOptional() {
+		return isOptional;
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Manager of the tsserver cancellation signal files.
+ *
+ * <p>
+ * tsserver started with <code>--cancellationPipeName name*</code> cancels the
+ * request with the sequence <code>seq</code> when the file
+ * <code>name + seq</code> exists (see typescript/lib/cancellationToken.js).
+ * tsserver never deletes this file, so the manager deletes it once the request
+ * is completed (response or "requestCompleted" event received). Deletions are
+ * batched and done in a background thread. Signal files of requests which
+ * never complete are deleted after {@link #MAX_SIGNAL_AGE_MILLIS}.
+ * </p>
+ *
+ */
+public class CancellationManager {
+
+	/**
+	 * Max age of a signal file, in milliseconds.
+	 */
+	public static final long MAX_SIGNAL_AGE_MILLIS = 60000;
+
+	private static final long CLEANUP_DELAY_MILLIS = 1000;
+
+	private static final ScheduledExecutorService CLEANUP_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "tsserver-cancellation-cleanup"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final String pipeName;
+	// request seq -> creation time of the signal file
+	private final Map<Integer, Long> signals;
+	private final Queue<File> completedSignals;
+	private final AtomicBoolean cleanupScheduled;
+	private volatile boolean disposed;
+
+	public CancellationManager(String pipeName) {
+		this.pipeName = pipeName;
+		this.signals = new ConcurrentHashMap<>();
+		this.completedSignals = new ConcurrentLinkedQueue<>();
+		this.cleanupScheduled = new AtomicBoolean();
+	}
+
+	/**
+	 * Signal tsserver to cancel the request with the given sequence.
+	 *
+	 * @param seq
+	 *            the request sequence.
+	 * @return true if the signal file was created and false otherwise.
+	 */
+	public boolean cancel(int seq) {
+		if (disposed || signals.containsKey(seq)) {
+			return false;
+		}
+		File signal = getSignalFile(seq);
+		try {
+			signal.createNewFile();
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+		signals.put(seq, System.nanoTime());
+		scheduleCleanup();
+		return true;
+	}
+
+	/**
+	 * Notify that the request with the given sequence is completed: its signal
+	 * file, if any, can be deleted.
+	 *
+	 * @param seq
+	 *            the request sequence.
+	 */
+	public void requestCompleted(int seq) {
+		if (signals.remove(seq) != null) {
+			completedSignals.add(getSignalFile(seq));
+			scheduleCleanup();
+		}
+	}
+
+	/**
+	 * Returns the number of signal files which are not deleted.
+	 *
+	 * @return the number of signal files which are not deleted.
+	 */
+	public int getSignalCount() {
+		return signals.size() + completedSignals.size();
+	}
+
+	/**
+	 * Delete all the signal files.
+	 */
+	public void dispose() {
+		disposed = true;
+		for (Integer seq : signals.keySet()) {
+			if (signals.remove(seq) != null) {
+				completedSignals.add(getSignalFile(seq));
+			}
+		}
+		deleteCompletedSignals();
+	}
+
+	private File getSignalFile(int seq) {
+		return new File(pipeName + seq);
+	}
+
+	private void scheduleCleanup() {
+		if (cleanupScheduled.compareAndSet(false, true)) {
+			CLEANUP_EXECUTOR.schedule(this::cleanup, CLEANUP_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void cleanup() {
+		cleanupScheduled.set(false);
+		long maxAge = TimeUnit.MILLISECONDS.toNanos(MAX_SIGNAL_AGE_MILLIS);
+		long now = System.nanoTime();
+		for (Iterator<Map.Entry<Integer, Long>> it = signals.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<Integer, Long> signal = it.next();
+			if (now - signal.getValue() > maxAge) {
+				// the request was never completed (ex : geterr on an old
+				// tsserver which doesn't send "requestCompleted").
+				it.remove();
+				completedSignals.add(getSignalFile(signal.getKey()));
+			}
+		}
+		deleteCompletedSignals();
+		if (!signals.isEmpty()) {
+			scheduleCleanup();
+		}
+	}
+
+	private void deleteCompletedSignals() {
+		File signal;
+		while ((signal = completedSignals.poll()) != null) {
+			signal.delete();
+		}
+	}
+}
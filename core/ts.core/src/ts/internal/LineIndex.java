@@ -0,0 +1,105 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.internal;
+
+import java.util.Arrays;
+
+import ts.TypeScriptException;
+import ts.client.Location;
+
+/**
+ * Start offsets of the lines of a content, to convert a position to a
+ * tsserver line/offset {@link Location} (1-based) and vice versa without
+ * reading the content again.
+ *
+ * <p>
+ * "\r\n", "\n" and "\r" line delimiters are supported.
+ * </p>
+ *
+ */
+public class LineIndex {
+
+	private final int[] lineStarts;
+	private final int length;
+
+	public LineIndex(String contents) {
+		int[] starts = new int[16];
+		int count = 1;
+		int length = contents.length();
+		for (int i = 0; i < length; i++) {
+			char c = contents.charAt(i);
+			if (c == '\r' && i + 1 < length && contents.charAt(i + 1) == '\n') {
+				i++;
+			} else if (c != '\n' && c != '\r') {
+				continue;
+			}
+			if (count == starts.length) {
+				starts = Arrays.copyOf(starts, count * 2);
+			}
+			starts[count++] = i + 1;
+		}
+		this.lineStarts = Arrays.copyOf(starts, count);
+		this.length = length;
+	}
+
+	/**
+	 * Returns the number of lines.
+	 *
+	 * @return the number of lines.
+	 */
+	public int getLineCount() {
+		return lineStarts.length;
+	}
+
+	/**
+	 * Returns the line/offset (1-based) of the given position.
+	 *
+	 * @param position
+	 *            the position (0-based).
+	 * @return the line/offset (1-based) of the given position.
+	 * @throws TypeScriptException
+	 *             if the position is outside the content.
+	 */
+	public Location getLocation(int position) throws TypeScriptException {
+		if (position < 0 || position > length) {
+			throw new TypeScriptException("Position " + position + " is outside the content (length " + length + ")");
+		}
+		int line = Arrays.binarySearch(lineStarts, position);
+		if (line < 0) {
+			// position is inside the line which precedes the insertion point.
+			line = -line - 2;
+		}
+		return new Location(line + 1, position - lineStarts[line] + 1);
+	}
+
+	/**
+	 * Returns the position (0-based) of the given line/offset (1-based).
+	 *
+	 * @param line
+	 *            the line (1-based).
+	 * @param offset
+	 *            the offset (1-based).
+	 * @return the position (0-based) of the given line/offset.
+	 * @throws TypeScriptException
+	 *             if the line/offset is outside the content.
+	 */
+	public int getPosition(int line, int offset) throws TypeScriptException {
+		if (line < 1 || line > lineStarts.length) {
+			throw new TypeScriptException(
+					"Line " + line + " is outside the content (" + lineStarts.length + " lines)");
+		}
+		int position = lineStarts[line - 1] + offset - 1;
+		if (offset < 1 || position > length) {
+			throw new TypeScriptException("Offset " + offset + " is outside the line " + line);
+		}
+		return position;
+	}
+}
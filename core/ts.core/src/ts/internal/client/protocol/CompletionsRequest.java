@@ -10,19 +10,18 @@
  */
 package ts.internal.client.protocol;
 
-import java.lang.reflect.Type;
 import java.util.List;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.InstanceCreator;
 import com.google.gson.JsonObject;
 
 import ts.client.CommandNames;
 import ts.client.ITypeScriptServiceClient;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntry;
 import ts.client.completions.ICompletionEntryFactory;
 import ts.client.completions.ICompletionEntryMatcherProvider;
+import ts.internal.client.protocol.ProtocolAdapters.CompletionEntryAdapter;
+import ts.internal.client.protocol.ProtocolAdapters.ListAdapter;
 
 /**
  * 
@@ -45,17 +44,10 @@ public class CompletionsRequest extends FileLocationRequest<CompletionsRequestAr
 
 	@Override
 	public Response<List<CompletionEntry>> parseResponse(JsonObject json) {
-		String fileName = super.getArguments().getFile();
-		int line = super.getArguments().getLine();
-		int offset = super.getArguments().getOffset();
-		Gson gson = new GsonBuilder()
-				.registerTypeAdapter(CompletionEntry.class, new InstanceCreator<CompletionEntry>() {
-					@Override
-					public CompletionEntry createInstance(Type type) {
-						return factory.create(matcherProvider.getMatcher(), fileName, line, offset, client);
-					}
-				}).create();
-		return gson.fromJson(json, CompletionsResponse.class);
+		CompletionContext context = new CompletionContext(matcherProvider.getMatcher(), getArguments().getFile(),
+				getArguments().getLine(), getArguments().getOffset(), client);
+		CompletionEntryAdapter entryAdapter = new CompletionEntryAdapter(() -> factory.create(context));
+		return GsonHelper.fromJson(json, CompletionsResponse.class, new ListAdapter<CompletionEntry>(entryAdapter));
 	}
 
 }
@@ -10,49 +10,61 @@
  */
 package ts.internal.client.protocol;
 
-import java.lang.reflect.Type;
-
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 
-import ts.client.diagnostics.Diagnostic;
-import ts.client.diagnostics.DiagnosticWithLinePosition;
+import ts.client.FileSpan;
+import ts.client.Location;
+import ts.client.TextSpan;
 import ts.client.diagnostics.IDiagnostic;
+import ts.client.navbar.NavigationBarItem;
+import ts.client.navbar.NavigationTextSpan;
+import ts.client.references.ReferencesResponseItem;
 
 public class GsonHelper {
 
 	private static final JsonParser JSON_PARSER = new JsonParser();
 
 	public static final Gson DEFAULT_GSON = new GsonBuilder()
-			.registerTypeAdapter(IDiagnostic.class, new DiagnosticAdapter()).create();
+			.registerTypeAdapter(IDiagnostic.class, new ProtocolAdapters.DiagnosticDeserializer())
+			.registerTypeAdapter(Location.class, ProtocolAdapters.LOCATION)
+			.registerTypeAdapter(TextSpan.class, ProtocolAdapters.TEXT_SPAN)
+			.registerTypeAdapter(FileSpan.class, ProtocolAdapters.FILE_SPAN)
+			.registerTypeAdapter(ReferencesResponseItem.class, ProtocolAdapters.REFERENCES_RESPONSE_ITEM)
+			.registerTypeAdapter(NavigationTextSpan.class, ProtocolAdapters.NAVIGATION_TEXT_SPAN)
+			.registerTypeAdapter(NavigationBarItem.class,
+					ProtocolAdapters.deserializer(ProtocolAdapters.NAVIGATION_BAR_ITEM))
+			.create();
 
 	public static JsonElement parse(String json) throws JsonSyntaxException {
 		return JSON_PARSER.parse(json);
 	}
 
-	private static class DiagnosticAdapter implements JsonDeserializer<IDiagnostic> {
-
-		@Override
-		public IDiagnostic deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-				throws JsonParseException {
-			if (json.isJsonObject()) {
-				JsonObject obj = json.getAsJsonObject();
-				if (obj.get("start").isJsonObject()) {
-					// {"start":{"line":1,"offset":13},"end":{"line":1,"offset":13},"text":"Identifier
-					// expected.","code":1003}
-					return DEFAULT_GSON.fromJson(json, Diagnostic.class);
-				} else {
-					return DEFAULT_GSON.fromJson(json, DiagnosticWithLinePosition.class);
-				}
-			}
-			return null;
+	/**
+	 * Parse the given tsserver response with the given adapter for the body.
+	 * The envelope (seq, command, success, message) is parsed with
+	 * {@link #DEFAULT_GSON}.
+	 *
+	 * @param json
+	 *            the tsserver response. The "body" member is removed.
+	 * @param responseClass
+	 *            the response class.
+	 * @param bodyAdapter
+	 *            the adapter used to parse the body.
+	 * @return the response.
+	 */
+	public static <T, R extends Response<T>> R fromJson(JsonObject json, Class<R> responseClass,
+			TypeAdapter<T> bodyAdapter) {
+		JsonElement body = json.remove("body");
+		R response = DEFAULT_GSON.fromJson(json, responseClass);
+		if (body != null && !body.isJsonNull()) {
+			response.setBody(bodyAdapter.fromJsonTree(body));
 		}
+		return response;
 	}
 }
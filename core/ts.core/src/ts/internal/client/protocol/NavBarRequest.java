@@ -10,18 +10,16 @@
  */
 package ts.internal.client.protocol;
 
-import java.lang.reflect.Type;
 import java.util.List;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.InstanceCreator;
 import com.google.gson.JsonObject;
 
 import ts.client.CommandNames;
 import ts.client.IPositionProvider;
-import ts.client.Location;
 import ts.client.navbar.NavigationBarItem;
+import ts.internal.client.protocol.ProtocolAdapters.ListAdapter;
+import ts.internal.client.protocol.ProtocolAdapters.LocationAdapter;
+import ts.internal.client.protocol.ProtocolAdapters.NavigationBarItemAdapter;
 
 /**
  * NavBar items request; value of command field is "navbar". Return response
@@ -41,16 +39,10 @@ public class NavBarRequest extends FileRequest<FileRequestArgs> {
 
 	@Override
 	public Response<List<NavigationBarItem>> parseResponse(JsonObject json) {
-		Gson gson = GsonHelper.DEFAULT_GSON;
-		if (positionProvider != null) {
-			gson = new GsonBuilder().registerTypeAdapter(Location.class, new InstanceCreator<Location>() {
-				@Override
-				public Location createInstance(Type type) {
-					return new Location(positionProvider);
-				}
-			}).create();
-		}
-		return gson.fromJson(json, NavBarResponse.class);
+		NavigationBarItemAdapter itemAdapter = positionProvider != null
+				? new NavigationBarItemAdapter(new LocationAdapter(positionProvider))
+				: ProtocolAdapters.NAVIGATION_BAR_ITEM;
+		return GsonHelper.fromJson(json, NavBarResponse.class, new ListAdapter<NavigationBarItem>(itemAdapter));
 	}
 
 }
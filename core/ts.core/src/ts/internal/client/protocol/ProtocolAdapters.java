@@ -0,0 +1,492 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.internal.client.protocol;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import ts.client.FileSpan;
+import ts.client.IPositionProvider;
+import ts.client.Location;
+import ts.client.TextSpan;
+import ts.client.completions.CompletionEntry;
+import ts.client.diagnostics.Diagnostic;
+import ts.client.diagnostics.DiagnosticWithLinePosition;
+import ts.client.diagnostics.IDiagnostic;
+import ts.client.navbar.NavigationBarItem;
+import ts.client.navbar.NavigationTextSpan;
+import ts.client.references.ReferencesResponseItem;
+import ts.utils.StringPool;
+
+/**
+ * Streaming Gson {@link TypeAdapter}s for the high-volume tsserver response
+ * types, which avoid the reflection of the Gson default adapters.
+ *
+ * <p>
+ * Adapters which don't depend on a request are registered in
+ * {@link GsonHelper#DEFAULT_GSON}, the adapters of the response only types
+ * (navigation items, diagnostics) as read-only {@link JsonDeserializer}s (see
+ * {@link #deserializer(TypeAdapter)} and {@link DiagnosticDeserializer}), so
+ * that Gson serializes them with its default adapters. Adapters which depend on a request
+ * (position provider, completion entry factory) are created by the request and
+ * used with {@link GsonHelper#fromJson(com.google.gson.JsonObject, Class, TypeAdapter)}.
+ * </p>
+ *
+ * <p>
+ * The kinds, kind modifiers and names of the completion entries and
+ * navigation items are shared with {@link StringPool}, because the same values
+ * are repeated in the entries of a response and between responses.
+ * </p>
+ *
+ */
+public class ProtocolAdapters {
+
+	/**
+	 * tsserver Location: <code>{"line":1,"offset":13}</code>.
+	 */
+	public static class LocationAdapter extends TypeAdapter<Location> {
+
+		private final IPositionProvider positionProvider;
+
+		public LocationAdapter(IPositionProvider positionProvider) {
+			this.positionProvider = positionProvider;
+		}
+
+		@Override
+		public Location read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			int line = 0;
+			int offset = 0;
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if ("line".equals(name)) {
+					line = in.nextInt();
+				} else if ("offset".equals(name)) {
+					offset = in.nextInt();
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return positionProvider != null ? new Location(positionProvider, line, offset) : new Location(line, offset);
+		}
+
+		@Override
+		public void write(JsonWriter out, Location value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginObject();
+			out.name("line").value(value.getLine());
+			out.name("offset").value(value.getOffset());
+			out.endObject();
+		}
+	}
+
+	/**
+	 * Fields of the span types (TextSpan, FileSpan, ReferencesResponseItem,
+	 * NavigationTextSpan).
+	 */
+	public static class SpanFields {
+
+		public String file;
+		public Location start;
+		public Location end;
+		public String lineText;
+		public boolean isWriteAccess;
+		public boolean isDefinition;
+	}
+
+	/**
+	 * Adapter for a span type.
+	 *
+	 * @param <T>
+	 *            the span type.
+	 */
+	public static class SpanAdapter<T extends TextSpan> extends TypeAdapter<T> {
+
+		private final LocationAdapter locationAdapter;
+		private final Function<SpanFields, T> creator;
+
+		public SpanAdapter(LocationAdapter locationAdapter, Function<SpanFields, T> creator) {
+			this.locationAdapter = locationAdapter;
+			this.creator = creator;
+		}
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			SpanFields fields = new SpanFields();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if ("file".equals(name)) {
+					fields.file = readString(in);
+				} else if ("start".equals(name)) {
+					fields.start = locationAdapter.read(in);
+				} else if ("end".equals(name)) {
+					fields.end = locationAdapter.read(in);
+				} else if ("lineText".equals(name)) {
+					fields.lineText = readString(in);
+				} else if ("isWriteAccess".equals(name)) {
+					fields.isWriteAccess = readBoolean(in);
+				} else if ("isDefinition".equals(name)) {
+					fields.isDefinition = readBoolean(in);
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return creator.apply(fields);
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginObject();
+			if (value instanceof FileSpan) {
+				out.name("file").value(((FileSpan) value).getFile());
+			}
+			out.name("start");
+			locationAdapter.write(out, value.getStart());
+			out.name("end");
+			locationAdapter.write(out, value.getEnd());
+			out.endObject();
+		}
+	}
+
+	/**
+	 * Adapter for the navbar/navtree items.
+	 */
+	public static class NavigationBarItemAdapter extends TypeAdapter<NavigationBarItem> {
+
+		private final SpanAdapter<NavigationTextSpan> spanAdapter;
+
+		public NavigationBarItemAdapter(LocationAdapter locationAdapter) {
+			this.spanAdapter = new SpanAdapter<NavigationTextSpan>(locationAdapter,
+					fields -> new NavigationTextSpan(fields.start, fields.end));
+		}
+
+		@Override
+		public NavigationBarItem read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			NavigationBarItem item = new NavigationBarItem();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if ("text".equals(name)) {
+					item.setText(StringPool.NAMES.get(readString(in)));
+				} else if ("kind".equals(name)) {
+					item.setKind(StringPool.KINDS.get(readString(in)));
+				} else if ("kindModifiers".equals(name)) {
+					item.setKindModifiers(StringPool.KINDS.get(readString(in)));
+				} else if ("spans".equals(name)) {
+					item.setSpans(readList(in, spanAdapter));
+				} else if ("childItems".equals(name)) {
+					item.setChildItems(readList(in, this));
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return item;
+		}
+
+		@Override
+		public void write(JsonWriter out, NavigationBarItem value) throws IOException {
+			writeDefault(out, value);
+		}
+	}
+
+	/**
+	 * Adapter for completion entries created with the completion entry factory
+	 * of the request.
+	 */
+	public static class CompletionEntryAdapter extends TypeAdapter<CompletionEntry> {
+
+		private final Supplier<CompletionEntry> creator;
+		private final SpanAdapter<TextSpan> spanAdapter;
+
+		public CompletionEntryAdapter(Supplier<CompletionEntry> creator) {
+			this.creator = creator;
+			this.spanAdapter = new SpanAdapter<TextSpan>(new LocationAdapter(null),
+					fields -> new TextSpan(fields.start, fields.end));
+		}
+
+		@Override
+		public CompletionEntry read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			CompletionEntry entry = creator.get();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if ("name".equals(name)) {
+					entry.setName(StringPool.NAMES.get(readString(in)));
+				} else if ("kind".equals(name)) {
+					entry.setKind(StringPool.KINDS.get(readString(in)));
+				} else if ("kindModifiers".equals(name)) {
+					entry.setKindModifiers(StringPool.KINDS.get(readString(in)));
+				} else if ("sortText".equals(name)) {
+					entry.setSortText(StringPool.KINDS.get(readString(in)));
+				} else if ("replacementSpan".equals(name)) {
+					entry.setReplacementSpan(spanAdapter.read(in));
+				} else if ("hasAction".equals(name)) {
+					entry.setHasAction(readBoolean(in));
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return entry;
+		}
+
+		@Override
+		public void write(JsonWriter out, CompletionEntry value) throws IOException {
+			writeDefault(out, value);
+		}
+	}
+
+	/**
+	 * Adapter for the diagnostics which reads in one pass a {@link Diagnostic}
+	 * ("start" is a location) or a {@link DiagnosticWithLinePosition} ("start"
+	 * is a position).
+	 */
+	public static class DiagnosticAdapter extends TypeAdapter<IDiagnostic> {
+
+		private final LocationAdapter locationAdapter = new LocationAdapter(null);
+
+		@Override
+		public IDiagnostic read(JsonReader in) throws IOException {
+			if (in.peek() != JsonToken.BEGIN_OBJECT) {
+				in.skipValue();
+				return null;
+			}
+			String text = null;
+			String message = null;
+			Integer code = null;
+			String category = null;
+			String source = null;
+			Location startLocation = null;
+			Location endLocation = null;
+			Integer start = null;
+			Integer end = null;
+			boolean withLinePosition = false;
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if ("start".equals(name)) {
+					if (in.peek() == JsonToken.BEGIN_OBJECT) {
+						startLocation = locationAdapter.read(in);
+					} else {
+						withLinePosition = true;
+						start = readInteger(in);
+					}
+				} else if ("end".equals(name)) {
+					if (in.peek() == JsonToken.BEGIN_OBJECT) {
+						endLocation = locationAdapter.read(in);
+					} else {
+						end = readInteger(in);
+					}
+				} else if ("startLocation".equals(name)) {
+					startLocation = locationAdapter.read(in);
+				} else if ("endLocation".equals(name)) {
+					endLocation = locationAdapter.read(in);
+				} else if ("text".equals(name)) {
+					text = readString(in);
+				} else if ("message".equals(name)) {
+					message = readString(in);
+				} else if ("code".equals(name)) {
+					code = readInteger(in);
+				} else if ("category".equals(name)) {
+					category = readString(in);
+				} else if ("source".equals(name)) {
+					source = readString(in);
+				} else {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			if (withLinePosition) {
+				return new DiagnosticWithLinePosition(text, message, code, category, source, start, end,
+						startLocation, endLocation);
+			}
+			return new Diagnostic(text, code, category, source, startLocation, endLocation);
+		}
+
+		@Override
+		public void write(JsonWriter out, IDiagnostic value) throws IOException {
+			writeDefault(out, value);
+		}
+	}
+
+	/**
+	 * Adapter for a JSON array.
+	 *
+	 * @param <T>
+	 *            the item type.
+	 */
+	public static class ListAdapter<T> extends TypeAdapter<List<T>> {
+
+		private final TypeAdapter<T> itemAdapter;
+
+		public ListAdapter(TypeAdapter<T> itemAdapter) {
+			this.itemAdapter = itemAdapter;
+		}
+
+		@Override
+		public List<T> read(JsonReader in) throws IOException {
+			return readList(in, itemAdapter);
+		}
+
+		@Override
+		public void write(JsonWriter out, List<T> value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginArray();
+			for (T item : value) {
+				itemAdapter.write(out, item);
+			}
+			out.endArray();
+		}
+	}
+
+	public static final LocationAdapter LOCATION = new LocationAdapter(null);
+
+	public static final SpanAdapter<TextSpan> TEXT_SPAN = new SpanAdapter<TextSpan>(LOCATION,
+			fields -> new TextSpan(fields.start, fields.end));
+
+	public static final SpanAdapter<FileSpan> FILE_SPAN = new SpanAdapter<FileSpan>(LOCATION,
+			fields -> new FileSpan(fields.file, fields.start, fields.end));
+
+	public static final SpanAdapter<ReferencesResponseItem> REFERENCES_RESPONSE_ITEM = new SpanAdapter<ReferencesResponseItem>(
+			LOCATION, fields -> new ReferencesResponseItem(fields.file, fields.start, fields.end, fields.lineText,
+					fields.isWriteAccess, fields.isDefinition));
+
+	public static final SpanAdapter<NavigationTextSpan> NAVIGATION_TEXT_SPAN = new SpanAdapter<NavigationTextSpan>(
+			LOCATION, fields -> new NavigationTextSpan(fields.start, fields.end));
+
+	public static final NavigationBarItemAdapter NAVIGATION_BAR_ITEM = new NavigationBarItemAdapter(LOCATION);
+
+	public static final DiagnosticAdapter DIAGNOSTIC = new DiagnosticAdapter();
+
+	/**
+	 * Returns a read-only deserializer which reads with the given adapter.
+	 *
+	 * @param adapter
+	 *            the adapter used to read.
+	 * @return a read-only deserializer which reads with the given adapter.
+	 */
+	public static <T> JsonDeserializer<T> deserializer(TypeAdapter<T> adapter) {
+		return (json, typeOfT, context) -> adapter.fromJsonTree(json);
+	}
+
+	/**
+	 * Read-only deserializer of {@link IDiagnostic} which serializes a
+	 * diagnostic with the Gson default adapter of its class, because the
+	 * interface has no field to serialize.
+	 */
+	public static class DiagnosticDeserializer implements JsonDeserializer<IDiagnostic>, JsonSerializer<IDiagnostic> {
+
+		@Override
+		public IDiagnostic deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+			return DIAGNOSTIC.fromJsonTree(json);
+		}
+
+		@Override
+		public JsonElement serialize(IDiagnostic src, Type typeOfSrc, JsonSerializationContext context) {
+			return context.serialize(src, src.getClass());
+		}
+	}
+
+	/**
+	 * Write the given response value with the Gson default adapter of its
+	 * class: the response types are read-only in {@link GsonHelper#DEFAULT_GSON}.
+	 */
+	private static void writeDefault(JsonWriter out, Object value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		Type type = value.getClass();
+		GsonHelper.DEFAULT_GSON.toJson(value, type, out);
+	}
+
+	static <T> List<T> readList(JsonReader in, TypeAdapter<T> itemAdapter) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		List<T> items = new ArrayList<T>();
+		in.beginArray();
+		while (in.hasNext()) {
+			items.add(itemAdapter.read(in));
+		}
+		in.endArray();
+		return items;
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextInt();
+	}
+
+	private static boolean readBoolean(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return false;
+		}
+		return in.nextBoolean();
+	}
+}
@@ -13,6 +13,7 @@ package ts.internal.client.protocol;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
+import ts.client.RequestPriority;
 import ts.internal.SequenceHelper;
 
 /**
@@ -33,6 +34,18 @@ public abstract class Request<T> extends Message {
 	 */
 	private final T arguments;
 
+	/**
+	 * Priority of the request, null to use the priority of the command (not
+	 * sent to tsserver).
+	 */
+	private transient RequestPriority priority;
+
+	/**
+	 * Key of the caller, null if the request doesn't supersede the pending
+	 * request of its caller (not sent to tsserver).
+	 */
+	private transient Object supersedeKey;
+
 	public Request(String command, T arguments) {
 		this(command, arguments, null);
 	}
@@ -51,6 +64,34 @@ public abstract class Request<T> extends Message {
 		return arguments;
 	}
 
+	/**
+	 * Returns the priority of the request, by default the priority of its
+	 * command.
+	 * 
+	 * @return the priority of the request.
+	 */
+	public RequestPriority getPriority() {
+		return priority != null ? priority : RequestPriority.getPriority(command);
+	}
+
+	public void setPriority(RequestPriority priority) {
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns the key of the caller whose pending request with the same
+	 * command and file is cancelled when this request is executed, or null.
+	 * 
+	 * @return the key of the caller or null.
+	 */
+	public Object getSupersedeKey() {
+		return supersedeKey;
+	}
+
+	public void setSupersedeKey(Object supersedeKey) {
+		this.supersedeKey = supersedeKey;
+	}
+
 	public abstract <R> Response<R> parseResponse(JsonObject json);
 
 	protected Gson getGson() {
@@ -46,4 +46,8 @@ public class Response<T> extends Message {
 	public T getBody() {
 		return body;
 	}
+
+	void setBody(T body) {
+		this.body = body;
+	}
 }
@@ -1,25 +1,33 @@
 package ts.internal.repository;
 
 import java.io.File;
+import java.util.function.Supplier;
 
 import ts.repository.ITypeScriptRepository;
 import ts.repository.TypeScriptRepositoryException;
 import ts.repository.TypeScriptRepositoryManager;
 
 /**
- *
+ * TypeScript repository. Only the TypeScript version is resolved when the
+ * repository is created (and can be given by a version catalog), the base
+ * directory (when it is given by a supplier), the tslint and the
+ * tslint-language-service are resolved on first use.
  *
  */
 public class TypeScriptRepository implements ITypeScriptRepository {
 
 	private final TypeScriptRepositoryManager manager;
+	private final Supplier<File> baseDirSupplier;
 	private File baseDir;
 	private String name;
+	private final String typesScriptVersion;
+
+	// Lazy fields resolved on first use
+	private boolean resolved;
 	private File typesScriptDir;
 	private File tscFile;
 	private File tslintFile;
 	private String tslintName;
-	private String typesScriptVersion;
 	private String tslintVersion;
 	private File tsserverPluginsFile;
 	private String tslintLanguageServiceName;
@@ -30,18 +38,65 @@ public class TypeScriptRepository implements ITypeScriptRepository {
 
 	public TypeScriptRepository(File baseDir, TypeScriptRepositoryManager manager)
 			throws TypeScriptRepositoryException {
+		this(baseDir, null, manager);
+	}
+
+	/**
+	 * Create a TypeScript repository.
+	 * 
+	 * @param baseDir
+	 *            the base directory.
+	 * @param typesScriptVersion
+	 *            the TypeScript version coming from a version catalog and null
+	 *            if it must be read from the package.json.
+	 * @param manager
+	 *            the repository manager.
+	 * @throws TypeScriptRepositoryException
+	 */
+	public TypeScriptRepository(File baseDir, String typesScriptVersion, TypeScriptRepositoryManager manager)
+			throws TypeScriptRepositoryException {
 		this.manager = manager;
+		this.baseDirSupplier = null;
 		this.baseDir = baseDir;
-		updateBaseDir(baseDir);
+		File typesScriptDir = getTypesScriptDir(baseDir);
+		TypeScriptRepositoryManager.validateTypeScriptDir(typesScriptDir);
+		this.typesScriptVersion = typesScriptVersion != null ? typesScriptVersion
+				: TypeScriptRepositoryManager.getPackageJsonVersion(typesScriptDir);
+		this.setName(generateName("TypeScript", this.typesScriptVersion));
+	}
+
+	/**
+	 * Create a TypeScript repository whose base directory is resolved on first
+	 * use (ex : extracted from a zip).
+	 * 
+	 * @param baseDirSupplier
+	 *            the supplier of the base directory.
+	 * @param typesScriptVersion
+	 *            the TypeScript version coming from a version catalog.
+	 * @param manager
+	 *            the repository manager.
+	 * @throws TypeScriptRepositoryException
+	 */
+	public TypeScriptRepository(Supplier<File> baseDirSupplier, String typesScriptVersion,
+			TypeScriptRepositoryManager manager) throws TypeScriptRepositoryException {
+		this.manager = manager;
+		this.baseDirSupplier = baseDirSupplier;
+		this.typesScriptVersion = typesScriptVersion;
+		this.setName(generateName("TypeScript", typesScriptVersion));
 	}
 
-	private void updateBaseDir(File baseDir) throws TypeScriptRepositoryException {
-		this.typesScriptDir = new File(baseDir, "node_modules/typescript");
-		TypeScriptRepositoryManager.validateTypeScriptDir(typesScriptDir);
+	private static File getTypesScriptDir(File baseDir) {
+		return new File(baseDir, "node_modules/typescript");
+	}
+
+	private synchronized void resolve() {
+		if (resolved) {
+			return;
+		}
+		File baseDir = getBaseDir();
+		this.typesScriptDir = getTypesScriptDir(baseDir);
 		// tsc file
 		this.tscFile = TypeScriptRepositoryManager.getTscFile(typesScriptDir);
-		this.typesScriptVersion = TypeScriptRepositoryManager.getPackageJsonVersion(typesScriptDir);
-		this.setName(generateName("TypeScript", typesScriptVersion));
 		// tslint file
 		File tslintBaseDir = new File(baseDir, "node_modules/tslint");
 		if (tslintBaseDir.exists()) {
@@ -57,6 +112,9 @@ public class TypeScriptRepository implements ITypeScriptRepository {
 		}
 		// tsserver-plugins
 		this.tsserverPluginsFile = new File(baseDir, "tsserver-plugins/bin/tsserver-plugins");
+		// the base directory can fail to be resolved (ex : zip extraction),
+		// try again on next use.
+		resolved = true;
 	}
 
 	private String generateName(String prefix, String version) {
@@ -84,17 +142,22 @@ public class TypeScriptRepository implements ITypeScriptRepository {
 	}
 
 	@Override
-	public File getBaseDir() {
+	public synchronized File getBaseDir() {
+		if (baseDir == null && baseDirSupplier != null) {
+			baseDir = baseDirSupplier.get();
+		}
 		return baseDir;
 	}
 
 	@Override
-	public void setBaseDir(File baseDir) {
+	public synchronized void setBaseDir(File baseDir) {
 		this.baseDir = baseDir;
+		this.resolved = false;
 	}
 
 	@Override
 	public File getTypesScriptDir() {
+		resolve();
 		return typesScriptDir;
 	}
 
@@ -105,31 +168,37 @@ public class TypeScriptRepository implements ITypeScriptRepository {
 
 	@Override
 	public File getTscFile() {
+		resolve();
 		return tscFile;
 	}
 
 	@Override
 	public String getTslintVersion() {
+		resolve();
 		return tslintVersion;
 	}
 
 	@Override
 	public File getTslintFile() {
+		resolve();
 		return tslintFile;
 	}
 
 	@Override
 	public String getTslintName() {
+		resolve();
 		return tslintName;
 	}
 
 	@Override
 	public File getTsserverPluginsFile() {
+		resolve();
 		return tsserverPluginsFile;
 	}
 	
 	@Override
 	public String getTslintLanguageServiceName() {
+		resolve();
 		return tslintLanguageServiceName;
 	}
 
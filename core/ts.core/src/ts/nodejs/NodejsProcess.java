@@ -20,6 +20,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import ts.TypeScriptException;
 import ts.utils.FileUtils;
@@ -38,14 +41,25 @@ public class NodejsProcess extends AbstractNodejsProcess {
 	private Process process;
 
 	/**
-	 * StdOut thread.
+	 * StdOut pump.
 	 */
-	private Thread outThread;
+	private Future<?> outTask;
 
 	/**
-	 * StdErr thread.
+	 * StdErr pump.
 	 */
-	private Thread errThread;
+	private Future<?> errTask;
+
+	/**
+	 * Released when the StdOut pump is finished.
+	 */
+	private CountDownLatch outDone;
+
+	/**
+	 * Claimed by the StdOut pump when it starts, or by {@link #kill()} when it
+	 * cancels the pump before it starts.
+	 */
+	private AtomicBoolean outClaimed;
 
 	private PrintStream out;
 
@@ -84,8 +98,20 @@ public class NodejsProcess extends AbstractNodejsProcess {
 	 */
 	private class StdOut implements Runnable {
 
+		private final CountDownLatch done;
+		private final AtomicBoolean claimed;
+
+		StdOut(CountDownLatch done, AtomicBoolean claimed) {
+			this.done = done;
+			this.claimed = claimed;
+		}
+
 		@Override
 		public void run() {
+			if (!claimed.compareAndSet(false, true)) {
+				// killed before the pump started, done is already released.
+				return;
+			}
 			try {
 				try {
 					notifyStartProcess(0);
@@ -104,6 +130,8 @@ public class NodejsProcess extends AbstractNodejsProcess {
 				kill();
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
+			} finally {
+				done.countDown();
 			}
 		}
 	}
@@ -149,18 +177,14 @@ public class NodejsProcess extends AbstractNodejsProcess {
 
 			this.process = builder.start();
 			this.out = new PrintStream(process.getOutputStream(), false, StandardCharsets.UTF_8.name());
-
-			errThread = new Thread(new StdErr());
-			errThread.setDaemon(true);
-			errThread.start();
-
-			outThread = new Thread(new StdOut());
-			outThread.setDaemon(true);
-			outThread.start();
-
-			// add a shutdown hook to destroy the node process in case its not
+			// the supervisor destroys the node process in case its not
 			// properly disposed
-			Runtime.getRuntime().addShutdownHook(new ShutdownHookThread());
+			NodejsProcessSupervisor.processStarted(this);
+
+			this.outDone = new CountDownLatch(1);
+			this.outClaimed = new AtomicBoolean();
+			errTask = NodejsProcessSupervisor.getIOExecutor().submit(new StdErr());
+			outTask = NodejsProcessSupervisor.getIOExecutor().submit(new StdOut(outDone, outClaimed));
 
 		} catch (Throwable e) {
 			e.printStackTrace();
@@ -172,16 +196,6 @@ public class NodejsProcess extends AbstractNodejsProcess {
 		return process != null;
 	}
 
-	private class ShutdownHookThread extends Thread {
-		@Override
-		public void run() {
-			Process process = NodejsProcess.this.process;
-			if (process != null) {
-				kill();
-			}
-		}
-	}
-
 	/**
 	 * Create process commands to start tern with node.js
 	 * 
@@ -234,26 +248,32 @@ public class NodejsProcess extends AbstractNodejsProcess {
 		if (process != null) {
 			process.destroy();
 			process = null;
+			NodejsProcessSupervisor.processStopped(this);
 			notifyStopProcess();
 		}
-		if (outThread != null) {
-			outThread.interrupt();
-			outThread = null;
+		if (outTask != null) {
+			outTask.cancel(true);
+			outTask = null;
+			if (outClaimed.compareAndSet(false, true)) {
+				// the pump will never run, release join().
+				outDone.countDown();
+			}
 		}
-		if (errThread != null) {
-			errThread.interrupt();
-			errThread = null;
+		if (errTask != null) {
+			errTask.cancel(true);
+			errTask = null;
 		}
 	}
 
 	/**
-	 * Join to the stdout thread;
+	 * Join to the stdout pump;
 	 * 
 	 * @throws InterruptedException
 	 */
 	public void join() throws InterruptedException {
-		if (outThread != null) {
-			outThread.join();
+		CountDownLatch outDone = this.outDone;
+		if (outDone != null) {
+			outDone.await();
 		}
 	}
 
@@ -13,13 +13,46 @@ package ts.nodejs;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import ts.TypeScriptException;
+import ts.client.metrics.LatencyHistogram;
+import ts.utils.FileUtils;
 
 /**
  * {@link NodejsProcess} manager.
  * 
+ * <p>
+ * Processes created with {@link #acquire(File, File, File, INodejsLaunchConfiguration, String)}
+ * can be given back with {@link #release(INodejsProcess)}: the manager keeps
+ * a small pool of idle started processes, keyed by the project dir, the
+ * tsserver file, the node.js file and the launch arguments, so that a client
+ * created with the same configuration (ex : project closed and reopened)
+ * reuses a warm process. {@link #prewarm(File, File, File, INodejsLaunchConfiguration, String)}
+ * starts a process in background and adds it to the pool; a client acquired
+ * while this process is starting waits for it instead of creating a second
+ * process. Idle processes are killed after {@link #IDLE_TIMEOUT_MILLIS}.
+ * </p>
+ * 
+ * <p>
+ * The lifetime of the started processes is tracked: count of running
+ * processes, uptimes and restarts of the processes created with the same
+ * configuration. A single JVM shutdown hook kills the processes which are not
+ * disposed and their streams are pumped by a shared executor.
+ * </p>
+ * 
  */
 public class NodejsProcessManager {
 
@@ -34,11 +67,60 @@ public class NodejsProcessManager {
 		return INSTANCE;
 	}
 
+	/**
+	 * Max number of idle processes kept in the pool.
+	 */
+	public static final int MAX_IDLE_PROCESSES = 2;
+
+	/**
+	 * Time after which an idle process is killed, in milliseconds.
+	 */
+	public static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private static final ScheduledExecutorService POOL_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "tsserver-process-pool"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private static class IdleProcess {
+
+		final INodejsProcess process;
+		final String key;
+
+		IdleProcess(INodejsProcess process, String key) {
+			this.process = process;
+			this.key = key;
+		}
+	}
+
 	/**
 	 * List of node.js tern processes created.
 	 */
 	private final List<INodejsProcess> processes;
 
+	/**
+	 * Pool keys of the processes created with acquire or prewarm.
+	 */
+	private final Map<INodejsProcess, String> processKeys;
+
+	/**
+	 * Idle processes, the oldest first.
+	 */
+	private final LinkedList<IdleProcess> idleProcesses;
+
+	/**
+	 * Pool keys of the processes already created with acquire or prewarm.
+	 */
+	private final Set<String> createdKeys;
+
+	/**
+	 * Processes started in background by prewarm, by pool key.
+	 */
+	private final Map<String, CompletableFuture<INodejsProcess>> startingProcesses;
+
+	private final AtomicLong restartCount;
+
 	/**
 	 * Listener added for each process created.
 	 */
@@ -59,12 +141,21 @@ public class NodejsProcessManager {
 				// processes.
 				NodejsProcessManager.this.processes.remove(server);
 			}
+			synchronized (NodejsProcessManager.this.idleProcesses) {
+				processKeys.remove(server);
+				removeIdleProcess(server);
+			}
 		}
 
 	};
 
 	public NodejsProcessManager() {
 		this.processes = new ArrayList<INodejsProcess>();
+		this.processKeys = new IdentityHashMap<INodejsProcess, String>();
+		this.idleProcesses = new LinkedList<IdleProcess>();
+		this.createdKeys = new HashSet<String>();
+		this.startingProcesses = new HashMap<String, CompletableFuture<INodejsProcess>>();
+		this.restartCount = new AtomicLong();
 	}
 
 	/**
@@ -82,15 +173,259 @@ public class NodejsProcessManager {
 	 */
 	public INodejsProcess create(File projectDir, File tsFile, File nodejsFile,
 			INodejsLaunchConfiguration configuration, String fileType) throws TypeScriptException {
-		INodejsProcess process = new NodejsProcess(projectDir, tsFile, nodejsFile, configuration, fileType);
+		INodejsProcess process = createProcess(projectDir, tsFile, nodejsFile, configuration, fileType);
 		process.addProcessListener(listener);
 		return process;
 	}
 
+	protected INodejsProcess createProcess(File projectDir, File tsFile, File nodejsFile,
+			INodejsLaunchConfiguration configuration, String fileType) throws TypeScriptException {
+		return new NodejsProcess(projectDir, tsFile, nodejsFile, configuration, fileType);
+	}
+
+	/**
+	 * Returns an idle started process of the pool created with the same
+	 * configuration, or create a new process. If a process with the same
+	 * configuration is starting in background, this method waits for it.
+	 * 
+	 * @param projectDir
+	 *            project base dir where tsconfig.json is hosted.
+	 * @param tsFile
+	 *            the tsserver file.
+	 * @param nodejsFile
+	 *            the nodejs exe file
+	 * @return an idle process of the pool or a new process.
+	 * @throws TypeScriptException
+	 */
+	public INodejsProcess acquire(File projectDir, File tsFile, File nodejsFile,
+			INodejsLaunchConfiguration configuration, String fileType) throws TypeScriptException {
+		String key = getKey(projectDir, tsFile, nodejsFile, configuration);
+		CompletableFuture<INodejsProcess> starting;
+		synchronized (idleProcesses) {
+			for (Iterator<IdleProcess> it = idleProcesses.iterator(); it.hasNext();) {
+				IdleProcess idle = it.next();
+				if (idle.key.equals(key) && idle.process.isStarted()) {
+					it.remove();
+					return idle.process;
+				}
+			}
+			// claim the process started by prewarm, so that it is not added
+			// to the pool.
+			starting = startingProcesses.remove(key);
+		}
+		if (starting != null) {
+			// null if the prewarm has failed.
+			INodejsProcess started = starting.handle((p, e) -> p).join();
+			if (started != null && started.isStarted()) {
+				return started;
+			}
+		}
+		INodejsProcess process = create(projectDir, tsFile, nodejsFile, configuration, fileType);
+		synchronized (idleProcesses) {
+			processKeys.put(process, key);
+			if (!createdKeys.add(key)) {
+				// the previous process with this configuration has stopped
+				// (crash, project reopened after the idle timeout, etc).
+				restartCount.incrementAndGet();
+			}
+		}
+		return process;
+	}
+
+	/**
+	 * Start in background a process with the given configuration and add it to
+	 * the pool, if the pool doesn't contain already such process.
+	 * 
+	 * @param projectDir
+	 *            project base dir where tsconfig.json is hosted.
+	 * @param tsFile
+	 *            the tsserver file.
+	 * @param nodejsFile
+	 *            the nodejs exe file
+	 * @throws TypeScriptException
+	 */
+	public void prewarm(File projectDir, File tsFile, File nodejsFile, INodejsLaunchConfiguration configuration,
+			String fileType) throws TypeScriptException {
+		String key = getKey(projectDir, tsFile, nodejsFile, configuration);
+		CompletableFuture<INodejsProcess> starting = new CompletableFuture<INodejsProcess>();
+		synchronized (idleProcesses) {
+			if (startingProcesses.containsKey(key)) {
+				return;
+			}
+			for (IdleProcess idle : idleProcesses) {
+				if (idle.key.equals(key)) {
+					return;
+				}
+			}
+			startingProcesses.put(key, starting);
+		}
+		INodejsProcess process;
+		try {
+			process = create(projectDir, tsFile, nodejsFile, configuration, fileType);
+		} catch (TypeScriptException e) {
+			synchronized (idleProcesses) {
+				startingProcesses.remove(key, starting);
+			}
+			starting.completeExceptionally(e);
+			throw e;
+		}
+		synchronized (idleProcesses) {
+			processKeys.put(process, key);
+			if (!createdKeys.add(key)) {
+				restartCount.incrementAndGet();
+			}
+		}
+		POOL_EXECUTOR.execute(() -> {
+			try {
+				process.start();
+			} finally {
+				boolean claimed;
+				boolean pooled = false;
+				synchronized (idleProcesses) {
+					// acquire has removed the future if a client waits for
+					// the process.
+					claimed = !startingProcesses.remove(key, starting);
+					if (!claimed) {
+						pooled = release(process);
+					}
+				}
+				if (!claimed && !pooled) {
+					process.kill();
+				}
+				starting.complete(process);
+			}
+		});
+	}
+
+	/**
+	 * Give back the given process to the pool. The listeners added by the
+	 * caller to the process must be removed.
+	 * 
+	 * @param process
+	 *            the process which is not used anymore.
+	 * @return true if the process is kept in the pool and false if the process
+	 *         is not managed by the pool or is not started. In this case the
+	 *         caller must kill the process.
+	 */
+	public boolean release(INodejsProcess process) {
+		IdleProcess evicted = null;
+		IdleProcess idle;
+		synchronized (idleProcesses) {
+			String key = processKeys.get(process);
+			if (key == null || !process.isStarted()) {
+				processKeys.remove(process);
+				return false;
+			}
+			idle = new IdleProcess(process, key);
+			idleProcesses.add(idle);
+			if (idleProcesses.size() > MAX_IDLE_PROCESSES) {
+				evicted = idleProcesses.poll();
+			}
+		}
+		if (evicted != null) {
+			evicted.process.kill();
+		}
+		POOL_EXECUTOR.schedule(() -> {
+			boolean expired;
+			synchronized (idleProcesses) {
+				expired = idleProcesses.remove(idle);
+			}
+			if (expired) {
+				idle.process.kill();
+			}
+		}, IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		return true;
+	}
+
+	/**
+	 * Returns the number of idle processes of the pool.
+	 * 
+	 * @return the number of idle processes of the pool.
+	 */
+	public int getIdleProcessCount() {
+		synchronized (idleProcesses) {
+			return idleProcesses.size();
+		}
+	}
+
+	/**
+	 * Returns the number of running node.js processes.
+	 * 
+	 * @return the number of running node.js processes.
+	 */
+	public int getProcessCount() {
+		return NodejsProcessSupervisor.getProcessCount();
+	}
+
+	/**
+	 * Returns the number of node.js processes started since the JVM start.
+	 * 
+	 * @return the number of node.js processes started since the JVM start.
+	 */
+	public long getStartedProcessCount() {
+		return NodejsProcessSupervisor.getStartedProcessCount();
+	}
+
+	/**
+	 * Returns the number of processes created with the configuration of a
+	 * process created before by acquire or prewarm.
+	 * 
+	 * @return the number of restarted processes.
+	 */
+	public long getRestartCount() {
+		return restartCount.get();
+	}
+
+	/**
+	 * Returns the uptime of the given process in nano time.
+	 * 
+	 * @param process
+	 *            the process.
+	 * @return the uptime of the given process in nano time or -1 if the
+	 *         process is not running.
+	 */
+	public long getUptime(INodejsProcess process) {
+		return NodejsProcessSupervisor.getUptime(process);
+	}
+
+	/**
+	 * Returns a snapshot of the uptimes of the stopped processes in nano time.
+	 * 
+	 * @return a snapshot of the uptimes of the stopped processes.
+	 */
+	public LatencyHistogram getUptimes() {
+		return NodejsProcessSupervisor.getUptimes();
+	}
+
+	private void removeIdleProcess(INodejsProcess process) {
+		for (Iterator<IdleProcess> it = idleProcesses.iterator(); it.hasNext();) {
+			if (it.next().process == process) {
+				it.remove();
+			}
+		}
+	}
+
+	private static String getKey(File projectDir, File tsFile, File nodejsFile,
+			INodejsLaunchConfiguration configuration) {
+		StringBuilder key = new StringBuilder(FileUtils.getPath(projectDir)).append('|')
+				.append(FileUtils.getPath(tsFile)).append('|')
+				.append(nodejsFile != null ? FileUtils.getPath(nodejsFile) : "").append('|');
+		if (configuration != null) {
+			key.append(configuration.createNodeArgs()).append('|')
+					.append(configuration.createNodeEnvironmentVariables());
+		}
+		return key.toString();
+	}
+
 	/**
 	 * Kill all node.js processes created by the manager.
 	 */
 	public void dispose() {
+		synchronized (idleProcesses) {
+			idleProcesses.clear();
+			processKeys.clear();
+			startingProcesses.clear();
+		}
 		synchronized (processes) {
 			for (INodejsProcess server : processes) {
 				try {
@@ -0,0 +1,113 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.nodejs;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ts.client.metrics.LatencyHistogram;
+
+/**
+ * Supervisor of the started {@link NodejsProcess}.
+ *
+ * <p>
+ * The stdout/stderr of all processes are pumped by a shared executor (virtual
+ * threads when the JVM supports them, a cached pool of daemon threads
+ * otherwise) and a single JVM shutdown hook kills the processes which are not
+ * disposed.
+ * </p>
+ *
+ */
+final class NodejsProcessSupervisor {
+
+	private static final ExecutorService IO_EXECUTOR = createIOExecutor();
+
+	// started process -> start nano time
+	private static final Map<NodejsProcess, Long> LIVE_PROCESSES = new ConcurrentHashMap<>();
+
+	private static final AtomicLong STARTED_PROCESS_COUNT = new AtomicLong();
+
+	private static final LatencyHistogram UPTIMES = new LatencyHistogram();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(NodejsProcessSupervisor::killAll, "nodejs-shutdown")); //$NON-NLS-1$
+	}
+
+	private NodejsProcessSupervisor() {
+	}
+
+	private static ExecutorService createIOExecutor() {
+		try {
+			// Java 21+
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); //$NON-NLS-1$
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			AtomicInteger count = new AtomicInteger();
+			return Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, "nodejs-io-" + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Returns the executor which pumps the streams of the node.js processes.
+	 *
+	 * @return the executor which pumps the streams of the node.js processes.
+	 */
+	static ExecutorService getIOExecutor() {
+		return IO_EXECUTOR;
+	}
+
+	static void processStarted(NodejsProcess process) {
+		LIVE_PROCESSES.put(process, System.nanoTime());
+		STARTED_PROCESS_COUNT.incrementAndGet();
+	}
+
+	static void processStopped(NodejsProcess process) {
+		Long startTime = LIVE_PROCESSES.remove(process);
+		if (startTime != null) {
+			UPTIMES.record(System.nanoTime() - startTime);
+		}
+	}
+
+	static int getProcessCount() {
+		return LIVE_PROCESSES.size();
+	}
+
+	static long getStartedProcessCount() {
+		return STARTED_PROCESS_COUNT.get();
+	}
+
+	static long getUptime(INodejsProcess process) {
+		Long startTime = LIVE_PROCESSES.get(process);
+		return startTime != null ? System.nanoTime() - startTime : -1;
+	}
+
+	static LatencyHistogram getUptimes() {
+		return UPTIMES.snapshot();
+	}
+
+	private static void killAll() {
+		for (NodejsProcess process : new ArrayList<>(LIVE_PROCESSES.keySet())) {
+			try {
+				process.kill();
+			} catch (Throwable e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.nodejs;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonWriter;
+
+import ts.TypeScriptException;
+import ts.utils.IOUtils;
+
+/**
+ * {@link INodejsProcess} decorator which records the requests sent to
+ * tsserver and the messages (responses, events) and errors received from
+ * tsserver with their times in a session file which can be replayed with
+ * {@link ReplayNodejsProcess}.
+ *
+ * <p>
+ * The session file contains one JSON object per line:
+ * <code>{"time":nanos,"kind":"request|message|error","data":"..."}</code>
+ * where time is relative to the creation of the recording.
+ * </p>
+ *
+ */
+public class RecordingNodejsProcess implements INodejsProcess {
+
+	static final String TIME_FIELD = "time"; //$NON-NLS-1$
+	static final String KIND_FIELD = "kind"; //$NON-NLS-1$
+	static final String DATA_FIELD = "data"; //$NON-NLS-1$
+
+	static final String REQUEST_KIND = "request"; //$NON-NLS-1$
+	static final String MESSAGE_KIND = "message"; //$NON-NLS-1$
+	static final String ERROR_KIND = "error"; //$NON-NLS-1$
+
+	private final INodejsProcess delegate;
+	private final List<INodejsProcessListener> listeners;
+	private final long startTime;
+	private Writer writer;
+
+	private final INodejsProcessListener recorder = new INodejsProcessListener() {
+
+		@Override
+		public void onCreate(INodejsProcess process, List<String> commands, File projectDir) {
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					listener.onCreate(RecordingNodejsProcess.this, commands, projectDir);
+				}
+			}
+		}
+
+		@Override
+		public void onStart(INodejsProcess process) {
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					listener.onStart(RecordingNodejsProcess.this);
+				}
+			}
+		}
+
+		@Override
+		public void onMessage(INodejsProcess process, String response) {
+			record(MESSAGE_KIND, response);
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					listener.onMessage(RecordingNodejsProcess.this, response);
+				}
+			}
+		}
+
+		@Override
+		public void onStop(INodejsProcess process) {
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					listener.onStop(RecordingNodejsProcess.this);
+				}
+			}
+			close();
+		}
+
+		@Override
+		public void onError(INodejsProcess process, String line) {
+			record(ERROR_KIND, line);
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					listener.onError(RecordingNodejsProcess.this, line);
+				}
+			}
+		}
+	};
+
+	/**
+	 * Record the given node.js process in the given session file.
+	 *
+	 * @param delegate
+	 *            the node.js process to record.
+	 * @param sessionFile
+	 *            the session file.
+	 * @throws TypeScriptException
+	 */
+	public RecordingNodejsProcess(INodejsProcess delegate, File sessionFile) throws TypeScriptException {
+		this.delegate = delegate;
+		this.listeners = new ArrayList<INodejsProcessListener>();
+		this.startTime = System.nanoTime();
+		try {
+			this.writer = new BufferedWriter(
+					new OutputStreamWriter(new FileOutputStream(sessionFile), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new TypeScriptException(e);
+		}
+		delegate.addProcessListener(recorder);
+	}
+
+	@Override
+	public void join() throws InterruptedException {
+		delegate.join();
+	}
+
+	@Override
+	public void addProcessListener(INodejsProcessListener listener) {
+		synchronized (listeners) {
+			listeners.add(listener);
+		}
+	}
+
+	@Override
+	public void removeProcessListener(INodejsProcessListener listener) {
+		synchronized (listeners) {
+			listeners.remove(listener);
+		}
+	}
+
+	@Override
+	public void start() {
+		delegate.start();
+	}
+
+	@Override
+	public boolean isStarted() {
+		return delegate.isStarted();
+	}
+
+	@Override
+	public void kill() {
+		delegate.kill();
+		close();
+	}
+
+	@Override
+	public void sendRequest(String request) throws TypeScriptException {
+		record(REQUEST_KIND, request);
+		delegate.sendRequest(request);
+	}
+
+	/**
+	 * Flush and close the session file. Requests and messages are not recorded
+	 * anymore.
+	 */
+	public synchronized void close() {
+		if (writer != null) {
+			IOUtils.closeQuietly(writer);
+			writer = null;
+		}
+	}
+
+	private synchronized void record(String kind, String data) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			JsonWriter json = new JsonWriter(writer);
+			json.beginObject();
+			json.name(TIME_FIELD).value(System.nanoTime() - startTime);
+			json.name(KIND_FIELD).value(kind);
+			json.name(DATA_FIELD).value(data);
+			json.endObject();
+			json.flush();
+			writer.write('\n');
+		} catch (IOException e) {
+			// the session file cannot be written, stop the recording.
+			IOUtils.closeQuietly(writer);
+			writer = null;
+		}
+	}
+}
@@ -0,0 +1,366 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.nodejs;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+import ts.TypeScriptException;
+import ts.internal.client.protocol.GsonHelper;
+import ts.utils.IOUtils;
+
+/**
+ * Deterministic {@link INodejsProcess} stand-in which replays a tsserver
+ * session recorded with {@link RecordingNodejsProcess} without node.js.
+ *
+ * <p>
+ * The n-th request of a command is answered with the messages (response,
+ * events, errors) received for the n-th recorded request of this command. When
+ * all recorded requests of a command are consumed, they are replayed from the
+ * beginning, so the same recorded request can be used in a benchmark loop. The
+ * "request_seq" of recorded responses is replaced with the seq of the replayed
+ * request.
+ * </p>
+ *
+ * <p>
+ * By default messages are sent as fast as possible. A latency factor replays
+ * them with the recorded times (1.0) or faster/slower, and a fixed latency can
+ * be added to each message.
+ * </p>
+ *
+ */
+public class ReplayNodejsProcess implements INodejsProcess {
+
+	private static final Pattern REQUEST_SEQ_PATTERN = Pattern.compile("\"request_seq\"\\s*:\\s*(\\d+)"); //$NON-NLS-1$
+
+	/**
+	 * A message received by tsserver for a recorded request.
+	 */
+	private static class RecordedMessage {
+
+		final long delay;
+		final boolean error;
+		final String data;
+		// index of the request_seq value in data, -1 if it's not a response
+		final int seqStart;
+		final int seqEnd;
+
+		RecordedMessage(long delay, boolean error, String data) {
+			this.delay = delay;
+			this.error = error;
+			this.data = data;
+			Matcher matcher = error ? null : REQUEST_SEQ_PATTERN.matcher(data);
+			if (matcher != null && matcher.find()) {
+				this.seqStart = matcher.start(1);
+				this.seqEnd = matcher.end(1);
+			} else {
+				this.seqStart = -1;
+				this.seqEnd = -1;
+			}
+		}
+
+		String getData(int seq) {
+			if (seqStart == -1) {
+				return data;
+			}
+			return new StringBuilder(data.length() + 8).append(data, 0, seqStart).append(seq)
+					.append(data, seqEnd, data.length()).toString();
+		}
+	}
+
+	private static class RecordedRequest {
+
+		final long time;
+		final List<RecordedMessage> messages;
+
+		RecordedRequest(long time) {
+			this.time = time;
+			this.messages = new ArrayList<RecordedMessage>();
+		}
+	}
+
+	private final List<RecordedMessage> initialMessages;
+	private final Map<String, List<RecordedRequest>> requestsByCommand;
+	private final Map<String, Integer> replayCounts;
+	private final List<INodejsProcessListener> listeners;
+
+	private double latencyFactor;
+	private long fixedLatency;
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Load the given session file.
+	 *
+	 * @param sessionFile
+	 *            a session file recorded with {@link RecordingNodejsProcess}.
+	 * @throws TypeScriptException
+	 */
+	public ReplayNodejsProcess(File sessionFile) throws TypeScriptException {
+		this();
+		Reader reader = null;
+		try {
+			reader = new InputStreamReader(new FileInputStream(sessionFile), StandardCharsets.UTF_8);
+			load(reader);
+		} catch (IOException e) {
+			throw new TypeScriptException(e);
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+	}
+
+	/**
+	 * Load the given session.
+	 *
+	 * @param session
+	 *            a session recorded with {@link RecordingNodejsProcess}.
+	 * @throws TypeScriptException
+	 */
+	public ReplayNodejsProcess(Reader session) throws TypeScriptException {
+		this();
+		try {
+			load(session);
+		} catch (IOException e) {
+			throw new TypeScriptException(e);
+		}
+	}
+
+	private ReplayNodejsProcess() {
+		this.initialMessages = new ArrayList<RecordedMessage>();
+		this.requestsByCommand = new HashMap<String, List<RecordedRequest>>();
+		this.replayCounts = new HashMap<String, Integer>();
+		this.listeners = new ArrayList<INodejsProcessListener>();
+	}
+
+	private void load(Reader session) throws IOException {
+		BufferedReader reader = IOUtils.toBufferedReader(session);
+		Map<Integer, RecordedRequest> requestsBySeq = new HashMap<Integer, RecordedRequest>();
+		RecordedRequest lastRequest = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isEmpty()) {
+				continue;
+			}
+			JsonReader json = new JsonReader(new StringReader(line));
+			long time = 0;
+			String kind = null;
+			String data = null;
+			json.beginObject();
+			while (json.hasNext()) {
+				String name = json.nextName();
+				if (RecordingNodejsProcess.TIME_FIELD.equals(name)) {
+					time = json.nextLong();
+				} else if (RecordingNodejsProcess.KIND_FIELD.equals(name)) {
+					kind = json.nextString();
+				} else if (RecordingNodejsProcess.DATA_FIELD.equals(name)) {
+					data = json.nextString();
+				} else {
+					json.skipValue();
+				}
+			}
+			json.endObject();
+			if (kind == null || data == null) {
+				continue;
+			}
+			if (RecordingNodejsProcess.REQUEST_KIND.equals(kind)) {
+				JsonObject request = GsonHelper.parse(data).getAsJsonObject();
+				RecordedRequest recordedRequest = new RecordedRequest(time);
+				requestsBySeq.put(request.get("seq").getAsInt(), recordedRequest); //$NON-NLS-1$
+				getRecordedRequests(request.get("command").getAsString()).add(recordedRequest); //$NON-NLS-1$
+				lastRequest = recordedRequest;
+			} else {
+				boolean error = RecordingNodejsProcess.ERROR_KIND.equals(kind);
+				// a response belongs to its request, an event or an error to
+				// the last sent request.
+				RecordedRequest request = lastRequest;
+				Matcher matcher = error ? null : REQUEST_SEQ_PATTERN.matcher(data);
+				if (matcher != null && matcher.find()) {
+					RecordedRequest seqRequest = requestsBySeq.get(Integer.parseInt(matcher.group(1)));
+					if (seqRequest != null) {
+						request = seqRequest;
+					}
+				}
+				if (request == null) {
+					initialMessages.add(new RecordedMessage(time, error, data));
+				} else {
+					request.messages.add(new RecordedMessage(time - request.time, error, data));
+				}
+			}
+		}
+	}
+
+	private List<RecordedRequest> getRecordedRequests(String command) {
+		List<RecordedRequest> requests = requestsByCommand.get(command);
+		if (requests == null) {
+			requests = new ArrayList<RecordedRequest>();
+			requestsByCommand.put(command, requests);
+		}
+		return requests;
+	}
+
+	/**
+	 * Set the factor applied to the recorded times: 0 (default) to send the
+	 * messages as fast as possible, 1 to send them with the recorded times.
+	 *
+	 * @param latencyFactor
+	 *            the factor applied to the recorded times.
+	 */
+	public void setLatencyFactor(double latencyFactor) {
+		this.latencyFactor = latencyFactor;
+	}
+
+	/**
+	 * Set a fixed latency added to each message.
+	 *
+	 * @param fixedLatency
+	 *            the latency.
+	 * @param unit
+	 *            the latency unit.
+	 */
+	public void setFixedLatency(long fixedLatency, TimeUnit unit) {
+		this.fixedLatency = unit.toNanos(fixedLatency);
+	}
+
+	@Override
+	public void join() throws InterruptedException {
+		ScheduledExecutorService executor;
+		synchronized (this) {
+			executor = this.executor;
+		}
+		if (executor != null) {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void addProcessListener(INodejsProcessListener listener) {
+		synchronized (listeners) {
+			listeners.add(listener);
+		}
+	}
+
+	@Override
+	public void removeProcessListener(INodejsProcessListener listener) {
+		synchronized (listeners) {
+			listeners.remove(listener);
+		}
+	}
+
+	@Override
+	public void start() {
+		synchronized (this) {
+			if (executor != null) {
+				return;
+			}
+			executor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "tsserver-replay"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		synchronized (listeners) {
+			for (INodejsProcessListener listener : listeners) {
+				listener.onStart(this);
+			}
+		}
+		for (RecordedMessage message : initialMessages) {
+			send(message, -1);
+		}
+	}
+
+	@Override
+	public synchronized boolean isStarted() {
+		return executor != null;
+	}
+
+	@Override
+	public void kill() {
+		synchronized (this) {
+			if (executor == null) {
+				return;
+			}
+			executor.shutdownNow();
+			executor = null;
+		}
+		synchronized (listeners) {
+			for (INodejsProcessListener listener : listeners) {
+				listener.onStop(this);
+			}
+		}
+	}
+
+	@Override
+	public void sendRequest(String request) throws TypeScriptException {
+		JsonElement json = GsonHelper.parse(request);
+		String command = json.getAsJsonObject().get("command").getAsString(); //$NON-NLS-1$
+		int seq = json.getAsJsonObject().get("seq").getAsInt(); //$NON-NLS-1$
+		RecordedRequest recordedRequest = nextRecordedRequest(command);
+		if (recordedRequest == null) {
+			// this command was not recorded, tsserver doesn't answer.
+			return;
+		}
+		for (RecordedMessage message : recordedRequest.messages) {
+			send(message, seq);
+		}
+	}
+
+	private synchronized RecordedRequest nextRecordedRequest(String command) {
+		List<RecordedRequest> requests = requestsByCommand.get(command);
+		if (requests == null || requests.isEmpty()) {
+			return null;
+		}
+		Integer count = replayCounts.get(command);
+		int index = count != null ? count : 0;
+		replayCounts.put(command, index + 1);
+		return requests.get(index % requests.size());
+	}
+
+	private void send(final RecordedMessage message, final int seq) {
+		ScheduledExecutorService executor;
+		synchronized (this) {
+			executor = this.executor;
+		}
+		if (executor == null) {
+			return;
+		}
+		long delay = (long) (message.delay * latencyFactor) + fixedLatency;
+		executor.schedule(() -> {
+			String data = seq != -1 ? message.getData(seq) : message.data;
+			synchronized (listeners) {
+				for (INodejsProcessListener listener : listeners) {
+					if (message.error) {
+						listener.onError(ReplayNodejsProcess.this, data);
+					} else {
+						listener.onMessage(ReplayNodejsProcess.this, data);
+					}
+				}
+			}
+		}, delay, TimeUnit.NANOSECONDS);
+	}
+}
@@ -11,11 +11,17 @@
 package ts.npm;
 
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
 import ts.OS;
 import ts.utils.IOUtils;
 
@@ -34,26 +40,92 @@ public class NpmHelper {
 	 * @throws IOException
 	 */
 	public static List<String> getVersions(String moduleName, OS os) throws IOException {
-		List<String> versions = new ArrayList<>();
-		BufferedReader reader = null;
+		Reader reader = null;
 		try {
 			String[] command = { os == OS.Windows ? "npm.cmd" : "npm", "view", "--json", moduleName, "versions" };
 			Process p = Runtime.getRuntime().exec(command);
-			reader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-			String line;
-			while ((line = reader.readLine()) != null) {
-				line = line.trim();
-				if (line.startsWith("\"")) {
-					String version = line.substring(1, line.lastIndexOf('"'));
-					versions.add(0, version);
-				}
-			}
+			reader = new BufferedReader(new InputStreamReader(p.getInputStream(), NpmConstants.UTF_8));
+			return parseVersions(reader);
 		} finally {
 			IOUtils.closeQuietly(reader);
 		}
+	}
+
+	/**
+	 * Returns the versions parsed from the given reader with a streaming JSON
+	 * parser. The reader content can be:
+	 * 
+	 * <ul>
+	 * <li>the output of "npm view --json $moduleName versions" (a JSON array of
+	 * versions or a single version string).</li>
+	 * <li>a npm registry document (a JSON object with a "versions" member which
+	 * is an array of versions or an object whose keys are versions).</li>
+	 * </ul>
+	 * 
+	 * @param reader
+	 * @return the versions sorted from the newest to the oldest.
+	 * @throws IOException
+	 */
+	public static List<String> parseVersions(Reader reader) throws IOException {
+		List<String> versions = new ArrayList<>();
+		JsonReader json = new JsonReader(reader);
+		json.setLenient(true);
+		JsonToken token = null;
+		try {
+			token = json.peek();
+		} catch (EOFException e) {
+			// empty output
+			return versions;
+		}
+		switch (token) {
+		case BEGIN_ARRAY:
+			readVersionsArray(json, versions);
+			break;
+		case STRING:
+			versions.add(json.nextString());
+			break;
+		case BEGIN_OBJECT:
+			json.beginObject();
+			while (json.hasNext()) {
+				if ("versions".equals(json.nextName())) {
+					if (json.peek() == JsonToken.BEGIN_OBJECT) {
+						json.beginObject();
+						while (json.hasNext()) {
+							versions.add(json.nextName());
+							json.skipValue();
+						}
+						json.endObject();
+					} else if (json.peek() == JsonToken.BEGIN_ARRAY) {
+						readVersionsArray(json, versions);
+					} else {
+						json.skipValue();
+					}
+				} else {
+					json.skipValue();
+				}
+			}
+			json.endObject();
+			break;
+		default:
+			// empty output or error
+		}
+		// npm returns versions from the oldest to the newest.
+		Collections.reverse(versions);
 		return versions;
 	}
 
+	private static void readVersionsArray(JsonReader json, List<String> versions) throws IOException {
+		json.beginArray();
+		while (json.hasNext()) {
+			if (json.peek() == JsonToken.STRING) {
+				versions.add(json.nextString());
+			} else {
+				json.skipValue();
+			}
+		}
+		json.endArray();
+	}
+
 	/**
 	 * Returns the "npm install" command for the given module name and version.
 	 * 
@@ -25,16 +25,23 @@ public class NpmModule {
 
 	private final String name;
 	private final OS os;
-	private List<String> versions;
+	private final NpmVersionCatalog catalog;
+	private volatile List<String> versions;
 
-	NpmModule(String name, OS os) {
+	NpmModule(String name, OS os, NpmVersionCatalog catalog) {
 		this.name = name;
 		this.os = os;
+		this.catalog = catalog;
 	}
 
 	public List<String> getAvailableVersions() throws IOException {
 		if (!isLoaded()) {
-			versions = NpmHelper.getVersions(name, os);
+			if (catalog != null) {
+				// versions refreshed in background replace the cached versions.
+				versions = catalog.getVersions(name, refreshed -> versions = refreshed);
+			} else {
+				versions = NpmHelper.getVersions(name, os);
+			}
 		}
 		return versions;
 	}
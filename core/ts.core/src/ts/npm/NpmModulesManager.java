@@ -10,6 +10,7 @@
  */
 package ts.npm;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,16 +24,31 @@ public class NpmModulesManager {
 
 	private final OS os;
 	private final Map<String, NpmModule> modules;
+	private final NpmVersionCatalog catalog;
 
 	public NpmModulesManager(OS os) {
+		this(os, null);
+	}
+
+	/**
+	 * Npm modules manager which stores available versions of modules in the
+	 * given catalog directory.
+	 * 
+	 * @param os
+	 * @param catalogDir
+	 *            the catalog directory and null if versions must not be
+	 *            stored on disk.
+	 */
+	public NpmModulesManager(OS os, File catalogDir) {
 		this.os = os;
 		this.modules = new HashMap<>();
+		this.catalog = catalogDir != null ? new NpmVersionCatalog(catalogDir, os) : null;
 	}
 
 	public NpmModule getNPMModule(String moduleName) {
 		NpmModule module = modules.get(moduleName);
 		if (module == null) {
-			module = new NpmModule(moduleName, os);
+			module = new NpmModule(moduleName, os, catalog);
 			modules.put(moduleName, module);
 		}
 		return module;
@@ -40,6 +56,22 @@ public class NpmModulesManager {
 
 	public void resetCache(String moduleName) {
 		modules.remove(moduleName);
+		if (catalog != null) {
+			// keep the catalog entry for the next load and refresh it in
+			// background.
+			catalog.refreshAsync(moduleName, null);
+		}
+	}
+
+	/**
+	 * Returns the persistent version catalog and null if versions are not
+	 * stored on disk.
+	 * 
+	 * @return the persistent version catalog and null if versions are not
+	 *         stored on disk.
+	 */
+	public NpmVersionCatalog getVersionCatalog() {
+		return catalog;
 	}
 
 }
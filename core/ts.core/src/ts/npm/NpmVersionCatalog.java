@@ -0,0 +1,367 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.npm;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import ts.OS;
+import ts.utils.IOUtils;
+
+/**
+ * Persistent catalog of the available versions of npm modules.
+ *
+ * <p>
+ * Each module is stored in its own JSON file in the catalog directory with
+ * the timestamp of the last "npm view" call. Cached versions are returned
+ * immediately and refreshed in background when they are older than the max
+ * age. When npm cannot be called (offline), versions are read from an
+ * optional local registry mirror directory which contains npm registry
+ * documents named "$moduleName.json".
+ * </p>
+ *
+ */
+public class NpmVersionCatalog {
+
+	private static final String JSON_EXTENSION = ".json"; //$NON-NLS-1$
+	private static final String NAME_FIELD = "name"; //$NON-NLS-1$
+	private static final String TIMESTAMP_FIELD = "timestamp"; //$NON-NLS-1$
+	private static final String VERSIONS_FIELD = "versions"; //$NON-NLS-1$
+
+	/**
+	 * Default max age of a catalog entry before refreshing it (1 day).
+	 */
+	public static final long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(1);
+
+	private final File catalogDir;
+	private final OS os;
+	private final Set<String> refreshingModules;
+	private File registryMirrorDir;
+	private long maxAge;
+	private ExecutorService refreshExecutor;
+
+	public NpmVersionCatalog(File catalogDir, OS os) {
+		this.catalogDir = catalogDir;
+		this.os = os;
+		this.refreshingModules = ConcurrentHashMap.newKeySet();
+		this.maxAge = DEFAULT_MAX_AGE;
+	}
+
+	/**
+	 * Returns the available versions of the given module name.
+	 *
+	 * <ul>
+	 * <li>if the catalog has the module, the cached versions are returned and
+	 * they are refreshed in background if they are too old. The given callback
+	 * is called with the refreshed versions.</li>
+	 * <li>otherwise npm is called and the result is stored in the catalog. If
+	 * npm fails, the versions are read from the registry mirror.</li>
+	 * </ul>
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 * @param onRefresh
+	 *            callback called when versions are refreshed in background
+	 *            (can be null).
+	 * @return the available versions of the given module name.
+	 * @throws IOException
+	 */
+	public List<String> getVersions(String moduleName, Consumer<List<String>> onRefresh) throws IOException {
+		Entry entry = load(moduleName);
+		if (entry != null) {
+			if (entry.isExpired(maxAge)) {
+				refreshAsync(moduleName, onRefresh);
+			}
+			return entry.versions;
+		}
+		try {
+			List<String> versions = NpmHelper.getVersions(moduleName, os);
+			if (!versions.isEmpty()) {
+				store(moduleName, versions);
+				return versions;
+			}
+		} catch (IOException e) {
+			List<String> versions = getMirrorVersions(moduleName);
+			if (versions == null) {
+				throw e;
+			}
+			return versions;
+		}
+		// npm returns nothing (offline?), try with the registry mirror.
+		List<String> versions = getMirrorVersions(moduleName);
+		return versions != null ? versions : Collections.emptyList();
+	}
+
+	/**
+	 * Refresh in background the catalog entry of the given module name.
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 * @param onRefresh
+	 *            callback called with the refreshed versions (can be null).
+	 */
+	public void refreshAsync(final String moduleName, final Consumer<List<String>> onRefresh) {
+		if (!refreshingModules.add(moduleName)) {
+			// refresh is already scheduled.
+			return;
+		}
+		getRefreshExecutor().execute(() -> {
+			try {
+				List<String> versions = NpmHelper.getVersions(moduleName, os);
+				if (!versions.isEmpty()) {
+					store(moduleName, versions);
+					if (onRefresh != null) {
+						onRefresh.accept(versions);
+					}
+				}
+			} catch (IOException e) {
+				// npm cannot be called (offline?), keep the old entry.
+			} finally {
+				refreshingModules.remove(moduleName);
+			}
+		});
+	}
+
+	/**
+	 * Returns the cached entry of the given module name and null if the
+	 * catalog doesn't contain it.
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 * @return the cached entry of the given module name and null if the
+	 *         catalog doesn't contain it.
+	 */
+	public Entry load(String moduleName) {
+		File file = getCatalogFile(moduleName);
+		if (!file.exists()) {
+			return null;
+		}
+		Reader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), NpmConstants.UTF_8));
+			JsonReader json = new JsonReader(reader);
+			long timestamp = 0;
+			List<String> versions = null;
+			json.beginObject();
+			while (json.hasNext()) {
+				String name = json.nextName();
+				if (TIMESTAMP_FIELD.equals(name)) {
+					timestamp = json.nextLong();
+				} else if (VERSIONS_FIELD.equals(name)) {
+					versions = new ArrayList<>();
+					json.beginArray();
+					while (json.hasNext()) {
+						versions.add(json.nextString());
+					}
+					json.endArray();
+				} else {
+					json.skipValue();
+				}
+			}
+			json.endObject();
+			return versions != null ? new Entry(versions, timestamp) : null;
+		} catch (Exception e) {
+			// corrupted catalog entry, ignore it.
+			return null;
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+	}
+
+	/**
+	 * Store the given versions of the given module name in the catalog.
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 * @param versions
+	 *            the versions to store.
+	 * @throws IOException
+	 */
+	public void store(String moduleName, List<String> versions) throws IOException {
+		if (!catalogDir.exists()) {
+			catalogDir.mkdirs();
+		}
+		File file = getCatalogFile(moduleName);
+		// write in a temporary file to avoid corrupted entries.
+		File tmpFile = new File(catalogDir, file.getName() + ".tmp"); //$NON-NLS-1$
+		Writer writer = null;
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmpFile), NpmConstants.UTF_8));
+			JsonWriter json = new JsonWriter(writer);
+			json.beginObject();
+			json.name(NAME_FIELD).value(moduleName);
+			json.name(TIMESTAMP_FIELD).value(System.currentTimeMillis());
+			json.name(VERSIONS_FIELD).beginArray();
+			for (String version : versions) {
+				json.value(version);
+			}
+			json.endArray();
+			json.endObject();
+			json.flush();
+		} finally {
+			IOUtils.closeQuietly(writer);
+		}
+		if (file.exists()) {
+			file.delete();
+		}
+		if (!tmpFile.renameTo(file)) {
+			tmpFile.delete();
+			throw new IOException("Cannot store npm versions of '" + moduleName + "' in " + file.getPath());
+		}
+	}
+
+	/**
+	 * Remove the given module name from the catalog.
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 */
+	public void remove(String moduleName) {
+		File file = getCatalogFile(moduleName);
+		if (file.exists()) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Returns the versions of the given module name from the registry mirror
+	 * and null if there is no registry mirror or if it doesn't contain the
+	 * module.
+	 *
+	 * @param moduleName
+	 *            the npm module name.
+	 * @return the versions of the given module name from the registry mirror
+	 *         and null otherwise.
+	 */
+	public List<String> getMirrorVersions(String moduleName) {
+		if (registryMirrorDir == null) {
+			return null;
+		}
+		File file = new File(registryMirrorDir, moduleName + JSON_EXTENSION);
+		if (!file.exists()) {
+			file = new File(registryMirrorDir, getFileName(moduleName));
+			if (!file.exists()) {
+				return null;
+			}
+		}
+		Reader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), NpmConstants.UTF_8));
+			return NpmHelper.parseVersions(reader);
+		} catch (IOException e) {
+			return null;
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+	}
+
+	public File getCatalogDir() {
+		return catalogDir;
+	}
+
+	public File getRegistryMirrorDir() {
+		return registryMirrorDir;
+	}
+
+	public void setRegistryMirrorDir(File registryMirrorDir) {
+		this.registryMirrorDir = registryMirrorDir;
+	}
+
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	public void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * Stop the background refresh.
+	 */
+	public synchronized void dispose() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+			refreshExecutor = null;
+		}
+	}
+
+	private synchronized ExecutorService getRefreshExecutor() {
+		if (refreshExecutor == null) {
+			refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "npm-version-catalog"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return refreshExecutor;
+	}
+
+	private File getCatalogFile(String moduleName) {
+		return new File(catalogDir, getFileName(moduleName));
+	}
+
+	private static String getFileName(String moduleName) {
+		try {
+			// scoped module (ex: @types/node) must be encoded.
+			return URLEncoder.encode(moduleName, NpmConstants.UTF_8) + JSON_EXTENSION;
+		} catch (IOException e) {
+			return moduleName.replace('/', '_') + JSON_EXTENSION;
+		}
+	}
+
+	/**
+	 * Catalog entry.
+	 *
+	 */
+	public static class Entry {
+
+		private final List<String> versions;
+		private final long timestamp;
+
+		Entry(List<String> versions, long timestamp) {
+			this.versions = versions;
+			this.timestamp = timestamp;
+		}
+
+		public List<String> getVersions() {
+			return versions;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		public boolean isExpired(long maxAge) {
+			return System.currentTimeMillis() - timestamp > maxAge;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ *  Copyright (c) 2015-2016 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.repository;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import ts.utils.IOUtils;
+
+/**
+ * Persistent catalog of the TypeScript versions of repositories. Each entry is
+ * stored with a stamp (ex: the last modified of the TypeScript package.json or
+ * of the zip which contains the repository) to know if the version is still
+ * valid without reading the package.json.
+ *
+ */
+public class TypeScriptRepositoryCatalog {
+
+	private static final String VERSION_FIELD = "version"; //$NON-NLS-1$
+	private static final String STAMP_FIELD = "stamp"; //$NON-NLS-1$
+
+	private final File file;
+	private final Map<String, Entry> entries;
+	private boolean dirty;
+
+	private static class Entry {
+
+		private final String version;
+		private final long stamp;
+
+		Entry(String version, long stamp) {
+			this.version = version;
+			this.stamp = stamp;
+		}
+	}
+
+	public TypeScriptRepositoryCatalog(File file) {
+		this.file = file;
+		this.entries = new HashMap<>();
+		load();
+	}
+
+	/**
+	 * Returns the TypeScript version of the given repository key if the given
+	 * stamp matches the stored stamp and null otherwise.
+	 * 
+	 * @param key
+	 *            the repository key.
+	 * @param stamp
+	 *            the current stamp of the repository.
+	 * @return the TypeScript version of the given repository key if the given
+	 *         stamp matches the stored stamp and null otherwise.
+	 */
+	public synchronized String getVersion(String key, long stamp) {
+		Entry entry = entries.get(key);
+		return entry != null && entry.stamp == stamp ? entry.version : null;
+	}
+
+	/**
+	 * Update the TypeScript version of the given repository key.
+	 * 
+	 * @param key
+	 *            the repository key.
+	 * @param stamp
+	 *            the current stamp of the repository.
+	 * @param version
+	 *            the TypeScript version.
+	 */
+	public synchronized void putVersion(String key, long stamp, String version) {
+		if (version == null) {
+			return;
+		}
+		entries.put(key, new Entry(version, stamp));
+		dirty = true;
+	}
+
+	/**
+	 * Remove the given repository key.
+	 * 
+	 * @param key
+	 *            the repository key.
+	 */
+	public synchronized void remove(String key) {
+		if (entries.remove(key) != null) {
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Save the catalog if it was modified.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void save() throws IOException {
+		if (!dirty) {
+			return;
+		}
+		JsonObject json = new JsonObject();
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			JsonObject value = new JsonObject();
+			value.add(VERSION_FIELD, entry.getValue().version);
+			value.add(STAMP_FIELD, entry.getValue().stamp);
+			json.add(entry.getKey(), value);
+		}
+		File parentDir = file.getParentFile();
+		if (parentDir != null && !parentDir.exists()) {
+			parentDir.mkdirs();
+		}
+		Writer writer = null;
+		try {
+			writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+			json.writeTo(writer);
+		} finally {
+			IOUtils.closeQuietly(writer);
+		}
+		dirty = false;
+	}
+
+	private void load() {
+		if (!file.exists()) {
+			return;
+		}
+		Reader reader = null;
+		try {
+			reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+			JsonObject json = Json.parse(reader).asObject();
+			for (String key : json.names()) {
+				JsonValue value = json.get(key);
+				if (value.isObject()) {
+					JsonObject entry = value.asObject();
+					String version = entry.getString(VERSION_FIELD, null);
+					if (version != null) {
+						entries.put(key, new Entry(version, entry.getLong(STAMP_FIELD, 0)));
+					}
+				}
+			}
+		} catch (Exception e) {
+			// corrupted catalog, it will be rebuilt.
+			entries.clear();
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/**
+ *  Copyright (c) 2015-2016 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index of the TypeScript repositories stored in a repositories root
+ * directory. Each sub directory which contains "node_modules/typescript" is a
+ * TypeScript repository.
+ * 
+ * <p>
+ * The root directory is scanned once, the TypeScript version of each
+ * repository is taken from a persistent {@link TypeScriptRepositoryCatalog}
+ * when the package.json was not modified and binaries (tsc, tslint, etc) are
+ * resolved by the repository on first use. New repositories copied in the
+ * root directory are picked up with a directory watch.
+ * </p>
+ *
+ */
+public class TypeScriptRepositoryIndex {
+
+	private static final String TYPESCRIPT_PACKAGE_JSON = "node_modules/typescript/package.json"; //$NON-NLS-1$
+
+	/**
+	 * Interval used to retry the repositories which were not complete when
+	 * their directory was created (ex : copy in progress).
+	 */
+	private static final long PENDING_RETRY_INTERVAL = 2000;
+
+	private final TypeScriptRepositoryManager manager;
+	private final File rootDir;
+	private final TypeScriptRepositoryCatalog catalog;
+	private final Map<File, ITypeScriptRepository> repositories;
+	private final Set<File> pendingDirs;
+	private WatchService watchService;
+	private Thread watchThread;
+
+	/**
+	 * Index of repositories.
+	 * 
+	 * @param manager
+	 *            the repository manager where repositories are added.
+	 * @param rootDir
+	 *            the repositories root directory.
+	 * @param catalog
+	 *            the version catalog.
+	 */
+	public TypeScriptRepositoryIndex(TypeScriptRepositoryManager manager, File rootDir,
+			TypeScriptRepositoryCatalog catalog) {
+		this.manager = manager;
+		this.rootDir = rootDir;
+		this.catalog = catalog;
+		this.repositories = new HashMap<>();
+		this.pendingDirs = new HashSet<>();
+	}
+
+	/**
+	 * Scan the repositories root directory and add the found repositories to
+	 * the manager.
+	 */
+	public void scan() {
+		File[] dirs = rootDir.listFiles();
+		if (dirs != null) {
+			for (File dir : dirs) {
+				if (dir.isDirectory()) {
+					addRepository(dir);
+				}
+			}
+		}
+		saveCatalog();
+	}
+
+	/**
+	 * Watch the repositories root directory to add/remove repositories when a
+	 * directory is created/deleted.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void startWatching() throws IOException {
+		if (watchService != null) {
+			return;
+		}
+		watchService = rootDir.toPath().getFileSystem().newWatchService();
+		rootDir.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_DELETE);
+		final WatchService service = watchService;
+		watchThread = new Thread(() -> watch(service), "TypeScript repositories watcher"); //$NON-NLS-1$
+		watchThread.setDaemon(true);
+		watchThread.start();
+	}
+
+	/**
+	 * Stop the watch of the repositories root directory.
+	 */
+	public synchronized void dispose() {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			watchService = null;
+			watchThread = null;
+		}
+	}
+
+	/**
+	 * Returns the repositories root directory.
+	 * 
+	 * @return the repositories root directory.
+	 */
+	public File getRootDir() {
+		return rootDir;
+	}
+
+	private void watch(WatchService service) {
+		try {
+			while (true) {
+				WatchKey key = service.poll(PENDING_RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+				if (key != null) {
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+							scan();
+							continue;
+						}
+						File dir = rootDir.toPath().resolve((Path) event.context()).toFile();
+						if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+							if (dir.isDirectory() && !addRepository(dir)) {
+								// the directory is perhaps being copied.
+								synchronized (pendingDirs) {
+									pendingDirs.add(dir);
+								}
+							}
+						} else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+							removeRepository(dir);
+						}
+					}
+					if (!key.reset()) {
+						return;
+					}
+				}
+				retryPendingDirs();
+				saveCatalog();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// watch is stopped.
+		}
+	}
+
+	private void retryPendingDirs() {
+		synchronized (pendingDirs) {
+			Iterator<File> it = pendingDirs.iterator();
+			while (it.hasNext()) {
+				File dir = it.next();
+				if (!dir.isDirectory() || addRepository(dir)) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	private boolean addRepository(File baseDir) {
+		synchronized (repositories) {
+			if (repositories.containsKey(baseDir)) {
+				return true;
+			}
+			File packageJsonFile = new File(baseDir, TYPESCRIPT_PACKAGE_JSON);
+			if (!packageJsonFile.exists()) {
+				return false;
+			}
+			String key = baseDir.getName();
+			long stamp = packageJsonFile.lastModified();
+			String version = catalog.getVersion(key, stamp);
+			if (version == null) {
+				version = TypeScriptRepositoryManager.getPackageJsonVersion(packageJsonFile.getParentFile());
+				catalog.putVersion(key, stamp, version);
+			}
+			try {
+				repositories.put(baseDir, manager.createRepository(baseDir, version));
+				return true;
+			} catch (TypeScriptRepositoryException e) {
+				// invalid or incomplete repository.
+				return false;
+			}
+		}
+	}
+
+	private void removeRepository(File baseDir) {
+		synchronized (repositories) {
+			ITypeScriptRepository repository = repositories.remove(baseDir);
+			if (repository != null) {
+				manager.removeRepository(repository.getName());
+				catalog.remove(baseDir.getName());
+			}
+		}
+	}
+
+	private void saveCatalog() {
+		try {
+			catalog.save();
+		} catch (IOException e) {
+			// the catalog will be rebuilt.
+		}
+	}
+}
@@ -13,15 +13,17 @@ package ts.repository;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
-import com.eclipsesource.json.Json;
-import com.eclipsesource.json.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import ts.internal.repository.TypeScriptRepository;
 import ts.utils.FileUtils;
@@ -34,8 +36,11 @@ import ts.utils.VersionHelper;
  */
 public class TypeScriptRepositoryManager implements ITypeScriptRepositoryManager {
 
+	private static final ITypeScriptRepository[] EMPTY_REPOSITORIES = new ITypeScriptRepository[0];
+
 	private final Map<String, ITypeScriptRepository> repositories;
-	private ITypeScriptRepository[] sortedRepositories;
+	private final List<ITypeScriptRepository> sortedList;
+	private volatile ITypeScriptRepository[] sortedRepositories;
 	private ITypeScriptRepository defaultRepository;
 
 	private static final Comparator<ITypeScriptRepository> REPOSITORY_COMPARATOR = new Comparator<ITypeScriptRepository>() {
@@ -48,6 +53,8 @@ public class TypeScriptRepositoryManager implements ITypeScriptRepositoryManager
 
 	public TypeScriptRepositoryManager() {
 		this.repositories = new HashMap<String, ITypeScriptRepository>();
+		this.sortedList = new ArrayList<ITypeScriptRepository>();
+		this.sortedRepositories = EMPTY_REPOSITORIES;
 	}
 
 	@Override
@@ -61,23 +68,73 @@ public class TypeScriptRepositoryManager implements ITypeScriptRepositoryManager
 
 	@Override
 	public ITypeScriptRepository createRepository(File baseDir) throws TypeScriptRepositoryException {
+		return createRepository(baseDir, null);
+	}
+
+	/**
+	 * Creates and adds a new repository.
+	 * 
+	 * @param baseDir
+	 *            base directory of the new repository.
+	 * @param typesScriptVersion
+	 *            the TypeScript version coming from a version catalog and null
+	 *            if it must be read from the package.json.
+	 * @return the created repository.
+	 * @throws TypeScriptRepositoryException
+	 */
+	public ITypeScriptRepository createRepository(File baseDir, String typesScriptVersion)
+			throws TypeScriptRepositoryException {
 		synchronized (repositories) {
-			ITypeScriptRepository repository = new TypeScriptRepository(baseDir, this);
-			repositories.put(repository.getName(), repository);
-			reset();
-			return repository;
+			return addRepository(new TypeScriptRepository(baseDir, typesScriptVersion, this));
+		}
+	}
+
+	/**
+	 * Creates and adds a new repository whose base directory is resolved on
+	 * first use.
+	 * 
+	 * @param baseDirSupplier
+	 *            the supplier of the base directory.
+	 * @param typesScriptVersion
+	 *            the TypeScript version coming from a version catalog.
+	 * @return the created repository.
+	 * @throws TypeScriptRepositoryException
+	 */
+	public ITypeScriptRepository createRepository(Supplier<File> baseDirSupplier, String typesScriptVersion)
+			throws TypeScriptRepositoryException {
+		synchronized (repositories) {
+			return addRepository(new TypeScriptRepository(baseDirSupplier, typesScriptVersion, this));
 		}
 	}
 
+	private ITypeScriptRepository addRepository(ITypeScriptRepository repository) {
+		ITypeScriptRepository oldRepository = repositories.put(repository.getName(), repository);
+		if (oldRepository != null) {
+			sortedList.remove(oldRepository);
+		}
+		// insert the repository at its sorted position instead of sorting all
+		// repositories.
+		int index = Collections.binarySearch(sortedList, repository, REPOSITORY_COMPARATOR);
+		sortedList.add(index < 0 ? -(index + 1) : index, repository);
+		reset();
+		return repository;
+	}
+
 	public void reset() {
-		sortedRepositories = null;
+		synchronized (repositories) {
+			sortedRepositories = sortedList.toArray(new ITypeScriptRepository[sortedList.size()]);
+		}
 	}
 
 	@Override
 	public ITypeScriptRepository removeRepository(String name) {
 		synchronized (repositories) {
-			reset();
-			return repositories.remove(name);
+			ITypeScriptRepository repository = repositories.remove(name);
+			if (repository != null) {
+				sortedList.remove(repository);
+				reset();
+			}
+			return repository;
 		}
 	}
 
@@ -93,11 +150,6 @@ public class TypeScriptRepositoryManager implements ITypeScriptRepositoryManager
 
 	@Override
 	public ITypeScriptRepository[] getRepositories() {
-		if (sortedRepositories == null) {
-			List<ITypeScriptRepository> reps = new ArrayList<ITypeScriptRepository>(repositories.values());
-			Collections.sort(reps, REPOSITORY_COMPARATOR);
-			sortedRepositories = reps.toArray(new ITypeScriptRepository[reps.size()]);
-		}
 		return sortedRepositories;
 	}
 
@@ -121,11 +173,24 @@ public class TypeScriptRepositoryManager implements ITypeScriptRepositoryManager
 
 	public static String getPackageJsonVersion(File baseDir) {
 		File packageJsonFile = new File(baseDir, "package.json");
+		JsonReader reader = null;
 		try {
-			JsonObject json = Json.parse(IOUtils.toString(new FileInputStream(packageJsonFile))).asObject();
-			return json.getString("version", null);
+			// read only the "version" member instead of parsing the whole
+			// package.json.
+			reader = new JsonReader(
+					new InputStreamReader(new FileInputStream(packageJsonFile), StandardCharsets.UTF_8));
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if ("version".equals(reader.nextName())) {
+					return reader.nextString();
+				}
+				reader.skipValue();
+			}
+			return null;
 		} catch (Exception e) {
 			return null;
+		} finally {
+			IOUtils.closeQuietly(reader);
 		}
 	}
 
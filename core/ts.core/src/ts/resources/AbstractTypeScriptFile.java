@@ -13,6 +13,7 @@ package ts.resources;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import ts.TypeScriptException;
 import ts.client.CodeEdit;
@@ -20,23 +21,29 @@ import ts.client.CommandNames;
 import ts.client.FileSpan;
 import ts.client.ITypeScriptServiceClient;
 import ts.client.Location;
+import ts.client.RequestPriority;
 import ts.client.ScriptKindName;
+import ts.client.SpeculativeResponse;
 import ts.client.codefixes.CodeAction;
+import ts.client.codefixes.CodeFixesCache;
 import ts.client.completions.CompletionEntry;
 import ts.client.completions.ICompletionEntryFactory;
+import ts.client.definition.DefinitionCache;
 import ts.client.configure.ConfigureRequestArguments;
 import ts.client.diagnostics.DiagnosticEvent;
 import ts.client.diagnostics.DiagnosticEventBody;
 import ts.client.format.FormatCodeSettings;
 import ts.client.jsdoc.TextInsertion;
 import ts.client.navbar.NavigationBarItemRoot;
+import ts.client.occurrences.OccurrencesCache;
 import ts.client.occurrences.OccurrencesResponseItem;
 import ts.client.quickinfo.QuickInfo;
 import ts.client.refactors.ApplicableRefactorInfo;
 import ts.client.refactors.RefactorEditInfo;
 import ts.client.references.ReferencesResponseBody;
 import ts.client.rename.RenameResponseBody;
-import ts.internal.LocationReader;
+import ts.client.signaturehelp.SignatureHelpItems;
+import ts.internal.LineIndex;
 import ts.utils.CompletableFutureUtils;
 
 /**
@@ -45,6 +52,9 @@ import ts.utils.CompletableFutureUtils;
  */
 public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 
+	private static final String COMPLETION_TRIGGER_CHARACTERS = ".";
+	private static final String SIGNATURE_HELP_TRIGGER_CHARACTERS = "(,<";
+
 	private final ITypeScriptProject tsProject;
 	private final ScriptKindName scriptKind;
 
@@ -60,6 +70,12 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 
 	private CompletableFuture navbarPromise;
 
+	private final AtomicLong version = new AtomicLong();
+	private final OccurrencesCache occurrencesCache = new OccurrencesCache();
+	private final CodeFixesCache codeFixesCache = new CodeFixesCache();
+	private final SpeculativeResponse<List<CompletionEntry>> speculativeCompletions = new SpeculativeResponse<>();
+	private final SpeculativeResponse<SignatureHelpItems> speculativeSignatureHelp = new SpeculativeResponse<>();
+
 	public AbstractTypeScriptFile(ITypeScriptProject tsProject, ScriptKindName scriptKind) {
 		this.tsProject = tsProject;
 		this.scriptKind = scriptKind;
@@ -79,9 +95,29 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 	}
 
 	public void setDirty(boolean dirty) {
+		if (dirty) {
+			incrementVersion();
+		}
 		this.dirty = dirty;
 	}
 
+	/**
+	 * Increment the version of the file content. Must be called when the
+	 * content changes, even if the change is not sent to tsserver.
+	 */
+	protected void incrementVersion() {
+		version.incrementAndGet();
+		if (tsProject instanceof TypeScriptProject) {
+			// a definition can be in another file.
+			((TypeScriptProject) tsProject).getDefinitionCache().invalidate();
+		}
+	}
+
+	@Override
+	public long getVersion() {
+		return version.get();
+	}
+
 	@Override
 	public boolean isDirty() {
 		return dirty;
@@ -89,13 +125,12 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 
 	@Override
 	public Location getLocation(int position) throws TypeScriptException {
-		return new LocationReader(getContents(), position).getLineOffset();
+		return new LineIndex(getContents()).getLocation(position);
 	}
 
 	@Override
 	public int getPosition(int line, int offset) throws TypeScriptException {
-		// TODO: implement that
-		throw new UnsupportedOperationException();
+		return new LineIndex(getContents()).getPosition(line, offset);
 	}
 
 	@Override
@@ -127,33 +162,157 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 	@Override
 	public CompletableFuture<List<CompletionEntry>> completions(int position, ICompletionEntryFactory factory)
 			throws TypeScriptException {
+		return completions(position, factory, null);
+	}
+
+	@Override
+	public CompletableFuture<List<CompletionEntry>> completions(int position, ICompletionEntryFactory factory,
+			Object supersedeKey) throws TypeScriptException {
+		CompletableFuture<List<CompletionEntry>> speculative = speculativeCompletions.take(getVersion(), position);
+		if (speculative != null) {
+			return speculative;
+		}
+		return requestCompletions(position, factory, supersedeKey);
+	}
+
+	private CompletableFuture<List<CompletionEntry>> requestCompletions(int position, ICompletionEntryFactory factory,
+			Object supersedeKey) throws TypeScriptException {
 		this.synch();
 		ITypeScriptServiceClient client = tsProject.getClient();
 		Location location = this.getLocation(position);
 		int line = location.getLine();
 		int offset = location.getOffset();
 		String prefix = null;
-		return client.completions(this.getName(), line, offset, factory);
+		return client.completions(this.getName(), line, offset, factory, supersedeKey);
+	}
+
+	@Override
+	public CompletableFuture<SignatureHelpItems> signatureHelp(int position) throws TypeScriptException {
+		return signatureHelp(position, null);
+	}
+
+	@Override
+	public CompletableFuture<SignatureHelpItems> signatureHelp(int position, Object supersedeKey)
+			throws TypeScriptException {
+		CompletableFuture<SignatureHelpItems> speculative = speculativeSignatureHelp.take(getVersion(), position);
+		if (speculative != null) {
+			return speculative;
+		}
+		return requestSignatureHelp(position, supersedeKey);
+	}
+
+	private CompletableFuture<SignatureHelpItems> requestSignatureHelp(int position, Object supersedeKey)
+			throws TypeScriptException {
+		this.synch();
+		ITypeScriptServiceClient client = tsProject.getClient();
+		Location location = this.getLocation(position);
+		int line = location.getLine();
+		int offset = location.getOffset();
+		return client.signatureHelp(this.getName(), line, offset, supersedeKey);
+	}
+
+	@Override
+	public boolean speculate(int position, char typedCharacter, ICompletionEntryFactory factory)
+			throws TypeScriptException {
+		if (COMPLETION_TRIGGER_CHARACTERS.indexOf(typedCharacter) != -1 && factory != null) {
+			// synch is done by the request, the version is the version sent to
+			// tsserver.
+			CompletableFuture<List<CompletionEntry>> completions = requestCompletions(position, factory, null);
+			speculativeCompletions.put(getVersion(), position, completions);
+			return true;
+		}
+		if (SIGNATURE_HELP_TRIGGER_CHARACTERS.indexOf(typedCharacter) != -1) {
+			CompletableFuture<SignatureHelpItems> signatureHelp = requestSignatureHelp(position, null);
+			speculativeSignatureHelp.put(getVersion(), position, signatureHelp);
+			return true;
+		}
+		return false;
 	}
 
 	@Override
 	public CompletableFuture<List<FileSpan>> definition(int position) throws TypeScriptException {
+		DefinitionCache cache = getDefinitionCache();
+		CompletableFuture<List<FileSpan>> definition = cache != null ? getCachedDefinition(cache, position, null)
+				: null;
+		if (definition == null) {
+			return requestDefinition(position, null);
+		}
+		// the cached request is shared, cancelling the returned future must
+		// not cancel it.
+		return definition.thenApply(spans -> spans);
+	}
+
+	@Override
+	public void prefetchDefinition(int position) throws TypeScriptException {
+		DefinitionCache cache = getDefinitionCache();
+		if (cache != null) {
+			// the user doesn't wait for the prefetch.
+			getCachedDefinition(cache, position, RequestPriority.BACKGROUND);
+		}
+	}
+
+	/**
+	 * Returns the cached definition of the identifier at the given position,
+	 * requested with the given priority if it is not cached, and null if
+	 * there is no identifier at the position.
+	 */
+	private CompletableFuture<List<FileSpan>> getCachedDefinition(DefinitionCache cache, int position,
+			RequestPriority priority) throws TypeScriptException {
+		// read before the content, a change during the request prevents
+		// caching it.
+		long cacheVersion = cache.getVersion();
+		long fileVersion = getVersion();
+		int[] identifier = DefinitionCache.getIdentifierSpan(getCharSequence(), position);
+		if (identifier == null) {
+			return null;
+		}
+		CompletableFuture<List<FileSpan>> definition = cache.get(getName(), fileVersion, identifier[0],
+				identifier[1]);
+		if (definition == null) {
+			definition = cache.putIfAbsent(cacheVersion, getName(), fileVersion, identifier[0], identifier[1],
+					requestDefinition(position, priority));
+		}
+		return definition;
+	}
+
+	/**
+	 * Returns the content of the file as a char sequence which is not a copy
+	 * of the content when possible (ex : the document of an editor), to read
+	 * a few characters without copying the whole content.
+	 * 
+	 * @return the content of the file as a char sequence.
+	 */
+	protected CharSequence getCharSequence() {
+		return getContents();
+	}
+
+	private DefinitionCache getDefinitionCache() {
+		return tsProject instanceof TypeScriptProject ? ((TypeScriptProject) tsProject).getDefinitionCache() : null;
+	}
+
+	private CompletableFuture<List<FileSpan>> requestDefinition(int position, RequestPriority priority)
+			throws TypeScriptException {
 		this.synch();
 		ITypeScriptServiceClient client = tsProject.getClient();
 		Location location = this.getLocation(position);
 		int line = location.getLine();
 		int offset = location.getOffset();
-		return client.definition(this.getName(), line, offset);
+		return client.definition(this.getName(), line, offset, priority);
 	}
 
 	@Override
 	public CompletableFuture<QuickInfo> quickInfo(int position) throws TypeScriptException {
+		return quickInfo(position, null);
+	}
+
+	@Override
+	public CompletableFuture<QuickInfo> quickInfo(int position, Object supersedeKey) throws TypeScriptException {
 		this.synch();
 		ITypeScriptServiceClient client = tsProject.getClient();
 		Location location = this.getLocation(position);
 		int line = location.getLine();
 		int offset = location.getOffset();
-		return client.quickInfo(this.getName(), line, offset);
+		return client.quickInfo(this.getName(), line, offset, supersedeKey);
 	}
 
 	@Override
@@ -235,14 +394,71 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 		return client.references(this.getName(), line, offset);
 	}
 
+	@Override
+	public CompletableFuture<ReferencesResponseBody> references(int position, RequestPriority priority)
+			throws TypeScriptException {
+		this.synch();
+		ITypeScriptServiceClient client = tsProject.getClient();
+		Location location = this.getLocation(position);
+		int line = location.getLine();
+		int offset = location.getOffset();
+		return client.references(this.getName(), line, offset, priority);
+	}
+
 	@Override
 	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(int position) throws TypeScriptException {
+		return occurrences(position, null);
+	}
+
+	@Override
+	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(int position, Object supersedeKey)
+			throws TypeScriptException {
+		long version = getVersion();
+		List<OccurrencesResponseItem> cached = occurrencesCache.get(version, position);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
 		this.synch();
 		ITypeScriptServiceClient client = tsProject.getClient();
 		Location location = this.getLocation(position);
 		int line = location.getLine();
 		int offset = location.getOffset();
-		return client.occurrences(this.getName(), line, offset);
+		CompletableFuture<List<OccurrencesResponseItem>> request = client.occurrences(this.getName(), line, offset,
+				supersedeKey);
+		CompletableFuture<List<OccurrencesResponseItem>> result = request.thenApply(occurrences -> {
+			cacheOccurrences(version, occurrences);
+			return occurrences;
+		});
+		// cancel the tsserver request when the result is cancelled.
+		result.whenComplete((occurrences, e) -> {
+			if (result.isCancelled()) {
+				request.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	private void cacheOccurrences(long version, List<OccurrencesResponseItem> occurrences) {
+		if (occurrences == null || version != getVersion()) {
+			return;
+		}
+		int[] spans = new int[occurrences.size() * 2];
+		try {
+			for (int i = 0; i < occurrences.size(); i++) {
+				OccurrencesResponseItem occurrence = occurrences.get(i);
+				spans[i * 2] = getPosition(occurrence.getStart());
+				spans[i * 2 + 1] = getPosition(occurrence.getEnd());
+			}
+		} catch (Exception e) {
+			// position cannot be computed (file changed), don't cache.
+			return;
+		}
+		occurrencesCache.put(version, occurrences, spans);
+	}
+
+	@Override
+	public List<OccurrencesResponseItem> getCachedOccurrences(int position) {
+		return occurrencesCache.get(getVersion(), position);
 	}
 
 	@Override
@@ -266,6 +482,17 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 		return client.implementation(this.getName(), line, offset);
 	}
 
+	@Override
+	public CompletableFuture<List<FileSpan>> implementation(int position, RequestPriority priority)
+			throws TypeScriptException {
+		this.synch();
+		ITypeScriptServiceClient client = tsProject.getClient();
+		Location location = this.getLocation(position);
+		int line = location.getLine();
+		int offset = location.getOffset();
+		return client.implementation(this.getName(), line, offset, priority);
+	}
+
 	@Override
 	public CompletableFuture<TextInsertion> docCommentTemplate(int position) throws TypeScriptException {
 		this.synch();
@@ -279,6 +506,32 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 	@Override
 	public CompletableFuture<List<CodeAction>> getCodeFixes(int startPosition, int endPosition,
 			List<Integer> errorCodes) throws TypeScriptException {
+		// the cached request is shared, cancelling the returned future must
+		// not cancel it.
+		return getCodeFixes(startPosition, endPosition, errorCodes, null).thenApply(actions -> actions);
+	}
+
+	@Override
+	public void prefetchCodeFixes(int startPosition, int endPosition, List<Integer> errorCodes)
+			throws TypeScriptException {
+		// the user doesn't wait for the prefetch.
+		getCodeFixes(startPosition, endPosition, errorCodes, RequestPriority.BACKGROUND);
+	}
+
+	private CompletableFuture<List<CodeAction>> getCodeFixes(int startPosition, int endPosition,
+			List<Integer> errorCodes, RequestPriority priority) throws TypeScriptException {
+		long version = getVersion();
+		CompletableFuture<List<CodeAction>> codeFixes = codeFixesCache.get(version, startPosition, endPosition,
+				errorCodes);
+		if (codeFixes == null) {
+			codeFixes = codeFixesCache.putIfAbsent(version, startPosition, endPosition, errorCodes,
+					requestCodeFixes(startPosition, endPosition, errorCodes, priority));
+		}
+		return codeFixes;
+	}
+
+	private CompletableFuture<List<CodeAction>> requestCodeFixes(int startPosition, int endPosition,
+			List<Integer> errorCodes, RequestPriority priority) throws TypeScriptException {
 		this.synch();
 		ITypeScriptServiceClient client = tsProject.getClient();
 		Location startLocation = this.getLocation(startPosition);
@@ -287,7 +540,8 @@ public abstract class AbstractTypeScriptFile implements ITypeScriptFile {
 		Location endLocation = this.getLocation(endPosition);
 		int endLine = endLocation.getLine();
 		int endOffset = endLocation.getOffset();
-		return client.getCodeFixes(this.getName(), this, startLine, startOffset, endLine, endOffset, errorCodes);
+		return client.getCodeFixes(this.getName(), this, startLine, startOffset, endLine, endOffset, errorCodes,
+				priority);
 	}
 
 	@Override
@@ -0,0 +1,46 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.resources;
+
+/**
+ * Listener which receives the result of a {@link TypeScriptBatchAnalyzer} for
+ * each file as soon as it is available.
+ *
+ * <p>
+ * The listener is called by the thread which reads the tsserver responses, so
+ * it must be fast and thread-safe.
+ * </p>
+ *
+ * @param <T>
+ *            the result type.
+ */
+public interface IBatchAnalysisListener<T> {
+
+	/**
+	 * Called when the result for the given file is available.
+	 *
+	 * @param file
+	 *            the analyzed file.
+	 * @param result
+	 *            the result.
+	 */
+	void onResult(ITypeScriptFile file, T result);
+
+	/**
+	 * Called when the analysis of the given file failed.
+	 *
+	 * @param file
+	 *            the analyzed file.
+	 * @param e
+	 *            the error.
+	 */
+	void onError(ITypeScriptFile file, Throwable e);
+}
@@ -17,6 +17,7 @@ import ts.TypeScriptException;
 import ts.client.CodeEdit;
 import ts.client.FileSpan;
 import ts.client.IPositionProvider;
+import ts.client.RequestPriority;
 import ts.client.ScriptKindName;
 import ts.client.codefixes.CodeAction;
 import ts.client.completions.CompletionEntry;
@@ -32,6 +33,7 @@ import ts.client.refactors.ApplicableRefactorInfo;
 import ts.client.refactors.RefactorEditInfo;
 import ts.client.references.ReferencesResponseBody;
 import ts.client.rename.RenameResponseBody;
+import ts.client.signaturehelp.SignatureHelpItems;
 
 /**
  * TypeScript file API.
@@ -110,7 +112,9 @@ public interface ITypeScriptFile extends IPositionProvider {
 	void synch() throws TypeScriptException;
 
 	/**
-	 * Call completions from the tsserver.
+	 * Call completions from the tsserver. The response of the completions
+	 * sent by {@link #speculate(int, char, ICompletionEntryFactory)} for the
+	 * same position is used if the file has not changed.
 	 * 
 	 * @param position
 	 * @param instanceCreator
@@ -120,13 +124,77 @@ public interface ITypeScriptFile extends IPositionProvider {
 			throws TypeScriptException;
 
 	/**
-	 * Call definition from the tsserver.
+	 * Call completions from the tsserver like
+	 * {@link #completions(int, ICompletionEntryFactory)} and cancel the
+	 * pending completions request of the given caller for this file.
+	 * 
+	 * @param position
+	 * @param factory
+	 * @param supersedeKey
+	 *            the key of the caller, null to cancel nothing.
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<List<CompletionEntry>> completions(int position, ICompletionEntryFactory factory,
+			Object supersedeKey) throws TypeScriptException;
+
+	/**
+	 * Call signatureHelp from the tsserver. The response of the signature help
+	 * sent by {@link #speculate(int, char, ICompletionEntryFactory)} for the
+	 * same position is used if the file has not changed.
+	 * 
+	 * @param position
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<SignatureHelpItems> signatureHelp(int position) throws TypeScriptException;
+
+	/**
+	 * Call signatureHelp from the tsserver like {@link #signatureHelp(int)}
+	 * and cancel the pending signatureHelp request of the given caller for
+	 * this file.
+	 * 
+	 * @param position
+	 * @param supersedeKey
+	 *            the key of the caller, null to cancel nothing.
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<SignatureHelpItems> signatureHelp(int position, Object supersedeKey) throws TypeScriptException;
+
+	/**
+	 * Call completions (after ".") or signatureHelp (after "(", "," or "<")
+	 * from the tsserver when the given character is typed, so that the
+	 * content assist which is opened after doesn't wait for tsserver.
+	 * 
+	 * @param position
+	 *            the position after the typed character.
+	 * @param typedCharacter
+	 *            the typed character.
+	 * @param factory
+	 *            the factory used to create the completion entries.
+	 * @return true if a request is sent and false otherwise.
+	 * @throws TypeScriptException
+	 */
+	boolean speculate(int position, char typedCharacter, ICompletionEntryFactory factory)
+			throws TypeScriptException;
+
+	/**
+	 * Call definition from the tsserver. The result is shared for every
+	 * position of the same identifier until a file of the project changes.
 	 * 
 	 * @param position
 	 * @throws TypeScriptException
 	 */
 	CompletableFuture<List<FileSpan>> definition(int position) throws TypeScriptException;
 
+	/**
+	 * Call definition from the tsserver for the identifier at the given
+	 * position if it is not already cached, so that a next call of
+	 * {@link #definition(int)} for this identifier doesn't wait for tsserver.
+	 * 
+	 * @param position
+	 * @throws TypeScriptException
+	 */
+	void prefetchDefinition(int position) throws TypeScriptException;
+
 	/**
 	 * Call quickInfo from the tsserver.
 	 * 
@@ -135,6 +203,18 @@ public interface ITypeScriptFile extends IPositionProvider {
 	 */
 	CompletableFuture<QuickInfo> quickInfo(int position) throws TypeScriptException;
 
+	/**
+	 * Call quickInfo from the tsserver and cancel the pending quickInfo
+	 * request of the given caller for this file.
+	 * 
+	 * @param position
+	 * @param supersedeKey
+	 *            the key of the caller (ex : the hover), null to cancel
+	 *            nothing.
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<QuickInfo> quickInfo(int position, Object supersedeKey) throws TypeScriptException;
+
 	/**
 	 * Call getErr from the tsserver.
 	 * 
@@ -191,13 +271,55 @@ public interface ITypeScriptFile extends IPositionProvider {
 	public CompletableFuture<ReferencesResponseBody> references(int position) throws TypeScriptException;
 
 	/**
-	 * Find occurrences of the given position.
+	 * Find references of the given position with the given priority (ex :
+	 * {@link RequestPriority#BACKGROUND} for a code lens).
+	 * 
+	 * @param position
+	 * @param priority
+	 * @throws TypeScriptException
+	 */
+	public CompletableFuture<ReferencesResponseBody> references(int position, RequestPriority priority)
+			throws TypeScriptException;
+
+	/**
+	 * Find occurrences of the given position. The last result is reused while
+	 * the position is inside one of its occurrences and the file is not
+	 * changed.
 	 * 
 	 * @param position
 	 * @throws TypeScriptException
 	 */
 	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(int position) throws TypeScriptException;
 
+	/**
+	 * Find occurrences like {@link #occurrences(int)} and cancel the pending
+	 * occurrences request of the given caller for this file.
+	 * 
+	 * @param position
+	 * @param supersedeKey
+	 *            the key of the caller, null to cancel nothing.
+	 * @throws TypeScriptException
+	 */
+	public CompletableFuture<List<OccurrencesResponseItem>> occurrences(int position, Object supersedeKey)
+			throws TypeScriptException;
+
+	/**
+	 * Returns the last occurrences found which contain the given position if
+	 * the file is not changed since and null otherwise.
+	 * 
+	 * @param position
+	 * @return the last occurrences found which contain the given position or
+	 *         null.
+	 */
+	List<OccurrencesResponseItem> getCachedOccurrences(int position);
+
+	/**
+	 * Returns the version of the file content, incremented at each change.
+	 * 
+	 * @return the version of the file content.
+	 */
+	long getVersion();
+
 	CompletableFuture<RenameResponseBody> rename(int position, Boolean findInComments, Boolean findInStrings)
 			throws TypeScriptException;
 
@@ -209,10 +331,22 @@ public interface ITypeScriptFile extends IPositionProvider {
 	 */
 	CompletableFuture<List<FileSpan>> implementation(int position) throws TypeScriptException;
 
+	/**
+	 * Call implementation from the tsserver with the given priority (ex :
+	 * {@link RequestPriority#BACKGROUND} for a code lens).
+	 * 
+	 * @param position
+	 * @param priority
+	 * @throws TypeScriptException
+	 */
+	CompletableFuture<List<FileSpan>> implementation(int position, RequestPriority priority)
+			throws TypeScriptException;
+
 	CompletableFuture<TextInsertion> docCommentTemplate(int position) throws TypeScriptException;
 
 	/**
-	 * Get code fixes.
+	 * Get code fixes. The result is reused for the same range and error codes
+	 * until the file changes.
 	 * 
 	 * @param startPosition
 	 * @param endPosition
@@ -222,6 +356,18 @@ public interface ITypeScriptFile extends IPositionProvider {
 	CompletableFuture<List<CodeAction>> getCodeFixes(int startPosition, int endPosition, List<Integer> errorCodes)
 			throws TypeScriptException;
 
+	/**
+	 * Call getCodeFixes from the tsserver in background if it is not already
+	 * cached, so that a next call of {@link #getCodeFixes(int, int, List)} for
+	 * this range and error codes doesn't wait for tsserver.
+	 * 
+	 * @param startPosition
+	 * @param endPosition
+	 * @param errorCodes
+	 * @throws TypeScriptException
+	 */
+	void prefetchCodeFixes(int startPosition, int endPosition, List<Integer> errorCodes) throws TypeScriptException;
+
 	CompletableFuture<List<ApplicableRefactorInfo>> getApplicableRefactors(int startPosition, Integer endPosition)
 			throws TypeScriptException;
 
@@ -47,10 +47,49 @@ public interface ITypeScriptProject {
 
 	List<String> getSupportedCodeFixes() throws TypeScriptException;
 
+	/**
+	 * Returns true if tsserver provides code fixes for the given error code
+	 * and false otherwise. This method doesn't wait for tsserver: it returns
+	 * false while the supported code fixes are loading.
+	 * 
+	 * @param errorCode
+	 *            the TypeScript error code.
+	 * @return true if tsserver provides code fixes for the given error code
+	 *         and false otherwise.
+	 */
 	boolean canFix(Integer errorCode);
 
 	ITypeScriptFile getOpenedFile(String fileName);
 
+	/**
+	 * Register the given files in tsserver with one request, without sending
+	 * their content: tsserver reads them from the disk. The files can be
+	 * analyzed (diagnostics, navtree, etc) without opening them one by one.
+	 * The content of a modified file must be sent by opening it.
+	 * 
+	 * <p>
+	 * A "tsconfig.json" or "jsconfig.json" of the file names gives the
+	 * compiler options of the files, otherwise the default options are used.
+	 * </p>
+	 * 
+	 * @param name
+	 *            the name of the file set, used to close it.
+	 * @param fileNames
+	 *            the file names.
+	 * @throws TypeScriptException
+	 */
+	void openExternalFiles(String name, List<String> fileNames) throws TypeScriptException;
+
+	/**
+	 * Unregister the files registered with
+	 * {@link #openExternalFiles(String, List)} for the given name.
+	 * 
+	 * @param name
+	 *            the name of the file set.
+	 * @throws TypeScriptException
+	 */
+	void closeExternalFiles(String name) throws TypeScriptException;
+
 	void dispose() throws TypeScriptException;
 
 	<T> T getData(String key);
@@ -65,6 +104,22 @@ public interface ITypeScriptProject {
 
 	void disposeServer();
 
+	/**
+	 * Start in background the tsserver process of this project if the client
+	 * is not created (ex : when the first editor of the project is opened),
+	 * so the first request doesn't wait for node.js startup. The project
+	 * settings are resolved by the caller thread.
+	 */
+	void prewarmServer();
+
+	/**
+	 * Dispose the client when the project is closed: the opened files are
+	 * closed and the tsserver process, if it is idle, is kept in a pool to be
+	 * reused when the project is reopened. Use {@link #disposeServer()} to
+	 * stop tsserver.
+	 */
+	void releaseServer();
+
 	void disposeCompiler();
 
 	boolean isServerDisposed();
@@ -0,0 +1,345 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.resources;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ts.TypeScriptException;
+import ts.client.diagnostics.DiagnosticEventBody;
+import ts.client.diagnostics.IDiagnostic;
+import ts.client.navbar.NavigationBarItem;
+import ts.utils.FileUtils;
+
+/**
+ * Analyze a lot of files with tsserver without an editor (ex : on a build
+ * server).
+ *
+ * <p>
+ * The files of a directory are registered in tsserver with one request (see
+ * {@link ITypeScriptProject#openExternalFiles(String, List)}), tsserver reads
+ * them from the disk and they are read by the analyzer only when a result
+ * must be converted. Only the files updated with
+ * {@link #updateFile(VirtualTypeScriptFile, String)} or opened with a content
+ * are sent to tsserver. The requests are
+ * pipelined: at most {@link #getMaxPendingRequests()} requests are sent to
+ * tsserver without having their response, and each result is given to the
+ * {@link IBatchAnalysisListener} as soon as it is available instead of
+ * waiting for the whole batch.
+ * </p>
+ *
+ * <pre>
+ * TypeScriptBatchAnalyzer analyzer = new TypeScriptBatchAnalyzer(tsProject);
+ * try {
+ * 	analyzer.openDirectory(srcDir);
+ * 	analyzer.diagnostics(listener).get();
+ * } finally {
+ * 	analyzer.close();
+ * }
+ * </pre>
+ *
+ */
+public class TypeScriptBatchAnalyzer {
+
+	/**
+	 * Default max number of requests sent to tsserver without having their
+	 * response.
+	 */
+	public static final int DEFAULT_MAX_PENDING_REQUESTS = 64;
+
+	private static final AtomicInteger EXTERNAL_FILES_COUNT = new AtomicInteger();
+
+	/**
+	 * Request to execute for a file.
+	 *
+	 * @param <T>
+	 *            the result type.
+	 */
+	public interface IFileRequest<T> {
+
+		CompletableFuture<T> execute(ITypeScriptFile file) throws TypeScriptException;
+	}
+
+	private final ITypeScriptProject tsProject;
+	private final List<VirtualTypeScriptFile> files;
+	private final List<String> externalFilesNames;
+	private int maxPendingRequests;
+
+	public TypeScriptBatchAnalyzer(ITypeScriptProject tsProject) {
+		this.tsProject = tsProject;
+		this.files = new ArrayList<>();
+		this.externalFilesNames = new ArrayList<>();
+		this.maxPendingRequests = DEFAULT_MAX_PENDING_REQUESTS;
+	}
+
+	public int getMaxPendingRequests() {
+		return maxPendingRequests;
+	}
+
+	public void setMaxPendingRequests(int maxPendingRequests) {
+		this.maxPendingRequests = Math.max(1, maxPendingRequests);
+	}
+
+	/**
+	 * Register the TypeScript/JavaScript files of the given directory and its
+	 * sub-directories, except the "node_modules" and "bower_components"
+	 * directories. The files are registered with one request, their content
+	 * is not read and not sent to tsserver. The nearest "tsconfig.json" (or
+	 * "jsconfig.json") of the directory is registered with the files to use
+	 * its compiler options.
+	 *
+	 * @param dir
+	 *            the directory.
+	 * @return the registered files.
+	 * @throws IOException
+	 * @throws TypeScriptException
+	 */
+	public List<VirtualTypeScriptFile> openDirectory(File dir) throws IOException, TypeScriptException {
+		List<File> sources = new ArrayList<>();
+		collectFiles(dir, sources);
+		List<VirtualTypeScriptFile> registered = new ArrayList<>(sources.size());
+		List<String> fileNames = new ArrayList<>(sources.size());
+		for (File source : sources) {
+			// the content is read only to convert the positions of a result,
+			// it is not sent.
+			VirtualTypeScriptFile file = new VirtualTypeScriptFile(tsProject, source);
+			registered.add(file);
+			fileNames.add(file.getName());
+		}
+		File configFile = findConfigFile(dir);
+		if (configFile != null) {
+			fileNames.add(FileUtils.getPath(configFile));
+		}
+		String name = "tsbatch-" + EXTERNAL_FILES_COUNT.incrementAndGet();
+		tsProject.openExternalFiles(name, fileNames);
+		synchronized (files) {
+			externalFilesNames.add(name);
+			files.addAll(registered);
+		}
+		return registered;
+	}
+
+	private static File findConfigFile(File dir) {
+		File current = dir.getAbsoluteFile();
+		while (current != null) {
+			File configFile = new File(current, FileUtils.TSCONFIG_JSON);
+			if (configFile.isFile()) {
+				return configFile;
+			}
+			configFile = new File(current, FileUtils.JSCONFIG_JSON);
+			if (configFile.isFile()) {
+				return configFile;
+			}
+			current = current.getParentFile();
+		}
+		return null;
+	}
+
+	private static void collectFiles(File dir, List<File> sources) {
+		File[] children = dir.listFiles();
+		if (children == null) {
+			return;
+		}
+		for (File child : children) {
+			if (child.isDirectory()) {
+				String name = child.getName();
+				if (!FileUtils.NODE_MODULES.equals(name) && !FileUtils.BOWER_COMPONENTS.equals(name)) {
+					collectFiles(child, sources);
+				}
+			} else if (isSourceFile(child.getName())) {
+				sources.add(child);
+			}
+		}
+	}
+
+	private static boolean isSourceFile(String name) {
+		String extension = FileUtils.getFileExtension(name);
+		return FileUtils.TS_EXTENSION.equals(extension) || FileUtils.TSX_EXTENSION.equals(extension)
+				|| FileUtils.JS_EXTENSION.equals(extension) || FileUtils.JSX_EXTENSION.equals(extension);
+	}
+
+	/**
+	 * Open the given file.
+	 *
+	 * @param file
+	 *            the file to open.
+	 * @return the opened file.
+	 * @throws IOException
+	 * @throws TypeScriptException
+	 */
+	public VirtualTypeScriptFile openFile(File file) throws IOException, TypeScriptException {
+		return openFile(VirtualTypeScriptFile.create(tsProject, file));
+	}
+
+	/**
+	 * Open a file with the given name and content.
+	 *
+	 * @param name
+	 *            the file name.
+	 * @param contents
+	 *            the content of the file.
+	 * @return the opened file.
+	 * @throws TypeScriptException
+	 */
+	public VirtualTypeScriptFile openFile(String name, String contents) throws TypeScriptException {
+		return openFile(new VirtualTypeScriptFile(tsProject, name, contents));
+	}
+
+	private VirtualTypeScriptFile openFile(VirtualTypeScriptFile file) throws TypeScriptException {
+		// "open" has no response, so it doesn't wait for tsserver.
+		file.open();
+		synchronized (files) {
+			files.add(file);
+		}
+		return file;
+	}
+
+	/**
+	 * Update the content of the given file and send it to tsserver.
+	 *
+	 * @param file
+	 *            the file to update.
+	 * @param contents
+	 *            the new content.
+	 * @throws TypeScriptException
+	 */
+	public void updateFile(VirtualTypeScriptFile file, String contents) throws TypeScriptException {
+		file.setContents(contents);
+		if (!file.isOpened()) {
+			// the file was read by tsserver from the disk.
+			file.open();
+		}
+	}
+
+	/**
+	 * Returns the opened and registered files.
+	 *
+	 * @return the opened and registered files.
+	 */
+	public List<VirtualTypeScriptFile> getFiles() {
+		synchronized (files) {
+			return Collections.unmodifiableList(new ArrayList<>(files));
+		}
+	}
+
+	/**
+	 * Compute the syntactic and semantic diagnostics of the files.
+	 *
+	 * @param listener
+	 *            the listener which receives the diagnostics of each file.
+	 * @return a future which is completed when all files are analyzed.
+	 * @throws TypeScriptException
+	 */
+	public CompletableFuture<Void> diagnostics(IBatchAnalysisListener<DiagnosticEventBody> listener)
+			throws TypeScriptException {
+		return analyze(file -> file.syntacticDiagnosticsSync(true)
+				.thenCombine(file.semanticDiagnosticsSync(true), (syntactic, semantic) -> {
+					List<IDiagnostic> diagnostics = new ArrayList<>();
+					addDiagnostics(syntactic, diagnostics);
+					addDiagnostics(semantic, diagnostics);
+					return new DiagnosticEventBody(file.getName(), diagnostics);
+				}), listener);
+	}
+
+	private static void addDiagnostics(DiagnosticEventBody body, List<IDiagnostic> diagnostics) {
+		if (body != null && body.getDiagnostics() != null) {
+			diagnostics.addAll(body.getDiagnostics());
+		}
+	}
+
+	/**
+	 * Compute the navigation tree of the files.
+	 *
+	 * @param listener
+	 *            the listener which receives the navigation tree of each file.
+	 * @return a future which is completed when all files are analyzed.
+	 * @throws TypeScriptException
+	 */
+	public CompletableFuture<Void> navtree(IBatchAnalysisListener<NavigationBarItem> listener)
+			throws TypeScriptException {
+		return analyze(file -> tsProject.getClient().navtree(file.getName(), file), listener);
+	}
+
+	/**
+	 * Execute the given request for each file. This method returns
+	 * when the last request is sent, it blocks while the max number of pending
+	 * requests is reached.
+	 *
+	 * @param request
+	 *            the request to execute for a file (ex : file ->
+	 *            file.references(position)).
+	 * @param listener
+	 *            the listener which receives the result of each file.
+	 * @return a future which is completed when all files are analyzed.
+	 * @throws TypeScriptException
+	 */
+	public <T> CompletableFuture<Void> analyze(IFileRequest<T> request, IBatchAnalysisListener<T> listener)
+			throws TypeScriptException {
+		List<VirtualTypeScriptFile> filesToAnalyze = getFiles();
+		Semaphore pendingRequests = new Semaphore(maxPendingRequests);
+		CompletableFuture<?>[] results = new CompletableFuture<?>[filesToAnalyze.size()];
+		for (int i = 0; i < results.length; i++) {
+			ITypeScriptFile file = filesToAnalyze.get(i);
+			try {
+				pendingRequests.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TypeScriptException(e);
+			}
+			CompletableFuture<T> result;
+			try {
+				result = request.execute(file);
+			} catch (TypeScriptException e) {
+				result = new CompletableFuture<>();
+				result.completeExceptionally(e);
+			}
+			results[i] = result.whenComplete((value, e) -> {
+				pendingRequests.release();
+				if (e != null) {
+					listener.onError(file, e);
+				} else {
+					listener.onResult(file, value);
+				}
+			});
+		}
+		// errors are given to the listener, the future is completed when all
+		// files are analyzed.
+		return CompletableFuture.allOf(results).handle((value, e) -> null);
+	}
+
+	/**
+	 * Close the opened files and unregister the files of the directories.
+	 *
+	 * @throws TypeScriptException
+	 */
+	public void close() throws TypeScriptException {
+		for (VirtualTypeScriptFile file : getFiles()) {
+			if (file.isOpened()) {
+				file.close();
+			}
+		}
+		List<String> names;
+		synchronized (files) {
+			names = new ArrayList<>(externalFilesNames);
+			externalFilesNames.clear();
+			files.clear();
+		}
+		for (String name : names) {
+			tsProject.closeExternalFiles(name);
+		}
+	}
+}
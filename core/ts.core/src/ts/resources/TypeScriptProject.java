@@ -28,15 +28,19 @@ import ts.client.ScriptKindName;
 import ts.client.TypeScriptServiceClient;
 import ts.client.completions.ICompletionEntryMatcher;
 import ts.client.completions.ICompletionEntryMatcherProvider;
+import ts.client.definition.DefinitionCache;
 import ts.client.diagnostics.DiagnosticEvent;
 import ts.client.navto.NavtoItem;
 import ts.client.projectinfo.ProjectInfo;
 import ts.cmd.tsc.CompilerOptionCapability;
+import ts.cmd.tsc.CompilerOptions;
 import ts.cmd.tsc.ITypeScriptCompiler;
 import ts.cmd.tsc.TypeScriptCompiler;
 import ts.cmd.tslint.ITypeScriptLint;
 import ts.cmd.tslint.TypeScriptLint;
+import ts.internal.client.protocol.OpenExternalProjectRequestArgs.ExternalFile;
 import ts.utils.FileUtils;
+import ts.utils.IntHashSet;
 import ts.utils.VersionHelper;
 
 /**
@@ -45,6 +49,13 @@ import ts.utils.VersionHelper;
  */
 public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMatcherProvider {
 
+	/**
+	 * Id of the session used to build cancellation pipe names which are stable
+	 * for a project while the JVM is running, so a pooled tsserver process can
+	 * be reused when the project is reopened.
+	 */
+	private static final String SESSION_ID = UUID.randomUUID().toString();
+
 	private static final ISupportable CANCELLATION_CAPABILITY = new ISupportable() {
 
 		@Override
@@ -70,10 +81,18 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 	private final Map<ISupportable, Boolean> serverCapabilities;
 	private Map<CompilerOptionCapability, Boolean> compilerCapabilities;
 
-	private List<String> supportedCodeFixes;
+	private volatile CompletableFuture<List<String>> supportedCodeFixes;
+	// error codes of the supported code fixes, null while they are loading.
+	private volatile IntHashSet supportedErrorCodes;
 
 	private ProjectInfo projectInfo;
 
+	private final DefinitionCache definitionCache = new DefinitionCache();
+
+	// name -> files opened one by one when "openExternalProject" is not
+	// supported.
+	private final Map<String, List<String>> externalFiles = new HashMap<>();
+
 	public TypeScriptProject(File projectDir, ITypeScriptProjectSettings projectSettings) {
 		this.projectDir = projectDir;
 		this.projectSettings = projectSettings;
@@ -113,31 +132,77 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 		this.openedFiles.remove(name);
 	}
 
+	/**
+	 * Returns the cache of the "definition" results of the project.
+	 * 
+	 * @return the cache of the "definition" results of the project.
+	 */
+	DefinitionCache getDefinitionCache() {
+		return definitionCache;
+	}
+
 	@Override
 	public List<String> getSupportedCodeFixes() throws TypeScriptException {
-		if (supportedCodeFixes != null) {
-			return supportedCodeFixes;
-		}
-		if (canSupport(CommandNames.GetSupportedCodeFixes)) {
-			try {
-				supportedCodeFixes = getClient().getSupportedCodeFixes().get(5000, TimeUnit.MILLISECONDS);
-			} catch (Exception e) {
-				e.printStackTrace();
+		CompletableFuture<List<String>> codeFixes = supportedCodeFixes;
+		if (codeFixes == null) {
+			// the supported code fixes are loaded when the client is created.
+			getClient();
+			codeFixes = supportedCodeFixes;
+			if (codeFixes == null) {
+				return new ArrayList<String>();
 			}
-		} else {
-			supportedCodeFixes = new ArrayList<String>();
 		}
-		return supportedCodeFixes;
+		try {
+			return codeFixes.get(5000, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			throw new TypeScriptException(e);
+		}
 	}
 
 	@Override
 	public boolean canFix(Integer errorCode) {
-		try {
-			return getSupportedCodeFixes().contains(String.valueOf(errorCode));
-		} catch (Throwable e) {
-			e.printStackTrace();
-			return false;
+		// never wait for tsserver: the code fixes are not available while the
+		// supported code fixes are loading.
+		IntHashSet errorCodes = supportedErrorCodes;
+		return errorCode != null && errorCodes != null && errorCodes.contains(errorCode);
+	}
+
+	/**
+	 * Load in background the supported code fixes of the created client.
+	 */
+	private void loadSupportedCodeFixes(ITypeScriptServiceClient client) {
+		CompletableFuture<List<String>> codeFixes;
+		if (canSupport(CommandNames.GetSupportedCodeFixes)) {
+			try {
+				codeFixes = client.getSupportedCodeFixes().exceptionally(e -> {
+					e.printStackTrace();
+					return new ArrayList<String>();
+				});
+			} catch (TypeScriptException e) {
+				e.printStackTrace();
+				codeFixes = CompletableFuture.completedFuture(new ArrayList<String>());
+			}
+		} else {
+			codeFixes = CompletableFuture.completedFuture(new ArrayList<String>());
 		}
+		CompletableFuture<List<String>> loading = codeFixes;
+		supportedCodeFixes = loading;
+		loading.thenAccept(fixes -> {
+			IntHashSet errorCodes = new IntHashSet(fixes != null ? fixes.size() : 0);
+			if (fixes != null) {
+				for (String fix : fixes) {
+					try {
+						errorCodes.add(Integer.parseInt(fix));
+					} catch (NumberFormatException e) {
+						// ignore invalid error code
+					}
+				}
+			}
+			// ignore the result of a disposed client
+			if (supportedCodeFixes == loading) {
+				supportedErrorCodes = errorCodes;
+			}
+		});
 	}
 
 	@Override
@@ -148,6 +213,7 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 					this.client = createServiceClient(getProjectDir());
 					copyListeners();
 					onCreateClient(client);
+					loadSupportedCodeFixes(client);
 				} catch (Exception e) {
 					if (e instanceof TypeScriptException) {
 						throw (TypeScriptException) e;
@@ -164,11 +230,94 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 
 	}
 
+	@Override
+	public void prewarmServer() {
+		synchronized (serverLock) {
+			if (!isServerDisposed()) {
+				return;
+			}
+		}
+		try {
+			TypeScriptServiceClient.prewarm(getProjectDir(), getProjectSettings().getTypesScriptDir(),
+					getProjectSettings().getNodejsInstallPath(), getProjectSettings().isEnableTelemetry(),
+					getProjectSettings().isDisableAutomaticTypingAcquisition(), getCancellationPipeName(),
+					getProjectSettings().getTsserverPluginsFile(), null);
+		} catch (TypeScriptException e) {
+			e.printStackTrace();
+		}
+	}
+
 	@Override
 	public synchronized ITypeScriptFile getOpenedFile(String fileName) {
 		return openedFiles.get(fileName);
 	}
 
+	@Override
+	public void openExternalFiles(String name, List<String> fileNames) throws TypeScriptException {
+		ITypeScriptServiceClient client = getClient();
+		List<String> openedOneByOne;
+		if (canSupport(CommandNames.OpenExternalProject)) {
+			List<ExternalFile> rootFiles = new ArrayList<>(fileNames.size());
+			boolean hasJs = false;
+			for (String fileName : fileNames) {
+				// no content, tsserver reads the file. A tsconfig.json is read
+				// by tsserver to get the compiler options of the files.
+				rootFiles.add(new ExternalFile(fileName, null, null, null));
+				hasJs |= FileUtils.JS_EXTENSION.equals(FileUtils.getFileExtension(fileName))
+						|| FileUtils.JSX_EXTENSION.equals(FileUtils.getFileExtension(fileName));
+			}
+			// the options are used only when there is no tsconfig.json.
+			CompilerOptions options = new CompilerOptions();
+			if (hasJs) {
+				options.setAllowJs(true);
+			}
+			client.openExternalProject(getExternalProjectName(name), rootFiles, options);
+			openedOneByOne = new ArrayList<>();
+		} else {
+			openedOneByOne = new ArrayList<>(fileNames.size());
+			for (String fileName : fileNames) {
+				if (!isConfigFile(fileName)) {
+					// tsserver finds the tsconfig.json of an opened file.
+					client.openFile(fileName, null);
+					openedOneByOne.add(fileName);
+				}
+			}
+		}
+		synchronized (externalFiles) {
+			externalFiles.put(name, openedOneByOne);
+		}
+	}
+
+	@Override
+	public void closeExternalFiles(String name) throws TypeScriptException {
+		List<String> openedOneByOne;
+		synchronized (externalFiles) {
+			openedOneByOne = externalFiles.remove(name);
+		}
+		if (openedOneByOne == null || isServerDisposed()) {
+			return;
+		}
+		ITypeScriptServiceClient client = getClient();
+		if (canSupport(CommandNames.CloseExternalProject)) {
+			client.closeExternalProject(getExternalProjectName(name));
+		}
+		for (String fileName : openedOneByOne) {
+			if (getOpenedFile(fileName) == null) {
+				client.closeFile(fileName);
+			}
+		}
+	}
+
+	private static boolean isConfigFile(String fileName) {
+		String name = new File(fileName).getName();
+		return FileUtils.TSCONFIG_JSON.equals(name) || FileUtils.JSCONFIG_JSON.equals(name);
+	}
+
+	private String getExternalProjectName(String name) {
+		// tsserver expects a file name for the external project.
+		return FileUtils.getPath(new File(getProjectDir(), name));
+	}
+
 	@Override
 	public void dispose() throws TypeScriptException {
 		disposeServer();
@@ -194,8 +343,9 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 
 	private String getCancellationPipeName() {
 		if (canSupport(CANCELLATION_CAPABILITY)) {
-			String name = new StringBuilder("eclipse-").append("tscancellation-").append(UUID.randomUUID().toString())
-					.append(".sock").toString();
+			String name = new StringBuilder("eclipse-").append("tscancellation-").append(SESSION_ID).append('-')
+					.append(Integer.toHexString(FileUtils.getPath(getProjectDir()).hashCode())).append(".sock")
+					.toString();
 			return FileUtils.getPath(new File(System.getProperty("java.io.tmpdir"), name));
 		}
 		return null;
@@ -257,6 +407,15 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 
 	@Override
 	public void disposeServer() {
+		disposeServer(false);
+	}
+
+	@Override
+	public void releaseServer() {
+		disposeServer(true);
+	}
+
+	private void disposeServer(boolean reuseProcess) {
 		synchronized (serverLock) {
 			if (!isServerDisposed()) {
 				if (hasClient()) {
@@ -269,13 +428,35 @@ public class TypeScriptProject implements ITypeScriptProject, ICompletionEntryMa
 							e.printStackTrace();
 						}
 					}
-					client.dispose();
+					if (reuseProcess) {
+						// the next client of the process must not see the
+						// files of this project.
+						List<String> names;
+						synchronized (externalFiles) {
+							names = new ArrayList<String>(externalFiles.keySet());
+						}
+						for (String name : names) {
+							try {
+								closeExternalFiles(name);
+							} catch (TypeScriptException e) {
+								e.printStackTrace();
+							}
+						}
+						client.release();
+					} else {
+						client.dispose();
+					}
 					client = null;
 				}
 			}
 		}
 		serverCapabilities.clear();
+		synchronized (externalFiles) {
+			externalFiles.clear();
+		}
 		supportedCodeFixes = null;
+		supportedErrorCodes = null;
+		definitionCache.invalidate();
 	}
 
 	@Override
@@ -0,0 +1,184 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.resources;
+
+import java.io.File;
+import java.io.IOException;
+
+import ts.TypeScriptException;
+import ts.client.Location;
+import ts.client.ScriptKindName;
+import ts.internal.LineIndex;
+import ts.utils.FileUtils;
+import ts.utils.TypeScriptHelper;
+
+/**
+ * TypeScript file whose content is held in memory, to use tsserver without an
+ * editor (ex : batch analysis of a directory on a build server).
+ *
+ * <p>
+ * The content is sent to tsserver when the file is opened and each time it is
+ * changed with {@link #setContents(String)}. A file which is registered
+ * without being opened (see
+ * {@link ITypeScriptProject#openExternalFiles(String, java.util.List)}) is
+ * read by tsserver from the disk.
+ * </p>
+ *
+ * <p>
+ * A file created with {@link #VirtualTypeScriptFile(ITypeScriptProject, File)}
+ * reads its content from the disk the first time it is required (ex : to
+ * convert the locations of a tsserver response), most files of a batch
+ * analysis are never read by this class.
+ * </p>
+ *
+ */
+public class VirtualTypeScriptFile extends AbstractTypeScriptFile {
+
+	private final String name;
+	private final File file;
+	private String contents;
+	private LineIndex lineIndex;
+
+	public VirtualTypeScriptFile(ITypeScriptProject tsProject, String name, String contents) {
+		this(tsProject, name, contents, getScriptKind(name));
+	}
+
+	public VirtualTypeScriptFile(ITypeScriptProject tsProject, String name, String contents,
+			ScriptKindName scriptKind) {
+		super(tsProject, scriptKind);
+		this.name = name;
+		this.file = null;
+		this.contents = contents;
+	}
+
+	/**
+	 * Create a virtual file whose content is read from the given file the
+	 * first time it is required.
+	 *
+	 * @param tsProject
+	 *            the TypeScript project.
+	 * @param file
+	 *            the file to read.
+	 */
+	public VirtualTypeScriptFile(ITypeScriptProject tsProject, File file) {
+		super(tsProject, getScriptKind(file.getName()));
+		this.name = FileUtils.getPath(file);
+		this.file = file;
+	}
+
+	/**
+	 * Create a virtual file with the content of the given file.
+	 *
+	 * @param tsProject
+	 *            the TypeScript project.
+	 * @param file
+	 *            the file to read.
+	 * @return a virtual file with the content of the given file.
+	 * @throws IOException
+	 */
+	public static VirtualTypeScriptFile create(ITypeScriptProject tsProject, File file) throws IOException {
+		return new VirtualTypeScriptFile(tsProject, FileUtils.getPath(file), FileUtils.getContents(file));
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getPrefix(int position) {
+		String contents = getContents();
+		return contents != null ? TypeScriptHelper.getPrefix(contents, position) : null;
+	}
+
+	/**
+	 * Returns the content of the file and null if it can't be read from the
+	 * disk.
+	 */
+	@Override
+	public synchronized String getContents() {
+		try {
+			return loadContents();
+		} catch (TypeScriptException e) {
+			return null;
+		}
+	}
+
+	private synchronized String loadContents() throws TypeScriptException {
+		if (contents == null && file != null) {
+			try {
+				contents = FileUtils.getContents(file);
+			} catch (IOException e) {
+				throw new TypeScriptException(e);
+			}
+		}
+		return contents;
+	}
+
+	/**
+	 * Update the content of the file and send it to tsserver if the file is
+	 * opened.
+	 *
+	 * @param contents
+	 *            the new content.
+	 * @throws TypeScriptException
+	 */
+	public void setContents(String contents) throws TypeScriptException {
+		synchronized (this) {
+			this.contents = contents;
+			this.lineIndex = null;
+		}
+		if (isOpened()) {
+			getProject().getClient().updateFile(getName(), contents);
+		}
+		incrementVersion();
+	}
+
+	@Override
+	public Location getLocation(int position) throws TypeScriptException {
+		return getLineIndex().getLocation(position);
+	}
+
+	@Override
+	public int getPosition(int line, int offset) throws TypeScriptException {
+		return getLineIndex().getPosition(line, offset);
+	}
+
+	private synchronized LineIndex getLineIndex() throws TypeScriptException {
+		if (lineIndex == null) {
+			// computed once per content, tsserver responses contain a lot of
+			// locations.
+			lineIndex = new LineIndex(loadContents());
+		}
+		return lineIndex;
+	}
+
+	/**
+	 * Returns the script kind of the given file name according its extension.
+	 *
+	 * @param name
+	 *            the file name.
+	 * @return the script kind of the given file name.
+	 */
+	public static ScriptKindName getScriptKind(String name) {
+		String extension = FileUtils.getFileExtension(name);
+		if (FileUtils.TSX_EXTENSION.equals(extension)) {
+			return ScriptKindName.TSX;
+		}
+		if (FileUtils.JS_EXTENSION.equals(extension)) {
+			return ScriptKindName.JS;
+		}
+		if (FileUtils.JSX_EXTENSION.equals(extension)) {
+			return ScriptKindName.JSX;
+		}
+		return ScriptKindName.TS;
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.utils;
+
+import java.util.Arrays;
+
+/**
+ * Regions of a text changed since the last {@link #clear()}, kept sorted,
+ * disjoint and shifted by the later changes.
+ *
+ * <p>
+ * When the number of regions exceeds {@link #MAX_REGIONS}, the regions are
+ * collapsed into one region which covers all of them.
+ * </p>
+ *
+ */
+public class DirtyRegions {
+
+	/**
+	 * Max number of regions tracked.
+	 */
+	public static final int MAX_REGIONS = 64;
+
+	// start and end offset of each region
+	private int[] regions;
+	private int size;
+
+	public DirtyRegions() {
+		this.regions = new int[16];
+	}
+
+	/**
+	 * Notify that the text between offset and offset + length is replaced by
+	 * a text of the given length.
+	 *
+	 * @param offset
+	 *            the offset of the change.
+	 * @param length
+	 *            the length of the replaced text.
+	 * @param textLength
+	 *            the length of the new text.
+	 */
+	public synchronized void changed(int offset, int length, int textLength) {
+		int end = offset + length;
+		int delta = textLength - length;
+		int newStart = offset;
+		int newEnd = offset + textLength;
+		// regions which touch the change are merged with it, the regions after
+		// the change are shifted.
+		int first = size;
+		int last = -1;
+		for (int i = 0; i < size; i++) {
+			int start = regions[i * 2];
+			int regionEnd = regions[i * 2 + 1];
+			if (regionEnd < offset) {
+				continue;
+			}
+			if (start > end) {
+				regions[i * 2] = start + delta;
+				regions[i * 2 + 1] = regionEnd + delta;
+				continue;
+			}
+			first = Math.min(first, i);
+			last = i;
+			newStart = Math.min(newStart, start);
+			newEnd = Math.max(newEnd, regionEnd + delta);
+		}
+		if (last == -1) {
+			// insert the new region
+			int index = 0;
+			while (index < size && regions[index * 2] < newStart) {
+				index++;
+			}
+			ensureCapacity(size + 1);
+			System.arraycopy(regions, index * 2, regions, index * 2 + 2, (size - index) * 2);
+			regions[index * 2] = newStart;
+			regions[index * 2 + 1] = newEnd;
+			size++;
+		} else {
+			// replace the merged regions with the new region
+			regions[first * 2] = newStart;
+			regions[first * 2 + 1] = newEnd;
+			int removed = last - first;
+			System.arraycopy(regions, (last + 1) * 2, regions, (first + 1) * 2, (size - last - 1) * 2);
+			size -= removed;
+		}
+		if (size > MAX_REGIONS) {
+			regions[1] = regions[size * 2 - 1];
+			size = 1;
+		}
+	}
+
+	/**
+	 * Returns the start and end offset of each region.
+	 *
+	 * @return the start and end offset of each region.
+	 */
+	public synchronized int[] getRegions() {
+		return Arrays.copyOf(regions, size * 2);
+	}
+
+	/**
+	 * Returns true if no region is changed and false otherwise.
+	 *
+	 * @return true if no region is changed and false otherwise.
+	 */
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Forget the changed regions.
+	 */
+	public synchronized void clear() {
+		size = 0;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity * 2 > regions.length) {
+			regions = Arrays.copyOf(regions, Math.max(capacity * 2, regions.length * 2));
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ *  Copyright (c) 2013-2016 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manifest of the content extracted from an archive (zip, tar.gz, tar.xz).
+ *
+ * <p>
+ * The manifest is stored in the destination folder once the extraction is
+ * complete. It contains the signature (size and last modified) of the archive
+ * and the size of each extracted file. A missing manifest means that the
+ * extraction was never done or was interrupted, a manifest which doesn't match
+ * the archive or the extracted files means that the extracted content is
+ * corrupted.
+ * </p>
+ *
+ */
+class ExtractionManifest {
+
+	private static final String MANIFEST_EXTENSION = ".manifest"; //$NON-NLS-1$
+	private static final char SEPARATOR = '\t';
+
+	private final File archive;
+	private final File file;
+	private final Map<String, Long> files;
+
+	ExtractionManifest(File archive, File destination) {
+		this.archive = archive;
+		this.file = new File(destination, "." + archive.getName() + MANIFEST_EXTENSION); //$NON-NLS-1$
+		this.files = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Add the given extracted file.
+	 *
+	 * @param path
+	 *            the path of the file relative to the destination folder.
+	 * @param size
+	 *            the file size.
+	 */
+	void addFile(String path, long size) {
+		files.put(path, size);
+	}
+
+	/**
+	 * Delete the manifest before an extraction to mark the extracted content as
+	 * partial until the extraction is complete.
+	 */
+	void delete() {
+		if (file.exists()) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Store the manifest.
+	 *
+	 * @throws IOException
+	 */
+	void store() throws IOException {
+		File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		BufferedWriter writer = null;
+		try {
+			writer = new BufferedWriter(
+					new OutputStreamWriter(new FileOutputStream(tmpFile), StandardCharsets.UTF_8));
+			writer.write(getArchiveSignature());
+			writer.newLine();
+			for (Map.Entry<String, Long> entry : files.entrySet()) {
+				writer.write(String.valueOf(entry.getValue()));
+				writer.write(SEPARATOR);
+				writer.write(entry.getKey());
+				writer.newLine();
+			}
+		} finally {
+			IOUtils.closeQuietly(writer);
+		}
+		delete();
+		if (!tmpFile.renameTo(file)) {
+			tmpFile.delete();
+			throw new IOException("Cannot store extraction manifest " + file.getPath());
+		}
+	}
+
+	/**
+	 * Returns true if the manifest exists, matches the archive and if all
+	 * extracted files exist with the expected size and false otherwise.
+	 *
+	 * @return true if the extracted content is valid and false otherwise.
+	 */
+	boolean verify() {
+		if (!file.exists()) {
+			return false;
+		}
+		File destination = file.getParentFile();
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+			if (!getArchiveSignature().equals(reader.readLine())) {
+				// the archive was updated.
+				return false;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int index = line.indexOf(SEPARATOR);
+				if (index == -1) {
+					return false;
+				}
+				long size = Long.parseLong(line.substring(0, index));
+				File extracted = new File(destination, line.substring(index + 1));
+				if (!extracted.isFile() || extracted.length() != size) {
+					return false;
+				}
+			}
+			return true;
+		} catch (IOException | NumberFormatException e) {
+			return false;
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+	}
+
+	private String getArchiveSignature() {
+		return archive.getName() + SEPARATOR + archive.length() + SEPARATOR + archive.lastModified();
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.utils;
+
+import java.util.Arrays;
+
+/**
+ * Set of int values (open addressing with linear probing) which avoids boxing
+ * on lookup.
+ *
+ */
+public class IntHashSet {
+
+	private static final int FREE = Integer.MIN_VALUE;
+
+	private int[] values;
+	private int size;
+	// Integer.MIN_VALUE is used to mark free slots
+	private boolean containsFree;
+
+	public IntHashSet() {
+		this(16);
+	}
+
+	public IntHashSet(int expectedSize) {
+		int capacity = 4;
+		while (capacity < expectedSize * 2) {
+			capacity <<= 1;
+		}
+		this.values = new int[capacity];
+		Arrays.fill(values, FREE);
+	}
+
+	/**
+	 * Add the given value.
+	 *
+	 * @param value
+	 *            the value to add.
+	 * @return true if the value was added and false if it was already in the
+	 *         set.
+	 */
+	public boolean add(int value) {
+		if (value == FREE) {
+			if (containsFree) {
+				return false;
+			}
+			containsFree = true;
+			size++;
+			return true;
+		}
+		int index = indexOf(values, value);
+		if (values[index] == value) {
+			return false;
+		}
+		values[index] = value;
+		size++;
+		if (size * 2 > values.length) {
+			rehash();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the set contains the given value and false otherwise.
+	 *
+	 * @param value
+	 *            the value.
+	 * @return true if the set contains the given value and false otherwise.
+	 */
+	public boolean contains(int value) {
+		if (value == FREE) {
+			return containsFree;
+		}
+		return values[indexOf(values, value)] == value;
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static int indexOf(int[] values, int value) {
+		int mask = values.length - 1;
+		// spread the bits, error codes are close to each other.
+		int hash = value * 0x9E3779B9;
+		int index = (hash ^ (hash >>> 16)) & mask;
+		while (values[index] != FREE && values[index] != value) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void rehash() {
+		int[] newValues = new int[values.length * 2];
+		Arrays.fill(newValues, FREE);
+		for (int value : values) {
+			if (value != FREE) {
+				newValues[indexOf(newValues, value)] = value;
+			}
+		}
+		values = newValues;
+	}
+}
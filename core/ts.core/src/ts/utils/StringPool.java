@@ -0,0 +1,74 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of strings used to share the instances of the strings which are
+ * repeated in the tsserver responses (kinds, kind modifiers, names of the
+ * global completion entries, etc).
+ *
+ * <p>
+ * The pool is a hash table without collision list: when two strings share the
+ * same slot, the last one replaces the other. So the pool never grows and the
+ * strings which are often parsed stay in the pool.
+ * </p>
+ *
+ */
+public class StringPool {
+
+	/**
+	 * Pool for the kinds, kind modifiers and sort texts.
+	 */
+	public static final StringPool KINDS = new StringPool(256);
+
+	/**
+	 * Pool for the names (completion entries, navigation items).
+	 */
+	public static final StringPool NAMES = new StringPool(16384);
+
+	private final AtomicReferenceArray<String> slots;
+	private final int mask;
+
+	/**
+	 * Create a pool.
+	 *
+	 * @param size
+	 *            the number of slots, rounded up to a power of 2.
+	 */
+	public StringPool(int size) {
+		int capacity = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+		this.slots = new AtomicReferenceArray<String>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns the pooled instance equal to the given string.
+	 *
+	 * @param s
+	 *            the string.
+	 * @return the pooled instance equal to the given string.
+	 */
+	public String get(String s) {
+		if (s == null) {
+			return null;
+		}
+		int hash = s.hashCode();
+		int index = (hash ^ (hash >>> 16)) & mask;
+		String pooled = slots.get(index);
+		if (pooled != null && pooled.equals(s)) {
+			return pooled;
+		}
+		slots.lazySet(index, s);
+		return s;
+	}
+}
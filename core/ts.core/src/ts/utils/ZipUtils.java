@@ -10,17 +10,31 @@
  */
 package ts.utils;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import org.tukaani.xz.XZInputStream;
 
@@ -30,6 +44,14 @@ import ts.internal.io.tar.TarInputStream;
 
 /**
  * Zip, tar.gz Utilities.
+ * 
+ * <p>
+ * Entries are written in parallel with large direct buffers and an
+ * extraction manifest is stored in the destination folder once the
+ * extraction is complete. {@link #extractIfNeeded(File, File)} uses this
+ * manifest to avoid extracting again an archive which was already extracted
+ * and to repair a partial or corrupted extraction.
+ * </p>
  *
  */
 public class ZipUtils {
@@ -39,6 +61,17 @@ public class ZipUtils {
 	public static final String TAR_XZ_EXTENSION = ".tar.xz";
 	private static final String BIN_FOLDER = "/bin";
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_PENDING_KB = 32 * 1024;
+	private static final int EXTRACT_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocateDirect(BUFFER_SIZE);
+		}
+	};
+
 	private ZipUtils() {
 	}
 
@@ -72,6 +105,52 @@ public class ZipUtils {
 		return file.isFile() && file.getName().toLowerCase().endsWith(TAR_XZ_EXTENSION);
 	}
 	
+	/**
+	 * Returns true if the given archive was completely extracted in the given
+	 * destination folder and if the extracted files are valid and false
+	 * otherwise.
+	 * 
+	 * @param file
+	 *            the archive (zip, tar.gz, tar.xz).
+	 * @param destination
+	 *            destination folder
+	 * @return true if the given archive was completely extracted in the given
+	 *         destination folder and false otherwise.
+	 */
+	public static boolean isExtracted(File file, File destination) {
+		return new ExtractionManifest(file, destination).verify();
+	}
+
+	/**
+	 * Extract the given archive (zip, tar.gz, tar.xz) to destination folder if
+	 * it was not extracted or if the extracted content is partial or
+	 * corrupted.
+	 * 
+	 * @param file
+	 *            the archive (zip, tar.gz, tar.xz).
+	 * @param destination
+	 *            destination folder
+	 * @return true if the archive was extracted and false if the extracted
+	 *         content was valid.
+	 * @throws IOException
+	 */
+	public static boolean extractIfNeeded(File file, File destination) throws IOException {
+		ExtractionManifest manifest = new ExtractionManifest(file, destination);
+		if (manifest.verify()) {
+			return false;
+		}
+		if (isZipFile(file)) {
+			extractZip(file, destination, manifest);
+		} else if (isTarGZFile(file)) {
+			extractTar(file, destination, true, manifest);
+		} else if (isTarXZFile(file)) {
+			extractTar(file, destination, false, manifest);
+		} else {
+			throw new IOException("Unsupported archive " + file.getPath());
+		}
+		return true;
+	}
+
 	/**
 	 * Extract zip file to destination folder.
 	 *
@@ -81,57 +160,58 @@ public class ZipUtils {
 	 *            destination folder
 	 */
 	public static void extractZip(File file, File destination) throws IOException {
-		ZipInputStream in = null;
-		OutputStream out = null;
-		try {
-			// Open the ZIP file
-			in = new ZipInputStream(new FileInputStream(file));
-
-			// Get the first entry
-			ZipEntry entry = null;
+		extractZip(file, destination, new ExtractionManifest(file, destination));
+	}
 
-			while ((entry = in.getNextEntry()) != null) {
-				String outFilename = entry.getName();
+	private static void extractZip(File file, File destination, final ExtractionManifest manifest)
+			throws IOException {
+		manifest.delete();
+		ExecutorService executor = createExecutor();
+		ZipFile zipFile = null;
+		try {
+			// Open the ZIP file with random access to extract entries in
+			// parallel.
+			zipFile = new ZipFile(file);
+			final ZipFile zip = zipFile;
+			List<Future<?>> futures = new ArrayList<>();
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				final ZipEntry entry = entries.nextElement();
+				final String outFilename = entry.getName();
 
 				// Open the output file
-				File extracted = new File(destination, outFilename);
+				final File extracted = new File(destination, outFilename);
 				if (entry.isDirectory()) {
 					extracted.mkdirs();
 				} else {
-					// Be sure that parent file exists
-					File baseDir = extracted.getParentFile();
-					if (!baseDir.exists()) {
-						baseDir.mkdirs();
-					}
-
-					out = new FileOutputStream(extracted);
-
-					// Transfer bytes from the ZIP file to the output file
-					byte[] buf = new byte[1024];
-					int len;
-
-					while ((len = in.read(buf)) > 0) {
-						out.write(buf, 0, len);
-					}
-
-					// Close the stream
-					out.close();
-					// Preserve original modification date
-					extracted.setLastModified(entry.getTime());
-					if (extracted.getParent().contains(BIN_FOLDER)) {
-						extracted.setExecutable(true);
-					}
+					futures.add(executor.submit(() -> {
+						InputStream in = zip.getInputStream(entry);
+						try {
+							// Transfer bytes from the ZIP file to the output
+							// file
+							long size = write(Channels.newChannel(in), extracted);
+							// Preserve original modification date
+							extracted.setLastModified(entry.getTime());
+							if (extracted.getParent().contains(BIN_FOLDER)) {
+								extracted.setExecutable(true);
+							}
+							manifest.addFile(outFilename, size);
+						} finally {
+							in.close();
+						}
+						return null;
+					}));
 				}
 			}
+			waitFor(futures);
 		} finally {
-			// Close the stream
-			if (in != null) {
-				in.close();
-			}
-			if (out != null) {
-				out.close();
+			executor.shutdownNow();
+			// Close the ZIP file
+			if (zipFile != null) {
+				zipFile.close();
 			}
 		}
+		manifest.store();
 	}
 
 	/**
@@ -167,88 +247,205 @@ public class ZipUtils {
 	 *            destination folder
 	 */
 	private static void extractTar(File file, File destination, boolean tarGz) throws IOException {
+		extractTar(file, destination, tarGz, new ExtractionManifest(file, destination));
+	}
+
+	private static void extractTar(File file, File destination, boolean tarGz, final ExtractionManifest manifest)
+			throws IOException {
+		manifest.delete();
+		ExecutorService executor = createExecutor();
+		// Limit the size of the entries read in memory and not written yet.
+		final Semaphore pending = new Semaphore(MAX_PENDING_KB);
 		TarInputStream in = null;
-		OutputStream out = null;
 		try {
-			// Open the ZIP file
-			in = new TarInputStream(tarGz ? new GZIPInputStream(new FileInputStream(file))
-					: new XZInputStream(new FileInputStream(file)));
+			// Open the TAR file. A tar can only be read sequentially, the
+			// content of each entry is read here and written by the executor.
+			InputStream fileIn = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+			in = new TarInputStream(tarGz ? new GZIPInputStream(fileIn, BUFFER_SIZE) : new XZInputStream(fileIn));
 
+			List<Future<?>> futures = new ArrayList<>();
+			List<TarEntry> links = new ArrayList<>();
 			// Get the first entry
 			TarEntry entry = null;
 
 			while ((entry = in.getNextEntry()) != null) {
-				String outFilename = entry.getName();
+				final String outFilename = entry.getName();
 
 				switch (entry.getFileType()) {
 				case TarEntry.DIRECTORY:
 					File extractedDir = new File(destination, outFilename);
-					if (extractedDir.isDirectory()) {
+					if (!extractedDir.isDirectory()) {
 						extractedDir.mkdirs();
 					}
 					break;
 				case TarEntry.FILE:
-					File extractedFile = new File(destination, outFilename);
-					// Be sure that parent file exists
-					File baseDir = extractedFile.getParentFile();
-					if (!baseDir.exists()) {
-						baseDir.mkdirs();
-					}
-
-					out = new FileOutputStream(extractedFile);
-
-					// Transfer bytes from the ZIP file to the output file
-					byte[] buf = new byte[1024];
-					int len;
-
-					while ((len = in.read(buf)) > 0) {
-						out.write(buf, 0, len);
-					}
-
-					// Close the stream
-					out.close();
-					// Preserve original modification date
-					extractedFile.setLastModified(entry.getTime());
-					long mode = entry.getMode();
-					if ((mode & 00100) > 0) {
-						// Preserve execute permissions
-						extractedFile.setExecutable(true, (mode & 00001) == 0);
+					final File extractedFile = new File(destination, outFilename);
+					final TarEntry fileEntry = entry;
+					final int permits = (int) ((entry.getSize() + 1023) / 1024);
+					if (permits > MAX_PENDING_KB) {
+						// Too big entry, transfer bytes from the TAR file to the
+						// output file directly.
+						long size = write(Channels.newChannel(in), extractedFile);
+						finishTarEntry(fileEntry, extractedFile, size, manifest);
+					} else {
+						acquire(pending, permits);
+						final ByteBuffer data = ByteBuffer.wrap(readFully(in, (int) entry.getSize()));
+						futures.add(executor.submit(() -> {
+							try {
+								long size = write(data, extractedFile);
+								finishTarEntry(fileEntry, extractedFile, size, manifest);
+							} finally {
+								pending.release(permits);
+							}
+							return null;
+						}));
 					}
 					break;
 				case TarEntry.LINK:
-					File linkFile = new File(destination, outFilename);
-					// Be sure that parent file exists
-					File linkBaseDir = linkFile.getParentFile();
-					if (!linkBaseDir.exists()) {
-						linkBaseDir.mkdirs();
-					}
-					Path target = Paths.get(entry.getLinkName());
-					Files.createLink(linkFile.toPath(), target);
-					break;
 				case TarEntry.SYM_LINK:
-					File symLinkFile = new File(destination, outFilename);
-					// Be sure that parent file exists
-					File symLinkBaseDir = symLinkFile.getParentFile();
-					if (!symLinkBaseDir.exists()) {
-						symLinkBaseDir.mkdirs();
-					}
-					Path symTarget = Paths.get(entry.getLinkName());
-					Files.createSymbolicLink(symLinkFile.toPath(), symTarget);
+					// Links are created once their targets are written.
+					links.add(entry);
 					break;
 				}
 			}
+			waitFor(futures);
+
+			for (TarEntry link : links) {
+				File linkFile = new File(destination, link.getName());
+				// Be sure that parent file exists
+				File linkBaseDir = linkFile.getParentFile();
+				if (!linkBaseDir.exists()) {
+					linkBaseDir.mkdirs();
+				}
+				Files.deleteIfExists(linkFile.toPath());
+				Path target = Paths.get(link.getLinkName());
+				if (link.getFileType() == TarEntry.LINK) {
+					Files.createLink(linkFile.toPath(), target);
+				} else {
+					Files.createSymbolicLink(linkFile.toPath(), target);
+				}
+			}
 		} catch (TarException e) {
 			throw new IOException(e);
 		} finally {
+			executor.shutdownNow();
 			// Close the stream
 			if (in != null) {
 				in.close();
 			}
-			if (out != null) {
-				out.close();
+		}
+		manifest.store();
+	}
+
+	private static void finishTarEntry(TarEntry entry, File extractedFile, long size, ExtractionManifest manifest) {
+		// Preserve original modification date
+		extractedFile.setLastModified(entry.getTime());
+		long mode = entry.getMode();
+		if ((mode & 00100) > 0) {
+			// Preserve execute permissions
+			extractedFile.setExecutable(true, (mode & 00001) == 0);
+		}
+		manifest.addFile(entry.getName(), size);
+	}
+
+	private static byte[] readFully(InputStream in, int size) throws IOException {
+		byte[] data = new byte[size];
+		int offset = 0;
+		while (offset < size) {
+			int len = in.read(data, offset, size - offset);
+			if (len < 0) {
+				throw new IOException("early end of stream"); //$NON-NLS-1$
 			}
+			offset += len;
 		}
+		return data;
+	}
 
+	/**
+	 * Write the content of the given channel in the given file with a direct
+	 * buffer.
+	 * 
+	 * @return the number of written bytes.
+	 */
+	private static long write(ReadableByteChannel in, File file) throws IOException {
+		ByteBuffer buffer = BUFFERS.get();
+		buffer.clear();
+		long size = 0;
+		FileChannel out = openChannel(file);
+		try {
+			while (in.read(buffer) != -1) {
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					size += out.write(buffer);
+				}
+				buffer.clear();
+			}
+		} finally {
+			out.close();
+		}
+		return size;
+	}
+
+	/**
+	 * Write the given content in the given file.
+	 * 
+	 * @return the number of written bytes.
+	 */
+	private static long write(ByteBuffer data, File file) throws IOException {
+		long size = 0;
+		FileChannel out = openChannel(file);
+		try {
+			while (data.hasRemaining()) {
+				size += out.write(data);
+			}
+		} finally {
+			out.close();
+		}
+		return size;
+	}
+
+	private static FileChannel openChannel(File file) throws IOException {
+		// Be sure that parent file exists
+		Files.createDirectories(file.getParentFile().toPath());
+		return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+	}
+
+	private static ExecutorService createExecutor() {
+		return Executors.newFixedThreadPool(EXTRACT_THREADS, r -> {
+			Thread thread = new Thread(r, "ts-extract"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static void acquire(Semaphore semaphore, int permits) throws IOException {
+		try {
+			semaphore.acquire(permits);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+
+	/**
+	 * Wait for the write of the entries and throws the first error.
+	 */
+	private static void waitFor(List<Future<?>> futures) throws IOException {
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				throw new IOException(cause);
+			}
+		}
 	}
 
 }
@@ -0,0 +1,328 @@
+/**
+ * TodoMVC with React and TypeScript.
+ *
+ * Covers the constructs which make the partitioning of a .tsx file costly:
+ * multi-line JSX tags, attributes which contain '>', template literals with
+ * nested expressions and back quotes, regular expressions and decorators.
+ */
+import * as React from 'react';
+import * as ReactDOM from 'react-dom';
+import { observable, computed, action } from 'mobx';
+import { observer } from 'mobx-react';
+
+export const ENTER_KEY = 13;
+export const ESCAPE_KEY = 27;
+
+export type Filter = 'all' | 'active' | 'completed';
+
+export interface ITodo {
+	id: string;
+	title: string;
+	completed: boolean;
+	createdAt: Date;
+}
+
+const uuid = (): string => {
+	let value = '';
+	for (let i = 0; i < 32; i++) {
+		const random = Math.random() * 16 | 0;
+		if (i === 8 || i === 12 || i === 16 || i === 20) {
+			value += '-';
+		}
+		value += (i === 12 ? 4 : (i === 16 ? (random & 3 | 8) : random)).toString(16);
+	}
+	return value;
+};
+
+const pluralize = (count: number, word: string) => `${count} ${word}${count === 1 ? '' : 's'}`;
+
+const TRIM = /^\s+|\s+$/g;
+const HASH = /#\/(active|completed)?$/;
+
+export class TodoStore {
+
+	@observable todos: ITodo[] = [];
+
+	@observable filter: Filter = 'all';
+
+	constructor(private key: string) {
+		const stored = localStorage.getItem(key);
+		if (stored) {
+			this.todos = JSON.parse(stored, (name, value) => name === 'createdAt' ? new Date(value) : value);
+		}
+	}
+
+	@computed get activeCount(): number {
+		return this.todos.filter(todo => !todo.completed).length;
+	}
+
+	@computed get completedCount(): number {
+		return this.todos.length - this.activeCount;
+	}
+
+	@computed get visibleTodos(): ITodo[] {
+		switch (this.filter) {
+			case 'active':
+				return this.todos.filter(todo => !todo.completed);
+			case 'completed':
+				return this.todos.filter(todo => todo.completed);
+			default:
+				return this.todos;
+		}
+	}
+
+	@action addTodo(title: string) {
+		this.todos.push({ id: uuid(), title: title.replace(TRIM, ''), completed: false, createdAt: new Date() });
+		this.save();
+	}
+
+	@action toggleAll(completed: boolean) {
+		this.todos.forEach(todo => todo.completed = completed);
+		this.save();
+	}
+
+	@action toggle(todo: ITodo) {
+		todo.completed = !todo.completed;
+		this.save();
+	}
+
+	@action destroy(todo: ITodo) {
+		this.todos = this.todos.filter(candidate => candidate !== todo);
+		this.save();
+	}
+
+	@action rename(todo: ITodo, title: string) {
+		todo.title = title;
+		this.save();
+	}
+
+	@action clearCompleted() {
+		this.todos = this.todos.filter(todo => !todo.completed);
+		this.save();
+	}
+
+	toString(): string {
+		return `TodoStore(${this.key}) {
+	todos: ${this.todos.map(todo => `${todo.completed ? `[x]` : `[ ]`} ${todo.title}`).join(', ')},
+	filter: ${this.filter}
+}`;
+	}
+
+	private save() {
+		localStorage.setItem(this.key, JSON.stringify(this.todos));
+	}
+}
+
+interface ITodoItemProps {
+	todo: ITodo;
+	editing: boolean;
+	onToggle: () => void;
+	onDestroy: () => void;
+	onEdit: () => void;
+	onSave: (title: string) => void;
+	onCancel: () => void;
+}
+
+interface ITodoItemState {
+	editText: string;
+}
+
+export class TodoItem extends React.Component<ITodoItemProps, ITodoItemState> {
+
+	private input: HTMLInputElement;
+
+	constructor(props: ITodoItemProps) {
+		super(props);
+		this.state = { editText: props.todo.title };
+	}
+
+	componentDidUpdate(previous: ITodoItemProps) {
+		if (!previous.editing && this.props.editing) {
+			this.input.focus();
+			this.input.setSelectionRange(this.input.value.length, this.input.value.length);
+		}
+	}
+
+	handleSubmit = () => {
+		const title = this.state.editText.trim();
+		if (title) {
+			this.props.onSave(title);
+			this.setState({ editText: title });
+		} else {
+			this.props.onDestroy();
+		}
+	}
+
+	handleKeyDown = (event: React.KeyboardEvent<HTMLInputElement>) => {
+		if (event.keyCode === ESCAPE_KEY) {
+			this.setState({ editText: this.props.todo.title });
+			this.props.onCancel();
+		} else if (event.keyCode === ENTER_KEY) {
+			this.handleSubmit();
+		}
+	}
+
+	render() {
+		const { todo, editing } = this.props;
+		const age = Math.round((Date.now() - todo.createdAt.getTime()) / 60000);
+		return (
+			<li
+				className={`${todo.completed ? 'completed' : ''} ${editing ? 'editing' : ''}`}
+				title="created > 1 minute ago"
+				data-age={age}>
+				<div className="view">
+					<input
+						className="toggle"
+						type="checkbox"
+						checked={todo.completed}
+						onChange={this.props.onToggle}
+					/>
+					<label onDoubleClick={this.props.onEdit}>
+						{todo.title}
+					</label>
+					<button className="destroy" onClick={this.props.onDestroy} />
+				</div>
+				<input
+					ref={input => this.input = input}
+					className="edit"
+					placeholder="What needs to be done? (press <Enter> to save)"
+					value={this.state.editText}
+					onBlur={this.handleSubmit}
+					onChange={event => this.setState({ editText: event.currentTarget.value })}
+					onKeyDown={this.handleKeyDown}
+				/>
+			</li>
+		);
+	}
+}
+
+interface ITodoFooterProps {
+	count: number;
+	completedCount: number;
+	filter: Filter;
+	onClearCompleted: () => void;
+}
+
+export const TodoFooter = (props: ITodoFooterProps) => {
+	const link = (filter: Filter, label: string) => (
+		<li>
+			<a
+				href={`#/${filter === 'all' ? '' : filter}`}
+				className={props.filter === filter ? "selected" : ""}>
+				{label}
+			</a>
+		</li>
+	);
+	return (
+		<footer className="footer">
+			<span className="todo-count">
+				<strong>{props.count}</strong> {pluralize(props.count, 'item')} left
+			</span>
+			<ul className="filters">
+				{link('all', 'All')}
+				{' '}
+				{link('active', 'Active')}
+				{' '}
+				{link('completed', 'Completed')}
+			</ul>
+			{props.completedCount > 0 &&
+				<button
+					className="clear-completed"
+					onClick={props.onClearCompleted}>
+					Clear completed
+				</button>
+			}
+		</footer>
+	);
+};
+
+interface ITodoAppProps {
+	store: TodoStore;
+}
+
+interface ITodoAppState {
+	editing?: string;
+}
+
+@observer
+export class TodoApp extends React.Component<ITodoAppProps, ITodoAppState> {
+
+	state: ITodoAppState = {};
+
+	private newField: HTMLInputElement;
+
+	componentDidMount() {
+		const route = () => {
+			const match = HASH.exec(window.location.hash);
+			this.props.store.filter = match && match[1] ? match[1] as Filter : 'all';
+		};
+		window.addEventListener('hashchange', route);
+		route();
+	}
+
+	handleNewTodoKeyDown = (event: React.KeyboardEvent<HTMLInputElement>) => {
+		if (event.keyCode !== ENTER_KEY) {
+			return;
+		}
+		event.preventDefault();
+		const title = this.newField.value.trim();
+		if (title) {
+			this.props.store.addTodo(title);
+			this.newField.value = '';
+		}
+	}
+
+	render() {
+		const store = this.props.store;
+		const todoItems = store.visibleTodos.map(todo =>
+			<TodoItem
+				key={todo.id}
+				todo={todo}
+				editing={this.state.editing === todo.id}
+				onToggle={() => store.toggle(todo)}
+				onDestroy={() => store.destroy(todo)}
+				onEdit={() => this.setState({ editing: todo.id })}
+				onSave={title => { store.rename(todo, title); this.setState({ editing: undefined }); }}
+				onCancel={() => this.setState({ editing: undefined })}
+			/>
+		);
+
+		return (
+			<div>
+				<header className="header">
+					<h1>todos</h1>
+					<input
+						ref={input => this.newField = input}
+						className="new-todo"
+						placeholder="What needs to be done?"
+						onKeyDown={this.handleNewTodoKeyDown}
+						autoFocus={true}
+					/>
+				</header>
+				{store.todos.length > 0 &&
+					<section className="main">
+						<input
+							className="toggle-all"
+							type="checkbox"
+							onChange={event => store.toggleAll(event.currentTarget.checked)}
+							checked={store.activeCount === 0}
+						/>
+						<ul className="todo-list">
+							{todoItems}
+						</ul>
+					</section>
+				}
+				{(store.activeCount > 0 || store.completedCount > 0) &&
+					<TodoFooter
+						count={store.activeCount}
+						completedCount={store.completedCount}
+						filter={store.filter}
+						onClearCompleted={() => store.clearCompleted()}
+					/>
+				}
+			</div>
+		);
+	}
+}
+
+ReactDOM.render(<TodoApp store={new TodoStore('todos-react-typescript')} />, document.getElementsByClassName('todoapp')[0]);
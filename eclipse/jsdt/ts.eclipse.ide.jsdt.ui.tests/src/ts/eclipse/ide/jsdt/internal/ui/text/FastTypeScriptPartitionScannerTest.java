@@ -0,0 +1,105 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.jsdt.internal.ui.text;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentPartitioner;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.wst.jsdt.ui.text.IJavaScriptPartitions;
+import org.junit.Assert;
+import org.junit.Test;
+
+import ts.eclipse.ide.jsdt.internal.ui.text.jsx.IJSXPartitions;
+
+public class FastTypeScriptPartitionScannerTest {
+
+	private static final String TEMPLATE_LITERAL = "const a = 1;\n" + "const s = `line ${a}\n"
+			+ "  ${[1, 2].map(i => `${i}`).join('\\n')}\n" + "  end`;\n" + "const b = 'b';\n";
+
+	private static final String JSX = "const e = (\n" + "  <div\n" + "    title=\"a > b\"\n"
+			+ "    className=\"c\">\n" + "    text\n" + "  </div>\n" + ");\n" + "const b = 'b';\n";
+
+	@Test
+	public void templateLiteral() throws BadLocationException {
+		IDocument document = createDocument(TEMPLATE_LITERAL);
+		assertPartitions(document, IJavaScriptPartitions.JAVASCRIPT_TEMPLATE_LITERAL, "`line");
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+
+		// edit the lines after the nested template literal
+		edit(document, document.get().indexOf("  end"));
+		edit(document, document.get().indexOf("join"));
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+	}
+
+	@Test
+	public void escapedBackQuote() throws BadLocationException {
+		IDocument document = createDocument("const s = `a \\` b\n" + "c`;\n" + "const b = 'b';\n");
+		assertPartitions(document, IJavaScriptPartitions.JAVASCRIPT_TEMPLATE_LITERAL, "`a");
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+		edit(document, document.get().indexOf("c`"));
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+	}
+
+	@Test
+	public void jsx() throws BadLocationException {
+		IDocument document = createDocument(JSX);
+		assertPartitions(document, IJSXPartitions.JSX, "<div");
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+
+		// edit the line after the attribute which contains '>'
+		edit(document, document.get().indexOf("className"));
+		assertPartitions(document, IJavaScriptPartitions.JAVA_STRING, "'b'");
+	}
+
+	private static IDocument createDocument(String content) {
+		IDocument document = new Document(content);
+		IDocumentPartitioner partitioner = new FastPartitioner(new FastTypeScriptPartitionScanner(),
+				TypeScriptTextTools.LEGAL_CONTENT_TYPES);
+		partitioner.connect(document);
+		document.setDocumentPartitioner(partitioner);
+		return document;
+	}
+
+	/**
+	 * Insert then remove a character at the given offset.
+	 */
+	private static void edit(IDocument document, int offset) throws BadLocationException {
+		document.replace(offset, 0, "x");
+		assertPartitions(document);
+		document.replace(offset, 1, "");
+		assertPartitions(document);
+	}
+
+	/**
+	 * Assert that the partition which starts with the given text has the
+	 * given type and that the partitions are the partitions of the whole
+	 * document.
+	 */
+	private static void assertPartitions(IDocument document, String type, String text) throws BadLocationException {
+		ITypedRegion partition = document.getPartition(document.get().indexOf(text));
+		Assert.assertEquals(type, partition.getType());
+		Assert.assertEquals(text, document.get(partition.getOffset(), text.length()));
+		assertPartitions(document);
+	}
+
+	/**
+	 * Assert that the incremental partitions of the document are the
+	 * partitions of the whole document.
+	 */
+	private static void assertPartitions(IDocument document) throws BadLocationException {
+		IDocument expected = createDocument(document.get());
+		Assert.assertArrayEquals(expected.computePartitioning(0, expected.getLength()),
+				document.computePartitioning(0, document.getLength()));
+	}
+}
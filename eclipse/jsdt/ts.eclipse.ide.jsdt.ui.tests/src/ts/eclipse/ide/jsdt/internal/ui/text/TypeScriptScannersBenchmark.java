@@ -0,0 +1,243 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.jsdt.internal.ui.text;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jface.preference.PreferenceStore;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentPartitioner;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPartitionTokenScanner;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.ITokenScanner;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.wst.jsdt.ui.text.IColorManager;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ts.eclipse.ide.jsdt.internal.ui.text.jsx.IJSXPartitions;
+import ts.eclipse.ide.jsdt.internal.ui.text.jsx.JSXScanner;
+
+/**
+ * Benchmark of the partition scanner and of the code scanners over the
+ * real-world .ts/.tsx files of the "samples" folder:
+ *
+ * <ul>
+ * <li>partition: partition the whole document (opening a file).</li>
+ * <li>type: insert then remove a character in the middle of lines spread over
+ * the document, and count the characters rescanned by the partition
+ * scanner.</li>
+ * <li>code, jsx: tokenize every code (JSX) partition of the document with
+ * {@link TypeScriptCodeScanner} ({@link JSXScanner}), like the coloring of a
+ * whole document.</li>
+ * </ul>
+ *
+ * <p>
+ * It is not run by the build (its name doesn't match the test includes), run
+ * it as a JUnit test and read the timings on the standard output.
+ * </p>
+ *
+ */
+public class TypeScriptScannersBenchmark {
+
+	private static final String[] SAMPLES = { "vscode.d.ts", "react.d.ts", "angular2.d.ts", "todo-app.tsx" };
+
+	/**
+	 * Number of copies of the .tsx sample to get a multi-thousand-line .tsx
+	 * file.
+	 */
+	private static final int LARGE_TSX_COPIES = 20;
+
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int ITERATIONS = 10;
+
+	private static final int TYPED_LINES = 100;
+
+	private static final Map<String, String> contents = new LinkedHashMap<>();
+
+	private interface Task {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Color manager which doesn't allocate colors (no display is required).
+	 */
+	private static class NullColorManager implements IColorManager {
+
+		@Override
+		public Color getColor(RGB rgb) {
+			return null;
+		}
+
+		@Override
+		public Color getColor(String key) {
+			return null;
+		}
+
+		@Override
+		public void dispose() {
+		}
+	}
+
+	/**
+	 * Partition scanner which counts the scanned characters.
+	 */
+	private static class CountingPartitionScanner implements IPartitionTokenScanner {
+
+		private final IPartitionTokenScanner scanner = new FastTypeScriptPartitionScanner();
+		private long scannedLength;
+
+		@Override
+		public void setRange(IDocument document, int offset, int length) {
+			scanner.setRange(document, offset, length);
+		}
+
+		@Override
+		public void setPartialRange(IDocument document, int offset, int length, String contentType,
+				int partitionOffset) {
+			scanner.setPartialRange(document, offset, length, contentType, partitionOffset);
+		}
+
+		@Override
+		public IToken nextToken() {
+			IToken token = scanner.nextToken();
+			scannedLength += scanner.getTokenLength();
+			return token;
+		}
+
+		@Override
+		public int getTokenOffset() {
+			return scanner.getTokenOffset();
+		}
+
+		@Override
+		public int getTokenLength() {
+			return scanner.getTokenLength();
+		}
+	}
+
+	@BeforeClass
+	public static void loadSamples() throws IOException {
+		for (String sample : SAMPLES) {
+			contents.put(sample, new String(Files.readAllBytes(new File("samples", sample).toPath()),
+					StandardCharsets.UTF_8));
+		}
+		StringBuilder largeTsx = new StringBuilder();
+		for (int i = 0; i < LARGE_TSX_COPIES; i++) {
+			largeTsx.append(contents.get("todo-app.tsx"));
+		}
+		contents.put("todo-app.tsx x" + LARGE_TSX_COPIES, largeTsx.toString());
+	}
+
+	@Test
+	public void partition() throws Exception {
+		for (Map.Entry<String, String> sample : contents.entrySet()) {
+			measure("partition", sample.getKey(),
+					() -> createDocument(sample.getValue(), new FastTypeScriptPartitionScanner()));
+		}
+	}
+
+	@Test
+	public void type() throws Exception {
+		for (Map.Entry<String, String> sample : contents.entrySet()) {
+			CountingPartitionScanner scanner = new CountingPartitionScanner();
+			IDocument document = createDocument(sample.getValue(), scanner);
+			int step = Math.max(1, document.getNumberOfLines() / TYPED_LINES);
+			scanner.scannedLength = 0;
+			long time = measure("type", sample.getKey(), () -> {
+				for (int line = 0; line < document.getNumberOfLines(); line += step) {
+					IRegion region = document.getLineInformation(line);
+					int offset = region.getOffset() + region.getLength() / 2;
+					document.replace(offset, 0, "x");
+					document.replace(offset, 1, "");
+				}
+			});
+			int edits = 2 * ((document.getNumberOfLines() + step - 1) / step);
+			long scannedPerEdit = scanner.scannedLength / ((WARMUP_ITERATIONS + ITERATIONS) * edits);
+			System.out.println(String.format("%-10s %-22s %10d us/edit %10d chars/edit", "type", sample.getKey(),
+					time / edits / 1000, scannedPerEdit));
+		}
+	}
+
+	@Test
+	public void code() throws Exception {
+		TypeScriptCodeScanner scanner = new TypeScriptCodeScanner(new NullColorManager(), new PreferenceStore());
+		for (Map.Entry<String, String> sample : contents.entrySet()) {
+			IDocument document = createDocument(sample.getValue(), new FastTypeScriptPartitionScanner());
+			ITypedRegion[] partitions = document.computePartitioning(0, document.getLength());
+			measure("code", sample.getKey(),
+					() -> tokenize(scanner, document, partitions, IDocument.DEFAULT_CONTENT_TYPE));
+		}
+	}
+
+	@Test
+	public void jsx() throws Exception {
+		JSXScanner scanner = new JSXScanner(new NullColorManager(), new PreferenceStore());
+		for (Map.Entry<String, String> sample : contents.entrySet()) {
+			IDocument document = createDocument(sample.getValue(), new FastTypeScriptPartitionScanner());
+			ITypedRegion[] partitions = document.computePartitioning(0, document.getLength());
+			measure("jsx", sample.getKey(), () -> tokenize(scanner, document, partitions, IJSXPartitions.JSX));
+		}
+	}
+
+	private static IDocument createDocument(String content, IPartitionTokenScanner scanner) {
+		IDocument document = new Document(content);
+		IDocumentPartitioner partitioner = new FastPartitioner(scanner, TypeScriptTextTools.LEGAL_CONTENT_TYPES);
+		partitioner.connect(document);
+		document.setDocumentPartitioner(partitioner);
+		return document;
+	}
+
+	private static void tokenize(ITokenScanner scanner, IDocument document, ITypedRegion[] partitions,
+			String contentType) throws BadLocationException {
+		for (ITypedRegion partition : partitions) {
+			if (contentType.equals(partition.getType())) {
+				scanner.setRange(document, partition.getOffset(), partition.getLength());
+				while (!scanner.nextToken().isEOF()) {
+					// only the tokenizing is measured.
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run the given task, print and return its average time in ns.
+	 */
+	private static long measure(String name, String sample, Task task) throws Exception {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			task.run();
+		}
+		long total = 0;
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			task.run();
+			long time = System.nanoTime() - start;
+			total += time;
+			min = Math.min(min, time);
+		}
+		long average = total / ITERATIONS;
+		System.out.println(String.format("%-10s %-22s %10.3f ms (min %.3f ms)", name, sample, average / 1000000.0,
+				min / 1000000.0));
+		return average;
+	}
+}
@@ -35,6 +35,7 @@ public class JSDTTypeScriptUIMessages extends NLS {
 	public static String FindReferencesInProjectAction_error_title;
 
 	public static String TypeScriptEditor_markOccurrences_job_name;
+	public static String TypeScriptEditor_definitionPrefetch_job_name;
 
 	public static String TypeScriptContentFormatter_Error_title;
 	public static String TypeScriptContentFormatter_Error_message;
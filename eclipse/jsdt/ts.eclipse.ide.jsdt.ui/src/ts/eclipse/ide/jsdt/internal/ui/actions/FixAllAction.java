@@ -0,0 +1,68 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.jsdt.internal.ui.actions;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jface.text.ITextSelection;
+import org.eclipse.wst.jsdt.ui.actions.SelectionDispatchAction;
+
+import ts.eclipse.ide.core.resources.IIDETypeScriptProject;
+import ts.eclipse.ide.core.utils.TypeScriptResourceUtil;
+import ts.eclipse.ide.jsdt.internal.ui.JSDTTypeScriptUIPlugin;
+import ts.eclipse.ide.jsdt.internal.ui.editor.TypeScriptEditor;
+import ts.eclipse.ide.jsdt.internal.ui.refactoring.FixAllRefactoring;
+import ts.eclipse.ide.jsdt.internal.ui.refactoring.FixAllRefactoringWizard;
+import ts.eclipse.ide.jsdt.internal.ui.refactoring.RefactoringMessages;
+import ts.eclipse.ide.jsdt.internal.ui.refactoring.RefactoringSaveHelper;
+import ts.eclipse.ide.jsdt.internal.ui.refactoring.actions.RefactoringStarter;
+import ts.eclipse.ide.ui.utils.EditorUtils;
+
+/**
+ * Action which applies the code fixes of all the fixable problems of the
+ * edited file or of its project.
+ *
+ */
+public class FixAllAction extends SelectionDispatchAction {
+
+	private final TypeScriptEditor fEditor;
+	private final boolean fProjectScope;
+
+	public FixAllAction(TypeScriptEditor editor, boolean projectScope) {
+		super(editor.getEditorSite());
+		fEditor = editor;
+		fProjectScope = projectScope;
+		setText(projectScope ? RefactoringMessages.FixAllAction_project_text
+				: RefactoringMessages.FixAllAction_file_text);
+		setEnabled(true);
+	}
+
+	@Override
+	public void selectionChanged(ITextSelection selection) {
+		setEnabled(true);
+	}
+
+	@Override
+	public void run(ITextSelection selection) {
+		IResource resource = EditorUtils.getResource(fEditor);
+		if (!(resource instanceof IFile) || !TypeScriptResourceUtil.canConsumeTsserver(resource)) {
+			return;
+		}
+		try {
+			IIDETypeScriptProject tsProject = TypeScriptResourceUtil.getTypeScriptProject(resource.getProject());
+			FixAllRefactoring refactoring = new FixAllRefactoring(tsProject, (IFile) resource, fProjectScope);
+			new RefactoringStarter().activate(refactoring, new FixAllRefactoringWizard(refactoring), getShell(),
+					refactoring.getName(), RefactoringSaveHelper.SAVE_NOTHING);
+		} catch (Exception e) {
+			JSDTTypeScriptUIPlugin.log(e);
+		}
+	}
+}
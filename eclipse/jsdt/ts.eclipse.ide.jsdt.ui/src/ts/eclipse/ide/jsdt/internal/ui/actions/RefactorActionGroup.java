@@ -91,6 +91,8 @@ public class RefactorActionGroup extends ActionGroup {
 	private final ISelectionProvider fSelectionProvider;
 
 	private RenameAction fRenameAction;
+	private FixAllAction fFixAllInFileAction;
+	private FixAllAction fFixAllInProjectAction;
 
 	private IEditorSite fSite;
 
@@ -109,6 +111,14 @@ public class RefactorActionGroup extends ActionGroup {
 		initAction(fRenameAction, selection, ITypeScriptEditorActionDefinitionIds.RENAME_ELEMENT);
 		editor.setAction("RenameElement", fRenameAction); //$NON-NLS-1$
 
+		fFixAllInFileAction = new FixAllAction(editor, false);
+		initAction(fFixAllInFileAction, selection, ITypeScriptEditorActionDefinitionIds.FIX_ALL_IN_FILE);
+		editor.setAction("FixAllInFile", fFixAllInFileAction); //$NON-NLS-1$
+
+		fFixAllInProjectAction = new FixAllAction(editor, true);
+		initAction(fFixAllInProjectAction, selection, ITypeScriptEditorActionDefinitionIds.FIX_ALL_IN_PROJECT);
+		editor.setAction("FixAllInProject", fFixAllInProjectAction); //$NON-NLS-1$
+
 	}
 
 	@Override
@@ -182,6 +192,8 @@ public class RefactorActionGroup extends ActionGroup {
 		int added = 0;
 		refactorSubmenu.add(new Separator(GROUP_REORG));
 		added += addAction(refactorSubmenu, fRenameAction);
+		added += addAction(refactorSubmenu, fFixAllInFileAction);
+		added += addAction(refactorSubmenu, fFixAllInProjectAction);
 
 		ITextSelection textSelection = (ITextSelection) fEditor.getSelectionProvider().getSelection();
 		try {
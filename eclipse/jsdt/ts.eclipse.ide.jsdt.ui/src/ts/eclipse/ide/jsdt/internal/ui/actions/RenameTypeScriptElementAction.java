@@ -141,21 +141,20 @@ public class RenameTypeScriptElementAction extends SelectionDispatchAction {
 			Location startLoc = null;
 			Location endLoc = null;
 
-			if (true) {
+			// reuse the occurrences found by the occurrences highlighting if the
+			// caret is inside one of them.
+			List<OccurrencesResponseItem> occurrences = tsFile.getCachedOccurrences(offset);
+			if (occurrences != null && !occurrences.isEmpty()) {
+				OccurrencesResponseItem occurrence = occurrences.get(0);
+				startLoc = occurrence.getStart();
+				endLoc = occurrence.getEnd();
+			} else {
 				QuickInfo info = tsFile.quickInfo(offset).get(1000, TimeUnit.MILLISECONDS);
 				if (info == null) {
 					return null;
 				}
 				startLoc = info.getStart();
 				endLoc = info.getEnd();
-			} else {
-				List<OccurrencesResponseItem> occurrences = tsFile.occurrences(offset).get(1000, TimeUnit.MILLISECONDS);
-				if (occurrences.isEmpty()) {
-					return null;
-				}
-				OccurrencesResponseItem occurrence = occurrences.get(0);
-				startLoc = occurrence.getStart();
-				endLoc = occurrence.getEnd();
 			}
 
 			ISourceViewer viewer = fEditor.getViewer();
@@ -13,7 +13,12 @@ package ts.eclipse.ide.jsdt.internal.ui.editor;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -28,7 +33,12 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.IUndoManager;
@@ -53,9 +63,40 @@ import ts.eclipse.ide.jsdt.internal.ui.JSDTTypeScriptUIPlugin;
 import ts.eclipse.ide.ui.TypeScriptUIPlugin;
 import ts.eclipse.ide.ui.preferences.TypeScriptUIPreferenceConstants;
 import ts.eclipse.jface.text.DocumentUtils;
+import ts.utils.CompletableFutureUtils;
+import ts.utils.DirtyRegions;
 
 public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 
+	/**
+	 * Max time in ms to wait for the format edits when saving. After this
+	 * delay, the file is kept unformatted.
+	 */
+	private static final long FORMAT_ON_SAVE_TIMEOUT = 2000;
+
+	/**
+	 * File info which tracks the regions of the document changed since the
+	 * last save, to format only them with the save actions.
+	 */
+	protected static class TypeScriptFileInfo extends FileInfo implements IDocumentListener {
+
+		private final DirtyRegions dirtyRegions = new DirtyRegions();
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			String text = event.getText();
+			dirtyRegions.changed(event.getOffset(), event.getLength(), text != null ? text.length() : 0);
+		}
+
+		private IDocument getDocument() {
+			return fTextFileBuffer != null ? fTextFileBuffer.getDocument() : null;
+		}
+	}
+
 	public TypeScriptDocumentProvider() {
 		IDocumentProvider provider = new TextFileDocumentProvider();
 		provider = new ForwardingDocumentProvider(IJavaScriptPartitions.JAVA_PARTITIONING,
@@ -63,6 +104,36 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 		setParentDocumentProvider(provider);
 	}
 
+	@Override
+	protected FileInfo createEmptyFileInfo() {
+		return new TypeScriptFileInfo();
+	}
+
+	@Override
+	protected FileInfo createFileInfo(Object element) throws CoreException {
+		FileInfo info = super.createFileInfo(element);
+		if (info instanceof TypeScriptFileInfo) {
+			TypeScriptFileInfo tsInfo = (TypeScriptFileInfo) info;
+			IDocument document = tsInfo.getDocument();
+			if (document != null) {
+				document.addDocumentListener(tsInfo);
+			}
+		}
+		return info;
+	}
+
+	@Override
+	protected void disposeFileInfo(Object element, FileInfo info) {
+		if (info instanceof TypeScriptFileInfo) {
+			TypeScriptFileInfo tsInfo = (TypeScriptFileInfo) info;
+			IDocument document = tsInfo.getDocument();
+			if (document != null) {
+				document.removeDocumentListener(tsInfo);
+			}
+		}
+		super.disposeFileInfo(element, info);
+	}
+
 	@Override
 	protected DocumentProviderOperation createSaveOperation(Object element, IDocument document, boolean overwrite)
 			throws CoreException {
@@ -73,10 +144,13 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 				SubMonitor progress = SubMonitor.convert(monitor, 10);
 
 				// Retrieve the file that is being saved
-				IFile file = getFile(element);
+				FileInfo info = getFileInfo(element);
+				IFile file = getFile(info);
 				if (file == null) {
 					return;
 				}
+				DirtyRegions dirtyRegions = info instanceof TypeScriptFileInfo
+						? ((TypeScriptFileInfo) info).dirtyRegions : null;
 				IPreferenceStore preferenceStore = createProjectSpecificPreferenceStore(file.getProject());
 				boolean runSaveActions = preferenceStore
 						.getBoolean(TypeScriptUIPreferenceConstants.EDITOR_SAVE_ACTIONS);
@@ -85,11 +159,14 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 					delegate.run(progress.newChild(8));
 					if (runSaveActions) {
 						try {
-							performSaveActions(file, document, progress.newChild(2), preferenceStore);
+							performSaveActions(file, document, dirtyRegions, progress.newChild(2), preferenceStore);
 						} catch (Exception e) {
 							JSDTTypeScriptUIPlugin.log(e);
 						}
 					} else {
+						if (dirtyRegions != null) {
+							dirtyRegions.clear();
+						}
 						progress.setWorkRemaining(0);
 					}
 				} catch (InterruptedException e) {
@@ -102,11 +179,18 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 		};
 	}
 
-	private void performSaveActions(IFile file, IDocument document, IProgressMonitor monitor,
-			IPreferenceStore preferenceStore) {
+	private void performSaveActions(IFile file, IDocument document, DirtyRegions dirtyRegions,
+			IProgressMonitor monitor, IPreferenceStore preferenceStore) {
 		boolean runFormat = preferenceStore.getBoolean(TypeScriptUIPreferenceConstants.EDITOR_SAVE_ACTIONS_FORMAT);
 		SubMonitor progress = SubMonitor.convert(monitor, (runFormat ? 10 : 0));
 		if (!runFormat) {
+			if (dirtyRegions != null) {
+				dirtyRegions.clear();
+			}
+			return;
+		}
+		if (dirtyRegions != null && dirtyRegions.isEmpty()) {
+			// nothing changed since the last save
 			return;
 		}
 
@@ -124,14 +208,22 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 				try {
 					IIDETypeScriptProject tsProject = TypeScriptResourceUtil.getTypeScriptProject(file.getProject());
 					final IIDETypeScriptFile tsFile = tsProject.openFile(file, document);
-					List<CodeEdit> codeEdits = tsFile.format(0, document.getLength()).get();
-					change.setEdit(DocumentUtils.toTextEdit(codeEdits, document));
-					change.initializeValidationData(new NullProgressMonitor());
-					PerformChangeOperation performChangeOperation = new PerformChangeOperation(change);
-					ResourcesPlugin.getWorkspace().run(performChangeOperation, progress.newChild(10));
-					Change undoChange = performChangeOperation.getUndoChange();
-					if (undoChange != null) {
-						undoChanges.add(undoChange);
+					List<CodeEdit> codeEdits = format(tsFile, document,
+							dirtyRegions != null ? dirtyRegions.getRegions() : new int[] { 0, document.getLength() });
+					if (codeEdits != null) {
+						if (!codeEdits.isEmpty()) {
+							change.setEdit(DocumentUtils.toTextEdit(codeEdits, document));
+							change.initializeValidationData(new NullProgressMonitor());
+							PerformChangeOperation performChangeOperation = new PerformChangeOperation(change);
+							ResourcesPlugin.getWorkspace().run(performChangeOperation, progress.newChild(10));
+							Change undoChange = performChangeOperation.getUndoChange();
+							if (undoChange != null) {
+								undoChanges.add(undoChange);
+							}
+						}
+						if (dirtyRegions != null) {
+							dirtyRegions.clear();
+						}
 					}
 				} catch (Exception e) {
 					JSDTTypeScriptUIPlugin.log(e);
@@ -150,6 +242,74 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 		}
 	}
 
+	/**
+	 * Format the given regions expanded to whole lines.
+	 * 
+	 * @return the format edits or null if tsserver doesn't answer before
+	 *         {@link #FORMAT_ON_SAVE_TIMEOUT}.
+	 */
+	private static List<CodeEdit> format(IIDETypeScriptFile tsFile, IDocument document, int[] regions)
+			throws Exception {
+		List<CompletableFuture<List<CodeEdit>>> formats = new ArrayList<>();
+		for (IRegion range : getLineRanges(document, regions)) {
+			formats.add(tsFile.format(range.getOffset(), range.getOffset() + range.getLength()));
+		}
+		// edits of adjacent ranges can be returned twice
+		Map<String, CodeEdit> codeEdits = new LinkedHashMap<>();
+		long deadline = System.currentTimeMillis() + FORMAT_ON_SAVE_TIMEOUT;
+		try {
+			for (CompletableFuture<List<CodeEdit>> format : formats) {
+				long timeout = Math.max(0, deadline - System.currentTimeMillis());
+				for (CodeEdit codeEdit : format.get(timeout, TimeUnit.MILLISECONDS)) {
+					codeEdits.put(codeEdit.getStart().getLine() + ":" + codeEdit.getStart().getOffset() + "-"
+							+ codeEdit.getEnd().getLine() + ":" + codeEdit.getEnd().getOffset() + ":"
+							+ codeEdit.getNewText(), codeEdit);
+				}
+			}
+		} catch (TimeoutException e) {
+			for (CompletableFuture<List<CodeEdit>> format : formats) {
+				CompletableFutureUtils.cancel(format);
+			}
+			JSDTTypeScriptUIPlugin.log(new Status(IStatus.WARNING, JSDTTypeScriptUIPlugin.PLUGIN_ID,
+					"Format on save of " + tsFile.getName() + " skipped after " + FORMAT_ON_SAVE_TIMEOUT + "ms"));
+			return null;
+		}
+		return new ArrayList<>(codeEdits.values());
+	}
+
+	/**
+	 * Returns the given regions expanded to whole lines, adjacent lines being
+	 * merged.
+	 */
+	private static List<IRegion> getLineRanges(IDocument document, int[] regions) throws BadLocationException {
+		List<IRegion> ranges = new ArrayList<>();
+		int length = document.getLength();
+		int startLine = -1;
+		int endLine = -1;
+		for (int i = 0; i < regions.length; i += 2) {
+			int regionStartLine = document.getLineOfOffset(Math.min(regions[i], length));
+			int regionEndLine = document.getLineOfOffset(Math.min(regions[i + 1], length));
+			if (startLine != -1 && regionStartLine > endLine + 1) {
+				ranges.add(getLineRange(document, startLine, endLine));
+				startLine = -1;
+			}
+			if (startLine == -1) {
+				startLine = regionStartLine;
+			}
+			endLine = Math.max(endLine, regionEndLine);
+		}
+		if (startLine != -1) {
+			ranges.add(getLineRange(document, startLine, endLine));
+		}
+		return ranges;
+	}
+
+	private static IRegion getLineRange(IDocument document, int startLine, int endLine) throws BadLocationException {
+		int start = document.getLineOffset(startLine);
+		IRegion end = document.getLineInformation(endLine);
+		return new Region(start, end.getOffset() + end.getLength() - start);
+	}
+
 	private static IPreferenceStore createProjectSpecificPreferenceStore(IProject project) {
 		List<IPreferenceStore> stores = new ArrayList<IPreferenceStore>();
 		if (project != null) {
@@ -163,10 +323,6 @@ public class TypeScriptDocumentProvider extends TextFileDocumentProvider {
 		return new ChainedPreferenceStore(stores.toArray(new IPreferenceStore[stores.size()]));
 	}
 
-	private IFile getFile(Object element) {
-		return getFile(getFileInfo(element));
-	}
-
 	private IFile getFile(FileInfo fileInfo) {
 		if (fileInfo != null && fileInfo.fElement instanceof IFileEditorInput) {
 			return ((IFileEditorInput) fileInfo.fElement).getFile();
@@ -47,6 +47,7 @@ import org.eclipse.jface.text.ITextViewerExtension7;
 import org.eclipse.jface.text.IWidgetTokenKeeper;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TabsToSpacesConverter;
+import org.eclipse.jface.text.TextUtilities;
 import org.eclipse.jface.text.contentassist.IContentAssistant;
 import org.eclipse.jface.text.link.LinkedModeModel;
 import org.eclipse.jface.text.source.Annotation;
@@ -85,6 +86,7 @@ import org.eclipse.wst.jsdt.internal.ui.javaeditor.ICompilationUnitDocumentProvi
 import org.eclipse.wst.jsdt.internal.ui.javaeditor.ToggleCommentAction;
 import org.eclipse.wst.jsdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.wst.jsdt.ui.PreferenceConstants;
+import org.eclipse.wst.jsdt.ui.text.IJavaScriptPartitions;
 
 import ts.client.Location;
 import ts.client.navbar.NavigationBarItem;
@@ -102,6 +104,7 @@ import ts.eclipse.ide.jsdt.internal.ui.actions.RefactorActionGroup;
 import ts.eclipse.ide.jsdt.internal.ui.actions.TypeScriptSearchActionGroup;
 import ts.eclipse.ide.jsdt.ui.IContextMenuConstants;
 import ts.eclipse.ide.jsdt.ui.actions.ITypeScriptEditorActionDefinitionIds;
+import ts.eclipse.ide.jsdt.ui.editor.contentassist.JSDTCompletionProposalFactory;
 import ts.eclipse.ide.ui.TypeScriptUIPlugin;
 import ts.eclipse.ide.ui.outline.IEditorOutlineFeatures;
 import ts.eclipse.ide.ui.outline.TypeScriptContentOutlinePage;
@@ -257,6 +260,7 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 				// Update occurrences
 				ITextSelection textSelection = (ITextSelection) selection;
 				updateOccurrenceAnnotations(textSelection);
+				prefetchDefinition(textSelection);
 
 				TypeScriptContentOutlinePage outlinePage = getOutlinePage();
 				if (outlinePage != null && outlinePage.isLinkingEnabled()) {
@@ -418,6 +422,11 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 			editorSelectionChangedListener = null;
 		}
 		uninstallOccurrencesFinder();
+		fDefinitionPrefetchJob.cancel();
+		if (fTypedCharacterSpeculation != null) {
+			fTypedCharacterSpeculation.uninstall();
+			fTypedCharacterSpeculation = null;
+		}
 
 		if (fActivationListener != null) {
 			PlatformUI.getWorkbench().removeWindowListener(fActivationListener);
@@ -450,6 +459,8 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 		PlatformUI.getWorkbench().addWindowListener(fActivationListener);
 		editorSelectionChangedListener = new EditorSelectionChangedListener();
 		editorSelectionChangedListener.install(getSelectionProvider());
+		fTypedCharacterSpeculation = new TypedCharacterSpeculation();
+		fTypedCharacterSpeculation.install();
 
 		// if (isActivateCodeLenses()) {
 		// installCodeLenses();
@@ -562,8 +573,14 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 
 	// ---------------------- Occurrences
 
+	/**
+	 * Delay in ms between the last caret move and the "occurrences" request.
+	 */
+	private static final long OCCURRENCES_DELAY = 100;
+
 	private EditorSelectionChangedListener editorSelectionChangedListener;
-	private CompletableFuture<List<OccurrencesResponseItem>> occurrencesFuture;
+	private volatile CompletableFuture<List<OccurrencesResponseItem>> occurrencesFuture;
+	private final OccurrencesRequestJob fOccurrencesRequestJob = new OccurrencesRequestJob();
 
 	/**
 	 * Internal activation listener.
@@ -671,45 +688,59 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 			if (annotationModel == null)
 				return Status.CANCEL_STATUS;
 
-			// Add occurrence annotations
-			int length = fPositions.length;
-			Map annotationMap = new HashMap(length);
-			for (int i = 0; i < length; i++) {
+			synchronized (getLockObject(annotationModel)) {
+				// Update the occurrence annotations as a diff: the annotations
+				// whose position is unchanged are kept.
+				Map<Position, Annotation> removedAnnotations = new HashMap<Position, Annotation>();
+				if (fOccurrenceAnnotations != null) {
+					for (Annotation annotation : fOccurrenceAnnotations) {
+						Position position = annotationModel.getPosition(annotation);
+						if (position != null) {
+							removedAnnotations.put(position, annotation);
+						}
+					}
+				}
+				List<Annotation> annotations = new ArrayList<Annotation>(fPositions.length);
+				Map<Annotation, Position> addedAnnotations = new HashMap<Annotation, Position>();
+				for (Position position : fPositions) {
+
+					if (isCanceled())
+						return Status.CANCEL_STATUS;
+
+					Annotation annotation = removedAnnotations.remove(position);
+					if (annotation == null) {
+						String message;
+						// Create & add annotation
+						try {
+							message = document.get(position.offset, position.length);
+						} catch (BadLocationException ex) {
+							// Skip this match
+							continue;
+						}
+						annotation = new Annotation("org.eclipse.wst.jsdt.ui.occurrences", false, message); //$NON-NLS-1$
+						addedAnnotations.put(annotation, position);
+					}
+					annotations.add(annotation);
+				}
 
 				if (isCanceled())
 					return Status.CANCEL_STATUS;
 
-				String message;
-				Position position = fPositions[i];
-
-				// Create & add annotation
-				try {
-					message = document.get(position.offset, position.length);
-				} catch (BadLocationException ex) {
-					// Skip this match
-					continue;
-				}
-				annotationMap.put(new Annotation("org.eclipse.wst.jsdt.ui.occurrences", false, message), //$NON-NLS-1$
-						position);
-			}
-
-			if (isCanceled())
-				return Status.CANCEL_STATUS;
-
-			synchronized (getLockObject(annotationModel)) {
-				if (annotationModel instanceof IAnnotationModelExtension) {
-					((IAnnotationModelExtension) annotationModel).replaceAnnotations(fOccurrenceAnnotations,
-							annotationMap);
-				} else {
-					removeOccurrenceAnnotations();
-					Iterator iter = annotationMap.entrySet().iterator();
-					while (iter.hasNext()) {
-						Map.Entry mapEntry = (Map.Entry) iter.next();
-						annotationModel.addAnnotation((Annotation) mapEntry.getKey(), (Position) mapEntry.getValue());
+				if (!removedAnnotations.isEmpty() || !addedAnnotations.isEmpty()) {
+					if (annotationModel instanceof IAnnotationModelExtension) {
+						((IAnnotationModelExtension) annotationModel).replaceAnnotations(
+								removedAnnotations.values().toArray(new Annotation[removedAnnotations.size()]),
+								addedAnnotations);
+					} else {
+						for (Annotation annotation : removedAnnotations.values()) {
+							annotationModel.removeAnnotation(annotation);
+						}
+						for (Map.Entry<Annotation, Position> entry : addedAnnotations.entrySet()) {
+							annotationModel.addAnnotation(entry.getKey(), entry.getValue());
+						}
 					}
 				}
-				fOccurrenceAnnotations = (Annotation[]) annotationMap.keySet()
-						.toArray(new Annotation[annotationMap.keySet().size()]);
+				fOccurrenceAnnotations = annotations.toArray(new Annotation[annotations.size()]);
 			}
 
 			return Status.OK_STATUS;
@@ -843,6 +874,224 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 		public void setSelection(ITextSelection selection) {
 			this.selection = selection;
 		}
+
+		public synchronized void collect(ITextSelection selection, List<OccurrencesResponseItem> occurrences) {
+			setSelection(selection);
+			startCollect();
+			for (OccurrencesResponseItem occurrence : occurrences) {
+				addOccurrence(occurrence);
+			}
+			endCollect();
+		}
+	}
+
+	/**
+	 * Requests the occurrences to tsserver once the caret has stopped moving for
+	 * {@link #OCCURRENCES_DELAY} ms.
+	 */
+	class OccurrencesRequestJob extends Job {
+
+		private ITypeScriptFile tsFile;
+		private ITextSelection selection;
+
+		public OccurrencesRequestJob() {
+			super(JSDTTypeScriptUIMessages.TypeScriptEditor_markOccurrences_job_name);
+			setSystem(true);
+		}
+
+		public synchronized void schedule(ITypeScriptFile tsFile, ITextSelection selection) {
+			this.tsFile = tsFile;
+			this.selection = selection;
+			cancel();
+			schedule(OCCURRENCES_DELAY);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ITypeScriptFile tsFile;
+			ITextSelection selection;
+			synchronized (this) {
+				tsFile = this.tsFile;
+				selection = this.selection;
+			}
+			OccurrencesCollector collector = occurrencesCollector;
+			if (monitor.isCanceled() || collector == null || tsFile == null) {
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				CompletableFutureUtils.cancel(occurrencesFuture);
+				occurrencesFuture = tsFile.occurrences(selection.getOffset(), TypeScriptEditor.this);
+				occurrencesFuture.thenAccept(occurrences -> collector.collect(selection, occurrences));
+			} catch (Exception e) {
+				Trace.trace(Trace.SEVERE, "Error while getting TypeScript occurrences.", e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	// ---------------------- Definition prefetch
+
+	/**
+	 * Delay in ms between the last caret move and the prefetch of the
+	 * definition of the identifier at the caret.
+	 */
+	private static final long DEFINITION_PREFETCH_DELAY = 500;
+
+	private final DefinitionPrefetchJob fDefinitionPrefetchJob = new DefinitionPrefetchJob();
+
+	/**
+	 * Prefetches the definition of the identifier at the caret once the caret
+	 * has stopped moving for {@link #DEFINITION_PREFETCH_DELAY} ms, so that
+	 * Ctrl+Click and "Open Definition" don't wait for tsserver.
+	 */
+	class DefinitionPrefetchJob extends Job {
+
+		private ITypeScriptFile tsFile;
+		private int offset;
+
+		public DefinitionPrefetchJob() {
+			super(JSDTTypeScriptUIMessages.TypeScriptEditor_definitionPrefetch_job_name);
+			setSystem(true);
+		}
+
+		public synchronized void schedule(ITypeScriptFile tsFile, int offset) {
+			this.tsFile = tsFile;
+			this.offset = offset;
+			cancel();
+			schedule(DEFINITION_PREFETCH_DELAY);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ITypeScriptFile tsFile;
+			int offset;
+			synchronized (this) {
+				tsFile = this.tsFile;
+				offset = this.offset;
+			}
+			if (monitor.isCanceled() || tsFile == null) {
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				tsFile.prefetchDefinition(offset);
+			} catch (Exception e) {
+				Trace.trace(Trace.SEVERE, "Error while prefetching TypeScript definition.", e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private void prefetchDefinition(ITextSelection selection) {
+		if (selection == null || selection.getLength() > 0) {
+			return;
+		}
+		IDocument document = getSourceViewer() != null ? getSourceViewer().getDocument() : null;
+		if (document == null) {
+			return;
+		}
+		ITypeScriptFile tsFile = getTypeScriptFile(document);
+		if (tsFile != null) {
+			fDefinitionPrefetchJob.schedule(tsFile, selection.getOffset());
+		}
+	}
+
+	private TypedCharacterSpeculation fTypedCharacterSpeculation;
+
+	/**
+	 * Sends completions when "." is typed and signatureHelp when "(", "," or
+	 * "<" is typed, right after the change of the document, so that the
+	 * content assist popup which is opened after uses the response instead of
+	 * waiting for tsserver.
+	 * 
+	 * <p>
+	 * The speculation is done only in code (not in strings or comments), when
+	 * the auto activation of the content assist is enabled and for its auto
+	 * activation characters, otherwise no popup would use the response.
+	 * </p>
+	 */
+	class TypedCharacterSpeculation implements IDocumentListener, ITextInputListener {
+
+		public void install() {
+			ISourceViewer sourceViewer = getSourceViewer();
+			if (sourceViewer == null)
+				return;
+
+			sourceViewer.addTextInputListener(this);
+
+			IDocument document = sourceViewer.getDocument();
+			if (document != null)
+				document.addDocumentListener(this);
+		}
+
+		public void uninstall() {
+			ISourceViewer sourceViewer = getSourceViewer();
+			if (sourceViewer != null)
+				sourceViewer.removeTextInputListener(this);
+
+			IDocumentProvider documentProvider = getDocumentProvider();
+			if (documentProvider != null) {
+				IDocument document = documentProvider.getDocument(getEditorInput());
+				if (document != null)
+					document.removeDocumentListener(this);
+			}
+		}
+
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		public void documentChanged(DocumentEvent event) {
+			String text = event.getText();
+			// a typed character, with its closing character if it is
+			// inserted by the editor (ex : "()").
+			if (event.getLength() > 0 || text == null || text.isEmpty() || text.length() > 2) {
+				return;
+			}
+			ISourceViewer sourceViewer = getSourceViewer();
+			if (sourceViewer == null || !isAutoActivationCharacter(text.charAt(0))) {
+				return;
+			}
+			try {
+				String contentType = TextUtilities.getContentType(event.getDocument(),
+						IJavaScriptPartitions.JAVA_PARTITIONING, event.getOffset(), true);
+				if (!IDocument.DEFAULT_CONTENT_TYPE.equals(contentType)) {
+					return;
+				}
+			} catch (BadLocationException e) {
+				return;
+			}
+			int position = event.getOffset() + 1;
+			try {
+				ITypeScriptFile tsFile = getTypeScriptFile(event.getDocument());
+				if (tsFile != null) {
+					tsFile.speculate(position, text.charAt(0),
+							new JSDTCompletionProposalFactory(position, "", sourceViewer));
+				}
+			} catch (Exception e) {
+				Trace.trace(Trace.SEVERE, "Error while speculating TypeScript completions.", e);
+			}
+		}
+
+		private boolean isAutoActivationCharacter(char typedCharacter) {
+			IPreferenceStore store = getPreferenceStore();
+			if (store == null || !store.getBoolean(PreferenceConstants.CODEASSIST_AUTOACTIVATION)) {
+				return false;
+			}
+			String triggers = store.getString(PreferenceConstants.CODEASSIST_AUTOACTIVATION_TRIGGERS_JAVA);
+			return triggers != null && triggers.indexOf(typedCharacter) != -1;
+		}
+
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			if (oldInput == null)
+				return;
+
+			oldInput.removeDocumentListener(this);
+		}
+
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			if (newInput == null)
+				return;
+			newInput.addDocumentListener(this);
+		}
 	}
 
 	/**
@@ -875,17 +1124,16 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 		try {
 			ITypeScriptFile tsFile = getTypeScriptFile(document);
 			if (tsFile != null) {
-				occurrencesCollector.setSelection(selection);
-				CompletableFutureUtils.cancel(occurrencesFuture);
-				occurrencesFuture = tsFile.occurrences(selection.getOffset());
-				occurrencesFuture.thenAccept(occurrences -> {
-					occurrencesCollector.startCollect();
-
-					for (OccurrencesResponseItem occurrence : occurrences) {
-						occurrencesCollector.addOccurrence(occurrence);
-					}
-					occurrencesCollector.endCollect();
-				});
+				List<OccurrencesResponseItem> occurrences = tsFile.getCachedOccurrences(selection.getOffset());
+				if (occurrences != null) {
+					// the caret is still inside an occurrence of the last
+					// result and the document has not changed.
+					fOccurrencesRequestJob.cancel();
+					CompletableFutureUtils.cancel(occurrencesFuture);
+					occurrencesCollector.collect(selection, occurrences);
+				} else {
+					fOccurrencesRequestJob.schedule(tsFile, selection);
+				}
 			}
 
 		} catch (Exception e) {
@@ -947,6 +1195,8 @@ public class TypeScriptEditor extends JavaScriptLightWeightEditor implements IEd
 			fOccurrencesFinderJob.cancel();
 			fOccurrencesFinderJob = null;
 		}
+		fOccurrencesRequestJob.cancel();
+		CompletableFutureUtils.cancel(occurrencesFuture);
 
 		if (fOccurrencesFinderJobCanceler != null) {
 			fOccurrencesFinderJobCanceler.uninstall();
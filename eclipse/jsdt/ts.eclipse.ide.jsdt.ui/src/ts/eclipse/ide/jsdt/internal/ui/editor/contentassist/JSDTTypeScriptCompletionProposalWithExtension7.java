@@ -6,9 +6,8 @@ import org.eclipse.jface.text.TextViewer;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.wst.jsdt.ui.text.java.IJavaCompletionProposal;
 
-import ts.client.ITypeScriptServiceClient;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntryDetails;
-import ts.client.completions.ICompletionEntryMatcher;
 import ts.eclipse.ide.jsdt.internal.ui.JSDTTypeScriptUIPlugin;
 import ts.eclipse.ide.ui.TypeScriptUIPlugin;
 import ts.eclipse.ide.ui.preferences.TypeScriptUIPreferenceConstants;
@@ -18,9 +17,9 @@ import ts.eclipse.jface.text.contentassist.TypeScriptCompletionProposalWithExten
 public class JSDTTypeScriptCompletionProposalWithExtension7 extends TypeScriptCompletionProposalWithExtension7
 		implements IJavaCompletionProposal {
 
-	public JSDTTypeScriptCompletionProposalWithExtension7(ICompletionEntryMatcher matcher, String fileName, int line,
-			int offset, ITypeScriptServiceClient client, int position, String prefix, TextViewer textViewer) {
-		super(matcher, fileName, line, offset, client, position, prefix, textViewer);
+	public JSDTTypeScriptCompletionProposalWithExtension7(CompletionContext context, int position, String prefix,
+			TextViewer textViewer) {
+		super(context, position, prefix, textViewer);
 	}
 
 	@Override
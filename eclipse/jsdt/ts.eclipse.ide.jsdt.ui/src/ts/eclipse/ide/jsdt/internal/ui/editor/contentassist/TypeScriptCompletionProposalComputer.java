@@ -12,6 +12,7 @@
  */
 package ts.eclipse.ide.jsdt.internal.ui.editor.contentassist;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -22,12 +23,16 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.contentassist.ContextInformation;
+import org.eclipse.jface.text.contentassist.IContextInformation;
 import org.eclipse.wst.jsdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.wst.jsdt.ui.text.java.IJavaCompletionProposalComputer;
 import org.eclipse.wst.jsdt.ui.text.java.JavaContentAssistInvocationContext;
 
 import ts.ScriptElementKind;
 import ts.TypeScriptNoContentAvailableException;
+import ts.client.signaturehelp.SignatureHelpItem;
+import ts.client.signaturehelp.SignatureHelpItems;
 import ts.eclipse.ide.core.resources.IIDETypeScriptProject;
 import ts.eclipse.ide.core.utils.TypeScriptResourceUtil;
 import ts.eclipse.ide.jsdt.internal.ui.Trace;
@@ -45,14 +50,7 @@ public class TypeScriptCompletionProposalComputer
 		implements IJavaCompletionProposalComputer/* , ICompletionProposalComputer */ {
 
 	public List computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
-		IResource resource = null;
-		if (context instanceof TypeScriptContentAssistInvocationContext) {
-			TypeScriptContentAssistInvocationContext tsContext = (TypeScriptContentAssistInvocationContext) context;
-			resource = tsContext.getResource();
-		} else if (context instanceof JavaContentAssistInvocationContext) {
-			JavaContentAssistInvocationContext javaContext = (JavaContentAssistInvocationContext) context;
-			resource = javaContext.getCompilationUnit() != null ? javaContext.getCompilationUnit().getResource() : null;
-		}
+		IResource resource = getResource(context);
 		if (resource != null) {
 			try {
 				if (TypeScriptResourceUtil.canConsumeTsserver(resource)) {
@@ -69,7 +67,7 @@ public class TypeScriptCompletionProposalComputer
 						String p = prefix != null ? prefix.toString() : "";
 						return tsFile
 								.completions(position,
-										new JSDTCompletionProposalFactory(position, p, context.getViewer()))
+										new JSDTCompletionProposalFactory(position, p, context.getViewer()), this)
 								.get(5000, TimeUnit.MILLISECONDS).stream()
 								.filter(entry -> entry.updatePrefix(p)
 										&& ScriptElementKind.getKind(entry.getKind()) != ScriptElementKind.WARNING)
@@ -90,9 +88,54 @@ public class TypeScriptCompletionProposalComputer
 	}
 
 	public List computeContextInformation(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		IResource resource = getResource(context);
+		if (resource != null) {
+			try {
+				if (TypeScriptResourceUtil.canConsumeTsserver(resource)) {
+					IProject project = resource.getProject();
+					IIDETypeScriptProject tsProject = TypeScriptResourceUtil.getTypeScriptProject(project);
+					if (tsProject != null) {
+						int position = context.getInvocationOffset();
+						ITypeScriptFile tsFile = tsProject.openFile(resource, context.getDocument());
+						// the signature help is generally sent when "(" or ","
+						// was typed.
+						SignatureHelpItems signatureHelp = tsFile.signatureHelp(position, this).get(5000,
+								TimeUnit.MILLISECONDS);
+						if (signatureHelp == null || signatureHelp.getItems() == null) {
+							return Collections.EMPTY_LIST;
+						}
+						List<IContextInformation> infos = new ArrayList<>();
+						for (SignatureHelpItem item : signatureHelp.getItems()) {
+							String text = item.getText();
+							infos.add(new ContextInformation(text, text));
+						}
+						return infos;
+					}
+				}
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof TypeScriptNoContentAvailableException) {
+					// Ignore "No content available" error.
+					return Collections.EMPTY_LIST;
+				}
+				Trace.trace(Trace.SEVERE, "Error while TypeScript signature help", e);
+			} catch (Exception e) {
+				Trace.trace(Trace.SEVERE, "Error while TypeScript signature help", e);
+			}
+		}
 		return Collections.EMPTY_LIST;
 	}
 
+	private static IResource getResource(ContentAssistInvocationContext context) {
+		if (context instanceof TypeScriptContentAssistInvocationContext) {
+			TypeScriptContentAssistInvocationContext tsContext = (TypeScriptContentAssistInvocationContext) context;
+			return tsContext.getResource();
+		} else if (context instanceof JavaContentAssistInvocationContext) {
+			JavaContentAssistInvocationContext javaContext = (JavaContentAssistInvocationContext) context;
+			return javaContext.getCompilationUnit() != null ? javaContext.getCompilationUnit().getResource() : null;
+		}
+		return null;
+	}
+
 	public String getErrorMessage() {
 		return null;
 	}
@@ -0,0 +1,388 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.jsdt.internal.ui.refactoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+import ts.TypeScriptException;
+import ts.client.CodeEdit;
+import ts.client.CommandNames;
+import ts.client.ITypeScriptServiceClient;
+import ts.client.Location;
+import ts.client.codefixes.CodeAction;
+import ts.client.codefixes.CodeActionsMerger;
+import ts.client.diagnostics.DiagnosticEventBody;
+import ts.client.diagnostics.IDiagnostic;
+import ts.client.projectinfo.ProjectInfo;
+import ts.eclipse.ide.core.resources.IIDETypeScriptFile;
+import ts.eclipse.ide.core.resources.IIDETypeScriptProject;
+import ts.eclipse.ide.core.utils.TypeScriptResourceUtil;
+import ts.eclipse.ide.core.utils.WorkbenchResourceUtil;
+import ts.eclipse.ide.jsdt.core.JSDTTypeScriptCorePlugin;
+import ts.eclipse.jface.text.DocumentUtils;
+
+/**
+ * Refactoring which applies the code fixes of all the fixable problems of a
+ * file or of all the files of its tsserver project.
+ *
+ * <p>
+ * The files which are not opened are registered in tsserver with one request
+ * (see {@link IIDETypeScriptProject#openExternalFiles(String, List)}), tsserver
+ * reads them from the disk. Only the files which have a modified editor
+ * buffer are opened with their content. The diagnostics of the files are
+ * collected, the code fixes are requested with a bounded number of concurrent
+ * tsserver requests, the overlapping fixes are skipped (see
+ * {@link CodeActionsMerger}) and the others are returned in one change which
+ * can be previewed.
+ * </p>
+ *
+ */
+public class FixAllRefactoring extends Refactoring {
+
+	private static final String TEXT_TYPE = "ts";
+
+	private static final String NODE_MODULES = "node_modules";
+
+	/**
+	 * Max number of "getCodeFixes" requests sent at the same time.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 8;
+
+	/**
+	 * Max time in ms to wait for a tsserver response.
+	 */
+	private static final long TIMEOUT = 30000;
+
+	private static final long POLL_INTERVAL = 100;
+
+	private static final AtomicInteger EXTERNAL_FILES_COUNT = new AtomicInteger();
+
+	private static final Comparator<IDiagnostic> DIAGNOSTIC_COMPARATOR = new Comparator<IDiagnostic>() {
+
+		@Override
+		public int compare(IDiagnostic d1, IDiagnostic d2) {
+			int result = Integer.compare(d1.getStartLocation().getLine(), d2.getStartLocation().getLine());
+			return result != 0 ? result
+					: Integer.compare(d1.getStartLocation().getOffset(), d2.getStartLocation().getOffset());
+		}
+	};
+
+	private final IIDETypeScriptProject tsProject;
+	private final IFile file;
+	private final boolean projectScope;
+
+	private CodeActionsMerger merger;
+
+	/**
+	 * Fix all problems of the given file or of its project.
+	 * 
+	 * @param tsProject
+	 *            the TypeScript project.
+	 * @param file
+	 *            the file.
+	 * @param projectScope
+	 *            true to fix the problems of all the files of the tsserver
+	 *            project of the given file and false to fix only the
+	 *            problems of the given file.
+	 */
+	public FixAllRefactoring(IIDETypeScriptProject tsProject, IFile file, boolean projectScope) {
+		this.tsProject = tsProject;
+		this.file = file;
+		this.projectScope = projectScope;
+	}
+
+	@Override
+	public String getName() {
+		return RefactoringMessages.FixAllRefactoring_name;
+	}
+
+	@Override
+	public RefactoringStatus checkInitialConditions(IProgressMonitor pm)
+			throws CoreException, OperationCanceledException {
+		merger = null;
+		if (!tsProject.canSupport(CommandNames.GetCodeFixes)) {
+			return RefactoringStatus.createFatalErrorStatus(RefactoringMessages.FixAllRefactoring_not_supported);
+		}
+		return new RefactoringStatus();
+	}
+
+	@Override
+	public RefactoringStatus checkFinalConditions(IProgressMonitor pm)
+			throws CoreException, OperationCanceledException {
+		RefactoringStatus status = new RefactoringStatus();
+		SubMonitor monitor = SubMonitor.convert(pm, getName(), 1);
+		CodeActionsMerger merger = new CodeActionsMerger();
+		List<CompletableFuture<List<CodeAction>>> codeFixes = new ArrayList<>();
+		List<IIDETypeScriptFile> openedFiles = new ArrayList<>();
+		String externalFilesName = null;
+		Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+		int failedCount = 0;
+		try {
+			// wait for the supported code fixes used by canFix
+			tsProject.getSupportedCodeFixes();
+			List<IFile> files;
+			String configFileName = null;
+			if (projectScope) {
+				ProjectInfo projectInfo = waitFor(
+						tsProject.getClient().projectInfo(WorkbenchResourceUtil.getFileName(file), null, true),
+						monitor);
+				files = getProjectFiles(projectInfo);
+				configFileName = projectInfo != null ? projectInfo.getConfigFileName() : null;
+			} else {
+				files = Collections.singletonList(file);
+			}
+			monitor.setWorkRemaining(files.size() * 2);
+
+			// register the files which are not opened with one request, only
+			// the content of the modified files is sent to tsserver.
+			List<String> externalFileNames = new ArrayList<>();
+			for (IFile fileToFix : files) {
+				IIDETypeScriptFile tsFile = tsProject.getOpenedFile(fileToFix);
+				if (tsFile != null) {
+					tsFile.synch();
+				} else {
+					IDocument document = getDirtyDocument(fileToFix);
+					if (document != null) {
+						openedFiles.add(tsProject.openFile(fileToFix, document));
+					} else {
+						externalFileNames.add(WorkbenchResourceUtil.getFileName(fileToFix));
+					}
+				}
+			}
+			if (!externalFileNames.isEmpty()) {
+				if (configFileName != null) {
+					// use the compiler options of the tsserver project.
+					externalFileNames.add(configFileName);
+				}
+				externalFilesName = "tsfixall-" + EXTERNAL_FILES_COUNT.incrementAndGet();
+				tsProject.openExternalFiles(externalFilesName, externalFileNames);
+			}
+
+			// collect the fixable diagnostics and request their code fixes
+			ITypeScriptServiceClient client = tsProject.getClient();
+			for (IFile fileToFix : files) {
+				monitor.subTask(fileToFix.getName());
+				String fileName = WorkbenchResourceUtil.getFileName(fileToFix);
+				DiagnosticEventBody diagnostics = waitFor(client.semanticDiagnosticsSync(fileName, true), monitor);
+				List<IDiagnostic> fixables = new ArrayList<>();
+				if (diagnostics != null && diagnostics.getDiagnostics() != null) {
+					for (IDiagnostic diagnostic : diagnostics.getDiagnostics()) {
+						if (tsProject.canFix(diagnostic.getCode())) {
+							fixables.add(diagnostic);
+						}
+					}
+				}
+				Collections.sort(fixables, DIAGNOSTIC_COMPARATOR);
+				for (IDiagnostic diagnostic : fixables) {
+					Location start = diagnostic.getStartLocation();
+					Location end = diagnostic.getEndLocation();
+					acquire(permits, monitor);
+					CompletableFuture<List<CodeAction>> fixes;
+					try {
+						fixes = client.getCodeFixes(fileName, null, start.getLine(), start.getOffset(), end.getLine(),
+								end.getOffset(), Collections.singletonList(diagnostic.getCode()));
+					} catch (TypeScriptException e) {
+						permits.release();
+						throw e;
+					}
+					fixes.whenComplete((actions, e) -> permits.release());
+					codeFixes.add(fixes);
+				}
+				monitor.worked(1);
+			}
+
+			// merge the first code fix of each diagnostic in the diagnostics
+			// order, so the result doesn't depend on the responses order.
+			SubMonitor fixesMonitor = monitor.newChild(files.size()).setWorkRemaining(codeFixes.size());
+			for (CompletableFuture<List<CodeAction>> fixes : codeFixes) {
+				try {
+					List<CodeAction> actions = waitFor(fixes, fixesMonitor);
+					if (actions != null && !actions.isEmpty()) {
+						merger.add(actions.get(0));
+					}
+				} catch (ExecutionException | TimeoutException e) {
+					failedCount++;
+				}
+				fixesMonitor.worked(1);
+			}
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CoreException(new Status(IStatus.ERROR, JSDTTypeScriptCorePlugin.PLUGIN_ID,
+					"Error while collecting TypeScript code fixes", e));
+		} finally {
+			for (IIDETypeScriptFile tsFile : openedFiles) {
+				try {
+					tsFile.close();
+				} catch (TypeScriptException e) {
+					// ignore
+				}
+			}
+			if (externalFilesName != null) {
+				try {
+					tsProject.closeExternalFiles(externalFilesName);
+				} catch (TypeScriptException e) {
+					// ignore
+				}
+			}
+			pm.done();
+		}
+
+		if (merger.getAcceptedCount() == 0) {
+			return RefactoringStatus.createFatalErrorStatus(RefactoringMessages.FixAllRefactoring_no_fix);
+		}
+		if (!merger.getSkippedActions().isEmpty()) {
+			status.addWarning(NLS.bind(RefactoringMessages.FixAllRefactoring_skipped, merger.getSkippedActions().size()));
+		}
+		if (failedCount > 0) {
+			status.addWarning(NLS.bind(RefactoringMessages.FixAllRefactoring_failed, failedCount));
+		}
+		this.merger = merger;
+		return status;
+	}
+
+	@Override
+	public Change createChange(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+		if (merger == null) {
+			throw new CoreException(
+					new Status(IStatus.ERROR, JSDTTypeScriptCorePlugin.PLUGIN_ID, "TypeScript code fixes cannot be null"));
+		}
+		Map<String, List<CodeEdit>> edits = merger.getEdits();
+		SubMonitor monitor = SubMonitor.convert(pm, getName(), edits.size());
+		List<Change> fileChanges = new ArrayList<>();
+		try {
+			for (Map.Entry<String, List<CodeEdit>> entry : edits.entrySet()) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				IFile file = WorkbenchResourceUtil.findFileFromWorkspace(entry.getKey());
+				IDocument document = file != null ? TypeScriptResourceUtil.getDocument(file) : null;
+				if (document != null) {
+					TextFileChange change = new TextFileChange(file.getName(), file);
+					change.setEdit(new MultiTextEdit());
+					change.setTextType(TEXT_TYPE);
+					// sorted edits, the insertions at the same location (ex :
+					// imports) are merged in the diagnostics order.
+					for (CodeEdit edit : entry.getValue()) {
+						int start = DocumentUtils.getPosition(document, edit.getStart());
+						int end = DocumentUtils.getPosition(document, edit.getEnd());
+						change.addEdit(new ReplaceEdit(start, end - start, edit.getNewText()));
+					}
+					fileChanges.add(change);
+				}
+				monitor.worked(1);
+			}
+		} catch (TypeScriptException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JSDTTypeScriptCorePlugin.PLUGIN_ID,
+					"Error while creating TypeScript code fixes change", e));
+		} finally {
+			pm.done();
+		}
+		return new CompositeChange(getName(), fileChanges.toArray(new Change[fileChanges.size()]));
+	}
+
+	/**
+	 * Returns the files of the given tsserver project which are in the
+	 * workspace, except the node_modules files.
+	 */
+	private static List<IFile> getProjectFiles(ProjectInfo projectInfo) {
+		List<IFile> files = new ArrayList<>();
+		if (projectInfo != null && projectInfo.getFileNames() != null) {
+			for (String name : projectInfo.getFileNames()) {
+				IFile projectFile = WorkbenchResourceUtil.findFileFromWorkspace(name);
+				if (projectFile != null && !isInNodeModules(projectFile)) {
+					files.add(projectFile);
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Returns the document of the modified file buffer of the given file and
+	 * null if the file is not modified in an editor.
+	 */
+	private static IDocument getDirtyDocument(IFile file) {
+		IPath location = file.getLocation();
+		if (location == null) {
+			return null;
+		}
+		ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(location,
+				LocationKind.NORMALIZE);
+		return buffer != null && buffer.isDirty() ? buffer.getDocument() : null;
+	}
+
+	private static boolean isInNodeModules(IFile file) {
+		for (String segment : file.getProjectRelativePath().segments()) {
+			if (NODE_MODULES.equals(segment)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void acquire(Semaphore permits, IProgressMonitor monitor) throws InterruptedException {
+		while (!permits.tryAcquire(POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+		}
+	}
+
+	private static <T> T waitFor(CompletableFuture<T> promise, IProgressMonitor monitor) throws Exception {
+		long remaining = TIMEOUT;
+		while (true) {
+			if (monitor.isCanceled()) {
+				promise.cancel(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return promise.get(Math.min(POLL_INTERVAL, remaining), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				remaining -= POLL_INTERVAL;
+				if (remaining <= 0) {
+					throw e;
+				}
+			}
+		}
+	}
+}
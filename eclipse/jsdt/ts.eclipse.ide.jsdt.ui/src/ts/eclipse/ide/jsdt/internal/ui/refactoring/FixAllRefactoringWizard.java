@@ -0,0 +1,30 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.jsdt.internal.ui.refactoring;
+
+import org.eclipse.ltk.ui.refactoring.RefactoringWizard;
+
+/**
+ * Wizard of {@link FixAllRefactoring} which opens directly the preview.
+ *
+ */
+public class FixAllRefactoringWizard extends RefactoringWizard {
+
+	public FixAllRefactoringWizard(FixAllRefactoring refactoring) {
+		super(refactoring, DIALOG_BASED_USER_INTERFACE | PREVIEW_EXPAND_FIRST_NODE);
+		setDefaultPageTitle(refactoring.getName());
+	}
+
+	@Override
+	protected void addUserInputPages() {
+		// no input page
+	}
+}
@@ -61,6 +61,16 @@ public class RefactoringMessages extends NLS {
 	// TypeScript rename processor.
 	public static String TypeScriptRenameProcessor_name;
 	public static String TypeScriptRenameProcessor_change_name;
+	public static String TypeScriptRenameProcessor_timeout;
+
+	// Fix all
+	public static String FixAllAction_file_text;
+	public static String FixAllAction_project_text;
+	public static String FixAllRefactoring_name;
+	public static String FixAllRefactoring_not_supported;
+	public static String FixAllRefactoring_no_fix;
+	public static String FixAllRefactoring_skipped;
+	public static String FixAllRefactoring_failed;
 
 	
 	public static ResourceBundle getResourceBundle() {
@@ -222,7 +222,8 @@ public class RenameLinkedMode {
 				}
 			}
 
-			// Find occurrences
+			// Find occurrences (the last result of the occurrences
+			// highlighting is reused if the caret is inside it)
 			List<OccurrencesResponseItem> occurrences = tsFile.occurrences(offset).get(1000, TimeUnit.MILLISECONDS);
 
 			// Create Eclipse linked position from the occurrences list.
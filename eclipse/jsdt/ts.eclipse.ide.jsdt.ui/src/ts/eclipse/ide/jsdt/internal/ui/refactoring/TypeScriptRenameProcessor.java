@@ -1,8 +1,15 @@
 package ts.eclipse.ide.jsdt.internal.ui.refactoring;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.Assert;
@@ -11,6 +18,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.Position;
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
@@ -20,6 +28,7 @@ import org.eclipse.ltk.core.refactoring.participants.CheckConditionsContext;
 import org.eclipse.ltk.core.refactoring.participants.RefactoringParticipant;
 import org.eclipse.ltk.core.refactoring.participants.RenameProcessor;
 import org.eclipse.ltk.core.refactoring.participants.SharableParticipants;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 
@@ -27,6 +36,7 @@ import ts.client.TextSpan;
 import ts.client.rename.RenameInfo;
 import ts.client.rename.RenameResponseBody;
 import ts.client.rename.SpanGroup;
+import ts.eclipse.ide.core.utils.TypeScriptResourceUtil;
 import ts.eclipse.ide.core.utils.WorkbenchResourceUtil;
 import ts.eclipse.ide.jsdt.core.JSDTTypeScriptCorePlugin;
 import ts.eclipse.ide.ui.utils.EditorUtils;
@@ -38,6 +48,13 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 
 	private static final String ID = "ts.eclipse.ide.core.refactoring.rename";
 
+	/**
+	 * Default time (in ms) to wait for the "rename" response of tsserver.
+	 */
+	public static final long DEFAULT_TIMEOUT = 10000;
+
+	private static final long POLL_INTERVAL = 100;
+
 	private final ITypeScriptFile tsFile;
 	private final int offset;
 	private final String oldName;
@@ -45,6 +62,7 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 	private String newName;
 	private boolean findInComments;
 	private boolean findInStrings;
+	private long timeout = DEFAULT_TIMEOUT;
 
 	private RenameResponseBody rename;
 
@@ -87,18 +105,49 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 		RefactoringStatus status = new RefactoringStatus();
 		// Consume "rename" tsserver command.
 		try {
-			rename = tsFile.rename(offset, isFindInComments(), isFindInStrings()).get(1000, TimeUnit.MILLISECONDS);
+			rename = waitForRename(tsFile.rename(offset, isFindInComments(), isFindInStrings()), pm);
 			RenameInfo info = rename.getInfo();
 			if (!info.isCanRename()) {
 				// Refactoring cannot be done.
 				status.addError(info.getLocalizedErrorMessage());
 			}
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (TimeoutException e) {
+			status.addFatalError(NLS.bind(RefactoringMessages.TypeScriptRenameProcessor_timeout, timeout));
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			status.addFatalError(cause.getMessage() != null ? cause.getMessage() : cause.toString());
 		} catch (Exception e) {
-			status.addError(e.getMessage());
+			status.addFatalError(e.getMessage() != null ? e.getMessage() : e.toString());
 		}
 		return status;
 	}
 
+	/**
+	 * Wait for the "rename" response by polling the progress monitor to stop
+	 * waiting as soon as the user cancels.
+	 */
+	private RenameResponseBody waitForRename(CompletableFuture<RenameResponseBody> promise, IProgressMonitor pm)
+			throws Exception {
+		long remaining = timeout;
+		while (true) {
+			if (pm != null && pm.isCanceled()) {
+				promise.cancel(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return promise.get(Math.min(POLL_INTERVAL, remaining), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				remaining -= POLL_INTERVAL;
+				if (remaining <= 0) {
+					promise.cancel(true);
+					throw e;
+				}
+			}
+		}
+	}
+
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException, OperationCanceledException {
 		try {
@@ -107,25 +156,54 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 						"TypeScript rename cannot be null"));
 			}
 
-			// Convert TypeScript changes to Eclipse changes.
-			List<SpanGroup> locs = rename.getLocs();
-			List<Change> fileChanges = new ArrayList<>();
-			for (SpanGroup loc : locs) {
-				IFile file = WorkbenchResourceUtil.findFileFromWorkspace(loc.getFile());
-				TextFileChange change = new TextFileChange(file.getName(), file);
-				change.setEdit(new MultiTextEdit());
-				change.setTextType(TEXT_TYPE);
-
-				List<TextSpan> spans = loc.getLocs();
-				for (TextSpan textSpan : spans) {
-					Position position = EditorUtils.getPosition(file, textSpan);
-					ReplaceEdit edit = new ReplaceEdit(position.offset, position.length, this.newName);
-					change.addEdit(edit);
+			// Group the spans by file (tsserver can return several groups for
+			// the same file).
+			Map<String, List<TextSpan>> spansByFile = new LinkedHashMap<>();
+			for (SpanGroup loc : rename.getLocs()) {
+				List<TextSpan> spans = spansByFile.get(loc.getFile());
+				if (spans == null) {
+					spans = new ArrayList<>();
+					spansByFile.put(loc.getFile(), spans);
 				}
-				fileChanges.add(change);
+				spans.addAll(loc.getLocs());
+			}
+
+			// Convert TypeScript changes to Eclipse changes: each document is
+			// loaded once and the files are processed in parallel. The
+			// changes are returned in one CompositeChange which is performed
+			// in one workspace operation.
+			pm.beginTask(RefactoringMessages.TypeScriptRenameProcessor_change_name, spansByFile.size());
+			int nbThreads = Math.max(1, Math.min(spansByFile.size(), Runtime.getRuntime().availableProcessors()));
+			ExecutorService executor = Executors.newFixedThreadPool(nbThreads, r -> {
+				Thread thread = new Thread(r, "ts-rename"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				List<CompletableFuture<TextFileChange>> futures = new ArrayList<>();
+				for (Map.Entry<String, List<TextSpan>> entry : spansByFile.entrySet()) {
+					futures.add(CompletableFuture.supplyAsync(() -> {
+						try {
+							return createFileChange(entry.getKey(), entry.getValue());
+						} catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+					}, executor));
+				}
+				List<Change> fileChanges = new ArrayList<>();
+				for (CompletableFuture<TextFileChange> future : futures) {
+					TextFileChange change = waitForFileChange(future, futures, pm);
+					if (change != null) {
+						fileChanges.add(change);
+					}
+					pm.worked(1);
+				}
+				return new CompositeChange(RefactoringMessages.TypeScriptRenameProcessor_change_name,
+						fileChanges.toArray(new Change[fileChanges.size()]));
+			} finally {
+				executor.shutdownNow();
+				pm.done();
 			}
-			return new CompositeChange(RefactoringMessages.TypeScriptRenameProcessor_change_name,
-					fileChanges.toArray(new Change[fileChanges.size()]));
 		} catch (CoreException | OperationCanceledException e) {
 			throw e;
 		} catch (Exception e) {
@@ -134,6 +212,54 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 		}
 	}
 
+	private TextFileChange waitForFileChange(CompletableFuture<TextFileChange> future,
+			List<CompletableFuture<TextFileChange>> futures, IProgressMonitor pm) throws Exception {
+		while (true) {
+			if (pm.isCanceled()) {
+				for (CompletableFuture<TextFileChange> f : futures) {
+					f.cancel(true);
+				}
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// continue to wait
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException && cause.getCause() instanceof Exception) {
+					throw (Exception) cause.getCause();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the change which renames the given spans of the given file and
+	 * null if the file is not in the workspace.
+	 */
+	private TextFileChange createFileChange(String fileName, List<TextSpan> spans) throws Exception {
+		IFile file = WorkbenchResourceUtil.findFileFromWorkspace(fileName);
+		if (file == null) {
+			return null;
+		}
+		IDocument document = TypeScriptResourceUtil.getDocument(file);
+		if (document == null) {
+			throw new CoreException(new Status(IStatus.ERROR, JSDTTypeScriptCorePlugin.PLUGIN_ID,
+					"Cannot load the document of " + fileName));
+		}
+		TextFileChange change = new TextFileChange(file.getName(), file);
+		change.setEdit(new MultiTextEdit());
+		change.setTextType(TEXT_TYPE);
+		for (TextSpan textSpan : spans) {
+			Position position = EditorUtils.getPosition(document, textSpan);
+			ReplaceEdit edit = new ReplaceEdit(position.offset, position.length, this.newName);
+			change.addEdit(edit);
+		}
+		return change;
+	}
+
 	@Override
 	public RefactoringParticipant[] loadParticipants(RefactoringStatus status, SharableParticipants sharedParticipants)
 			throws CoreException {
@@ -169,4 +295,18 @@ public class TypeScriptRenameProcessor extends RenameProcessor {
 		this.findInStrings = findInStrings;
 	}
 
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Set the time (in ms) to wait for the "rename" response of tsserver.
+	 *
+	 * @param timeout
+	 *            the time (in ms) to wait for the "rename" response.
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
 }
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package ts.eclipse.ide.jsdt.internal.ui.text;
 
+import java.util.Arrays;
+
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.rules.ICharacterScanner;
 import org.eclipse.jface.text.rules.IPartitionTokenScanner;
@@ -23,9 +25,70 @@ import ts.eclipse.ide.jsdt.internal.ui.text.jsx.IJSXPartitions;
 /**
  * This scanner recognizes the JSDoc comments, multi line comments, single line
  * comments, strings, characters, and regular expressions.
+ *
+ * <p>
+ * The partitioner resumes the scanner at the start of the edited line with
+ * the content type of its partition. The state of a template literal (depth
+ * of the <code>${}</code> expressions) and of a JSX element (inside a quoted
+ * attribute value) is not given by the content type, so the scanner caches
+ * it for each line start it scans. Resuming with the exact state, the
+ * scanner finds the unchanged partitions after the edited line and the
+ * partitioner stops rescanning there.
+ * </p>
  */
 public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, IJavaScriptPartitions, IJSXPartitions {
 
+	/**
+	 * States of the line starts inside template literals and JSX elements,
+	 * sorted by offset.
+	 */
+	private static class LineStates {
+
+		private static final int NO_STATE = -1;
+
+		private int[] fOffsets = new int[64];
+		private int[] fStates = new int[64];
+		private int fSize;
+
+		/**
+		 * Add the state of the line which starts at the given offset. The
+		 * states of the lines after the offset are removed.
+		 */
+		void put(int offset, int state) {
+			truncate(offset - 1);
+			if (fSize == fOffsets.length) {
+				fOffsets = Arrays.copyOf(fOffsets, fSize * 2);
+				fStates = Arrays.copyOf(fStates, fSize * 2);
+			}
+			fOffsets[fSize] = offset;
+			fStates[fSize] = state;
+			fSize++;
+		}
+
+		/**
+		 * Returns the state of the line which starts at the given offset and
+		 * {@link #NO_STATE} if it is not cached.
+		 */
+		int get(int offset) {
+			int index = Arrays.binarySearch(fOffsets, 0, fSize, offset);
+			return index >= 0 ? fStates[index] : NO_STATE;
+		}
+
+		/**
+		 * Remove the states of the lines which start after the given offset.
+		 */
+		void truncate(int offset) {
+			if (fSize > 0 && fOffsets[fSize - 1] > offset) {
+				int index = Arrays.binarySearch(fOffsets, 0, fSize, offset);
+				fSize = index >= 0 ? index + 1 : -index - 1;
+			}
+		}
+
+		void clear() {
+			fSize = 0;
+		}
+	}
+
 	// states
 	private static final int JAVASCRIPT = 0;
 	private static final int SINGLE_LINE_COMMENT = 1;
@@ -94,6 +157,20 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 			new Token(JAVA_SHEBANG_LINE), new Token(JAVASCRIPT_TEMPLATE_LITERAL), new Token(JSX) };
 	private boolean startQuoteInsideJsx;
 
+	/** The offset of the next character read by the scanner. */
+	private int fOffset;
+
+	/**
+	 * The offset of the line which starts after the last read line delimiter
+	 * and -1 if its state is recorded.
+	 */
+	private int fLineStart = -1;
+
+	/** The document of the cached line states. */
+	private IDocument fDocument;
+
+	private final LineStates fLineStates = new LineStates();
+
 	public FastTypeScriptPartitionScanner() {
 		// create the scanner
 	}
@@ -112,8 +189,16 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 			if (!Character.isWhitespace((char) currentChar))
 				lastNonWhitespaceChar = currentChar;
 
+			if (fLineStart != -1) {
+				// the delimiter of the previous line is processed.
+				recordLineState();
+			}
+
 			// read in the next char
-			currentChar = fScanner.read();
+			currentChar = read();
+			if (currentChar == '\n' || currentChar == '\r') {
+				fLineStart = fOffset;
+			}
 
 			// characters
 			switch (currentChar) {
@@ -311,8 +396,8 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 						case '?':
 						case '{':
 						case '}':
-							int tempChar = fScanner.read();
-							fScanner.unread();
+							int tempChar = read();
+							unread();
 							switch (tempChar) {
 							case '/':
 							case '*':
@@ -359,8 +444,8 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 
 				case '`':
 					fLast = NONE; // ignore fLast
+					fTemplateLiteralExpressionDepth = 0;
 					if (fTokenLength > 0) {
-						fTemplateLiteralExpressionDepth = 0;
 						return preFix(JAVASCRIPT, JS_TEMPLATE_LITERAL, NONE, 1);
 					} else {
 						preFix(JAVASCRIPT, JS_TEMPLATE_LITERAL, NONE, 1);
@@ -493,12 +578,20 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 				case '{':
 					if (fLast == DOLLAR) {
 						fTemplateLiteralExpressionDepth++;
-						fTokenLength++;
 					}
+					consume();
 					break;
 				case '}':
 					if (fLast != BACKSLASH && fTemplateLiteralExpressionDepth > 0) {
 						fTemplateLiteralExpressionDepth--;
+					}
+					consume();
+					break;
+				case '\\':
+					if (fLast == BACKSLASH) {
+						consume();
+					} else {
+						fLast = BACKSLASH;
 						fTokenLength++;
 					}
 					break;
@@ -552,7 +645,7 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 					onCharList = false;
 					if (fLast == SLASH || fLast == REGULAR_EXPRESSION_END) {
 						fTokenLength--;
-						fScanner.unread();
+						unread();
 						return postFix(REGULAR_EXPRESSION);
 					}
 					consume();
@@ -579,7 +672,7 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 				default:
 					if (fLast == SLASH || fLast == REGULAR_EXPRESSION_END) {
 						fTokenLength--;
-						fScanner.unread();
+						unread();
 						return postFix(REGULAR_EXPRESSION);
 					}
 					consume();
@@ -616,6 +709,66 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 		}
 	}
 
+	private int read() {
+		int ch = fScanner.read();
+		if (ch != ICharacterScanner.EOF) {
+			fOffset++;
+		}
+		return ch;
+	}
+
+	private void unread() {
+		fScanner.unread();
+		fOffset--;
+	}
+
+	/**
+	 * Cache the state of the line which starts at {@link #fLineStart} if it is
+	 * inside a template literal or a JSX element.
+	 */
+	private void recordLineState() {
+		if (fState == JS_TEMPLATE_LITERAL || fState == JSX_CONTENT) {
+			fLineStates.put(fLineStart,
+					fState | (startQuoteInsideJsx ? 1 << 4 : 0) | (fTemplateLiteralExpressionDepth << 5));
+		}
+		fLineStart = -1;
+	}
+
+	/**
+	 * Returns the state of the line which starts at the given offset inside
+	 * the template literal or JSX partition which starts at the given
+	 * partition offset. When it is not cached, the partition is scanned from
+	 * its start to the offset to cache the states of its lines.
+	 */
+	private int getLineState(IDocument document, int offset, int state, int partitionOffset) {
+		int lineState = fLineStates.get(offset);
+		if (lineState == LineStates.NO_STATE) {
+			// the content before the offset is not changed, skip the back
+			// quote which starts a template literal.
+			int start = state == JS_TEMPLATE_LITERAL ? partitionOffset + 1 : partitionOffset;
+			reset(document, start, offset - start);
+			fState = state;
+			while (!nextToken().isEOF()) {
+				// the line states are cached while scanning
+			}
+			lineState = fLineStates.get(offset);
+		}
+		return lineState != LineStates.NO_STATE && (lineState & 0xF) == state ? lineState : LineStates.NO_STATE;
+	}
+
+	private void reset(IDocument document, int offset, int length) {
+		fScanner.setRange(document, offset, length);
+		fOffset = offset;
+		fLineStart = -1;
+		fTokenOffset = offset;
+		fTokenLength = 0;
+		fPrefixLength = 0;
+		fLast = NONE;
+		fState = JAVASCRIPT;
+		fTemplateLiteralExpressionDepth = 0;
+		startQuoteInsideJsx = false;
+	}
+
 	private static final int getLastLength(int last) {
 		switch (last) {
 		default:
@@ -701,19 +854,33 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 	 */
 	public void setPartialRange(IDocument document, int offset, int length, String contentType, int partitionOffset) {
 
-		fScanner.setRange(document, offset, length);
-		fTokenOffset = partitionOffset;
-		fTokenLength = 0;
-		fPrefixLength = offset - partitionOffset;
-		fLast = NONE;
+		// the lines after the offset are changed.
+		if (document != fDocument) {
+			fLineStates.clear();
+			fDocument = document;
+		}
+		fLineStates.truncate(offset);
 
+		int state;
+		int lineState = LineStates.NO_STATE;
 		if (offset == partitionOffset) {
 			// restart at beginning of partition
-			fState = JAVASCRIPT;
+			state = JAVASCRIPT;
 		} else {
-			fState = getState(contentType);
+			state = getState(contentType);
+			if (state == JS_TEMPLATE_LITERAL || state == JSX_CONTENT) {
+				lineState = getLineState(document, offset, state, partitionOffset);
+			}
+		}
+
+		reset(document, offset, length);
+		fTokenOffset = partitionOffset;
+		fPrefixLength = offset - partitionOffset;
+		fState = state;
+		if (lineState != LineStates.NO_STATE) {
+			startQuoteInsideJsx = (lineState & (1 << 4)) != 0;
+			fTemplateLiteralExpressionDepth = lineState >> 5;
 		}
-		startQuoteInsideJsx = false;
 	}
 
 	/*
@@ -721,13 +888,9 @@ public class FastTypeScriptPartitionScanner implements IPartitionTokenScanner, I
 	 */
 	public void setRange(IDocument document, int offset, int length) {
 
-		fScanner.setRange(document, offset, length);
-		fTokenOffset = offset;
-		fTokenLength = 0;
-		fPrefixLength = 0;
-		fLast = NONE;
-		fState = JAVASCRIPT;
-		startQuoteInsideJsx = false;
+		fLineStates.clear();
+		fDocument = document;
+		reset(document, offset, length);
 	}
 
 	/*
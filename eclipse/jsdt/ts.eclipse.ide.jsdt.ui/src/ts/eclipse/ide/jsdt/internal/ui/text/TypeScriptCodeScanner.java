@@ -52,8 +52,6 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 	 */
 	private static final class OperatorRule implements IRule {
 
-		/** Java operators */
-		private final char[] JAVA_OPERATORS= { ';', '.', '=', '/', '\\', '+', '-', '*', '<', '>', ':', '?', '!', ',', '|', '&', '^', '%', '~'};
 		/** Token to return for this rule */
 		private final IToken fToken;
 
@@ -73,11 +71,15 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 		 * @return <code>true</code> iff the character is an operator, <code>false</code> otherwise.
 		 */
 		public boolean isOperator(char character) {
-			for (int index= 0; index < JAVA_OPERATORS.length; index++) {
-				if (JAVA_OPERATORS[index] == character)
-					return true;
+			// evaluated for most of the tokens, a switch avoids looping over
+			// the operators.
+			switch (character) {
+			case ';': case '.': case '=': case '/': case '\\': case '+': case '-': case '*': case '<': case '>':
+			case ':': case '?': case '!': case ',': case '|': case '&': case '^': case '%': case '~':
+				return true;
+			default:
+				return false;
 			}
-			return false;
 		}
 
 		/*
@@ -106,8 +108,6 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 	 */
 	private static final class BracketRule implements IRule {
 
-		/** Java brackets */
-		private final char[] JAVA_BRACKETS= { '(', ')', '{', '}', '[', ']' };
 		/** Token to return for this rule */
 		private final IToken fToken;
 
@@ -127,11 +127,12 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 		 * @return <code>true</code> iff the character is a bracket, <code>false</code> otherwise.
 		 */
 		public boolean isBracket(char character) {
-			for (int index= 0; index < JAVA_BRACKETS.length; index++) {
-				if (JAVA_BRACKETS[index] == character)
-					return true;
+			switch (character) {
+			case '(': case ')': case '{': case '}': case '[': case ']':
+				return true;
+			default:
+				return false;
 			}
-			return false;
 		}
 
 		/*
@@ -154,13 +155,16 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 	}
 
 	/**
-	 * An annotation rule matches the '@' symbol, any following whitespace and
-	 * optionally a following <code>interface</code> keyword.
+	 * A decorator rule matches the '@' symbol followed by an identifier and
+	 * optionally by dotted identifiers (ex : <code>@Component</code>,
+	 * <code>@ng.Input</code>).
 	 *
 	 * It does not match if there is a comment between the '@' symbol and
 	 * the identifier. See https://bugs.eclipse.org/bugs/show_bug.cgi?id=82452
 	 *
-	 * @since 3.1
+	 * When the rule doesn't match, the scanner is back at its offset before
+	 * the '@', even if the '@' is the last character of the scanned range (the
+	 * rule based scanner moves its offset when it reads EOF).
 	 */
 	private static class DecoratorRule implements IRule, ISourceVersionDependent {
 		/**
@@ -204,10 +208,10 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 			 */
 			@Override
 			public int read() {
-				int ch= fDelegate.read();
-				if (ch != ICharacterScanner.EOF)
-					fReadCount++;
-				return ch;
+				// the rule based scanner moves its offset even when it
+				// returns EOF, so EOF must be unread too.
+				fReadCount++;
+				return fDelegate.read();
 			}
 
 			/*
@@ -248,10 +252,8 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 		/**
 		 * Creates a new rule.
 		 *
-		 * @param interfaceToken the token to return if
-		 *        <code>'@\s*interface'</code> is matched
-		 * @param atToken the token to return if <code>'@'</code>
-		 *        is matched, but not <code>'@\s*interface'</code>
+		 * @param decoratorToken the token to return if a decorator is
+		 *        matched
 		 * @param version the lowest <code>JavaCore.COMPILER_SOURCE</code>
 		 *        version that this rule is enabled
 		 * @param currentVersion the current
@@ -271,23 +273,32 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 			if (!fIsVersionMatch)
 				return Token.UNDEFINED;
 
+			// the rule is evaluated for most of the tokens, check '@' before
+			// creating a resettable scanner.
+			if (scanner.read() != '@') {
+				scanner.unread();
+				return Token.UNDEFINED;
+			}
 			ResettableScanner resettable= new ResettableScanner(scanner);
-			if (resettable.read() == '@')
-				return readAnnotation(resettable);
+			if (readAnnotation(resettable))
+				return decoratorToken;
 
 			resettable.reset();
+			scanner.unread();
 			return Token.UNDEFINED;
 		}
 
-		private IToken readAnnotation(ResettableScanner scanner) {
-			if (!readIdentifier(scanner, null)) {
-				scanner.reset();
-				return Token.UNDEFINED;
-			}
-			while (readSegment(new ResettableScanner(scanner))) {
+		private boolean readAnnotation(ResettableScanner scanner) {
+			if (!readIdentifier(scanner, null))
+				return false;
+
+			// readSegment marks the position of the scanner, it can be reused
+			// for each segment.
+			ResettableScanner segment= new ResettableScanner(scanner);
+			while (readSegment(segment)) {
 				// do nothing
 			}
-			return decoratorToken;
+			return true;
 		}
 
 		private boolean readSegment(ResettableScanner scanner) {
@@ -319,8 +330,7 @@ public final class TypeScriptCodeScanner extends AbstractJavaScanner {
 				read= true;
 			}
 
-			if (ch != ICharacterScanner.EOF)
-				scanner.unread();
+			scanner.unread();
 			
 			return read;
 		}
@@ -16,7 +16,7 @@ public class TypeScriptTextTools extends JavaScriptTextTools {
 	 * Array with legal content types.
 	 * 
 	 */
-	private final static String[] LEGAL_CONTENT_TYPES = new String[] { IJavaScriptPartitions.JAVA_DOC,
+	final static String[] LEGAL_CONTENT_TYPES = new String[] { IJavaScriptPartitions.JAVA_DOC,
 			IJavaScriptPartitions.JAVA_MULTI_LINE_COMMENT, IJavaScriptPartitions.JAVA_SINGLE_LINE_COMMENT,
 			IJavaScriptPartitions.JAVA_STRING, IJavaScriptPartitions.JAVA_CHARACTER,
 			IJavaScriptPartitions.JAVASCRIPT_TEMPLATE_LITERAL, IJSXPartitions.JSX };
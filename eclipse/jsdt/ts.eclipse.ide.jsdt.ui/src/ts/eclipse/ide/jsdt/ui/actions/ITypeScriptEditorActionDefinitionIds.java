@@ -106,4 +106,17 @@ public interface ITypeScriptEditorActionDefinitionIds extends ITextEditorActionD
 	 */
 	public static final String RENAME_ELEMENT = "ts.eclipse.ide.jsdt.ui.edit.text.java.rename.element"; //$NON-NLS-1$
 
+	/**
+	 * Action definition ID of the refactor -> fix all problems in file action
+	 * (value <code>"ts.eclipse.ide.jsdt.ui.edit.text.java.fix.all.file"</code>).
+	 */
+	public static final String FIX_ALL_IN_FILE = "ts.eclipse.ide.jsdt.ui.edit.text.java.fix.all.file"; //$NON-NLS-1$
+
+	/**
+	 * Action definition ID of the refactor -> fix all problems in project
+	 * action (value
+	 * <code>"ts.eclipse.ide.jsdt.ui.edit.text.java.fix.all.project"</code>).
+	 */
+	public static final String FIX_ALL_IN_PROJECT = "ts.eclipse.ide.jsdt.ui.edit.text.java.fix.all.project"; //$NON-NLS-1$
+
 }
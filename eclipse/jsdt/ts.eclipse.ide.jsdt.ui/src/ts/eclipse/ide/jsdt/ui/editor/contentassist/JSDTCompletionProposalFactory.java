@@ -16,10 +16,9 @@ import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.wst.jsdt.ui.text.java.IJavaCompletionProposal;
 
-import ts.client.ITypeScriptServiceClient;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntry;
 import ts.client.completions.ICompletionEntryFactory;
-import ts.client.completions.ICompletionEntryMatcher;
 import ts.eclipse.ide.jsdt.internal.ui.editor.contentassist.JSDTTypeScriptCompletionProposal;
 
 /**
@@ -57,16 +56,15 @@ public class JSDTCompletionProposalFactory implements ICompletionEntryFactory {
 	}
 
 	@Override
-	public CompletionEntry create(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-			ITypeScriptServiceClient client) {
+	public CompletionEntry create(CompletionContext context) {
 		try {
 			if (CONSTRUCTOR_EXTENSION7 != null) {
-				return (CompletionEntry) CONSTRUCTOR_EXTENSION7.newInstance(matcher, fileName, line, offset, client, position, prefix, textViewer);
+				return (CompletionEntry) CONSTRUCTOR_EXTENSION7.newInstance(context, position, prefix, textViewer);
 			}
 		} catch (Throwable e) {
 			e.printStackTrace();
 		}
-		return new JSDTTypeScriptCompletionProposal(matcher, fileName, line, offset, client, position, prefix, textViewer);
+		return new JSDTTypeScriptCompletionProposal(context, position, prefix, textViewer);
 	}
 
 }
@@ -0,0 +1,100 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ *  
+ */
+package ts.eclipse.ide.terminal.interpreter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Throughput benchmark of the command terminal tracker which parses the
+ * recorded terminal sessions as a terminal stream.
+ *
+ */
+public class CommandTerminalTrackerBenchmark {
+
+	private static final String USER_HOME = "/home/johnson_ajar";
+	private static final String ENCODING = "UTF-8";
+
+	private static final int CHUNK_SIZE = 1024;
+	private static final int WARMUP_ITERATIONS = 50;
+	private static final int ITERATIONS = 500;
+
+	/**
+	 * Tracker which records the terminal session as bytes.
+	 */
+	private static class RecordingTracker extends TrackerTest {
+
+		private final StringBuilder session = new StringBuilder();
+
+		public RecordingTracker() {
+			super(USER_HOME);
+		}
+
+		@Override
+		public void processText(String text, int columns) {
+			session.append(text);
+		}
+
+		@Override
+		protected void processCarriageReturnLineFeed() {
+			session.append("\r\n");
+		}
+
+		public byte[] getSession() {
+			return session.toString().getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void issue62() {
+		RecordingTracker recorder = new RecordingTracker();
+		Issue62.replay(recorder);
+		benchmark("Issue62", recorder.getSession());
+	}
+
+	private static void benchmark(String name, byte[] session) {
+		List<byte[]> chunks = split(session, CHUNK_SIZE);
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			parse(chunks);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			parse(chunks);
+		}
+		long elapsed = System.nanoTime() - start;
+		double mb = ((double) session.length * ITERATIONS) / (1024 * 1024);
+		double seconds = elapsed / 1000000000d;
+		System.err.println(name + ": " + session.length + " bytes x " + ITERATIONS + " in "
+				+ (elapsed / 1000000) + " ms (" + String.format("%.2f", mb / seconds) + " MB/s)");
+	}
+
+	private static void parse(List<byte[]> chunks) {
+		TrackerTest tracker = new TrackerTest(USER_HOME);
+		for (byte[] chunk : chunks) {
+			tracker.parse(chunk, chunk.length, ENCODING);
+		}
+	}
+
+	private static List<byte[]> split(byte[] session, int chunkSize) {
+		List<byte[]> chunks = new ArrayList<>();
+		for (int offset = 0; offset < session.length; offset += chunkSize) {
+			chunks.add(Arrays.copyOfRange(session, offset, Math.min(offset + chunkSize, session.length)));
+		}
+		return chunks;
+	}
+}
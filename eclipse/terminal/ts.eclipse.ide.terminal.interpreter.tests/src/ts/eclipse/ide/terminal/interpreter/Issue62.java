@@ -9,6 +9,18 @@ public class Issue62 {
 	@Ignore
 	public void ngWithWizard() {
 		TrackerTest test = new TrackerTest("/home/johnson_ajar");
+		replay(test);
+		System.err.println(test);
+	}
+
+	/**
+	 * Replay the recorded terminal session of the issue 62 with the given
+	 * tracker.
+	 * 
+	 * @param test
+	 *            the tracker.
+	 */
+	static void replay(TrackerTest test) {
 		test.processText("p", 233);
 		test.processText("w", 233);
 		test.processText("d", 233);
@@ -4203,7 +4215,5 @@ public class Issue62 {
 		test.processText("Installed packages for tooling via npm.", 300);
 		test.processCarriageReturnLineFeed();
 		test.processText("~/dev/tutorial/spring_angular2$ ", 300);
-
-		System.err.println(test);
 	}
 }
@@ -1,7 +1,11 @@
 package ts.eclipse.ide.terminal.interpreter.internal;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 
 import org.eclipse.tm.internal.terminal.provisional.api.Logger;
 
@@ -59,18 +63,19 @@ public class AnsiHandler {
 	private int savedCursorColumn = 0;
 
 	/**
-	 * This field holds an array of StringBuffer objects, each of which is one
+	 * This field holds an array of StringBuilder objects, each of which is one
 	 * parameter from the current ANSI escape sequence. For example, when
 	 * parsing the escape sequence "\e[20;10H", this array holds the strings
-	 * "20" and "10".
+	 * "20" and "10". The builders are created once and reused for each escape
+	 * sequence.
 	 */
-	private final StringBuffer[] ansiParameters = new StringBuffer[16];
+	private final StringBuilder[] ansiParameters = new StringBuilder[16];
 
 	/**
 	 * This field holds the OS-specific command found in an escape sequence of
 	 * the form "\e]...\u0007".
 	 */
-	private final StringBuffer ansiOsCommand = new StringBuffer(128);
+	private final StringBuilder ansiOsCommand = new StringBuilder(128);
 
 	/**
 	 * This field holds the index of the next unused element of the array stored
@@ -80,30 +85,93 @@ public class AnsiHandler {
 
 	boolean fCrAfterNewLine;
 
-	private String text;
+	/**
+	 * The decoded characters of the current chunk. This buffer is reused
+	 * between chunks and grows only when a chunk is bigger than its capacity.
+	 */
+	private CharBuffer text = CharBuffer.allocate(1024);
 
-	private int index;
+	/**
+	 * The decoder used to decode chunks of the terminal stream.
+	 */
+	private CharsetDecoder decoder;
 
-	public synchronized void parse(byte[] byteBuffer, int bytesRead, String encoding) {
-		this.text = getText(byteBuffer, bytesRead, encoding);
-		this.index = 0;
+	/**
+	 * The encoding of the decoder.
+	 */
+	private String decoderEncoding;
+
+	/**
+	 * The bytes of a multi-bytes character which was split between 2 chunks.
+	 */
+	private byte[] remainingBytes;
+
+	public AnsiHandler() {
 		for (int i = 0; i < ansiParameters.length; ++i) {
-			ansiParameters[i] = new StringBuffer();
+			ansiParameters[i] = new StringBuilder();
 		}
+	}
+
+	public synchronized void parse(byte[] byteBuffer, int bytesRead, String encoding) {
+		decode(byteBuffer, bytesRead, encoding);
 		processNewText();
 	}
 
-	private String getText(byte[] byteBuffer, int bytesRead, String encoding) {
-		if (encoding == null) {
-			return new String(byteBuffer, 0, bytesRead);
+	/**
+	 * Decode the given bytes in the reused {@link #text} char buffer.
+	 * 
+	 * @param byteBuffer
+	 * @param bytesRead
+	 * @param encoding
+	 */
+	private void decode(byte[] byteBuffer, int bytesRead, String encoding) {
+		CharsetDecoder decoder = getDecoder(encoding);
+		ByteBuffer in;
+		if (remainingBytes == null) {
+			in = ByteBuffer.wrap(byteBuffer, 0, bytesRead);
+		} else {
+			in = ByteBuffer.allocate(remainingBytes.length + bytesRead);
+			in.put(remainingBytes).put(byteBuffer, 0, bytesRead);
+			in.flip();
+			remainingBytes = null;
+		}
+		int capacity = (int) (in.remaining() * decoder.maxCharsPerByte()) + 1;
+		if (text.capacity() < capacity) {
+			text = CharBuffer.allocate(capacity);
+		} else {
+			text.clear();
 		}
-		try {
-			return new String(byteBuffer, 0, bytesRead, encoding);
-		} catch (UnsupportedEncodingException e) {
-			return new String(byteBuffer, 0, bytesRead);
+		decoder.decode(in, text, false);
+		if (in.hasRemaining()) {
+			// keep the start of a multi-bytes character for the next chunk.
+			remainingBytes = new byte[in.remaining()];
+			in.get(remainingBytes);
 		}
+		text.flip();
 	}
-	
+
+	private CharsetDecoder getDecoder(String encoding) {
+		if (decoder == null || !(encoding == null ? decoderEncoding == null : encoding.equals(decoderEncoding))) {
+			Charset charset = null;
+			if (encoding != null) {
+				try {
+					charset = Charset.forName(encoding);
+				} catch (IllegalArgumentException e) {
+					// unsupported encoding
+				}
+			}
+			if (charset == null) {
+				charset = Charset.defaultCharset();
+			}
+			decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			decoderEncoding = encoding;
+			remainingBytes = null;
+		}
+		return decoder;
+	}
+
+
 	/**
 	 * This method scans the newly received text, processing ANSI control
 	 * characters and escape sequences and displaying normal text.
@@ -111,8 +179,6 @@ public class AnsiHandler {
 	 * @throws IOException
 	 */
 	private void processNewText() {
-		Logger.log("entered"); //$NON-NLS-1$
-
 		// Scan the newly received text.
 
 		while (hasNextChar()) {
@@ -175,13 +241,13 @@ public class AnsiHandler {
 					// parameter characters.
 
 					for (int i = 0; i < ansiParameters.length; ++i) {
-						ansiParameters[i].delete(0, ansiParameters[i].length());
+						ansiParameters[i].setLength(0);
 					}
 					break;
 
 				case ']':
 					ansiState = ANSISTATE_EXPECTING_OS_COMMAND;
-					ansiOsCommand.delete(0, ansiOsCommand.length());
+					ansiOsCommand.setLength(0);
 					break;
 
 				case ')':
@@ -287,11 +353,11 @@ public class AnsiHandler {
 	}
 
 	private char getNextChar() {
-		return text.charAt(index++);
+		return text.get();
 	}
 
 	private boolean hasNextChar() {
-		return (index < text.length());
+		return text.hasRemaining();
 	}
 
 	/**
@@ -306,7 +372,7 @@ public class AnsiHandler {
 		// assert fNextChar!=-1: "Already a character waiting:"+fNextChar;
 		// //$NON-NLS-1$
 		// fNextChar=c;
-		index--;
+		text.position(text.position() - 1);
 	}
 
 
@@ -348,10 +414,9 @@ public class AnsiHandler {
 	 * @throws IOException
 	 */
 	private void processNonControlCharacters(char character) {
-		StringBuffer buffer = new StringBuffer();
-		buffer.append(character);
 		// Identify a contiguous sequence of non-control characters, starting at
-		// firstNonControlCharacterIndex in newText.
+		// the given character, directly in the char buffer.
+		int start = text.position() - 1;
 		while (hasNextChar()) {
 			character = getNextChar();
 			if (character == '\u0000' || character == '\b' || character == '\t' || character == '\u0007'
@@ -359,14 +424,13 @@ public class AnsiHandler {
 				pushBackChar(character);
 				break;
 			}
-			buffer.append(character);
 		}
 
 		// Now insert the sequence of non-control characters in the StyledText
 		// widget
 		// at the location of the cursor.
 
-		processText(buffer.toString());
+		processText(new String(text.array(), text.arrayOffset() + start, text.position() - start));
 	}
 
 	protected void processText(String string) {
@@ -13,7 +13,9 @@ package ts.eclipse.ide.terminal.interpreter.internal;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import ts.eclipse.ide.terminal.interpreter.CommandTerminalService;
 import ts.eclipse.ide.terminal.interpreter.ICommandInterpreterListener;
@@ -28,6 +30,17 @@ public abstract class CommandTerminalTracker extends AnsiHandler {
 
 	private static final String TILD = "~";
 
+	/**
+	 * Max number of prompt candidates whose directory check is cached.
+	 */
+	private static final int PROMPT_CACHE_SIZE = 64;
+
+	/**
+	 * Time in ms during which a prompt candidate which is not a directory is
+	 * not checked again.
+	 */
+	private static final long NOT_DIRECTORY_TTL = 2000;
+
 	private final List<ITerminalCommandListener> listeners;
 
 	private int columns;
@@ -36,9 +49,28 @@ public abstract class CommandTerminalTracker extends AnsiHandler {
 
 	private String workingDir;
 
+	/**
+	 * Cache of prompt candidates (working directory) to avoid accessing the
+	 * file system for each line which ends with '>' or '$' (ex : the output of
+	 * a build). The value is the time in ms until which the result is valid:
+	 * a directory is valid forever, a candidate which is not a directory is
+	 * valid during {@link #NOT_DIRECTORY_TTL} since the directory can be
+	 * created by a command.
+	 */
+	private final Map<String, Long> promptCache;
+
 	public CommandTerminalTracker() {
 		this.columns = 80;
 		this.listeners = new ArrayList<>();
+		this.promptCache = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > PROMPT_CACHE_SIZE;
+			}
+		};
 		onOpenTerminal(getUserHome());
 	}
 
@@ -99,13 +131,31 @@ public abstract class CommandTerminalTracker extends AnsiHandler {
 			return false;
 		}
 		workingDir = resolveTild(workingDir);
-		if (isDirectory(workingDir)) {
+		if (isPromptDirectory(workingDir)) {
 			terminateCommand(workingDir);
 			return true;
 		}
 		return false;
 	}
 
+	private boolean isPromptDirectory(String dir) {
+		Long validUntil = promptCache.get(dir);
+		if (validUntil != null) {
+			if (validUntil == Long.MAX_VALUE) {
+				return true;
+			}
+			if (System.currentTimeMillis() < validUntil) {
+				return false;
+			}
+		}
+		if (isDirectory(dir)) {
+			promptCache.put(dir, Long.MAX_VALUE);
+			return true;
+		}
+		promptCache.put(dir, System.currentTimeMillis() + NOT_DIRECTORY_TTL);
+		return false;
+	}
+
 	protected boolean isDirectory(String dir) {
 		return new File(dir).exists();
 	}
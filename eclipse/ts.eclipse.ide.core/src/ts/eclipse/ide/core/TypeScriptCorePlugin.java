@@ -17,6 +17,7 @@ import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
 import ts.eclipse.ide.core.nodejs.INodejsInstallManager;
+import ts.eclipse.ide.core.npm.IDENpmModulesManager;
 import ts.eclipse.ide.core.repository.IIDETypeScriptRepositoryManager;
 import ts.eclipse.ide.core.resources.ITypeScriptElementChangedListener;
 import ts.eclipse.ide.core.resources.problems.IProblemManager;
@@ -26,6 +27,7 @@ import ts.eclipse.ide.internal.core.repository.IDETypeScriptRepositoryManager;
 import ts.eclipse.ide.internal.core.resources.IDEResourcesManager;
 import ts.eclipse.ide.internal.core.resources.problems.ProblemManager;
 import ts.eclipse.ide.internal.core.resources.watcher.ResourcesWatcher;
+import ts.npm.NpmVersionCatalog;
 import ts.resources.ConfigurableTypeScriptResourcesManager;
 
 /**
@@ -59,6 +61,10 @@ public class TypeScriptCorePlugin extends Plugin {
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		ResourcesWatcher.getInstance().dispose();
+		NpmVersionCatalog catalog = IDENpmModulesManager.getInstance().getVersionCatalog();
+		if (catalog != null) {
+			catalog.dispose();
+		}
 		IDEResourcesManager.getInstance().destroy();
 		plugin = null;
 		super.stop(context);
@@ -1,18 +1,45 @@
 package ts.eclipse.ide.core.npm;
 
+import java.io.File;
+
+import ts.eclipse.ide.core.TypeScriptCorePlugin;
 import ts.eclipse.ide.core.utils.OSHelper;
 import ts.npm.NpmModulesManager;
+import ts.npm.NpmVersionCatalog;
 
 public class IDENpmModulesManager extends NpmModulesManager {
 
+	/**
+	 * System property to set a local npm registry mirror directory used when
+	 * npm cannot be called (offline).
+	 */
+	public static final String NPM_REGISTRY_MIRROR_PROPERTY = "ts.npm.registryMirror"; //$NON-NLS-1$
+
+	private static final String NPM_CATALOG_DIR = "npm-catalog"; //$NON-NLS-1$
+
 	private static final IDENpmModulesManager INSTANCE = new IDENpmModulesManager();
 
 	private IDENpmModulesManager() {
-		super(OSHelper.getOs());
+		super(OSHelper.getOs(), getCatalogDir());
+		NpmVersionCatalog catalog = getVersionCatalog();
+		if (catalog != null) {
+			String mirror = System.getProperty(NPM_REGISTRY_MIRROR_PROPERTY);
+			if (mirror != null) {
+				catalog.setRegistryMirrorDir(new File(mirror));
+			}
+		}
 	}
 
 	public static NpmModulesManager getInstance() {
 		return INSTANCE;
 	}
 
+	private static File getCatalogDir() {
+		TypeScriptCorePlugin plugin = TypeScriptCorePlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		return plugin.getStateLocation().append(NPM_CATALOG_DIR).toFile();
+	}
+
 }
@@ -72,24 +72,13 @@ public class NodejsInstall implements IEmbeddedNodejs {
 	
 					this.path = new File(baseDir, path);
 		
-					// check if path exists, if it doesn't look for zip
-					if (!this.path.exists()) {
-						String zip = element.getAttribute("zip");
-		
-						File zipFile = new File(bundleDir, zip);
-		
-						if (zipFile.exists()) {
-							if (ZipUtils.isZipFile(zipFile)) {
-								ZipUtils.extractZip(zipFile, baseDir);
-							} else if (ZipUtils.isTarGZFile(zipFile)) {
-								ZipUtils.extractTarGZ(zipFile, baseDir);
-							} else if (ZipUtils.isTarXZFile(zipFile)) {
-								ZipUtils.extractTarXZ(zipFile, baseDir);
-							}
-		
-							if(this.path.exists()) {
-								this.path.setExecutable(true);
-							}
+					// extract the zip if the path was not extracted or if the
+					// extracted content is partial or corrupted.
+					String zip = element.getAttribute("zip");
+					File zipFile = zip != null ? new File(bundleDir, zip) : null;
+					if (zipFile != null && zipFile.exists()) {
+						if (ZipUtils.extractIfNeeded(zipFile, baseDir) && this.path.exists()) {
+							this.path.setExecutable(true);
 						}
 					}
 				}
@@ -13,6 +13,7 @@ package ts.eclipse.ide.internal.core.repository;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -20,6 +21,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.core.internal.runtime.InternalPlatform;
 import org.eclipse.core.resources.IContainer;
@@ -41,6 +43,9 @@ import ts.eclipse.ide.core.TypeScriptCorePlugin;
 import ts.eclipse.ide.core.repository.IIDETypeScriptRepositoryManager;
 import ts.eclipse.ide.internal.core.Trace;
 import ts.repository.ITypeScriptRepository;
+import ts.repository.TypeScriptRepositoryCatalog;
+import ts.repository.TypeScriptRepositoryException;
+import ts.repository.TypeScriptRepositoryIndex;
 import ts.repository.TypeScriptRepositoryManager;
 import ts.utils.ZipUtils;
 
@@ -55,15 +60,20 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 	private static final String WORKSPACE_LOC_TOKEN = "${workspace_loc:";
 	private static final String END_TOKEN = "}";
 
+	private static final String REPOSITORIES_CATALOG_FILE = "repositories.json";
+	private static final String REPOSITORIES_ROOT_PROPERTY = "ts.repositories.root";
+
 	private boolean extensionRepositoriesLoaded;
 	private boolean registryListenerIntialized;
-	private final Map<File, ITypeScriptRepository> repositoriesByBaseDir;
+	private final Map<String, ITypeScriptRepository> repositoriesByKey;
+	private TypeScriptRepositoryCatalog catalog;
+	private TypeScriptRepositoryIndex index;
 
 	public IDETypeScriptRepositoryManager() {
 		super();
 		this.extensionRepositoriesLoaded = false;
 		this.registryListenerIntialized = false;
-		this.repositoriesByBaseDir = new HashMap<File, ITypeScriptRepository>();
+		this.repositoriesByKey = new HashMap<String, ITypeScriptRepository>();
 	}
 
 	@Override
@@ -138,8 +148,10 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 		IConfigurationElement[] cf = registry.getConfigurationElementsFor(TypeScriptCorePlugin.PLUGIN_ID,
 				EXTENSION_TYPESCRIPT_REPOSITORIES);
 		addExtensionRepositories(cf);
+		addIndexedRepositories();
 		resetDefaultRepository();
 		addRegistryListenerIfNeeded();
+		saveCatalog();
 
 		Trace.trace(Trace.EXTENSION_POINT, "-<- Done loading .typeScriptRepositories extension point -<-");
 	}
@@ -158,6 +170,7 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 						removeExtensionRepositories(cf);
 					}
 				}
+				saveCatalog();
 			}
 		}
 	}
@@ -165,12 +178,12 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 	private void addExtensionRepositories(IConfigurationElement[] cf) {
 		for (IConfigurationElement ce : cf) {
 			try {
-				File baseDir = computeActualBaseDir(ce);
-				ITypeScriptRepository repository = createRepository(baseDir);
-				synchronized (repositoriesByBaseDir) {
-					repositoriesByBaseDir.put(baseDir, repository);
+				String key = getRepositoryKey(ce);
+				ITypeScriptRepository repository = createExtensionRepository(ce, key);
+				synchronized (repositoriesByKey) {
+					repositoriesByKey.put(key, repository);
 				}
-				Trace.trace(Trace.EXTENSION_POINT, "  Loaded typeScriptRepositories: " + baseDir);
+				Trace.trace(Trace.EXTENSION_POINT, "  Loaded typeScriptRepositories: " + key);
 			} catch (Throwable t) {
 				Trace.trace(Trace.SEVERE, "  Error while loading typeScriptRepositories", t);
 			}
@@ -180,30 +193,109 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 	private void removeExtensionRepositories(IConfigurationElement[] cf) {
 		for (IConfigurationElement ce : cf) {
 			try {
-				File baseDir = computeActualBaseDir(ce);
+				String key = getRepositoryKey(ce);
 				ITypeScriptRepository repository;
-				synchronized (repositoriesByBaseDir) {
-					repository = repositoriesByBaseDir.remove(baseDir);
+				synchronized (repositoriesByKey) {
+					repository = repositoriesByKey.remove(key);
 				}
 				if (repository != null) {
 					ITypeScriptRepository removedRepository = removeRepository(repository.getName());
 					if (removedRepository != repository) {
-						Trace.trace(Trace.EXTENSION_POINT, "Unloaded typeScriptRepositories: " + baseDir);
+						Trace.trace(Trace.EXTENSION_POINT, "Unloaded typeScriptRepositories: " + key);
 					}
 				}
+				getCatalog().remove(key);
 			} catch (Throwable t) {
 				Trace.trace(Trace.SEVERE, "Error while unloading typeScriptRepositories", t);
 			}
 		}
 	}
 
-	private static File computeActualBaseDir(IConfigurationElement ce) throws IOException {
-		String bundleId = ce.getNamespaceIdentifier();
-		File bundleDir = FileLocator.getBundleFile(Platform.getBundle(bundleId));
+	/**
+	 * Create the repository contributed by the given extension. When the
+	 * repository is packaged in an archive whose TypeScript version is known by
+	 * the catalog, the archive is extracted on first use of the repository
+	 * instead of on startup.
+	 *
+	 * @param ce
+	 *            the typeScriptRepositories extension.
+	 * @param key
+	 *            the catalog key of the repository.
+	 * @return the created repository.
+	 * @throws IOException
+	 * @throws TypeScriptRepositoryException
+	 */
+	private ITypeScriptRepository createExtensionRepository(final IConfigurationElement ce, String key)
+			throws IOException, TypeScriptRepositoryException {
+		File archive = getArchive(ce);
+		if (archive != null) {
+			long stamp = getStamp(archive);
+			String version = getCatalog().getVersion(key, stamp);
+			if (version != null) {
+				return createRepository(new Supplier<File>() {
+
+					@Override
+					public File get() {
+						try {
+							return computeActualBaseDir(ce);
+						} catch (IOException e) {
+							Trace.trace(Trace.SEVERE, "Error while extracting typeScriptRepositories", e);
+							throw new UncheckedIOException(e);
+						}
+					}
+				}, version);
+			}
+			ITypeScriptRepository repository = createRepository(computeActualBaseDir(ce));
+			getCatalog().putVersion(key, stamp, repository.getTypesScriptVersion());
+			return repository;
+		}
+		return createRepository(computeActualBaseDir(ce));
+	}
+
+	private static String getRepositoryKey(IConfigurationElement ce) {
+		return ce.getNamespaceIdentifier() + "/" + ce.getAttribute("baseDir");
+	}
+
+	private static long getStamp(File archive) {
+		return archive.lastModified() ^ archive.length();
+	}
+
+	/**
+	 * Returns the archive (zip or tar.gz) of the given repository extension and
+	 * null if the repository is a directory of the bundle.
+	 *
+	 * @param ce
+	 *            the typeScriptRepositories extension.
+	 * @return the archive of the given repository extension and null if the
+	 *         repository is a directory of the bundle.
+	 * @throws IOException
+	 */
+	private static File getArchive(IConfigurationElement ce) throws IOException {
+		File bundleDir = getBundleDir(ce);
+		String baseDir = ce.getAttribute("baseDir");
+		if (new File(bundleDir, baseDir).exists()) {
+			return null;
+		}
+		File zipFile = new File(bundleDir, baseDir + ZipUtils.ZIP_EXTENSION);
+		if (zipFile.exists()) {
+			return zipFile;
+		}
+		zipFile = new File(bundleDir, baseDir + ZipUtils.TAR_GZ_EXTENSION);
+		return zipFile.exists() ? zipFile : null;
+	}
+
+	private static File getBundleDir(IConfigurationElement ce) throws IOException {
+		File bundleDir = FileLocator.getBundleFile(Platform.getBundle(ce.getNamespaceIdentifier()));
 		if (!bundleDir.isDirectory()) {
 			throw new RuntimeException("Bundle location " + bundleDir
 					+ " cannot contribute a TypeScript repository because it is not a directory");
 		}
+		return bundleDir;
+	}
+
+	private static File computeActualBaseDir(IConfigurationElement ce) throws IOException {
+		String bundleId = ce.getNamespaceIdentifier();
+		File bundleDir = getBundleDir(ce);
 
 		String baseDir = ce.getAttribute("baseDir");
 		File dir = new File(bundleDir, baseDir);
@@ -213,25 +305,67 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 
 		IPath stateLocationPath = InternalPlatform.getDefault().getStateLocation(Platform.getBundle(bundleId));
 		dir = new File(stateLocationPath.toFile(), baseDir);
-		if (dir.exists()) {
-			return dir;
-		}
 
+		// extract the zip if it was not extracted or if the extracted content
+		// is partial or corrupted.
 		File zipFile = new File(bundleDir, baseDir + ZipUtils.ZIP_EXTENSION);
 		if (zipFile.exists()) {
-			ZipUtils.extractZip(zipFile, dir.getParentFile());
+			ZipUtils.extractIfNeeded(zipFile, dir.getParentFile());
 			return dir;
 		} else {
 			zipFile = new File(bundleDir, baseDir + ZipUtils.TAR_GZ_EXTENSION);
 			if (zipFile.exists()) {
-				ZipUtils.extractTarGZ(zipFile, dir);
+				ZipUtils.extractIfNeeded(zipFile, dir);
 				return dir;
 			}
 		}
+		if (dir.exists()) {
+			return dir;
+		}
 		throw new RuntimeException("Bundle location " + bundleDir
 				+ " cannot contribute a TypeScript repository because it is not a directory");
 	}
 
+	/**
+	 * Add the repositories of the root directory given with the
+	 * "ts.repositories.root" system property and watch it to add/remove
+	 * repositories.
+	 */
+	private void addIndexedRepositories() {
+		String root = System.getProperty(REPOSITORIES_ROOT_PROPERTY);
+		if (root == null || root.trim().length() < 1) {
+			return;
+		}
+		File rootDir = new File(root.trim());
+		if (!rootDir.isDirectory()) {
+			Trace.trace(Trace.WARNING, "TypeScript repositories root " + rootDir + " is not a directory");
+			return;
+		}
+		index = new TypeScriptRepositoryIndex(this, rootDir, getCatalog());
+		index.scan();
+		try {
+			index.startWatching();
+		} catch (IOException e) {
+			Trace.trace(Trace.SEVERE, "Error while watching TypeScript repositories root " + rootDir, e);
+		}
+	}
+
+	private synchronized TypeScriptRepositoryCatalog getCatalog() {
+		if (catalog == null) {
+			File stateDir = TypeScriptCorePlugin.getDefault().getStateLocation().toFile();
+			catalog = new TypeScriptRepositoryCatalog(new File(stateDir, REPOSITORIES_CATALOG_FILE));
+		}
+		return catalog;
+	}
+
+	private void saveCatalog() {
+		try {
+			getCatalog().save();
+		} catch (IOException e) {
+			Trace.trace(Trace.SEVERE, "Error while saving TypeScript repositories catalog", e);
+		}
+	}
+
 	private void resetDefaultRepository() {
 
 		// Sort available repositories by version in decreasing order
@@ -278,5 +412,10 @@ public class IDETypeScriptRepositoryManager extends TypeScriptRepositoryManager
 
 	public void destroy() {
 		Platform.getExtensionRegistry().removeRegistryChangeListener(this);
+		if (index != null) {
+			index.dispose();
+			index = null;
+		}
+		saveCatalog();
 	}
 }
@@ -12,6 +12,7 @@ package ts.eclipse.ide.internal.core.resources;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentCharacterIterator;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
@@ -49,6 +50,9 @@ public class IDETypeScriptFile extends AbstractTypeScriptFile implements IIDETyp
 	@Override
 	public void documentAboutToBeChanged(DocumentEvent event) {
 		if (isDisableChanged()) {
+			// the change is not sent to tsserver (ex : rename linked mode)
+			// but the positions of the cached results are obsolete.
+			incrementVersion();
 			return;
 		}
 		setDirty(true);
@@ -117,6 +121,19 @@ public class IDETypeScriptFile extends AbstractTypeScriptFile implements IIDETyp
 		return null;
 	}
 
+	@Override
+	protected CharSequence getCharSequence() {
+		if (document != null) {
+			try {
+				// reads the characters of the document without copying it.
+				return new DocumentCharacterIterator(document);
+			} catch (BadLocationException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public int getPosition(int line, int offset) throws TypeScriptException {
 		return DocumentUtils.getPosition(document, line, offset);
@@ -130,6 +130,9 @@ public class IDETypeScriptProject extends TypeScriptProject implements IIDETypeS
 					@Override
 					public void onClosed(IProject project) {
 						try {
+							// keep the idle tsserver for a reopen of the
+							// project.
+							IDETypeScriptProject.this.releaseServer();
 							dispose();
 						} catch (TypeScriptException e) {
 							Trace.trace(Trace.SEVERE, "Error while closing project", e);
@@ -71,9 +71,40 @@ public class EditorActivationTracker extends AllInOneWorkbenchListener {
 
 	@Override
 	public void partOpened(IWorkbenchPart part) {
+		prewarmServer(part);
 		openTypeScriptFile(part);
 	}
 
+	/**
+	 * Start tsserver in background when the first editor of a TypeScript
+	 * project is opened. The project settings (TypeScript and node.js install
+	 * paths) are resolved by the job, not by the UI thread.
+	 */
+	private void prewarmServer(IWorkbenchPart part) {
+		final IFile file = getFile(part);
+		if (TypeScriptResourceUtil.canConsumeTsserver(file)) {
+			Job job = new Job("Starting tsserver...") {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					try {
+						IIDETypeScriptProject project = TypeScriptResourceUtil
+								.getTypeScriptProject(file.getProject());
+						if (project != null && project.getOpenedFile(file) == null) {
+							// does nothing if the client of the project is
+							// created.
+							project.prewarmServer();
+						}
+					} catch (CoreException e) {
+						return e.getStatus();
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+	}
+
 	private void openTypeScriptFile(IWorkbenchPart part) {
 		final IFile file = getFile(part);
 		if (TypeScriptResourceUtil.canConsumeTsserver(file)) {
@@ -14,6 +14,7 @@ import org.eclipse.jface.text.provisional.codelens.Range;
 
 import ts.ScriptElementKind;
 import ts.client.FileSpan;
+import ts.client.RequestPriority;
 import ts.client.navbar.NavigationBarItem;
 import ts.eclipse.ide.core.resources.IIDETypeScriptFile;
 import ts.eclipse.ide.ui.codelens.TypeScriptBaseCodeLensProvider;
@@ -32,7 +33,7 @@ public class TypeScriptImplementationsCodeLensProvider extends TypeScriptBaseCod
 		IIDETypeScriptFile tsFile = codeLens.getTsFile();
 		try {
 			int position = tsFile.getPosition(codeLens.getRange().startLineNumber, codeLens.getRange().startColumn);
-			return tsFile.implementation(position).thenApply(refs -> {
+			return tsFile.implementation(position, RequestPriority.BACKGROUND).thenApply(refs -> {
 				int refCount = refs.size();
 				if (refCount == 1) {
 					codeLens.setCommand(new Command("1 implementation", "implementation"));
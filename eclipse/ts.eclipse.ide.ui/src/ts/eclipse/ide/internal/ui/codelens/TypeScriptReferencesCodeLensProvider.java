@@ -12,6 +12,7 @@ import org.eclipse.jface.text.provisional.codelens.ICodeLensContext;
 import org.eclipse.jface.text.provisional.codelens.Range;
 
 import ts.ScriptElementKind;
+import ts.client.RequestPriority;
 import ts.client.navbar.NavigationBarItem;
 import ts.eclipse.ide.core.resources.IIDETypeScriptFile;
 import ts.eclipse.ide.ui.codelens.TypeScriptBaseCodeLensProvider;
@@ -31,7 +32,7 @@ public class TypeScriptReferencesCodeLensProvider extends TypeScriptBaseCodeLens
 		IIDETypeScriptFile tsFile = codeLens.getTsFile();
 		try {
 			int position = tsFile.getPosition(codeLens.getRange().startLineNumber, codeLens.getRange().startColumn);
-			return tsFile.references(position).thenApply(body -> {
+			return tsFile.references(position, RequestPriority.BACKGROUND).thenApply(body -> {
 				int refCount = body.getRefs().size() - 1;
 				if (refCount == 1) {
 					codeLens.setCommand(new Command("1 reference", "references"));
@@ -10,26 +10,40 @@
  */
 package ts.eclipse.ide.internal.ui.console;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IConsole;
 import org.eclipse.ui.console.IConsoleManager;
+import org.eclipse.ui.console.IHyperlink;
+import org.eclipse.ui.console.IPatternMatchListener;
 import org.eclipse.ui.console.MessageConsole;
 import org.eclipse.ui.console.MessageConsoleStream;
+import org.eclipse.ui.console.PatternMatchEvent;
+import org.eclipse.ui.console.TextConsole;
 
 import ts.eclipse.ide.internal.ui.TypeScriptUIMessages;
+import ts.eclipse.ide.ui.TypeScriptUIPlugin;
 import ts.eclipse.ide.ui.console.ITypeScriptConsole;
 import ts.eclipse.ide.ui.console.LineType;
 
 public abstract class AbstractTypeScriptConsole extends MessageConsole implements ITypeScriptConsole {
 
+	/**
+	 * Delay to coalesce lines before draining them to the console.
+	 */
+	private static final long DRAIN_DELAY = 100L;
+
 	private boolean showOnMessage;
 
 	private IConsoleManager consoleManager;
@@ -42,10 +56,32 @@ public abstract class AbstractTypeScriptConsole extends MessageConsole implement
 
 	private boolean initialized;
 
+	private final ConsoleLineBuffer buffer;
+
+	private final AtomicBoolean drainScheduled;
+
+	private final Job drainJob;
+
 	public AbstractTypeScriptConsole(String name, ImageDescriptor imageDescriptor) {
 		super(name, imageDescriptor);
 		consoleManager = ConsolePlugin.getDefault().getConsoleManager();
 		document = new ConsoleDocument();
+		buffer = new ConsoleLineBuffer();
+		drainScheduled = new AtomicBoolean(false);
+		drainJob = new Job(TypeScriptUIMessages.TypeScriptConsoleJob_name) {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				// reset the flag before draining to schedule again the job for
+				// the lines added while draining.
+				drainScheduled.set(false);
+				drain();
+				return Status.OK_STATUS;
+			}
+		};
+		drainJob.setSystem(true);
+		drainJob.setPriority(Job.LONG);
+		addPatternMatchListener(new TruncatedLineMatcher());
 	}
 
 	protected void init() {
@@ -106,33 +142,66 @@ public abstract class AbstractTypeScriptConsole extends MessageConsole implement
 			ConsoleDocument.ConsoleLine[] lines = document.getLines();
 			for (int i = 0; i < lines.length; i++) {
 				ConsoleDocument.ConsoleLine line = lines[i];
-				doAppendLine(line.getType(), line.getLine());
+				streams[line.getType().ordinal()].print(line.getLine());
 			}
 			document.clear();
 		}
 	}
 
 	@Override
-	public void doAppendLine(final LineType lineType, final String line) {
-		Job appendJob = new Job(TypeScriptUIMessages.TypeScriptConsoleJob_name) {
+	public void doAppendLine(LineType lineType, String line) {
+		buffer.add(lineType, line);
+		if (drainScheduled.compareAndSet(false, true)) {
+			drainJob.schedule(DRAIN_DELAY);
+		}
+	}
 
-			@Override
-			protected IStatus run(IProgressMonitor monitor) {
-				intsalDoAppendLine(lineType, line);
-				return Status.OK_STATUS;
+	private void drain() {
+		List<ConsoleLineBuffer.Chunk> chunks = buffer.drain();
+		if (chunks.isEmpty()) {
+			return;
+		}
+		showConsole();
+		synchronized (document) {
+			for (ConsoleLineBuffer.Chunk chunk : chunks) {
+				if (visible) {
+					streams[chunk.getLineType().ordinal()].print(chunk.getText());
+				} else {
+					appendHiddenLines(chunk.getLineType(), chunk.getText());
+				}
 			}
-		};
-		appendJob.setPriority(Job.LONG);
-		appendJob.schedule();
+		}
 	}
 
-	private void intsalDoAppendLine(LineType lineType, String line) {
-		showConsole();
+	/**
+	 * Keep the lines of the given text in the console document while the
+	 * console is hidden. The text is split per line to keep the document
+	 * bounded by its number of lines.
+	 */
+	private void appendHiddenLines(LineType lineType, String text) {
+		String separator = System.lineSeparator();
+		int start = 0;
+		int end;
+		while ((end = text.indexOf(separator, start)) != -1) {
+			end += separator.length();
+			document.appendConsoleLine(lineType, text.substring(start, end));
+			start = end;
+		}
+		if (start < text.length()) {
+			document.appendConsoleLine(lineType, text.substring(start));
+		}
+	}
+
+	private void expandTruncatedLine(String marker) {
+		String line = buffer.getTruncatedLine(marker);
+		if (line == null) {
+			return;
+		}
 		synchronized (document) {
 			if (visible) {
-				streams[lineType.ordinal()].println(line);
+				streams[LineType.DATA.ordinal()].println(line);
 			} else {
-				document.appendConsoleLine(lineType, line);
+				document.appendConsoleLine(LineType.DATA, line + System.lineSeparator());
 			}
 		}
 	}
@@ -153,6 +222,10 @@ public abstract class AbstractTypeScriptConsole extends MessageConsole implement
 		synchronized (document) {
 			visible = false;
 		}
+		// the lines which are not drained yet will be drained by the next
+		// appended line.
+		drainJob.cancel();
+		drainScheduled.set(false);
 	}
 
 	/**
@@ -173,6 +246,66 @@ public abstract class AbstractTypeScriptConsole extends MessageConsole implement
 
 	}
 
+	/**
+	 * Add an hyperlink on the truncated marker of the lines to expand them.
+	 */
+	private class TruncatedLineMatcher implements IPatternMatchListener {
+
+		private TextConsole console;
+
+		@Override
+		public void connect(TextConsole console) {
+			this.console = console;
+		}
+
+		@Override
+		public void disconnect() {
+			this.console = null;
+		}
+
+		@Override
+		public void matchFound(PatternMatchEvent event) {
+			if (console == null) {
+				return;
+			}
+			try {
+				final String marker = console.getDocument().get(event.getOffset(), event.getLength());
+				console.addHyperlink(new IHyperlink() {
+
+					@Override
+					public void linkActivated() {
+						expandTruncatedLine(marker);
+					}
+
+					@Override
+					public void linkEntered() {
+					}
+
+					@Override
+					public void linkExited() {
+					}
+				}, event.getOffset(), event.getLength());
+			} catch (BadLocationException e) {
+				TypeScriptUIPlugin.log(e);
+			}
+		}
+
+		@Override
+		public String getPattern() {
+			return ConsoleLineBuffer.TRUNCATED_MARKER_REGEX;
+		}
+
+		@Override
+		public int getCompilerFlags() {
+			return 0;
+		}
+
+		@Override
+		public String getLineQualifier() {
+			return null;
+		}
+	}
+
 	/**
 	 * Used to notify this console of lifecycle methods <code>init()</code> and
 	 * <code>dispose()</code>.
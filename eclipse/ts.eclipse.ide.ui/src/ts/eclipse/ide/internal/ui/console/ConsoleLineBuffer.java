@@ -0,0 +1,208 @@
+/**
+ *  Copyright (c) 2015-2017 Angelo ZERR.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *  Angelo Zerr <angelo.zerr@gmail.com> - initial API and implementation
+ */
+package ts.eclipse.ide.internal.ui.console;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ts.eclipse.ide.ui.console.LineType;
+
+/**
+ * Bounded ring buffer of console lines filled by the threads which log and
+ * drained by a single console job.
+ *
+ * <ul>
+ * <li>lines longer than the max line length are truncated with a marker which
+ * contains the id of the full line. The last truncated lines are kept to
+ * expand the marker on demand.</li>
+ * <li>when the buffer is full (the console cannot follow), the oldest lines are
+ * dropped and counted.</li>
+ * <li>drained lines are coalesced per {@link LineType} to write them with
+ * large writes.</li>
+ * </ul>
+ *
+ */
+public class ConsoleLineBuffer {
+
+	public static final int DEFAULT_CAPACITY = 5000;
+	public static final int DEFAULT_MAX_LINE_LENGTH = 8 * 1024;
+	private static final int MAX_TRUNCATED_LINES = 20;
+
+	private static final String TRUNCATED_MARKER_START = "... [+"; //$NON-NLS-1$
+	private static final String TRUNCATED_MARKER_END = " chars, expand #"; //$NON-NLS-1$
+	public static final String TRUNCATED_MARKER_REGEX = "\\.\\.\\. \\[\\+\\d+ chars, expand #\\d+\\]"; //$NON-NLS-1$
+	private static final Pattern TRUNCATED_MARKER_PATTERN = Pattern.compile("#(\\d+)\\]$"); //$NON-NLS-1$
+
+	private final LineType[] lineTypes;
+	private final String[] lines;
+	private final int maxLineLength;
+	private int head;
+	private int size;
+	private int droppedLines;
+
+	private int truncatedId;
+	private final Map<Integer, String> truncatedLines;
+
+	/**
+	 * A run of lines of the same type.
+	 */
+	public static class Chunk {
+
+		private final LineType lineType;
+		private final String text;
+
+		Chunk(LineType lineType, String text) {
+			this.lineType = lineType;
+			this.text = text;
+		}
+
+		public LineType getLineType() {
+			return lineType;
+		}
+
+		/**
+		 * Returns the lines of the chunk, each line is terminated with a line
+		 * separator.
+		 *
+		 * @return the lines of the chunk.
+		 */
+		public String getText() {
+			return text;
+		}
+	}
+
+	public ConsoleLineBuffer() {
+		this(DEFAULT_CAPACITY, DEFAULT_MAX_LINE_LENGTH);
+	}
+
+	public ConsoleLineBuffer(int capacity, int maxLineLength) {
+		this.lineTypes = new LineType[capacity];
+		this.lines = new String[capacity];
+		this.maxLineLength = maxLineLength;
+		this.truncatedLines = new LinkedHashMap<Integer, String>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+				return size() > MAX_TRUNCATED_LINES;
+			}
+		};
+	}
+
+	/**
+	 * Add the given line.
+	 *
+	 * @param lineType
+	 *            the line type.
+	 * @param line
+	 *            the line.
+	 */
+	public synchronized void add(LineType lineType, String line) {
+		if (line != null && line.length() > maxLineLength) {
+			line = truncate(line);
+		}
+		int index = (head + size) % lines.length;
+		if (size == lines.length) {
+			// the console cannot follow, drop the oldest line.
+			head = (head + 1) % lines.length;
+			droppedLines++;
+		} else {
+			size++;
+		}
+		lines[index] = line;
+		lineTypes[index] = lineType;
+	}
+
+	/**
+	 * Remove all the lines of the buffer and returns them coalesced per line
+	 * type.
+	 *
+	 * @return the lines of the buffer coalesced per line type.
+	 */
+	public List<Chunk> drain() {
+		LineType[] drainedTypes;
+		String[] drainedLines;
+		int dropped;
+		synchronized (this) {
+			drainedTypes = new LineType[size];
+			drainedLines = new String[size];
+			for (int i = 0; i < size; i++) {
+				int index = (head + i) % lines.length;
+				drainedTypes[i] = lineTypes[index];
+				drainedLines[i] = lines[index];
+				lines[index] = null;
+				lineTypes[index] = null;
+			}
+			dropped = droppedLines;
+			head = 0;
+			size = 0;
+			droppedLines = 0;
+		}
+		// coalesce outside the lock to avoid blocking the threads which log.
+		List<Chunk> chunks = new ArrayList<Chunk>();
+		if (dropped > 0) {
+			chunks.add(new Chunk(LineType.PROCESS_ERROR,
+					"... [" + dropped + " lines dropped]" + System.lineSeparator())); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		StringBuilder text = new StringBuilder();
+		LineType current = null;
+		for (int i = 0; i < drainedLines.length; i++) {
+			if (current != drainedTypes[i] && text.length() > 0) {
+				chunks.add(new Chunk(current, text.toString()));
+				text.setLength(0);
+			}
+			current = drainedTypes[i];
+			text.append(drainedLines[i]).append(System.lineSeparator());
+		}
+		if (text.length() > 0) {
+			chunks.add(new Chunk(current, text.toString()));
+		}
+		return chunks;
+	}
+
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the full line of the given truncated marker and null if the line
+	 * is not available anymore.
+	 *
+	 * @param marker
+	 *            the truncated marker.
+	 * @return the full line of the given truncated marker and null if the line
+	 *         is not available anymore.
+	 */
+	public synchronized String getTruncatedLine(String marker) {
+		Matcher matcher = TRUNCATED_MARKER_PATTERN.matcher(marker);
+		if (!matcher.find()) {
+			return null;
+		}
+		try {
+			return truncatedLines.get(Integer.parseInt(matcher.group(1)));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private String truncate(String line) {
+		int id = ++truncatedId;
+		truncatedLines.put(id, line);
+		return new StringBuilder(maxLineLength + 40).append(line, 0, maxLineLength).append(TRUNCATED_MARKER_START)
+				.append(line.length() - maxLineLength).append(TRUNCATED_MARKER_END).append(id).append(']')
+				.toString();
+	}
+}
@@ -14,7 +14,9 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.jface.text.IDocument;
@@ -46,6 +48,14 @@ public class ProblemTypeScriptHover extends AbstractAnnotationHover {
 		
 		private static final ICompletionProposal[] NO_PROPOSALS = new ICompletionProposal[0];
 
+		/**
+		 * Max time in ms to wait for code fixes which are not computed yet. The
+		 * code fixes are computed in background when the diagnostics are
+		 * reported, and the request continues after the timeout, so the next
+		 * hover shows them.
+		 */
+		private static final long CODE_FIXES_TIMEOUT = 200;
+
 		public ProblemInfo(Annotation annotation, Position position, ITextViewer textViewer) {
 			super(annotation, position, textViewer);
 		}
@@ -62,9 +72,14 @@ public class ProblemTypeScriptHover extends AbstractAnnotationHover {
 					List<Integer> errorCodes = createErrorCodes(tsProject);
 					if (errorCodes != null) {
 						final List<ICompletionProposal> proposals = new ArrayList<ICompletionProposal>();
-						List<CodeAction> codeActions = tsFile.getCodeFixes(position.getOffset(),
-								position.getOffset() + position.getLength(), errorCodes)
-								.get(5000, TimeUnit.MILLISECONDS);
+						CompletableFuture<List<CodeAction>> codeFixes = tsFile.getCodeFixes(position.getOffset(),
+								position.getOffset() + position.getLength(), errorCodes);
+						List<CodeAction> codeActions;
+						try {
+							codeActions = codeFixes.get(CODE_FIXES_TIMEOUT, TimeUnit.MILLISECONDS);
+						} catch (TimeoutException e) {
+							return NO_PROPOSALS;
+						}
 						for (CodeAction codeAction : codeActions) {
 							proposals.add(new CodeActionCompletionProposal(codeAction, tsFile.getName()));
 						}
@@ -63,7 +63,7 @@ public class TypeScriptHover extends AbstractTypeScriptHover implements ITypeScr
 				tsProject = TypeScriptResourceUtil.getTypeScriptProject(project);
 				int position = hoverRegion.getOffset();
 				ITypeScriptFile tsFile = tsProject.openFile(scriptFile, textViewer.getDocument());
-				quickinfoPromise = tsFile.quickInfo(position);
+				quickinfoPromise = tsFile.quickInfo(position, this);
 				QuickInfo quickInfo = quickinfoPromise.get(5000, TimeUnit.MILLISECONDS);
 				boolean useTextMate = TypeScriptUIPlugin.getDefault().getPreferenceStore()
 						.getBoolean(TypeScriptUIPreferenceConstants.USE_TEXMATE_FOR_SYNTAX_COLORING);
@@ -1,6 +1,13 @@
 package ts.eclipse.ide.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -13,6 +20,7 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.search.ui.ISearchQuery;
 import org.eclipse.search.ui.ISearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import ts.client.references.ReferencesResponseBody;
 import ts.client.references.ReferencesResponseItem;
@@ -23,9 +31,26 @@ import ts.eclipse.ide.core.utils.WorkbenchResourceUtil;
 import ts.eclipse.ide.internal.ui.TypeScriptUIMessages;
 import ts.eclipse.ide.internal.ui.search.LineElement;
 import ts.eclipse.ide.internal.ui.search.TypeScriptMatch;
+import ts.eclipse.ide.ui.TypeScriptUIPlugin;
 
 public class TypeScriptSearchQuery implements ISearchQuery {
 
+	/**
+	 * Max time to wait for the tsserver 'references' response.
+	 */
+	private static final long REFERENCES_TIMEOUT = 20000;
+
+	/**
+	 * Interval used to poll the 'references' response to check if the search
+	 * was cancelled.
+	 */
+	private static final long POLL_INTERVAL = 100;
+
+	/**
+	 * Number of matches to collect before publishing them to the search result.
+	 */
+	private static final int MATCH_BATCH_SIZE = 100;
+
 	private final IResource resource;
 	private final int offset;
 
@@ -83,9 +108,9 @@ public class TypeScriptSearchQuery implements ISearchQuery {
 				}
 				if (tsFile != null) {
 					// Find references
-					ReferencesResponseBody references = tsFile.references(offset).get(20000, TimeUnit.MILLISECONDS);
-					for (ReferencesResponseItem reference : references.getRefs()) {
-						addRef(reference, tsResult);
+					ReferencesResponseBody references = waitForReferences(tsFile.references(offset), monitor);
+					if (references != null && references.getRefs() != null) {
+						addRefs(references.getRefs(), tsResult, monitor);
 					}
 				}
 			} finally {
@@ -95,6 +120,8 @@ public class TypeScriptSearchQuery implements ISearchQuery {
 				}
 			}
 
+		} catch (OperationCanceledException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new OperationCanceledException(e.getMessage());
 			// IStatus status = new Status(IStatus.ERROR,
@@ -104,38 +131,148 @@ public class TypeScriptSearchQuery implements ISearchQuery {
 			// TypeScriptUIMessages.FindReferencesInProjectAction_error_title,
 			// e.getMessage(), status);
 			// e.printStackTrace();
+		} finally {
+			endTime = System.currentTimeMillis();
+			monitor.done();
 		}
 		return Status.OK_STATUS;
 	}
 
-	private void addRef(ReferencesResponseItem reference, TypeScriptSearchResult tsResult) {
-		String filename = reference.getFile();
+	/**
+	 * Wait for the 'references' response by polling it to take care of the
+	 * cancellation of the given monitor.
+	 * 
+	 * @param promise
+	 *            the 'references' response promise.
+	 * @param monitor
+	 *            the progress monitor.
+	 * @return the 'references' response.
+	 * @throws Exception
+	 */
+	private ReferencesResponseBody waitForReferences(CompletableFuture<ReferencesResponseBody> promise,
+			IProgressMonitor monitor) throws Exception {
+		long remaining = REFERENCES_TIMEOUT;
+		while (true) {
+			if (monitor.isCanceled()) {
+				promise.cancel(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return promise.get(Math.min(POLL_INTERVAL, remaining), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				remaining -= POLL_INTERVAL;
+				if (remaining <= 0) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Convert the given references to search matches. References are grouped
+	 * by file to load the document of each file only once and matches are
+	 * published by batch to the search result.
+	 * 
+	 * @param references
+	 *            the references to convert.
+	 * @param tsResult
+	 *            the search result to fill.
+	 * @param monitor
+	 *            the progress monitor.
+	 */
+	private void addRefs(List<ReferencesResponseItem> references, TypeScriptSearchResult tsResult,
+			IProgressMonitor monitor) {
+		// Group references by file
+		Map<String, List<ReferencesResponseItem>> refsByFile = new LinkedHashMap<>();
+		for (ReferencesResponseItem reference : references) {
+			List<ReferencesResponseItem> refs = refsByFile.get(reference.getFile());
+			if (refs == null) {
+				refs = new ArrayList<>();
+				refsByFile.put(reference.getFile(), refs);
+			}
+			refs.add(reference);
+		}
+
+		monitor.beginTask(getLabel(), refsByFile.size());
+		List<Match> matches = new ArrayList<>(MATCH_BATCH_SIZE);
+		for (Map.Entry<String, List<ReferencesResponseItem>> entry : refsByFile.entrySet()) {
+			if (monitor.isCanceled()) {
+				publishMatches(matches, tsResult);
+				throw new OperationCanceledException();
+			}
+			addRefs(entry.getKey(), entry.getValue(), matches);
+			if (matches.size() >= MATCH_BATCH_SIZE) {
+				publishMatches(matches, tsResult);
+			}
+			monitor.worked(1);
+		}
+		publishMatches(matches, tsResult);
+	}
+
+	/**
+	 * Convert the given references of the given file to search matches.
+	 * 
+	 * @param filename
+	 *            the file name of the references.
+	 * @param references
+	 *            the references of the file.
+	 * @param matches
+	 *            the list to fill with created matches.
+	 */
+	private void addRefs(String filename, List<ReferencesResponseItem> references, List<Match> matches) {
 		IFile tsFile = WorkbenchResourceUtil.findFileFromWorkspace(filename);
-		if (tsFile != null) {
+		if (tsFile == null) {
+			return;
+		}
+		// load the document once for the whole references of the file.
+		IDocument document = TypeScriptResourceUtil.getDocument(tsFile);
+		if (document == null) {
+			return;
+		}
+		// the line elements must be shared by matches of the same line.
+		Map<Integer, LineElement> lineElements = new HashMap<>();
+		for (ReferencesResponseItem reference : references) {
 			int startLine = reference.getStart().getLine();
 			int startLineOffset = reference.getStart().getOffset();
 			int endLine = reference.getEnd().getLine();
 			int endLineOffset = reference.getEnd().getOffset();
-			String lineText = reference.getLineText();
 			try {
-				IDocument document = TypeScriptResourceUtil.getDocument(tsFile);
+				// offsets are computed with the line index of the document.
 				int lineNumber = startLine - 1;
-				int lineStartOffset = startLineOffset - 1;
 				int beginOfLineStartOffset = document.getLineOffset(lineNumber);
-				int startOffset = beginOfLineStartOffset + lineStartOffset;
-				int endOffset = document.getLineOffset(endLine - 1) + (endLineOffset - 1);
+				int startOffset = beginOfLineStartOffset + (startLineOffset - 1);
+				int endOffset = (endLine == startLine ? beginOfLineStartOffset : document.getLineOffset(endLine - 1))
+						+ (endLineOffset - 1);
 				int length = endOffset - startOffset;
 
-				LineElement lineEntry = new LineElement(tsFile, lineNumber, beginOfLineStartOffset, lineText);
-				tsResult.addMatch(new TypeScriptMatch(tsFile, startOffset, length, lineEntry));
-
-			} catch (BadLocationException e1) {
-				// TODO Auto-generated catch block
-				e1.printStackTrace();
+				LineElement lineEntry = lineElements.get(lineNumber);
+				if (lineEntry == null) {
+					lineEntry = new LineElement(tsFile, lineNumber, beginOfLineStartOffset, reference.getLineText());
+					lineElements.put(lineNumber, lineEntry);
+				}
+				matches.add(new TypeScriptMatch(tsFile, startOffset, length, lineEntry));
+			} catch (BadLocationException e) {
+				TypeScriptUIPlugin.log(e);
 			}
 		}
 	}
 
+	/**
+	 * Publish the given matches to the search result and clear the list.
+	 * 
+	 * @param matches
+	 *            the matches to publish.
+	 * @param tsResult
+	 *            the search result.
+	 */
+	private void publishMatches(List<Match> matches, TypeScriptSearchResult tsResult) {
+		if (matches.isEmpty()) {
+			return;
+		}
+		tsResult.addMatches(matches.toArray(new Match[matches.size()]));
+		matches.clear();
+	}
+
 	public String getResultLabel(int nMatches) {
 		long time = 0;
 		if (startTime > 0) {
@@ -1,5 +1,7 @@
 package ts.eclipse.ide.validator.internal.core.validation;
 
+import java.util.Collections;
+
 import org.eclipse.core.resources.IResource;
 import org.eclipse.wst.validation.internal.operations.LocalizedMessage;
 import org.eclipse.wst.validation.internal.provisional.core.IMessage;
@@ -7,6 +9,7 @@ import org.eclipse.wst.validation.internal.provisional.core.IReporter;
 import org.eclipse.wst.validation.internal.provisional.core.IValidator;
 
 import ts.TypeScriptException;
+import ts.client.CommandNames;
 import ts.client.Location;
 import ts.client.diagnostics.IDiagnostic.DiagnosticCategory;
 import ts.cmd.ITypeScriptLinterHandler;
@@ -23,10 +26,18 @@ public class TypeScriptReporterCollector extends NodejsProcessAdapter
 
 	private static final String CHAR_END = "charEnd";
 	private static final String CHAR_START = "charStart";
+
+	/**
+	 * Max number of diagnostics of a validation for which code fixes are
+	 * computed in background.
+	 */
+	private static final int MAX_CODE_FIXES_PREFETCH = 20;
+
 	private final IIDETypeScriptFile tsFile;
 	// private final ITypeScriptProject tsProject;
 	private final IReporter reporter;
 	private final IValidator validator;
+	private int codeFixesPrefetchCount;
 
 	public TypeScriptReporterCollector(IIDETypeScriptFile tsFile, IReporter reporter, IValidator validator) {
 		// this.tsProject = tsProject;
@@ -58,6 +69,7 @@ public class TypeScriptReporterCollector extends NodejsProcessAdapter
 			message.setLineNo(startLine - 1);
 			if (code != null) {
 				message.setAttribute("tsCode", code);
+				prefetchCodeFixes(tsFile, start, end, code);
 			}
 			reporter.addMessage(validator, message);
 		} catch (TypeScriptException e) {
@@ -65,6 +77,25 @@ public class TypeScriptReporterCollector extends NodejsProcessAdapter
 		}
 	}
 
+	/**
+	 * Compute in background the code fixes of the given error, so that the
+	 * problem hover doesn't wait for tsserver. The requests are sent with the
+	 * background priority so they don't delay the completion.
+	 */
+	private void prefetchCodeFixes(IIDETypeScriptFile tsFile, int start, int end, Integer code) {
+		if (codeFixesPrefetchCount >= MAX_CODE_FIXES_PREFETCH) {
+			return;
+		}
+		try {
+			if (tsFile.getProject().canSupport(CommandNames.GetCodeFixes) && tsFile.getProject().canFix(code)) {
+				codeFixesPrefetchCount++;
+				tsFile.prefetchCodeFixes(start, end, Collections.singletonList(code));
+			}
+		} catch (TypeScriptException e) {
+			Trace.trace(Trace.SEVERE, "Error while prefetching code fixes", e);
+		}
+	}
+
 	private int getSeverity(DiagnosticCategory category) {
 		switch(category) {
 		case Message:
@@ -12,9 +12,8 @@ package ts.eclipse.jface.fieldassist;
 
 import org.eclipse.jface.fieldassist.IContentProposal;
 
-import ts.client.ITypeScriptServiceClient;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntry;
-import ts.client.completions.ICompletionEntryMatcher;
 
 /**
  * {@link IContentProposal} implementation with TypeScript completion entry.
@@ -25,9 +24,8 @@ public class TypeScriptContentProposal extends CompletionEntry implements IConte
 	private String content;
 	private String description;
 
-	public TypeScriptContentProposal(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-			ITypeScriptServiceClient client, String prefix) {
-		super(matcher, fileName, line, offset, client);
+	public TypeScriptContentProposal(CompletionContext context, String prefix) {
+		super(context);
 		this.prefix = prefix;
 	}
 
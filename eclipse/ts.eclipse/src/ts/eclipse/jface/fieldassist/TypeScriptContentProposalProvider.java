@@ -21,10 +21,9 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
 
-import ts.client.ITypeScriptServiceClient;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntry;
 import ts.client.completions.ICompletionEntryFactory;
-import ts.client.completions.ICompletionEntryMatcher;
 import ts.resources.ITypeScriptFile;
 import ts.resources.ITypeScriptProject;
 import ts.utils.TypeScriptHelper;
@@ -53,11 +52,10 @@ public class TypeScriptContentProposalProvider implements IContentProposalProvid
 			return tsFile.completions(position, new ICompletionEntryFactory() {
 
 				@Override
-				public CompletionEntry create(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-						ITypeScriptServiceClient client) {
-					return new TypeScriptContentProposal(matcher, fileName, line, offset, client, prefix);
+				public CompletionEntry create(CompletionContext context) {
+					return new TypeScriptContentProposal(context, prefix);
 				}
-			}).get(5000, TimeUnit.MILLISECONDS).toArray(EMPTY_PROPOSAL);
+			}, this).get(5000, TimeUnit.MILLISECONDS).toArray(EMPTY_PROPOSAL);
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -40,11 +40,10 @@ import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.ui.texteditor.link.EditorLinkedModeUI;
 
 import ts.TypeScriptException;
-import ts.client.ITypeScriptServiceClient;
 import ts.client.codefixes.CodeAction;
+import ts.client.completions.CompletionContext;
 import ts.client.completions.CompletionEntry;
 import ts.client.completions.CompletionEntryDetails;
-import ts.client.completions.ICompletionEntryMatcher;
 import ts.client.completions.SymbolDisplayPart;
 import ts.eclipse.jface.images.TypeScriptImagesRegistry;
 import ts.eclipse.jface.text.DocumentUtils;
@@ -84,9 +83,9 @@ public class TypeScriptCompletionProposal extends CompletionEntry
 
 	private HoverControlCreator tsControlCreator;
 
-	public TypeScriptCompletionProposal(ICompletionEntryMatcher matcher, String fileName, int line, int offset,
-			ITypeScriptServiceClient client, int position, String prefix, ITextViewer textViewer) {
-		super(matcher, fileName, line, offset, client);
+	public TypeScriptCompletionProposal(CompletionContext context, int position, String prefix,
+			ITextViewer textViewer) {
+		super(context);
 		this.position = position;
 		this.prefix = prefix;
 		this.originalTextViewer = textViewer;
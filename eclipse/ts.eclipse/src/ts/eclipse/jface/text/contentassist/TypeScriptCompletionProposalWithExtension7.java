@@ -17,8 +17,7 @@ import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.ICompletionProposalExtension7;
 import org.eclipse.jface.viewers.StyledString;
 
-import ts.client.ITypeScriptServiceClient;
-import ts.client.completions.ICompletionEntryMatcher;
+import ts.client.completions.CompletionContext;
 
 /**
  * {@link ICompletionProposal} implementation with TypeScript completion entry
@@ -27,9 +26,9 @@ import ts.client.completions.ICompletionEntryMatcher;
 public class TypeScriptCompletionProposalWithExtension7 extends TypeScriptCompletionProposal
 		implements ICompletionProposalExtension7 {
 
-	public TypeScriptCompletionProposalWithExtension7(ICompletionEntryMatcher matcher, String fileName, int line,
-			int offset, ITypeScriptServiceClient client, int position, String prefix, TextViewer textViewer) {
-		super(matcher, fileName, line, offset, client, position, prefix, textViewer);
+	public TypeScriptCompletionProposalWithExtension7(CompletionContext context, int position, String prefix,
+			TextViewer textViewer) {
+		super(context, position, prefix, textViewer);
 	}
 
 	@Override